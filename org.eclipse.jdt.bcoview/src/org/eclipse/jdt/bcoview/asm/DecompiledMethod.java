@@ -99,6 +99,13 @@ public class DecompiledMethod {
 
 	private final int access;
 
+	/**
+	 * unformatted method text as produced by the class visitor, or null if already formatted
+	 */
+	private List<?> inputText;
+
+	private boolean analyzed;
+
 
 	public DecompiledMethod(String owner, Map<Label, Integer> lineNumbers, MethodNode meth, DecompilerOptions options, int access) {
 		this.meth = meth;
@@ -115,10 +122,32 @@ public class DecompiledMethod {
 		this.insnLines = new HashMap<>();
 	}
 
+	/**
+	 * Remembers the method text. The text is formatted on first access only, so that methods
+	 * which are never shown don't pay for formatting and analysis.
+	 *
+	 * @param inputText unformatted method text
+	 */
 	void setText(List<?> inputText) {
+		// the visitor may append to the list after this call, so take a snapshot
+		this.inputText = new ArrayList<>(inputText);
+	}
+
+	private synchronized void ensureFormatted() {
+		if (inputText == null) {
+			return;
+		}
 		formatText(inputText, new HashMap<>(), new StringBuffer(), this.text);
 		computeMaps(lineNumbers);
+		inputText = null;
+	}
 
+	private synchronized void ensureAnalyzed() {
+		ensureFormatted();
+		if (analyzed) {
+			return;
+		}
+		analyzed = true;
 		if (options.modes.get(BCOConstants.F_SHOW_ANALYZER) && (access & Opcodes.ACC_ABSTRACT) == 0) {
 			analyzeMethod();
 		}
@@ -138,6 +167,7 @@ public class DecompiledMethod {
 	}
 
 	public boolean containsSource(int sourceLine) {
+		ensureFormatted();
 		return sourceLine >= getFirstSourceLine() && sourceLine <= getLastSourceLine();
 	}
 
@@ -148,6 +178,7 @@ public class DecompiledMethod {
 	 *         absolute
 	 */
 	public int getBestDecompiledLine(final int sourceLine) {
+		ensureFormatted();
 		if (!containsSource(sourceLine)) {
 			return -1;
 		}
@@ -309,6 +340,7 @@ public class DecompiledMethod {
 	}
 
 	public String getText() {
+		ensureFormatted();
 		StringBuffer buf = new StringBuffer();
 		for (Object o : text) {
 			if (!(o instanceof Index)) {
@@ -319,6 +351,7 @@ public class DecompiledMethod {
 	}
 
 	public String[][] getTextTable() {
+		ensureAnalyzed();
 		Frame<?> frame = null;
 		String error1 = ""; //$NON-NLS-1$
 		List<String[]> lines = new ArrayList<>();
@@ -366,10 +399,12 @@ public class DecompiledMethod {
 	}
 
 	public int getLineCount() {
+		ensureFormatted();
 		return lineCount;
 	}
 
 	public int getErrorLine() {
+		ensureAnalyzed();
 		if (error == null) {
 			return -1;
 		}
@@ -400,23 +435,28 @@ public class DecompiledMethod {
 	}
 
 	public int getFirstSourceLine() {
+		ensureFormatted();
 		return firstSourceLine;
 	}
 
 	public int getLastSourceLine() {
+		ensureFormatted();
 		return lastSourceLine;
 	}
 
 	public int getSourceLine(int decompiledLine) {
+		ensureFormatted();
 		Integer i = sourceLines.get(Integer.valueOf(decompiledLine));
 		return i == null ? -1 : i.intValue();
 	}
 
 	public Integer getBytecodeOffset(int decompiledLine) {
+		ensureFormatted();
 		return insns.get(Integer.valueOf(decompiledLine));
 	}
 
 	public Integer getBytecodeInsn(int decompiledLine) {
+		ensureFormatted();
 		return opcodes.get(Integer.valueOf(decompiledLine));
 	}
 
@@ -429,6 +469,7 @@ public class DecompiledMethod {
 	}
 
 	public String[][][] getFrameTablesForInsn(int insn, boolean useQualifiedNames) {
+		ensureAnalyzed();
 		if (error != null && insn == errorInsn) {
 			return null;
 		}
@@ -502,6 +543,7 @@ public class DecompiledMethod {
 	}
 
 	public int getDecompiledLine(int sourceLine) {
+		ensureFormatted();
 		Integer i = decompiledLines.get(Integer.valueOf(sourceLine));
 		return i == null ? -1 : i.intValue();
 	}
@@ -15,7 +15,12 @@
 package org.eclipse.jdt.bcoview.asm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.tree.ClassNode;
@@ -26,7 +31,63 @@ import org.eclipse.jdt.bcoview.preferences.BCOConstants;
 
 public class DecompilerHelper {
 
+	/**
+	 * max number of decompiled classes kept in the cache
+	 */
+	private static final int CACHE_SIZE = 32;
+
+	/**
+	 * max number of class file bytes used to compute the hash code of a cache key
+	 */
+	private static final int HASH_SAMPLES = 64;
+
+	/**
+	 * LRU cache of decompiled classes, keyed by class file content and decompiler options
+	 */
+	private static final Map<CacheKey, DecompiledClass> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, DecompiledClass> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Returns the decompiled class for the given class file content and options. Results are
+	 * cached, so that the same class is decompiled only once for each combination of options.
+	 *
+	 * @param bytes class file content
+	 * @param options decompiler options, the modes are copied and may be changed afterwards
+	 * @return decompiled class, never null
+	 * @throws UnsupportedClassVersionError if the class file version is not supported
+	 */
 	public static DecompiledClass getDecompiledClass(byte[] bytes, DecompilerOptions options) throws UnsupportedClassVersionError {
+		DecompilerOptions snapshot = new DecompilerOptions(options.fieldFilter, options.methodFilter, (BitSet) options.modes.clone());
+		CacheKey key = new CacheKey(bytes, snapshot);
+		DecompiledClass result;
+		synchronized (CACHE) {
+			result = CACHE.get(key);
+		}
+		if (result == null) {
+			result = decompile(bytes, snapshot);
+			synchronized (CACHE) {
+				CACHE.put(key, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes all decompiled classes from the cache.
+	 */
+	public static void clearCache() {
+		synchronized (CACHE) {
+			CACHE.clear();
+		}
+	}
+
+	private static DecompiledClass decompile(byte[] bytes, DecompilerOptions options) throws UnsupportedClassVersionError {
 		ClassReader cr = new ClassReader(bytes);
 		ClassNode cn = new ClassNode(DecompilerOptions.LATEST_ASM_VERSION);
 		int crFlags = 0;
@@ -80,5 +141,53 @@ public class DecompilerHelper {
 		}
 	}
 
+	private static final class CacheKey {
+
+		private final byte[] bytes;
 
+		private final DecompilerOptions options;
+
+		private final int hash;
+
+		CacheKey(byte[] bytes, DecompilerOptions options) {
+			this.bytes = bytes;
+			this.options = options;
+			this.hash = sampledHashCode(bytes) * 31 + Objects.hash(options.fieldFilter, options.methodFilter, options.modes);
+		}
+
+		/**
+		 * Hashes the length and at most {@link #HASH_SAMPLES} evenly spaced bytes, so that large
+		 * class files are not hashed completely on every lookup. Equal keys are still detected by
+		 * comparing the full content in {@link #equals(Object)}.
+		 */
+		private static int sampledHashCode(byte[] bytes) {
+			int result = bytes.length;
+			int step = Math.max(1, (bytes.length + HASH_SAMPLES - 1) / HASH_SAMPLES);
+			for (int i = 0; i < bytes.length; i += step) {
+				result = 31 * result + bytes[i];
+			}
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return hash == other.hash
+					&& Objects.equals(options.fieldFilter, other.options.fieldFilter)
+					&& Objects.equals(options.methodFilter, other.options.methodFilter)
+					&& options.modes.equals(other.options.modes)
+					&& Arrays.equals(bytes, other.bytes);
+		}
+	}
 }
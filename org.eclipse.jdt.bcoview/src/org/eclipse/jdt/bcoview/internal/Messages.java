@@ -75,6 +75,7 @@ public class Messages extends NLS {
 	public static String BytecodeOutlineView_toggle_vertical_label;
 	public static String BytecodeOutlineView_toggle_horizontal_label;
 	public static String BytecodeOutlineView_toggle_automatic_label;
+	public static String BytecodeOutlineView_decompile_job_name;
 
 	public static String BytecodeReferenceView_empty_selection_text;
 
@@ -56,13 +56,17 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Widget;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 
@@ -148,6 +152,9 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	static final int VIEW_ORIENTATION_AUTOMATIC = 2;
 
+	/** views with a created part control, the decompiler cache is cleared when the last is disposed */
+	private static final Set<BytecodeOutlineView> OPEN_VIEWS = new HashSet<>();
+
 	/**
 	 * The current orientation; either <code>VIEW_ORIENTATION_HORIZONTAL</code>
 	 * <code>VIEW_ORIENTATION_VERTICAL</code>, or <code>VIEW_ORIENTATION_AUTOMATIC</code>.
@@ -234,6 +241,9 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	private DecompiledClass lastDecompiledResult;
 
+	/** decompiles the bytecode for the current selection, null if there is no pending job */
+	private DecompileJob decompileJob;
+
 	protected Map<String, IAction> globalActions;
 
 	protected List<String> selectionActions;
@@ -408,6 +418,7 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	@Override
 	public void createPartControl(Composite parent) {
+		OPEN_VIEWS.add(this);
 		errorColor = parent.getDisplay().getSystemColor(SWT.COLOR_RED);
 		parent.addControlListener(new ControlListener() {
 
@@ -827,6 +838,9 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		setJavaInput(null);
 		lastChildElement = null;
 		lastDecompiledResult = null;
+		if (OPEN_VIEWS.remove(this) && OPEN_VIEWS.isEmpty()) {
+			DecompilerHelper.clearCache();
+		}
 
 		linkWithEditorAction.dispose();
 		showSelectedOnlyAction.dispose();
@@ -1018,6 +1032,7 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		if (statusControl != null && !statusControl.isDisposed()) {
 			updateStatus(null, -1, -1);
 		}
+		cancelDecompileJob();
 		currentSelection = null;
 		lastDecompiledResult = null;
 		javaEditor = null;
@@ -1045,37 +1060,95 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 			return;
 		}
 
-		boolean clearOutput = false;
-
 		if (inputChanged || isSelectedElementChanged(childEl)) {
-			DecompiledClass result = decompileBytecode(childEl);
-			if (result == null) {
-				clearOutput = true;
-			} else {
-				boolean hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
-				if (modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
-					refreshVerifyView(result);
-				} else {
-					toggleVerifierAction.setEnabled(hasMethods);
-					refreshTextView(result);
-				}
-			}
-			lastDecompiledResult = result;
+			scheduleDecompileJob(childEl);
 		} else if (childEl == null && modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT)) {
-			clearOutput = true;
+			clearOutput();
 		}
 
 		lastChildElement = childEl;
-		if (clearOutput) {
-			if (!modes.get(BCOConstants.F_SHOW_ANALYZER)) {
-				IDocument document = new Document(""); //$NON-NLS-1$
-				textViewer.setDocument(document);
+		if (decompileJob == null) {
+			// otherwise the selection is updated as soon as the job is done
+			setSelectionInBytecodeView();
+		}
+		inputChanged = false;
+	}
+
+	/**
+	 * Decompiles the bytecode for the given element in background. Any pending decompile job is
+	 * cancelled, only the result of the last scheduled job is shown.
+	 *
+	 * @param childEl can be null
+	 */
+	private void scheduleDecompileJob(IJavaElement childEl) {
+		cancelDecompileJob();
+		// check here for inner classes too
+		IJavaElement type = JdtUtils.getEnclosingType(childEl);
+		if (type == null) {
+			type = javaInput;
+		}
+		String fieldName = null;
+		String methodName = null;
+		/*
+		 * find out, which name we should use for selected element
+		 */
+		if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
+			if (childEl.getElementType() == IJavaElement.FIELD) {
+				fieldName = childEl.getElementName();
 			} else {
-				setVerifyTableItems(null);
+				methodName = JdtUtils.getMethodSignature(childEl);
 			}
 		}
+		decompileJob = new DecompileJob(type, new DecompilerOptions(fieldName, methodName, (BitSet) modes.clone()));
+		decompileJob.schedule();
+	}
+
+	private void cancelDecompileJob() {
+		if (decompileJob != null) {
+			decompileJob.cancel();
+			decompileJob = null;
+		}
+	}
+
+	/**
+	 * Shows the result of the given job, if it is still the current one. Must be called in the UI
+	 * thread.
+	 *
+	 * @param job finished decompile job
+	 */
+	private void decompileJobDone(DecompileJob job) {
+		if (job != decompileJob) {
+			return;
+		}
+		decompileJob = null;
+		if (textViewer == null || !isActive()) {
+			// decompile again as soon as the view is shown, the result is taken from the cache
+			inputChanged = true;
+			return;
+		}
+		if (job.error != null) {
+			handleDecompileError(job.type, job.error);
+		}
+		DecompiledClass result = job.result;
+		if (result == null) {
+			clearOutput();
+		} else if (job.textTable != null) {
+			refreshVerifyView(job.textTable, job.errorLines);
+		} else {
+			toggleVerifierAction.setEnabled(job.hasMethods);
+			refreshTextView(result);
+		}
+		lastDecompiledResult = result;
 		setSelectionInBytecodeView();
-		inputChanged = false;
+	}
+
+	private void clearOutput() {
+		if (!modes.get(BCOConstants.F_SHOW_ANALYZER)) {
+			IDocument document = new Document(""); //$NON-NLS-1$
+			textViewer.setDocument(document);
+		} else {
+			setVerifyTableItems(null);
+		}
 	}
 
 	private void refreshTextView(DecompiledClass result) {
@@ -1091,9 +1164,8 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		hasAnalyzerError = false;
 	}
 
-	private void refreshVerifyView(DecompiledClass result) {
-		setVerifyTableItems(result.getTextTable());
-		List<Integer> errors = result.getErrorLines();
+	private void refreshVerifyView(String[][] textTable, List<Integer> errors) {
+		setVerifyTableItems(textTable);
 		if (errors.size() > 0) {
 			// TODO this only changes color of status line -
 			// but it is possible also to provide useful info here...
@@ -1421,61 +1493,102 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 	}
 
 	/**
-	 * @param childEl can be null
-	 * @return return null if type is not known or bytecode is not written or cannot be found
+	 * Reports the problem which occurred while decompiling the given type. Must be called in the
+	 * UI thread.
+	 *
+	 * @param type the decompiled type
+	 * @param e the problem
 	 */
-	private DecompiledClass decompileBytecode(IJavaElement childEl) {
-		// check here for inner classes too
-		IJavaElement type = JdtUtils.getEnclosingType(childEl);
-		if (type == null) {
-			type = javaInput;
+	private static void handleDecompileError(IJavaElement type, Throwable e) {
+		if (e instanceof UnsupportedClassVersionError) {
+			BytecodeOutlinePlugin.error("Cannot decompile: " + type //$NON-NLS-1$
+					+ ". Error was caused by attempt to " //$NON-NLS-1$
+					+ "load a class compiled with the Java version which is not " //$NON-NLS-1$
+					+ "supported by the current JVM. ", e); //$NON-NLS-1$
+			return;
 		}
-		if (type == null) {
-			return null;
+		try {
+			// check if compilation unit is ok - then this is the user problem
+			if (type.isStructureKnown()) {
+				BytecodeOutlinePlugin.error("Cannot decompile: " + type, e); //$NON-NLS-1$
+			} else {
+				BytecodeOutlinePlugin.log(e, IStatus.ERROR);
+			}
+		} catch (JavaModelException e1) {
+			// this is compilation problem - don't show the message
+			BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
 		}
-		byte[] bytes = JdtUtils.readClassBytes(type);
-		if (bytes == null) {
-			return null;
+	}
+
+	/**
+	 * Reads and decompiles the bytecode of a type and prepares everything the view needs to show
+	 * it, so that only the widgets are updated in the UI thread.
+	 */
+	private final class DecompileJob extends Job {
+
+		/** can be null */
+		final IJavaElement type;
+
+		final DecompilerOptions options;
+
+		final Display display;
+
+		/** null if type is not known or bytecode is not written or cannot be found */
+		DecompiledClass result;
+
+		/** problem which occurred during decompilation, if any */
+		Throwable error;
+
+		/** not null if the verify view should be shown */
+		String[][] textTable;
+
+		List<Integer> errorLines;
+
+		boolean hasMethods;
+
+		DecompileJob(IJavaElement type, DecompilerOptions options) {
+			super(Messages.BytecodeOutlineView_decompile_job_name);
+			this.type = type;
+			this.options = options;
+			this.display = textViewer.getTextWidget().getDisplay();
+			setSystem(true);
 		}
-		DecompiledClass decompiledClass = null;
-		int available = bytes.length;
-		try {
-			String fieldName = null;
-			String methodName = null;
-			/*
-			 * find out, which name we should use for selected element
-			 */
-			if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
-				if (childEl.getElementType() == IJavaElement.FIELD) {
-					fieldName = childEl.getElementName();
-				} else {
-					methodName = JdtUtils.getMethodSignature(childEl);
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (type != null) {
+				byte[] bytes = JdtUtils.readClassBytes(type);
+				if (bytes != null && !monitor.isCanceled()) {
+					decompile(bytes);
 				}
 			}
-			decompiledClass = DecompilerHelper.getDecompiledClass(bytes, new DecompilerOptions(fieldName, methodName, modes));
-		} catch (Exception e) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			if (!display.isDisposed()) {
+				display.asyncExec(() -> decompileJobDone(this));
+			}
+			return Status.OK_STATUS;
+		}
+
+		private void decompile(byte[] bytes) {
 			try {
-				// check if compilation unit is ok - then this is the user problem
-				if (type.isStructureKnown()) {
-					BytecodeOutlinePlugin.error("Cannot decompile: " + type, e); //$NON-NLS-1$
+				result = DecompilerHelper.getDecompiledClass(bytes, options);
+				// remember class file size to show it later in UI
+				result.setClassSize(bytes.length);
+				hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
+				if (options.modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
+					textTable = result.getTextTable();
+					errorLines = result.getErrorLines();
 				} else {
-					BytecodeOutlinePlugin.log(e, IStatus.ERROR);
+					// formats the text, which is cached in the decompiled class
+					result.getText();
 				}
-			} catch (JavaModelException e1) {
-				// this is compilation problem - don't show the message
-				BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
+			} catch (Exception | UnsupportedClassVersionError e) {
+				result = null;
+				error = e;
 			}
-		} catch (UnsupportedClassVersionError e) {
-			BytecodeOutlinePlugin.error("Cannot decompile: " + type //$NON-NLS-1$
-					+ ". Error was caused by attempt to " //$NON-NLS-1$
-					+ "load a class compiled with the Java version which is not " //$NON-NLS-1$
-					+ "supported by the current JVM. ", e); //$NON-NLS-1$
-		}
-		// remember class file size to show it later in UI
-		if (decompiledClass != null) {
-			decompiledClass.setClassSize(available);
 		}
-		return decompiledClass;
 	}
 
 	private void setVerifyTableItems(String[][] items) {
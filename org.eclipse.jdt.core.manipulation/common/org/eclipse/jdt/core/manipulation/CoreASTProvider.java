@@ -30,6 +30,7 @@ import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.core.manipulation.ASTCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
@@ -63,6 +64,7 @@ public final class CoreASTProvider {
 	private Object fWaitLock= new Object();
 	private volatile boolean fIsReconciling;
 	private volatile Runnable fFinishReconciling;
+	private long fReconcileStamp= ASTCache.NO_STAMP;
 
 	/**
 	 * Wait flag class.
@@ -143,10 +145,11 @@ public final class CoreASTProvider {
 					return fAST;
 				}
 				if (waitFlag == CoreASTProvider.WAIT_NO) {
-					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+					CompilationUnit cached= ASTCache.getDefault().get(input);
+					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && cached == null)
 						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning null (WAIT_NO) for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
 
-					return null;
+					return cached;
 
 				}
 			}
@@ -191,12 +194,12 @@ public final class CoreASTProvider {
 				return null; // thread has been interrupted don't compute AST
 			}
 		} else if (canReturnNull)
-			return null;
+			return ASTCache.getDefault().get(input);
 
 
 		CompilationUnit ast= null;
 		try {
-			ast= createAST(input, progressMonitor);
+			ast= ASTCache.getDefault().getOrCreate(input, progressMonitor, CoreASTProvider::createAST);
 			if (progressMonitor != null && progressMonitor.isCanceled()) {
 				ast= null;
 				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
@@ -250,10 +253,12 @@ public final class CoreASTProvider {
 		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "about to reconcile: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$
 
+		long stamp= ASTCache.getModificationStamp(javaElement);
 		synchronized (fReconcileLock) {
 			fReconcilingJavaElement= javaElement;
 			fIsReconciling= true;
 			this.fFinishReconciling = finishReconciling;
+			fReconcileStamp= stamp;
 		}
 		cache(null, javaElement);
 	}
@@ -338,6 +343,9 @@ public final class CoreASTProvider {
 				return;
 			}
 			cache(ast, javaElement);
+			// share the AST with other clients only if the content did not change while reconciling
+			if (ast != null && ASTCache.getModificationStamp(javaElement) == fReconcileStamp)
+				ASTCache.getDefault().put(javaElement, fReconcileStamp, ast);
 		}
 	}
 
@@ -2461,7 +2461,7 @@ public class ASTProcessor<E extends HelperVisitorProvider<V, T, E>, V, T> {
 				return test;
 			});
 		}
-		hv.build(localnode);
+		hv.buildCompiled(localnode);
 	}
 
 
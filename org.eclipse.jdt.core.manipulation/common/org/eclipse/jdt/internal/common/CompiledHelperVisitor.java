@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.ChildListPropertyDescriptor;
+import org.eclipse.jdt.core.dom.ChildPropertyDescriptor;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
+
+/**
+ * A {@link HelperVisitor} whose callbacks have been frozen into arrays indexed by
+ * {@link ASTNode#getNodeType()}, see {@link HelperVisitor#compile()}.
+ * <p>
+ * Unlike {@link LambdaASTVisitor}, which looks up the callbacks in the maps of the
+ * {@link HelperVisitor} for every visited node, this visitor dispatches in
+ * {@link #preVisit2(ASTNode)} and {@link #postVisit(ASTNode)} with one array access.
+ * Subtrees which can't contain a node of a registered kind are not visited at all.
+ * When callbacks are added to or removed from the {@link HelperVisitor}, e.g. by a
+ * callback while visiting, the callbacks are compiled again before the next node is
+ * visited.
+ * </p>
+ *
+ * @param <E> - type extending HelperVisitorProvider mapping V -> E entries
+ * @param <V> - key type for HelperVisitorProvider
+ * @param <T> - value type for HelperVisitorProvider
+ */
+@SuppressWarnings("unchecked")
+public class CompiledHelperVisitor<E extends HelperVisitorProvider<V, T, E>, V, T> extends ASTVisitor {
+
+	private final HelperVisitor<E, V, T> helperVisitor;
+
+	private final BiPredicate<ASTNode, E>[] predicates;
+
+	private final BiConsumer<ASTNode, E>[] consumers;
+
+	private final Object[] predicatedata;
+
+	private final Object[] consumerdata;
+
+	/**
+	 * Node types whose subtrees can contain a node of a registered kind.
+	 */
+	private final boolean[] descend;
+
+	/**
+	 * The {@link HelperVisitor#modcount} the callbacks have been compiled at.
+	 */
+	private int modcount;
+
+	CompiledHelperVisitor(HelperVisitor<E, V, T> helperVisitor) {
+		this.helperVisitor= helperVisitor;
+		int size= NodeTypeReachability.SIZE;
+		this.predicates= new BiPredicate[size];
+		this.consumers= new BiConsumer[size];
+		this.predicatedata= new Object[size];
+		this.consumerdata= new Object[size];
+		this.descend= new boolean[size];
+		compileCallbacks();
+	}
+
+	private void compileCallbacks() {
+		int size= NodeTypeReachability.SIZE;
+		modcount= helperVisitor.modcount;
+		Arrays.fill(predicates, null);
+		Arrays.fill(consumers, null);
+		Arrays.fill(predicatedata, null);
+		Arrays.fill(consumerdata, null);
+
+		BitSet registered= new BitSet(size);
+		for (Entry<VisitorEnum, BiPredicate<? extends ASTNode, E>> entry : helperVisitor.predicatemap.entrySet()) {
+			int nodetype= entry.getKey().getValue();
+			predicates[nodetype]= (BiPredicate<ASTNode, E>) entry.getValue();
+			predicatedata[nodetype]= helperVisitor.getSupplierData().get(entry.getKey());
+			registered.set(nodetype);
+		}
+		for (Entry<VisitorEnum, BiConsumer<? extends ASTNode, E>> entry : helperVisitor.consumermap.entrySet()) {
+			int nodetype= entry.getKey().getValue();
+			consumers[nodetype]= (BiConsumer<ASTNode, E>) entry.getValue();
+			consumerdata[nodetype]= helperVisitor.getConsumerData().get(entry.getKey());
+			registered.set(nodetype);
+		}
+
+		for (int nodetype= 0; nodetype < size; nodetype++) {
+			descend[nodetype]= NodeTypeReachability.DESCENDANTS[nodetype].intersects(registered);
+		}
+	}
+
+	/**
+	 * Visits the given node with the compiled callbacks.
+	 *
+	 * @param node - ASTNode
+	 * @return - the HelperVisitor this visitor has been compiled from
+	 */
+	public HelperVisitor<E, V, T> build(ASTNode node) {
+		helperVisitor.astvisitor= this;
+		node.accept(this);
+		return helperVisitor;
+	}
+
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		if (modcount != helperVisitor.modcount) {
+			compileCallbacks();
+		}
+		int nodetype= node.getNodeType();
+		BiPredicate<ASTNode, E> predicate= predicates[nodetype];
+		if (predicate != null && matches(node, predicatedata[nodetype])) {
+			if (!predicate.test(node, helperVisitor.dataholder)) {
+				return false;
+			}
+		}
+		return descend[nodetype];
+	}
+
+	@Override
+	public void postVisit(ASTNode node) {
+		if (modcount != helperVisitor.modcount) {
+			compileCallbacks();
+		}
+		int nodetype= node.getNodeType();
+		BiConsumer<ASTNode, E> consumer= consumers[nodetype];
+		if (consumer != null && matches(node, consumerdata[nodetype])) {
+			consumer.accept(node, helperVisitor.dataholder);
+		}
+	}
+
+	@Override
+	public boolean visit(Javadoc node) {
+		// like LambdaASTVisitor, always visit the tags
+		return true;
+	}
+
+	/*
+	 * Applies the filters of the convenience methods which take additional data, see
+	 * LambdaASTVisitor#visit(MethodInvocation) and LambdaASTVisitor#visit(VariableDeclarationStatement).
+	 */
+	private static boolean matches(ASTNode node, Object data) {
+		if (data == null) {
+			return true;
+		}
+		switch (node.getNodeType()) {
+			case ASTNode.METHOD_INVOCATION:
+				return ((MethodInvocation) node).getName().getIdentifier().equals(data);
+			case ASTNode.VARIABLE_DECLARATION_STATEMENT:
+				VariableDeclarationFragment fragment= (VariableDeclarationFragment) ((VariableDeclarationStatement) node).fragments().get(0);
+				IVariableBinding binding= fragment.resolveBinding();
+				if (binding != null) {
+					String qualifiedName= binding.getType().getErasure().getQualifiedName();
+					return ((Class<?>) data).getCanonicalName().equals(qualifiedName);
+				}
+				return true;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * For each node type, the node types which can occur in the subtree below a node
+	 * of that type, computed from the structural properties of all AST levels.
+	 */
+	private static final class NodeTypeReachability {
+
+		static final int SIZE;
+
+		static final BitSet[] DESCENDANTS;
+
+		static {
+			List<Class<?>> nodeClasses= new ArrayList<>();
+			nodeClasses.add(null); // there is no node type 0
+			while (true) {
+				try {
+					nodeClasses.add(ASTNode.nodeClassForType(nodeClasses.size()));
+				} catch (IllegalArgumentException e) {
+					break;
+				}
+			}
+			SIZE= nodeClasses.size();
+
+			BitSet all= new BitSet(SIZE);
+			all.set(1, SIZE);
+			BitSet[] children= new BitSet[SIZE];
+			for (int nodetype= 1; nodetype < SIZE; nodetype++) {
+				children[nodetype]= computeChildTypes(nodeClasses, nodeClasses.get(nodetype), all);
+			}
+
+			DESCENDANTS= new BitSet[SIZE];
+			DESCENDANTS[0]= new BitSet(SIZE);
+			for (int nodetype= 1; nodetype < SIZE; nodetype++) {
+				DESCENDANTS[nodetype]= (BitSet) children[nodetype].clone();
+			}
+			boolean changed= true;
+			while (changed) {
+				changed= false;
+				for (int nodetype= 1; nodetype < SIZE; nodetype++) {
+					BitSet descendants= DESCENDANTS[nodetype];
+					int cardinality= descendants.cardinality();
+					for (int child= children[nodetype].nextSetBit(0); child >= 0; child= children[nodetype].nextSetBit(child + 1)) {
+						descendants.or(DESCENDANTS[child]);
+					}
+					changed|= descendants.cardinality() != cardinality;
+				}
+			}
+		}
+
+		private static BitSet computeChildTypes(List<Class<?>> nodeClasses, Class<?> nodeClass, BitSet all) {
+			BitSet result= new BitSet(nodeClasses.size());
+			try {
+				Method propertyDescriptors= nodeClass.getMethod("propertyDescriptors", int.class); //$NON-NLS-1$
+				for (int apiLevel= AST.JLS2; apiLevel <= AST.getJLSLatest(); apiLevel++) {
+					List<?> properties;
+					try {
+						properties= (List<?>) propertyDescriptors.invoke(null, Integer.valueOf(apiLevel));
+					} catch (ReflectiveOperationException | RuntimeException e) {
+						continue; // level not supported by this node type
+					}
+					for (Object property : properties) {
+						Class<?> childType= getChildType((StructuralPropertyDescriptor) property);
+						if (childType != null) {
+							for (int nodetype= 1; nodetype < nodeClasses.size(); nodetype++) {
+								if (childType.isAssignableFrom(nodeClasses.get(nodetype))) {
+									result.set(nodetype);
+								}
+							}
+						}
+					}
+				}
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// be conservative
+				result.or(all);
+			}
+			return result;
+		}
+
+		private static Class<?> getChildType(StructuralPropertyDescriptor property) {
+			if (property instanceof ChildPropertyDescriptor) {
+				return ((ChildPropertyDescriptor) property).getChildType();
+			} else if (property instanceof ChildListPropertyDescriptor) {
+				return ((ChildListPropertyDescriptor) property).getElementType();
+			}
+			return null;
+		}
+	}
+}
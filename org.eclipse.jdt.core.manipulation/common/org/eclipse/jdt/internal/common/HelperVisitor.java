@@ -14,12 +14,13 @@
 package org.eclipse.jdt.internal.common;
 
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import org.eclipse.jdt.core.dom.*;
 
@@ -64,6 +65,98 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	Map<VisitorEnum, Object> consumerdata;
 
+	/**
+	 * Counts the changes of the maps above, so that a {@link CompiledHelperVisitor} can tell
+	 * when callbacks have been added or removed while visiting.
+	 */
+	int modcount;
+
+	/**
+	 * A map which counts its changes in {@link HelperVisitor#modcount}. Changes through the
+	 * views of the map are not counted.
+	 */
+	private final class TrackedMap<K, W> extends LinkedHashMap<K, W> {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		public W put(K key, W value) {
+			modcount++;
+			return super.put(key, value);
+		}
+
+		@Override
+		public void putAll(Map<? extends K, ? extends W> m) {
+			modcount++;
+			super.putAll(m);
+		}
+
+		@Override
+		public W putIfAbsent(K key, W value) {
+			modcount++;
+			return super.putIfAbsent(key, value);
+		}
+
+		@Override
+		public W remove(Object key) {
+			modcount++;
+			return super.remove(key);
+		}
+
+		@Override
+		public boolean remove(Object key, Object value) {
+			modcount++;
+			return super.remove(key, value);
+		}
+
+		@Override
+		public W replace(K key, W value) {
+			modcount++;
+			return super.replace(key, value);
+		}
+
+		@Override
+		public boolean replace(K key, W oldValue, W newValue) {
+			modcount++;
+			return super.replace(key, oldValue, newValue);
+		}
+
+		@Override
+		public void replaceAll(BiFunction<? super K, ? super W, ? extends W> function) {
+			modcount++;
+			super.replaceAll(function);
+		}
+
+		@Override
+		public W computeIfAbsent(K key, Function<? super K, ? extends W> mappingFunction) {
+			modcount++;
+			return super.computeIfAbsent(key, mappingFunction);
+		}
+
+		@Override
+		public W computeIfPresent(K key, BiFunction<? super K, ? super W, ? extends W> remappingFunction) {
+			modcount++;
+			return super.computeIfPresent(key, remappingFunction);
+		}
+
+		@Override
+		public W compute(K key, BiFunction<? super K, ? super W, ? extends W> remappingFunction) {
+			modcount++;
+			return super.compute(key, remappingFunction);
+		}
+
+		@Override
+		public W merge(K key, W value, BiFunction<? super W, ? super W, ? extends W> remappingFunction) {
+			modcount++;
+			return super.merge(key, value, remappingFunction);
+		}
+
+		@Override
+		public void clear() {
+			modcount++;
+			super.clear();
+		}
+	}
+
 	/**
 	 *
 	 * @return - Map of visitor kinds -> BiPredicates
@@ -99,10 +192,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param dataholder - HelperVisitorProvider providing this HelperVisitor
 	 */
 	public HelperVisitor(Set<ASTNode> nodesprocessed, E dataholder) {
-		this.predicatemap= new LinkedHashMap<>();
-		this.consumermap= new LinkedHashMap<>();
-		this.predicatedata= new HashMap<>();
-		this.consumerdata= new HashMap<>();
+		this.predicatemap= new TrackedMap<>();
+		this.consumermap= new TrackedMap<>();
+		this.predicatedata= new TrackedMap<>();
+		this.consumerdata= new TrackedMap<>();
 
 		this.dataholder= dataholder;
 		dataholder.setHelperVisitor(this);
@@ -130,6 +223,29 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		return this;
 	}
 
+	/**
+	 * Freezes the registered callbacks into a visitor which dispatches by node type
+	 * and skips subtrees that can't contain a node of a registered kind. Changes to this
+	 * HelperVisitor, also by callbacks while visiting, make the returned visitor compile the
+	 * callbacks again before it visits the next node. Use it when the same configuration is
+	 * applied to many nodes.
+	 *
+	 * @return - CompiledHelperVisitor
+	 */
+	public CompiledHelperVisitor<E, V, T> compile() {
+		return new CompiledHelperVisitor<>(this);
+	}
+
+	/**
+	 * Like {@link #build(ASTNode)}, but visits with a compiled visitor, see {@link #compile()}.
+	 *
+	 * @param node - ASTNode
+	 * @return - HelperVisitor
+	 */
+	public HelperVisitor<E, V, T> buildCompiled(ASTNode node) {
+		return compile().build(node);
+	}
+
 	/**
 	 * Add BiPredicate for visitor kind
 	 *
@@ -3373,7 +3489,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		myset.forEach(ve -> {
 			hv.add(ve, bs, bc);
 		});
-		hv.build(cu);
+		hv.buildCompiled(cu);
 	}
 
 	/**
@@ -3393,7 +3509,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		myset.forEach(ve -> {
 			hv.add(ve, bs);
 		});
-		hv.build(cu);
+		hv.buildCompiled(cu);
 	}
 
 	/**
@@ -3413,7 +3529,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		myset.forEach(ve -> {
 			hv.addEnd(ve, bc);
 		});
-		hv.build(cu);
+		hv.buildCompiled(cu);
 	}
 
 	/**
@@ -3430,7 +3546,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3447,7 +3563,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeMemberDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3464,7 +3580,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnonymousClassDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3481,7 +3597,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayAccess(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3498,7 +3614,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayCreation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3515,7 +3631,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayInitializer(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3532,7 +3648,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3549,7 +3665,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssertStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3566,7 +3682,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssignment(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3583,7 +3699,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlock(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3600,7 +3716,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlockComment(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3617,7 +3733,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBooleanLiteral(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3634,7 +3750,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBreakStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3651,7 +3767,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCastExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3668,7 +3784,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCatchClause(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3685,7 +3801,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCharacterLiteral(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3702,7 +3818,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addClassInstanceCreation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3719,7 +3835,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCompilationUnit(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3736,7 +3852,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConditionalExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3753,7 +3869,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConstructorInvocation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3770,7 +3886,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addContinueStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3787,7 +3903,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCreationReference(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3804,7 +3920,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDimension(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3821,7 +3937,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDoStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3838,7 +3954,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEmptyStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3855,7 +3971,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnhancedForStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3872,7 +3988,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumConstantDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3889,7 +4005,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3906,7 +4022,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExportsDirective(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3923,7 +4039,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionMethodReference(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3940,7 +4056,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3957,7 +4073,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldAccess(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3974,7 +4090,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -3991,7 +4107,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addForStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4008,7 +4124,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIfStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4025,7 +4141,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addImportDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4042,7 +4158,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInfixExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4059,7 +4175,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInitializer(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4076,7 +4192,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInstanceofExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4093,7 +4209,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIntersectionType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4110,7 +4226,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addJavadoc(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4127,7 +4243,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLabeledStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4144,7 +4260,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLambdaExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4161,7 +4277,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLineComment(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4178,7 +4294,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMarkerAnnotation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4195,7 +4311,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberRef(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4212,7 +4328,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberValuePair(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4229,7 +4345,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRef(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4246,7 +4362,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRefParameter(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4263,7 +4379,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4280,7 +4396,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4298,7 +4414,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(methodname, bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4315,7 +4431,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModifier(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4332,7 +4448,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4349,7 +4465,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleModifier(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4366,7 +4482,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNameQualifiedType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4383,7 +4499,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNormalAnnotation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4400,7 +4516,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNullLiteral(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4417,7 +4533,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNumberLiteral(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4434,7 +4550,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addOpensDirective(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4451,7 +4567,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPackageDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4468,7 +4584,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParameterizedType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4485,7 +4601,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParenthesizedExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4502,7 +4618,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPatternInstanceofExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4519,7 +4635,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPostfixExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4536,7 +4652,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrefixExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4553,7 +4669,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addProvidesDirective(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4570,7 +4686,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrimitiveType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4587,7 +4703,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedName(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4604,7 +4720,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 //	public static <V,T> void callModuleQualifiedNameVisitor(ASTNode node, ReferenceHolder<V,T> dataholder, BiPredicate<ModuleQualifiedName, ReferenceHolder<V,T>> bs) {  HelperVisitor<ReferenceHolder<V,T>> hv = new HelperVisitor<>(nodesprocessed, dataholder); hv.addModuleQualifiedName(bs); hv.build(node);}
@@ -4624,7 +4740,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRequiresDirective(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4641,7 +4757,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRecordDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4658,7 +4774,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addReturnStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4675,7 +4791,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleName(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4692,7 +4808,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4709,7 +4825,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleMemberAnnotation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4726,7 +4842,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleVariableDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4743,7 +4859,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addStringLiteral(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4760,7 +4876,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperConstructorInvocation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4777,7 +4893,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperFieldAccess(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4794,7 +4910,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodInvocation(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4811,7 +4927,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodReference(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4828,7 +4944,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchCase(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4845,7 +4961,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4862,7 +4978,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4879,7 +4995,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSynchronizedStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4896,7 +5012,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTagElement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4913,7 +5029,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextBlock(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4930,7 +5046,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextElement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4947,7 +5063,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThisExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4964,7 +5080,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThrowStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4981,7 +5097,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTryStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -4998,7 +5114,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclaration(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5015,7 +5131,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclarationStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5032,7 +5148,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeLiteral(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5049,7 +5165,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeMethodReference(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5066,7 +5182,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeParameter(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5083,7 +5199,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUnionType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5100,7 +5216,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUsesDirective(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5117,7 +5233,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationExpression(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5134,7 +5250,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5152,7 +5268,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(class1, bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5169,7 +5285,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationFragment(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5186,7 +5302,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWhileStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5203,7 +5319,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWildcardType(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5220,7 +5336,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addYieldStatement(bs);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5237,7 +5353,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5254,7 +5370,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeMemberDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5271,7 +5387,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnonymousClassDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5288,7 +5404,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayAccess(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5305,7 +5421,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayCreation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5322,7 +5438,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayInitializer(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5339,7 +5455,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5356,7 +5472,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssertStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5373,7 +5489,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssignment(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5390,7 +5506,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlock(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5407,7 +5523,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlockComment(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5424,7 +5540,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBooleanLiteral(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5441,7 +5557,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBreakStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5458,7 +5574,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCastExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5475,7 +5591,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCatchClause(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5492,7 +5608,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCharacterLiteral(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5509,7 +5625,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addClassInstanceCreation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5526,7 +5642,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCompilationUnit(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5543,7 +5659,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConditionalExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5560,7 +5676,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConstructorInvocation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5577,7 +5693,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addContinueStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5594,7 +5710,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCreationReference(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5611,7 +5727,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDimension(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5628,7 +5744,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDoStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5645,7 +5761,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEmptyStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5662,7 +5778,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnhancedForStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5679,7 +5795,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumConstantDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5696,7 +5812,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5713,7 +5829,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExportsDirective(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5730,7 +5846,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionMethodReference(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5747,7 +5863,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5764,7 +5880,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldAccess(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5781,7 +5897,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5798,7 +5914,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addForStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5815,7 +5931,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIfStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5832,7 +5948,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addImportDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5849,7 +5965,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInfixExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5866,7 +5982,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInitializer(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5883,7 +5999,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInstanceofExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5900,7 +6016,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIntersectionType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5917,7 +6033,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addJavadoc(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5934,7 +6050,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLabeledStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5951,7 +6067,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLambdaExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5968,7 +6084,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLineComment(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -5985,7 +6101,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMarkerAnnotation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6002,7 +6118,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberRef(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6019,7 +6135,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberValuePair(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6036,7 +6152,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRef(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6053,7 +6169,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRefParameter(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6070,7 +6186,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6087,7 +6203,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6104,7 +6220,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModifier(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6121,7 +6237,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6138,7 +6254,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleModifier(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6155,7 +6271,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNameQualifiedType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6172,7 +6288,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNormalAnnotation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6189,7 +6305,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNullLiteral(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6206,7 +6322,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNumberLiteral(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6223,7 +6339,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addOpensDirective(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6240,7 +6356,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPackageDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6257,7 +6373,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParameterizedType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6274,7 +6390,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParenthesizedExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6291,7 +6407,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPatternInstanceofExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6308,7 +6424,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPostfixExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6325,7 +6441,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrefixExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6342,7 +6458,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addProvidesDirective(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6359,7 +6475,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrimitiveType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6376,7 +6492,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedName(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6393,7 +6509,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 //	public static <V,T> void callModuleQualifiedNameVisitor(ASTNode node, ReferenceHolder<V,T> dataholder, BiConsumer<ModuleQualifiedName, ReferenceHolder<V,T>> bc) {  HelperVisitor<ReferenceHolder<V,T>> hv = new HelperVisitor<>(nodesprocessed, dataholder); hv.addModuleQualifiedName(bc); hv.build(node);}
@@ -6413,7 +6529,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRequiresDirective(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6430,7 +6546,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRecordDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6447,7 +6563,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addReturnStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6464,7 +6580,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleName(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6481,7 +6597,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6498,7 +6614,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleMemberAnnotation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6515,7 +6631,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleVariableDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6532,7 +6648,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addStringLiteral(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6549,7 +6665,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperConstructorInvocation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6566,7 +6682,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperFieldAccess(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6583,7 +6699,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodInvocation(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6600,7 +6716,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodReference(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6617,7 +6733,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchCase(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6634,7 +6750,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6651,7 +6767,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6668,7 +6784,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSynchronizedStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6685,7 +6801,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTagElement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6702,7 +6818,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextBlock(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6719,7 +6835,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextElement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6736,7 +6852,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThisExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6753,7 +6869,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThrowStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6770,7 +6886,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTryStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6787,7 +6903,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclaration(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6804,7 +6920,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclarationStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6821,7 +6937,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeLiteral(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6838,7 +6954,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeMethodReference(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6855,7 +6971,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeParameter(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6872,7 +6988,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUnionType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6889,7 +7005,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUsesDirective(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6906,7 +7022,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationExpression(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6923,7 +7039,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6941,7 +7057,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(class1, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6958,7 +7074,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationFragment(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6975,7 +7091,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWhileStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -6992,7 +7108,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWildcardType(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7009,7 +7125,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addYieldStatement(bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7028,7 +7144,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7047,7 +7163,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeMemberDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7066,7 +7182,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnonymousClassDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7084,7 +7200,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayAccess(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7102,7 +7218,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayCreation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7121,7 +7237,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayInitializer(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7139,7 +7255,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7158,7 +7274,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssertStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7176,7 +7292,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssignment(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7194,7 +7310,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlock(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7212,7 +7328,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlockComment(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7231,7 +7347,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBooleanLiteral(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7250,7 +7366,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBreakStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7269,7 +7385,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCastExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7287,7 +7403,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCatchClause(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7306,7 +7422,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCharacterLiteral(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7325,7 +7441,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addClassInstanceCreation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7344,7 +7460,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCompilationUnit(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7363,7 +7479,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConditionalExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7382,7 +7498,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConstructorInvocation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7401,7 +7517,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addContinueStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7420,7 +7536,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCreationReference(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7438,7 +7554,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDimension(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7456,7 +7572,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDoStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7475,7 +7591,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEmptyStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7494,7 +7610,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnhancedForStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7513,7 +7629,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumConstantDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7532,7 +7648,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7551,7 +7667,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExportsDirective(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7570,7 +7686,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionMethodReference(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7589,7 +7705,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7607,7 +7723,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldAccess(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7626,7 +7742,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7644,7 +7760,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addForStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7662,7 +7778,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIfStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7681,7 +7797,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addImportDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7700,7 +7816,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInfixExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7718,7 +7834,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInitializer(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7737,7 +7853,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInstanceofExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7756,7 +7872,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIntersectionType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7774,7 +7890,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addJavadoc(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7793,7 +7909,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLabeledStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7812,7 +7928,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLambdaExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7830,7 +7946,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLineComment(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7849,7 +7965,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMarkerAnnotation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7867,7 +7983,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberRef(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7886,7 +8002,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberValuePair(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7904,7 +8020,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRef(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7923,7 +8039,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRefParameter(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7942,7 +8058,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7961,7 +8077,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7979,7 +8095,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModifier(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -7998,7 +8114,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8017,7 +8133,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleModifier(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8036,7 +8152,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNameQualifiedType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8055,7 +8171,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNormalAnnotation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8073,7 +8189,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNullLiteral(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8091,7 +8207,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNumberLiteral(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8110,7 +8226,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addOpensDirective(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8129,7 +8245,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPackageDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8148,7 +8264,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParameterizedType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8167,7 +8283,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParenthesizedExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8186,7 +8302,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPatternInstanceofExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8205,7 +8321,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPostfixExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8224,7 +8340,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrefixExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8243,7 +8359,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addProvidesDirective(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8261,7 +8377,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrimitiveType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8279,7 +8395,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedName(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8297,7 +8413,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 //	public static <V,T> void callModuleQualifiedNameVisitor(ASTNode node, ReferenceHolder<V,T> dataholder, BiPredicate<ModuleQualifiedName, ReferenceHolder<V,T>> bs, BiConsumer<ModuleQualifiedName, ReferenceHolder<V,T>> bc) {  HelperVisitor<ReferenceHolder<V,T>> hv = new HelperVisitor<>(nodesprocessed, dataholder); hv.addModuleQualifiedName(bs,bc); hv.build(node);}
@@ -8319,7 +8435,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRequiresDirective(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8338,7 +8454,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRecordDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8357,7 +8473,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addReturnStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8375,7 +8491,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleName(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8393,7 +8509,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8412,7 +8528,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleMemberAnnotation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8431,7 +8547,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleVariableDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8449,7 +8565,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addStringLiteral(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8468,7 +8584,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperConstructorInvocation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8487,7 +8603,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperFieldAccess(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8506,7 +8622,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodInvocation(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8525,7 +8641,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodReference(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8543,7 +8659,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchCase(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8562,7 +8678,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8581,7 +8697,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8600,7 +8716,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSynchronizedStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8618,7 +8734,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTagElement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8636,7 +8752,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextBlock(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8654,7 +8770,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextElement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8673,7 +8789,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThisExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8692,7 +8808,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThrowStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8710,7 +8826,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTryStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8729,7 +8845,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclaration(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8748,7 +8864,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclarationStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8766,7 +8882,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeLiteral(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8785,7 +8901,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeMethodReference(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8803,7 +8919,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeParameter(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8821,7 +8937,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUnionType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8839,7 +8955,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUsesDirective(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8858,7 +8974,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationExpression(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8877,7 +8993,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8897,7 +9013,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(class1, bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8916,7 +9032,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationFragment(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8935,7 +9051,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWhileStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8953,7 +9069,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWildcardType(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
@@ -8972,7 +9088,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addYieldStatement(bs, bc);
-		hv.build(node);
+		hv.buildCompiled(node);
 	}
 
 	/**
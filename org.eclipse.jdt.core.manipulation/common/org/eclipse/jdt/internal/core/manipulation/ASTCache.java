@@ -0,0 +1,360 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+/**
+ * Caches the shared ASTs of the most recently used compilation units, so that quick assists, mark
+ * occurrences and semantic highlighting don't parse a unit again which has not changed since its
+ * last AST was created, e.g. after switching back and forth between a few editors.
+ * <p>
+ * Entries are keyed by the primary compilation unit and the modification stamp of its content:
+ * the stamp of the document of the connected file buffer for a working copy, or the stamp of the
+ * file otherwise. Units without such a stamp are not cached. The ASTs are only softly reachable,
+ * so they are released under memory pressure. Concurrent requests for the same unit and stamp wait
+ * for the single parse started by the first request.
+ * </p>
+ * <p>
+ * Since an AST also holds the bindings of the types it references, the cache is cleared whenever
+ * another unit changes structurally or the resources or class path change.
+ * </p>
+ */
+public final class ASTCache implements IElementChangedListener {
+
+	private static final int MAX_ENTRIES= 8;
+
+	/** polling interval while waiting for a parse of another thread, in milliseconds */
+	private static final long WAIT_INTERVAL= 100;
+
+	/**
+	 * Modification stamp of units which are not cached, same as
+	 * {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP} and {@link IResource#NULL_STAMP}.
+	 */
+	public static final long NO_STAMP= -1;
+
+	private static ASTCache fgInstance;
+
+	private static final class Key {
+		private final ICompilationUnit fUnit;
+		private final long fStamp;
+
+		Key(ICompilationUnit unit, long stamp) {
+			fUnit= unit;
+			fStamp= stamp;
+		}
+
+		@Override
+		public int hashCode() {
+			return fUnit.hashCode() * 31 + Long.hashCode(fStamp);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fStamp == other.fStamp && fUnit.equals(other.fUnit);
+		}
+	}
+
+	private static final class Entry {
+		final long fStamp;
+		final SoftReference<CompilationUnit> fAST;
+
+		Entry(long stamp, CompilationUnit ast) {
+			fStamp= stamp;
+			fAST= new SoftReference<>(ast);
+		}
+	}
+
+	private final Map<ICompilationUnit, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/** parses in progress, completed with <code>null</code> if cancelled */
+	private final Map<Key, CompletableFuture<CompilationUnit>> fPending= new HashMap<>();
+
+	private final AtomicLong fHits= new AtomicLong();
+	private final AtomicLong fMisses= new AtomicLong();
+	private final AtomicLong fCoalesced= new AtomicLong();
+
+	public static synchronized ASTCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new ASTCache();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance);
+			fgInstance= null;
+		}
+	}
+
+	private ASTCache() {
+	}
+
+	/**
+	 * Returns the current modification stamp of the content of the given type root.
+	 *
+	 * @param input the type root
+	 * @return the modification stamp or {@link #NO_STAMP} if ASTs of the type root are not cached
+	 */
+	public static long getModificationStamp(ITypeRoot input) {
+		if (!(input instanceof ICompilationUnit))
+			return NO_STAMP;
+		ICompilationUnit unit= (ICompilationUnit) input;
+		if (unit.getOwner() != null) {
+			// the content of other working copies is not tracked by a file buffer
+			return NO_STAMP;
+		}
+		IResource resource= unit.getResource();
+		if (resource == null)
+			return NO_STAMP;
+		if (unit.isWorkingCopy()) {
+			ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(resource.getFullPath(), LocationKind.IFILE);
+			IDocument document= buffer != null ? buffer.getDocument() : null;
+			if (document instanceof IDocumentExtension4)
+				return ((IDocumentExtension4) document).getModificationStamp();
+			return NO_STAMP;
+		}
+		return resource.getModificationStamp();
+	}
+
+	/**
+	 * Returns the cached AST of the current content of the given type root.
+	 *
+	 * @param input the type root
+	 * @return the AST or <code>null</code> if not cached
+	 */
+	public CompilationUnit get(ITypeRoot input) {
+		long stamp= getModificationStamp(input);
+		if (stamp == NO_STAMP)
+			return null;
+		CompilationUnit ast= lookup((ICompilationUnit) input, stamp);
+		count(input, ast);
+		return ast;
+	}
+
+	/**
+	 * Returns the cached AST of the current content of the given type root, or creates and caches
+	 * it. If another thread is already creating the same AST, waits for its result instead.
+	 *
+	 * @param input the type root
+	 * @param progressMonitor the progress monitor or <code>null</code>
+	 * @param creator creates the AST, returns <code>null</code> if cancelled
+	 * @return the AST or <code>null</code> if it could not be created or the operation has been
+	 *         cancelled
+	 */
+	public CompilationUnit getOrCreate(ITypeRoot input, IProgressMonitor progressMonitor, BiFunction<ITypeRoot, IProgressMonitor, CompilationUnit> creator) {
+		long stamp= getModificationStamp(input);
+		if (stamp == NO_STAMP)
+			return creator.apply(input, progressMonitor);
+
+		ICompilationUnit unit= (ICompilationUnit) input;
+		Key key= new Key(unit, stamp);
+		boolean waited= false;
+		while (true) {
+			CompletableFuture<CompilationUnit> pending;
+			boolean isOwner= false;
+			synchronized (this) {
+				CompilationUnit ast= lookup(unit, stamp);
+				if (ast != null) {
+					count(input, ast);
+					return ast;
+				}
+				pending= fPending.get(key);
+				if (pending == null || waited) {
+					// parse ourselves if nobody else does, or if the parse we waited for got cancelled
+					pending= new CompletableFuture<>();
+					fPending.put(key, pending);
+					isOwner= true;
+				}
+			}
+
+			if (isOwner) {
+				fMisses.incrementAndGet();
+				CompilationUnit ast= null;
+				try {
+					ast= creator.apply(input, progressMonitor);
+					if (ast != null && getModificationStamp(input) == stamp)
+						put(input, stamp, ast);
+				} finally {
+					synchronized (this) {
+						if (fPending.get(key) == pending)
+							fPending.remove(key);
+					}
+					pending.complete(ast);
+				}
+				return ast;
+			}
+
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(CoreASTProvider.getThreadName() + " - " + CoreASTProvider.DEBUG_PREFIX + "waiting for AST of other thread for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
+			CompilationUnit ast= await(pending, progressMonitor);
+			if (ast != null) {
+				fCoalesced.incrementAndGet();
+				return ast;
+			}
+			if (progressMonitor != null && progressMonitor.isCanceled() || Thread.currentThread().isInterrupted())
+				return null;
+			waited= true;
+		}
+	}
+
+	private static CompilationUnit await(CompletableFuture<CompilationUnit> pending, IProgressMonitor progressMonitor) {
+		while (true) {
+			if (progressMonitor != null && progressMonitor.isCanceled())
+				return null;
+			try {
+				return pending.get(WAIT_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			} catch (ExecutionException e) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Caches the given AST for the given type root.
+	 *
+	 * @param input the type root
+	 * @param stamp the modification stamp of the content from which the AST was created
+	 * @param ast the AST
+	 */
+	public void put(ITypeRoot input, long stamp, CompilationUnit ast) {
+		if (stamp == NO_STAMP || ast == null || !(input instanceof ICompilationUnit))
+			return;
+		Entry entry= new Entry(stamp, ast);
+		synchronized (this) {
+			fEntries.put((ICompilationUnit) input, entry);
+		}
+	}
+
+	public synchronized void remove(ITypeRoot input) {
+		fEntries.remove(input);
+	}
+
+	public synchronized void clear() {
+		fEntries.clear();
+	}
+
+	private synchronized boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	private synchronized CompilationUnit lookup(ICompilationUnit unit, long stamp) {
+		Entry entry= fEntries.get(unit);
+		if (entry == null)
+			return null;
+		CompilationUnit ast= entry.fStamp == stamp ? entry.fAST.get() : null;
+		if (ast == null)
+			fEntries.remove(unit); // out-dated or released by the garbage collector
+		return ast;
+	}
+
+	private void count(ITypeRoot input, CompilationUnit ast) {
+		if (ast != null) {
+			fHits.incrementAndGet();
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(CoreASTProvider.getThreadName() + " - " + CoreASTProvider.DEBUG_PREFIX + "returning AST from cache for: " + input.getElementName() + " (" + getStatistics() + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		} else {
+			fMisses.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the hit rate statistics of this cache, used for debugging.
+	 *
+	 * @return the statistics
+	 */
+	public String getStatistics() {
+		long hits= fHits.get();
+		long coalesced= fCoalesced.get();
+		long total= hits + coalesced + fMisses.get();
+		long rate= total == 0 ? 0 : (hits + coalesced) * 100 / total;
+		return "hits: " + hits + ", coalesced: " + coalesced + ", requests: " + total + ", hit rate: " + rate + "%"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+
+	public long getHitCount() {
+		return fHits.get();
+	}
+
+	public long getMissCount() {
+		return fMisses.get();
+	}
+
+	public long getCoalescedCount() {
+		return fCoalesced.get();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (isEmpty())
+			return;
+		if (event.getType() == ElementChangedEvent.POST_RECONCILE) {
+			// the AST of the reconciled unit is out-dated by its stamp, the ASTs of other units
+			// only if their bindings might have changed
+			if (JavaModelUtil.isStructuralChange(event.getDelta()))
+				clear();
+		} else {
+			clear();
+		}
+	}
+}
@@ -25,6 +25,9 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallersCache;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodCache;
+
 /**
  * The main plug-in class to be used in the workbench.
  */
@@ -64,6 +67,9 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		CallersCache.shutdown();
+		ASTCache.shutdown();
+		RippleMethodCache.shutdown();
 		super.stop(context);
 		fgDefault= null;
 	}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+/**
+ * Collects the references to several members found by one search for an OR pattern, see
+ * {@link CallerMethodWrapper#findCallersInBulk(MethodWrapper[], org.eclipse.core.runtime.IProgressMonitor)}.
+ * <p>
+ * A match is attributed to a member by the member name found in the source of the match, so the
+ * names of the searched members must be distinct. Matches are filtered like in
+ * {@link MethodReferencesSearchRequestor}.
+ * </p>
+ */
+class BulkReferencesSearchRequestor extends SearchRequestor {
+	/**
+	 * A map from member name to the collector of its callers.
+	 */
+	private final Map<String, CallSearchResultCollector> fSearchResults;
+
+	private boolean fAmbiguous;
+
+	BulkReferencesSearchRequestor(Set<String> names) {
+		fSearchResults= new HashMap<>();
+		for (String name : names) {
+			fSearchResults.put(name, new CallSearchResultCollector());
+		}
+	}
+
+	/**
+	 * @return whether a match could not be attributed to exactly one member
+	 */
+	public boolean isAmbiguous() {
+		return fAmbiguous;
+	}
+
+	/**
+	 * @param name the name of a searched member
+	 * @return a map from handle identifier ({@link String}) to {@link MethodCall}
+	 */
+	public Map<String, MethodCall> getCallers(String name) {
+		return fSearchResults.get(name).getCallers();
+	}
+
+	@Override
+	public void acceptSearchMatch(SearchMatch match) {
+		if (fAmbiguous || match.getAccuracy() != SearchMatch.A_ACCURATE || match.isInsideDocComment()) {
+			return;
+		}
+
+		if (match.getElement() instanceof IMember) {
+			IMember member= (IMember) match.getElement();
+			switch (member.getElementType()) {
+				case IJavaElement.METHOD:
+				case IJavaElement.TYPE:
+				case IJavaElement.FIELD:
+				case IJavaElement.INITIALIZER:
+					CallSearchResultCollector collector= fSearchResults.get(getReferencedName(member, match));
+					if (collector == null) {
+						fAmbiguous= true;
+						return;
+					}
+					collector.addMember(member, member, match.getOffset(), match.getOffset() + match.getLength());
+					break;
+			}
+		}
+	}
+
+	/*
+	 * Returns the single name of a searched member which occurs in the source of the match, or
+	 * null if there is none or more than one.
+	 */
+	private String getReferencedName(IMember member, SearchMatch match) {
+		String text;
+		try {
+			IOpenable openable= member.getOpenable();
+			IBuffer buffer= openable != null ? openable.getBuffer() : null;
+			if (buffer == null || match.getOffset() < 0 || match.getOffset() + match.getLength() > buffer.getLength())
+				return null;
+			text= buffer.getText(match.getOffset(), match.getLength());
+		} catch (JavaModelException e) {
+			return null;
+		}
+		// only look at the referenced name, not at method references' receivers or at arguments
+		int index= text.lastIndexOf("::"); //$NON-NLS-1$
+		if (index != -1)
+			text= text.substring(index + 2);
+		index= text.indexOf('(');
+		if (index != -1)
+			text= text.substring(0, index);
+
+		String result= null;
+		int length= text.length();
+		int i= 0;
+		while (i < length) {
+			if (Character.isJavaIdentifierStart(text.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+					i++;
+				}
+				String name= text.substring(start, i);
+				if (fSearchResults.containsKey(name)) {
+					if (result != null && !result.equals(name))
+						return null;
+					result= name;
+				}
+			} else {
+				i++;
+			}
+		}
+		return result;
+	}
+}
@@ -204,6 +204,21 @@ public class CallHierarchyCore {
         return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_USE_FILTERS, null));
     }
 
+    /**
+     * Returns a string which changes whenever the filters applied to found callers change.
+     *
+     * @return the key of the current caller filters
+     */
+    String getCallerFilterKey() {
+        StringBuilder key= new StringBuilder();
+        key.append(isFilterTestCode());
+        if (isFilterEnabled()) {
+            String filters= getFilters();
+            key.append(';').append(filters.isEmpty() ? defaultIgnoreFilters : filters);
+        }
+        return key.toString();
+    }
+
     /**
      * Returns the current filters as a string.
      * @return returns the filters
@@ -17,8 +17,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -105,6 +110,7 @@ public class CallerMethodWrapper extends MethodWrapper {
 			checkCanceled(progressMonitor);
 
 			IMember member= getMember();
+			int limitTo= getLimitTo();
 			SearchPattern pattern= null;
 			IType type= null;
 			if (member instanceof IType) {
@@ -137,10 +143,12 @@ public class CallerMethodWrapper extends MethodWrapper {
 							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 				}
 			}
+			IJavaSearchScope defaultSearchScope= getSearchScope();
+			Map<String, MethodCall> cachedCallers= CallersCache.getDefault().get(member, limitTo, defaultSearchScope);
+			if (cachedCallers != null) {
+				return cachedCallers;
+			}
 			if (pattern == null) {
-				int limitTo= IJavaSearchConstants.REFERENCES;
-				if (member.getElementType() == IJavaElement.FIELD)
-					limitTo= getFieldSearchMode();
 				pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 			}
 			if (pattern == null) { // e.g. for initializers
@@ -149,12 +157,13 @@ public class CallerMethodWrapper extends MethodWrapper {
 
 			SearchEngine searchEngine= new SearchEngine();
 			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
-			IJavaSearchScope defaultSearchScope= getSearchScope();
 			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
 			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
 			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
 					monitor);
-			return searchRequestor.getCallers();
+			Map<String, MethodCall> callers= searchRequestor.getCallers();
+			CallersCache.getDefault().put(member, limitTo, defaultSearchScope, callers);
+			return callers;
 
 		} catch (CoreException e) {
 			JavaManipulationPlugin.log(e);
@@ -162,6 +171,78 @@ public class CallerMethodWrapper extends MethodWrapper {
 		}
 	}
 
+	@Override
+	protected void prefetchChildren(MethodWrapper[] children, IProgressMonitor progressMonitor) {
+		findCallersInBulk(children, progressMonitor);
+	}
+
+	/**
+	 * Finds the callers of the given method wrappers with a single search, so that finding the
+	 * children of each wrapper afterwards is answered from the cache. Only the callers of methods
+	 * and fields with distinct names which have not been searched before are searched. If a match
+	 * can't be attributed to one of the members, nothing is remembered and each wrapper searches
+	 * its callers separately.
+	 *
+	 * @param wrappers the method wrappers, typically the children of one node
+	 * @param progressMonitor the progress monitor
+	 */
+	public static void findCallersInBulk(MethodWrapper[] wrappers, IProgressMonitor progressMonitor) {
+		CallersCache cache= CallersCache.getDefault();
+		IJavaSearchScope scope= null;
+		Map<String, CallerMethodWrapper> byName= new LinkedHashMap<>();
+		Set<String> clashes= new HashSet<>();
+		try {
+			for (MethodWrapper wrapper : wrappers) {
+				if (!(wrapper instanceof CallerMethodWrapper) || !wrapper.canHaveChildren() || wrapper.isRecursive())
+					continue;
+				CallerMethodWrapper callerWrapper= (CallerMethodWrapper) wrapper;
+				IMember member= callerWrapper.getMember();
+				if (!(member instanceof IField) && !(member instanceof IMethod && !((IMethod) member).isConstructor()))
+					continue;
+				if (scope == null)
+					scope= callerWrapper.getSearchScope();
+				if (!scope.equals(callerWrapper.getSearchScope()) || cache.get(member, callerWrapper.getLimitTo(), scope) != null)
+					continue;
+				String name= member.getElementName();
+				if (byName.put(name, callerWrapper) != null)
+					clashes.add(name);
+			}
+			byName.keySet().removeAll(clashes);
+			if (byName.size() < 2)
+				return;
+
+			List<SearchPattern> patterns= new ArrayList<>(byName.size());
+			for (CallerMethodWrapper wrapper : byName.values()) {
+				SearchPattern pattern= SearchPattern.createPattern(wrapper.getMember(), wrapper.getLimitTo(), SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+				if (pattern == null)
+					return;
+				patterns.add(pattern);
+			}
+			SearchPattern pattern= patterns.get(0);
+			for (int i= 1; i < patterns.size(); i++) {
+				pattern= SearchPattern.createOrPattern(pattern, patterns.get(i));
+			}
+
+			BulkReferencesSearchRequestor searchRequestor= new BulkReferencesSearchRequestor(byName.keySet());
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, searchRequestor,
+					progressMonitor);
+			if (searchRequestor.isAmbiguous())
+				return;
+			for (Map.Entry<String, CallerMethodWrapper> entry : byName.entrySet()) {
+				CallerMethodWrapper wrapper= entry.getValue();
+				cache.put(wrapper.getMember(), wrapper.getLimitTo(), scope, searchRequestor.getCallers(entry.getKey()));
+			}
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	private int getLimitTo() {
+		if (getMember().getElementType() == IJavaElement.FIELD)
+			return getFieldSearchMode();
+		return IJavaSearchConstants.REFERENCES;
+	}
+
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
 		if (!JdtFlags.isPrivate(member) || isRecordComponent(member))
 			return defaultSearchScope;
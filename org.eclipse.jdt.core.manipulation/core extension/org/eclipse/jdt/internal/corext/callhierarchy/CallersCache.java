@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+/**
+ * Caches the callers found by {@link CallerMethodWrapper} across call hierarchies, so that
+ * re-expanding a member or re-opening the hierarchy does not search the workspace again.
+ * <p>
+ * Entries are keyed by the member, the kind of references searched for, the search scope and the
+ * caller filters. An entry is dropped when a compilation unit changes which either contains one of
+ * its callers or mentions the name of the member, since only such a unit can add or remove a
+ * caller. A changed super type or modifier of a type can change the callers of members in other
+ * units, hence such changes clear the whole cache, as do changes of a unit that are not reported
+ * in detail and changes to the class path, archives or class files.
+ * </p>
+ */
+public final class CallersCache implements IElementChangedListener {
+
+	private static final int MAX_ENTRIES= 1000;
+
+	private static CallersCache fgInstance;
+
+	private static final class Key {
+		private final String fHandle;
+		private final int fLimitTo;
+		private final IJavaSearchScope fScope;
+		private final String fFilterKey;
+
+		Key(IMember member, int limitTo, IJavaSearchScope scope) {
+			fHandle= member.getHandleIdentifier();
+			fLimitTo= limitTo;
+			fScope= scope;
+			fFilterKey= CallHierarchyCore.getDefault().getCallerFilterKey();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fHandle, Integer.valueOf(fLimitTo), fScope, fFilterKey);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fLimitTo == other.fLimitTo && fHandle.equals(other.fHandle) && fScope.equals(other.fScope) && fFilterKey.equals(other.fFilterKey);
+		}
+	}
+
+	private static final class Entry {
+		final Map<String, MethodCall> fCallers;
+		/** simple name of the member, every reference to it contains this name */
+		final String fName;
+		/** handle identifiers of the compilation units containing the member or one of its callers */
+		final Set<String> fUnits;
+
+		Entry(IMember member, Map<String, MethodCall> callers) {
+			fCallers= callers;
+			fName= member.getElementName();
+			fUnits= new HashSet<>();
+			addUnit(member);
+			for (MethodCall call : callers.values()) {
+				addUnit(call.getMember());
+				if (call.getCallLocations() != null) {
+					for (CallLocation location : call.getCallLocations()) {
+						addUnit(location.getMember());
+					}
+				}
+			}
+		}
+
+		private void addUnit(IMember member) {
+			ICompilationUnit unit= member != null ? member.getCompilationUnit() : null;
+			if (unit != null) {
+				fUnits.add(unit.getPrimary().getHandleIdentifier());
+			}
+		}
+	}
+
+	private final Map<Key, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	public static synchronized CallersCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new CallersCache();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance);
+			fgInstance= null;
+		}
+	}
+
+	private CallersCache() {
+	}
+
+	/**
+	 * Returns the cached callers of the given member.
+	 *
+	 * @param member the member
+	 * @param limitTo the kind of references searched for
+	 * @param scope the search scope
+	 * @return a copy of the cached map from handle identifier to {@link MethodCall}, or
+	 *         <code>null</code> if not cached
+	 */
+	public synchronized Map<String, MethodCall> get(IMember member, int limitTo, IJavaSearchScope scope) {
+		Entry entry= fEntries.get(new Key(member, limitTo, scope));
+		return entry != null ? new HashMap<>(entry.fCallers) : null;
+	}
+
+	public void put(IMember member, int limitTo, IJavaSearchScope scope, Map<String, MethodCall> callers) {
+		Key key= new Key(member, limitTo, scope);
+		Entry entry= new Entry(member, new HashMap<>(callers));
+		synchronized (this) {
+			fEntries.put(key, entry);
+		}
+	}
+
+	public synchronized void clear() {
+		fEntries.clear();
+	}
+
+	private synchronized boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (isEmpty())
+			return;
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				processChildren(delta);
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED
+						| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					clear();
+				} else {
+					processChildren(delta);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+						| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER)) != 0) {
+					clear();
+				} else {
+					processChildren(delta);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				processChildren(delta);
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				processCompilationUnit((ICompilationUnit) element, delta);
+				break;
+			case IJavaElement.CLASS_FILE:
+				clear();
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void processChildren(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private void processCompilationUnit(ICompilationUnit unit, IJavaElementDelta delta) {
+		if (unit.getOwner() != null) {
+			// not a primary working copy, never searched
+			return;
+		}
+		int kind= delta.getKind();
+		if (kind == IJavaElementDelta.CHANGED && (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN)) == 0) {
+			return;
+		}
+		if (kind == IJavaElementDelta.CHANGED && (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0 || hasHierarchyChange(delta)) {
+			// e.g. a new super type of a type in the unit changes the callers of inherited members
+			clear();
+			return;
+		}
+		Set<String> identifiers= null;
+		if (kind != IJavaElementDelta.REMOVED) {
+			// a unit which did not have a caller so far may have gained one
+			try {
+				String source= unit.getSource();
+				if (source == null) {
+					clear();
+					return;
+				}
+				identifiers= getIdentifiers(source);
+				if (identifiers == null) {
+					clear();
+					return;
+				}
+			} catch (JavaModelException e) {
+				clear();
+				return;
+			}
+		}
+		invalidate(unit.getPrimary().getHandleIdentifier(), identifiers);
+	}
+
+	private static boolean hasHierarchyChange(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() == IJavaElement.TYPE) {
+				if ((child.getFlags() & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS)) != 0)
+					return true;
+				if (hasHierarchyChange(child))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized void invalidate(String unitHandle, Set<String> identifiers) {
+		for (Iterator<Entry> iter= fEntries.values().iterator(); iter.hasNext();) {
+			Entry entry= iter.next();
+			if (entry.fUnits.contains(unitHandle) || identifiers != null && identifiers.contains(entry.fName)) {
+				iter.remove();
+			}
+		}
+	}
+
+	/*
+	 * Returns the identifiers in the given source, or null if they can't be determined.
+	 */
+	private static Set<String> getIdentifiers(String source) {
+		Set<String> identifiers= new HashSet<>();
+		int length= source.length();
+		int i= 0;
+		while (i < length) {
+			if (Character.isJavaIdentifierStart(source.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(source.charAt(i))) {
+					i++;
+				}
+				identifiers.add(source.substring(start, i));
+			} else if (source.startsWith("\\u", i)) { //$NON-NLS-1$
+				// unicode escapes could hide any name
+				return null;
+			} else {
+				i++;
+			}
+		}
+		return identifiers;
+	}
+}
@@ -312,7 +312,9 @@ public abstract class MethodWrapper extends PlatformObject {
 
         visitor.preVisit(this);
         if (visitor.visit(this)) {
-           for (MethodWrapper methodWrapper : getCalls(progressMonitor)) {
+           MethodWrapper[] calls= getCalls(progressMonitor);
+           prefetchChildren(calls, progressMonitor);
+           for (MethodWrapper methodWrapper : calls) {
             	methodWrapper.accept(visitor, progressMonitor);
             }
         }
@@ -323,6 +325,17 @@ public abstract class MethodWrapper extends PlatformObject {
         }
     }
 
+    /**
+     * Called by {@link #accept(CallHierarchyVisitor, IProgressMonitor)} before the given children
+     * are visited, so that subclasses can find their children at once. Does nothing by default.
+     *
+     * @param children the children of the receiver which are about to be visited
+     * @param progressMonitor the progress monitor
+     */
+    protected void prefetchChildren(MethodWrapper[] children, IProgressMonitor progressMonitor) {
+        // do nothing
+    }
+
 	/**
 	 * Removes the given method call from the cache.
 	 *
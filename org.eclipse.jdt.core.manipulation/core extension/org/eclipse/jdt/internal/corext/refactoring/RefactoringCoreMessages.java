@@ -1612,6 +1612,8 @@ public final class RefactoringCoreMessages extends NLS {
 
 	public static String RefactoringSearchEngine_searching_referenced_types;
 
+	public static String RenameAnalyzeUtil_analyzing;
+
 	public static String RenameAnalyzeUtil_reference_shadowed;
 
 	public static String RenameAnalyzeUtil_shadows;
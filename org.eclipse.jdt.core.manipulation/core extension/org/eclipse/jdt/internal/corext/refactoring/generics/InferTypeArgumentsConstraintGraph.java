@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.generics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeConstraint2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TypeEquivalenceSet;
+
+/**
+ * Compact form of the constraint graph of an {@link InferTypeArgumentsTCModel}, used by
+ * {@link InferTypeArgumentsConstraintsSolver} to propagate type estimates.
+ * <p>
+ * Constraint variables are numbered densely. The type equivalence sets are the classes of an
+ * array-based union-find over the variable numbers, and the constraints each variable is used
+ * in are stored in primitive adjacency arrays. The type estimates of the equivalence classes
+ * are kept in an array while solving and are written back to the {@link TypeEquivalenceSet}s
+ * by {@link #storeTypeEstimates()}.
+ * </p>
+ */
+final class InferTypeArgumentsConstraintGraph {
+
+	/**
+	 * The variables, indexed by their {@link ConstraintVariable2#getIndex() index}, while the
+	 * graph is built.
+	 */
+	private ConstraintVariable2[] fVariables;
+	private int fVariableCount;
+
+	/**
+	 * Equivalence class of each variable.
+	 */
+	private final int[] fClasses;
+	/**
+	 * Offsets of the members of each class in {@link #fClassMembers}. Has one more
+	 * element than there are classes.
+	 */
+	private final int[] fClassMembersStart;
+	/**
+	 * Members of all classes, each in the order of the contributing variables of the class's
+	 * {@link TypeEquivalenceSet}.
+	 */
+	private final int[] fClassMembers;
+	private final TypeEquivalenceSet[] fClassSets;
+	private final TypeSet[] fTypeEstimates;
+
+	/**
+	 * Offsets of the constraints each variable is used in. Has one more element than there
+	 * are variables.
+	 */
+	private final int[] fUsedInStart;
+	private final int[] fUsedInLeft;
+	private final int[] fUsedInRight;
+
+	/**
+	 * Creates the graph of the given variables, the variables they are constrained with and
+	 * the variables they are type equivalent to.
+	 *
+	 * @param variables the constraint variables, which must all have a type equivalence set
+	 * @param model the model that created the constraints
+	 */
+	InferTypeArgumentsConstraintGraph(ConstraintVariable2[] variables, InferTypeArgumentsTCModel model) {
+		fVariables= new ConstraintVariable2[Math.max(variables.length, 16)];
+		for (ConstraintVariable2 variable : variables) {
+			indexOf(variable);
+		}
+
+		int usedInCount= 0;
+		for (int i= 0; i < fVariableCount; i++) { // grows while iterating
+			ConstraintVariable2 variable= fVariables[i];
+			List<ITypeConstraint2> usedIn= model.getUsedIn(variable);
+			for (ITypeConstraint2 constraint : usedIn) {
+				indexOf(constraint.getLeft());
+				indexOf(constraint.getRight());
+			}
+			usedInCount+= usedIn.size();
+			TypeEquivalenceSet set= variable.getTypeEquivalenceSet();
+			if (set != null) {
+				for (ConstraintVariable2 contributing : set.getContributingVariables()) {
+					indexOf(contributing);
+				}
+			}
+		}
+
+		int[] parents= createEquivalenceClasses();
+
+		fClasses= new int[fVariableCount];
+		int classCount= 0;
+		int[] roots= new int[fVariableCount];
+		int[] classOfRoot= new int[fVariableCount];
+		Arrays.fill(classOfRoot, -1);
+		for (int i= 0; i < fVariableCount; i++) {
+			int root= find(parents, i);
+			if (classOfRoot[root] == -1) {
+				classOfRoot[root]= classCount;
+				roots[classCount]= root;
+				classCount++;
+			}
+			fClasses[i]= classOfRoot[root];
+		}
+
+		fClassSets= new TypeEquivalenceSet[classCount];
+		fTypeEstimates= new TypeSet[classCount];
+		fClassMembersStart= new int[classCount + 1];
+		int[] classMembers= new int[fVariableCount];
+		int members= 0;
+		for (int c= 0; c < classCount; c++) {
+			fClassMembersStart[c]= members;
+			ConstraintVariable2 root= fVariables[roots[c]];
+			TypeEquivalenceSet set= root.getTypeEquivalenceSet();
+			if (set != null) {
+				fClassSets[c]= set;
+				fTypeEstimates[c]= (TypeSet) set.getTypeEstimate();
+				ConstraintVariable2[] contributingVariables= set.getContributingVariables();
+				if (members + contributingVariables.length > classMembers.length)
+					classMembers= Arrays.copyOf(classMembers, Math.max(classMembers.length * 2, members + contributingVariables.length));
+				for (ConstraintVariable2 contributing : contributingVariables) {
+					classMembers[members++]= contributing.getIndex();
+				}
+			} else {
+				if (members == classMembers.length)
+					classMembers= Arrays.copyOf(classMembers, members + 1);
+				classMembers[members++]= roots[c];
+			}
+		}
+		fClassMembersStart[classCount]= members;
+		fClassMembers= classMembers;
+
+		fUsedInStart= new int[fVariableCount + 1];
+		fUsedInLeft= new int[usedInCount];
+		fUsedInRight= new int[usedInCount];
+		int k= 0;
+		for (int i= 0; i < fVariableCount; i++) {
+			fUsedInStart[i]= k;
+			for (ITypeConstraint2 constraint : model.getUsedIn(fVariables[i])) {
+				fUsedInLeft[k]= constraint.getLeft().getIndex();
+				fUsedInRight[k]= constraint.getRight().getIndex();
+				k++;
+			}
+		}
+		fUsedInStart[fVariableCount]= k;
+
+		fVariables= null; // only needed while building the graph
+	}
+
+	private int indexOf(ConstraintVariable2 variable) {
+		int index= variable.getIndex();
+		if (index >= 0 && index < fVariableCount && fVariables[index] == variable)
+			return index;
+
+		if (fVariableCount == fVariables.length)
+			fVariables= Arrays.copyOf(fVariables, fVariableCount * 2);
+		index= fVariableCount++;
+		fVariables[index]= variable;
+		variable.setIndex(index);
+		return index;
+	}
+
+	private int[] createEquivalenceClasses() {
+		int[] parents= new int[fVariableCount];
+		for (int i= 0; i < fVariableCount; i++) {
+			parents[i]= i;
+		}
+		for (int i= 0; i < fVariableCount; i++) {
+			TypeEquivalenceSet set= fVariables[i].getTypeEquivalenceSet();
+			if (set == null)
+				continue;
+			int root= find(parents, i);
+			for (ConstraintVariable2 contributing : set.getContributingVariables()) {
+				int other= find(parents, contributing.getIndex());
+				if (other < root) {
+					parents[root]= other;
+					root= other;
+				} else if (other > root) {
+					parents[other]= root;
+				}
+			}
+		}
+		return parents;
+	}
+
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			parents[i]= parents[parents[i]]; // path halving
+			i= parents[i];
+		}
+		return i;
+	}
+
+	int getVariableCount() {
+		return fVariableCount;
+	}
+
+	int getEquivalenceClass(int variable) {
+		return fClasses[variable];
+	}
+
+	int getClassMembersStart(int equivalenceClass) {
+		return fClassMembersStart[equivalenceClass];
+	}
+
+	int getClassMembersEnd(int equivalenceClass) {
+		return fClassMembersStart[equivalenceClass + 1];
+	}
+
+	int getClassMember(int offset) {
+		return fClassMembers[offset];
+	}
+
+	TypeSet getTypeEstimate(int equivalenceClass) {
+		return fTypeEstimates[equivalenceClass];
+	}
+
+	void setTypeEstimate(int equivalenceClass, TypeSet estimate) {
+		fTypeEstimates[equivalenceClass]= estimate;
+	}
+
+	int getUsedInStart(int variable) {
+		return fUsedInStart[variable];
+	}
+
+	int getUsedInEnd(int variable) {
+		return fUsedInStart[variable + 1];
+	}
+
+	int getLeft(int usedIn) {
+		return fUsedInLeft[usedIn];
+	}
+
+	int getRight(int usedIn) {
+		return fUsedInRight[usedIn];
+	}
+
+	/**
+	 * Writes the type estimates back to the type equivalence sets.
+	 */
+	void storeTypeEstimates() {
+		for (int c= 0; c < fClassSets.length; c++) {
+			if (fClassSets[c] != null)
+				fClassSets[c].setTypeEstimate(fTypeEstimates[c]);
+		}
+	}
+}
@@ -17,15 +17,12 @@ package org.eclipse.jdt.internal.corext.refactoring.generics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -63,22 +60,71 @@ public class InferTypeArgumentsConstraintsSolver {
 
 	private final static String CHOSEN_TYPE= "chosenType"; //$NON-NLS-1$
 
+	/**
+	 * A first-in first-out queue of constraint variable indices backed by a ring buffer.
+	 * A variable that is already queued is not added again.
+	 */
+	private static class WorkList {
+		private final int[] fElements;
+		private final boolean[] fQueued;
+		private int fHead;
+		private int fSize;
+
+		public WorkList(int variableCount) {
+			fElements= new int[variableCount];
+			fQueued= new boolean[variableCount];
+		}
+
+		public void add(int variable) {
+			if (fQueued[variable])
+				return;
+			fQueued[variable]= true;
+			int tail= fHead + fSize;
+			if (tail >= fElements.length)
+				tail-= fElements.length;
+			fElements[tail]= variable;
+			fSize++;
+		}
+
+		public int removeFirst() {
+			int variable= fElements[fHead];
+			fQueued[variable]= false;
+			fHead++;
+			if (fHead == fElements.length)
+				fHead= 0;
+			fSize--;
+			return variable;
+		}
+
+		public boolean isEmpty() {
+			return fSize == 0;
+		}
+
+		public int size() {
+			return fSize;
+		}
+	}
+
 	private final InferTypeArgumentsTCModel fTCModel;
 	private TypeSetEnvironment fTypeSetEnvironment;
 
+	/**
+	 * The constraint graph, available while the type estimates are propagated.
+	 */
+	private InferTypeArgumentsConstraintGraph fGraph;
+
 	/**
 	 * The work-list used by the type constraint solver to hold the set of
 	 * nodes in the constraint graph that remain to be (re-)processed. Entries
-	 * are <code>ConstraintVariable2</code>s.
+	 * are indices of <code>ConstraintVariable2</code>s in {@link #fGraph}.
 	 */
-	private LinkedList<ConstraintVariable2> fWorkList;
+	private WorkList fWorkList;
 
 	private InferTypeArgumentsUpdate fUpdate;
 
 
 	public InferTypeArgumentsConstraintsSolver(InferTypeArgumentsTCModel typeConstraintFactory) {
 		fTCModel= typeConstraintFactory;
-		fWorkList= new LinkedList<>();
 	}
 
 	public InferTypeArgumentsUpdate solveConstraints(IProgressMonitor pm) {
@@ -122,8 +168,18 @@ public class InferTypeArgumentsConstraintsSolver {
 		initializeTypeEstimates(allConstraintVariables);
 		if (pm.isCanceled())
 			throw new OperationCanceledException();
-		fWorkList.addAll(Arrays.asList(allConstraintVariables));
-		runSolver(new SubProgressMonitor(pm, 1));
+		fGraph= new InferTypeArgumentsConstraintGraph(allConstraintVariables, fTCModel);
+		fWorkList= new WorkList(fGraph.getVariableCount());
+		for (int i= 0; i < allConstraintVariables.length; i++) {
+			fWorkList.add(allConstraintVariables[i].getIndex());
+		}
+		try {
+			runSolver(new SubProgressMonitor(pm, 1));
+		} finally {
+			fGraph.storeTypeEstimates();
+			fGraph= null;
+			fWorkList= null;
+		}
 		chooseTypes(allConstraintVariables, new SubProgressMonitor(pm, 1));
 		findCastsToRemove(fTCModel.getCastVariables());
 		return fUpdate;
@@ -190,9 +246,8 @@ public class InferTypeArgumentsConstraintsSolver {
 		pm.beginTask("", fWorkList.size() * 3); //$NON-NLS-1$
 		while (! fWorkList.isEmpty()) {
 			// Get a variable whose type estimate has changed
-			ConstraintVariable2 cv= fWorkList.removeFirst();
-			List<ITypeConstraint2> usedIn= fTCModel.getUsedIn(cv);
-			processConstraints(usedIn);
+			int cv= fWorkList.removeFirst();
+			processConstraints(cv);
 			pm.worked(1);
 			if (pm.isCanceled())
 				throw new OperationCanceledException();
@@ -201,20 +256,16 @@ public class InferTypeArgumentsConstraintsSolver {
 	}
 
 	/**
-	 * Given a list of <code>ITypeConstraint2</code>s that all refer to a
-	 * given <code>ConstraintVariable2</code> (whose type bound has presumably
-	 * just changed), process each <code>ITypeConstraint</code>, propagating
-	 * the type bound across the constraint as needed.
+	 * Given a <code>ConstraintVariable2</code> whose type bound has presumably
+	 * just changed, process each <code>ITypeConstraint2</code> it is used in,
+	 * propagating the type bound across the constraint as needed.
 	 *
-	 * @param usedIn the <code>List</code> of <code>ITypeConstraint2</code>s
-	 * to process
+	 * @param cv the index of the constraint variable in the constraint graph
 	 */
-	private void processConstraints(List<ITypeConstraint2> usedIn) {
-		Iterator<ITypeConstraint2> iter= usedIn.iterator();
-		while (iter.hasNext()) {
-			ITypeConstraint2 tc= iter.next();
-
-				maintainSimpleConstraint(tc);
+	private void processConstraints(int cv) {
+		int end= fGraph.getUsedInEnd(cv);
+		for (int tc= fGraph.getUsedInStart(cv); tc < end; tc++) {
+				maintainSimpleConstraint(fGraph.getLeft(tc), fGraph.getRight(tc));
 				//TODO: prune tcs which cannot cause further changes
 				// Maybe these should be pruned after a special first loop over all ConstraintVariables,
 				// Since this can only happen once for every CV in the work list.
@@ -223,14 +274,11 @@ public class InferTypeArgumentsConstraintsSolver {
 		}
 	}
 
-	private void maintainSimpleConstraint(ITypeConstraint2 stc) {
-		ConstraintVariable2 left= stc.getLeft();
-		ConstraintVariable2 right= stc.getRight();
-
-		TypeEquivalenceSet leftSet= left.getTypeEquivalenceSet();
-		TypeEquivalenceSet rightSet= right.getTypeEquivalenceSet();
-		TypeSet leftEstimate= (TypeSet) leftSet.getTypeEstimate();
-		TypeSet rightEstimate= (TypeSet) rightSet.getTypeEstimate();
+	private void maintainSimpleConstraint(int left, int right) {
+		int leftSet= fGraph.getEquivalenceClass(left);
+		int rightSet= fGraph.getEquivalenceClass(right);
+		TypeSet leftEstimate= fGraph.getTypeEstimate(leftSet);
+		TypeSet rightEstimate= fGraph.getTypeEstimate(rightSet);
 
 		if (leftEstimate.isUniverse() && rightEstimate.isUniverse())
 			return; // nothing to do
@@ -247,8 +295,8 @@ public class InferTypeArgumentsConstraintsSolver {
 //			if (xsection.isEmpty()) // too bad, but this can happen
 //				throw new IllegalStateException("Type estimate set is now empty for LHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
-			leftSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(leftSet.getContributingVariables()));
+			fGraph.setTypeEstimate(leftSet, xsection);
+			addToWorkList(leftSet);
 		}
 		if (! lhsSuperTypes.containsAll(rightEstimate)) {
 			TypeSet xsection= rightEstimate.intersectedWith(lhsSuperTypes);
@@ -256,8 +304,15 @@ public class InferTypeArgumentsConstraintsSolver {
 //			if (xsection.isEmpty())
 //				throw new IllegalStateException("Type estimate set is now empty for RHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
-			rightSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(rightSet.getContributingVariables()));
+			fGraph.setTypeEstimate(rightSet, xsection);
+			addToWorkList(rightSet);
+		}
+	}
+
+	private void addToWorkList(int equivalenceClass) {
+		int end= fGraph.getClassMembersEnd(equivalenceClass);
+		for (int i= fGraph.getClassMembersStart(equivalenceClass); i < end; i++) {
+			fWorkList.add(fGraph.getClassMember(i));
 		}
 	}
 
@@ -319,14 +374,14 @@ public class InferTypeArgumentsConstraintsSolver {
 		}
 	}
 
-	private static final int MAX_CACHE= 1024;
-	private Map<TType, Boolean> fInterfaceTaggingCache= new LinkedHashMap<>(MAX_CACHE, 0.75f, true) {
-		private static final long serialVersionUID= 1L;
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<TType, Boolean> eldest) {
-			return size() > MAX_CACHE;
-		}
-	};
+	/**
+	 * Ids of the interfaces for which {@link #isTaggingInterface(TType)} has been computed.
+	 */
+	private final BitSet fInterfaceTaggingResolved= new BitSet();
+	/**
+	 * Ids of the interfaces for which {@link #isTaggingInterface(TType)} is <code>true</code>.
+	 */
+	private final BitSet fInterfaceTagging= new BitSet();
 
 	private ArrayList<TType> getNonTaggingInterfaces(ArrayList<TType> interfaceCandidates) {
 		ArrayList<TType> unresolvedTypes= new ArrayList<>();
@@ -334,19 +389,20 @@ public class InferTypeArgumentsConstraintsSolver {
 
 		for (int i= 0; i < interfaceCandidates.size(); i++) {
 			TType interf= interfaceCandidates.get(i);
-			Boolean isTagging= fInterfaceTaggingCache.get(interf);
-			if (isTagging == null)
+			int id= interf.getId();
+			if (!fInterfaceTaggingResolved.get(id))
 				unresolvedTypes.add(interf);
-			else if (Boolean.FALSE.equals(isTagging))
+			else if (!fInterfaceTagging.get(id))
 				nonTagging.add(interf);
 		}
 
 		if (!unresolvedTypes.isEmpty()) {
 			for (TType interf : unresolvedTypes) {
+				int id= interf.getId();
+				fInterfaceTaggingResolved.set(id);
 				if (isTaggingInterface(interf)) {
-					fInterfaceTaggingCache.put(interf, Boolean.TRUE);
+					fInterfaceTagging.set(id);
 				} else {
-					fInterfaceTaggingCache.put(interf, Boolean.FALSE);
 					nonTagging.add(interf);
 				}
 			}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+/**
+ * Open addressing hash map from offsets to non-negative ints, avoids boxing the offsets of all
+ * occurrences of a rename.
+ */
+public final class OffsetMap {
+
+	/**
+	 * The value returned for keys which are not in the map.
+	 */
+	public static final int NOT_FOUND= -1;
+
+	private int[] fKeys;
+	private int[] fValues;
+	private boolean[] fUsed;
+	private int fSize;
+
+	/**
+	 * Creates a new map.
+	 *
+	 * @param expectedSize the expected number of keys
+	 */
+	public OffsetMap(int expectedSize) {
+		int capacity= 4;
+		while (capacity < expectedSize * 2)
+			capacity<<= 1;
+		fKeys= new int[capacity];
+		fValues= new int[capacity];
+		fUsed= new boolean[capacity];
+	}
+
+	private int indexOf(int key) {
+		int mask= fKeys.length - 1;
+		int hash= key * 0x9E3779B9;
+		int index= (hash ^ hash >>> 16) & mask;
+		while (fUsed[index] && fKeys[index] != key)
+			index= (index + 1) & mask;
+		return index;
+	}
+
+	/**
+	 * Maps the given key to the given value.
+	 *
+	 * @param key the key
+	 * @param value the value, must not be negative
+	 */
+	public void put(int key, int value) {
+		int index= indexOf(key);
+		if (!fUsed[index]) {
+			if ((fSize + 1) * 2 > fKeys.length) {
+				rehash();
+				index= indexOf(key);
+			}
+			fUsed[index]= true;
+			fKeys[index]= key;
+			fSize++;
+		}
+		fValues[index]= value;
+	}
+
+	/**
+	 * Returns the value of the given key.
+	 *
+	 * @param key the key
+	 * @return the value, or {@link #NOT_FOUND} if the key is not mapped
+	 */
+	public int get(int key) {
+		int index= indexOf(key);
+		return fUsed[index] ? fValues[index] : NOT_FOUND;
+	}
+
+	/**
+	 * Removes the given key.
+	 *
+	 * @param key the key
+	 * @return the value the key was mapped to, or {@link #NOT_FOUND} if the key was not mapped
+	 */
+	public int remove(int key) {
+		int index= indexOf(key);
+		if (!fUsed[index])
+			return NOT_FOUND;
+		// keep the slot, so that probing for other keys still passes it
+		int value= fValues[index];
+		fValues[index]= NOT_FOUND;
+		return value;
+	}
+
+	private void rehash() {
+		int[] keys= fKeys;
+		int[] values= fValues;
+		boolean[] used= fUsed;
+		fKeys= new int[keys.length * 2];
+		fValues= new int[keys.length * 2];
+		fUsed= new boolean[keys.length * 2];
+		for (int i= 0; i < keys.length; i++) {
+			if (used[i]) {
+				int index= indexOf(keys[i]);
+				fUsed[index]= true;
+				fKeys[index]= keys[i];
+				fValues[index]= values[i];
+			}
+		}
+	}
+}
@@ -19,12 +19,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
 import org.eclipse.core.resources.IResource;
@@ -72,10 +75,17 @@ import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelTasks;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 public class RenameAnalyzeUtil {
 
+	/**
+	 * Minimal number of changed compilation units for which the old and new occurrences are
+	 * compared on several threads.
+	 */
+	private static final int PARALLEL_THRESHOLD= 100;
+
 	private static class ProblemNodeFinder {
 
 		private ProblemNodeFinder() {
@@ -265,6 +275,10 @@ public class RenameAnalyzeUtil {
 				cuToNewResults.put(cu.getPrimary(), newReference.getSearchResults());
 		}
 
+		List<ICompilationUnit> changedCus= new ArrayList<>();
+		List<TextChange> changes= new ArrayList<>();
+		List<SearchMatch[]> oldMatchesOfChanges= new ArrayList<>();
+		List<SearchMatch[]> newMatchesOfChanges= new ArrayList<>();
 		for (SearchResultGroup oldGroup : oldReferences) {
 			SearchMatch[] oldMatches= oldGroup.getSearchResults();
 			ICompilationUnit cu= oldGroup.getCompilationUnit();
@@ -277,7 +291,50 @@ public class RenameAnalyzeUtil {
 					addShadowsError(cu, oldMatch, result);
 				}
 			} else {
-				analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, result);
+				changedCus.add(cu);
+				changes.add(manager.get(cu));
+				oldMatchesOfChanges.add(oldMatches);
+				newMatchesOfChanges.add(newSearchMatches);
+			}
+		}
+
+		int size= changedCus.size();
+		int processors= Runtime.getRuntime().availableProcessors();
+		if (size < PARALLEL_THRESHOLD || processors < 2) {
+			for (int i= 0; i < size; i++) {
+				analyzeChanges(changedCus.get(i), changes.get(i), oldMatchesOfChanges.get(i), newMatchesOfChanges.get(i), newElementName, result);
+			}
+		} else {
+			// the compilation units are independent, compare consecutive ranges of them in parallel
+			// and report in the original order
+			int threads= Math.min(processors, Math.max(2, size / PARALLEL_THRESHOLD));
+			ParallelTasks tasks= new ParallelTasks(RefactoringCoreMessages.RenameAnalyzeUtil_analyzing, threads);
+			try {
+				List<Future<RefactoringStatus>> futures= new ArrayList<>(threads);
+				for (int t= 0; t < threads; t++) {
+					int from= (int) ((long) size * t / threads);
+					int to= (int) ((long) size * (t + 1) / threads);
+					futures.add(tasks.submit(() -> {
+						RefactoringStatus status= new RefactoringStatus();
+						for (int i= from; i < to; i++) {
+							analyzeChanges(changedCus.get(i), changes.get(i), oldMatchesOfChanges.get(i), newMatchesOfChanges.get(i), newElementName, status);
+						}
+						return status;
+					}));
+				}
+				for (Future<RefactoringStatus> future : futures) {
+					result.merge(future.get());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				throw new IllegalStateException(cause);
+			} finally {
+				tasks.cancel();
 			}
 		}
 
@@ -292,16 +349,22 @@ public class RenameAnalyzeUtil {
 
 	private static void analyzeChanges(ICompilationUnit cu, TextChange change,
 			SearchMatch[] oldMatches, SearchMatch[] newMatches, String newElementName, RefactoringStatus result) {
-		Map<Integer, SearchMatch> updatedOldOffsets= getUpdatedChangeOffsets(change, oldMatches);
+		int[] updatedOffsets= getUpdatedChangeOffsets(change, oldMatches);
+		// updated offset -> index of the old match, the last old match wins if several are updated to the same offset
+		OffsetMap updatedOldOffsets= new OffsetMap(oldMatches.length);
+		for (int i= 0; i < oldMatches.length; i++) {
+			updatedOldOffsets.put(updatedOffsets[i], i);
+		}
 		for (SearchMatch newMatch : newMatches) {
-			Integer offsetInNew= newMatch.getOffset();
-			SearchMatch oldMatch= updatedOldOffsets.remove(offsetInNew);
-			if (oldMatch == null) {
+			int oldMatch= updatedOldOffsets.remove(newMatch.getOffset());
+			if (oldMatch == OffsetMap.NOT_FOUND) {
 				addReferenceShadowedError(cu, newMatch, newElementName, result);
 			}
 		}
-		for (SearchMatch oldMatch : updatedOldOffsets.values()) {
-			addShadowsError(cu, oldMatch, result);
+		for (int i= 0; i < oldMatches.length; i++) {
+			if (updatedOldOffsets.get(updatedOffsets[i]) == i) {
+				addShadowsError(cu, oldMatches[i], result);
+			}
 		}
 	}
 
@@ -309,16 +372,13 @@ public class RenameAnalyzeUtil {
 	 *
 	 * @param change
 	 * @param oldMatches
-	 * @return Map &lt;Integer updatedOffset, SearchMatch oldMatch&gt;
+	 * @return the updated offsets of the old matches, -1 for matches which are not updated
 	 */
-	private static Map<Integer, SearchMatch> getUpdatedChangeOffsets(TextChange change, SearchMatch[] oldMatches) {
-		Map<Integer, SearchMatch> updatedOffsets= new HashMap<>();
-		Map<Integer, Integer> oldToUpdatedOffsets= getEditChangeOffsetUpdates(change);
-		for (SearchMatch oldMatch : oldMatches) {
-			Integer updatedOffset= oldToUpdatedOffsets.get(Integer.valueOf(oldMatch.getOffset()));
-			if (updatedOffset == null)
-				updatedOffset= -1; //match not updated
-			updatedOffsets.put(updatedOffset, oldMatch);
+	private static int[] getUpdatedChangeOffsets(TextChange change, SearchMatch[] oldMatches) {
+		int[] updatedOffsets= new int[oldMatches.length];
+		OffsetMap oldToUpdatedOffsets= getEditChangeOffsetUpdates(change);
+		for (int i= 0; i < oldMatches.length; i++) {
+			updatedOffsets[i]= oldToUpdatedOffsets.get(oldMatches[i].getOffset()); // NOT_FOUND if match not updated
 		}
 		return updatedOffsets;
 	}
@@ -326,11 +386,11 @@ public class RenameAnalyzeUtil {
 	/**
 	 *
 	 * @param change
-	 * @return Map &lt;Integer oldOffset, Integer updatedOffset&gt;
+	 * @return map from old offset to updated offset
 	 */
-	private static Map<Integer, Integer> getEditChangeOffsetUpdates(TextChange change) {
+	private static OffsetMap getEditChangeOffsetUpdates(TextChange change) {
 		TextEditChangeGroup[] editChanges= change.getTextEditChangeGroups();
-		Map<Integer, Integer> offsetUpdates= new HashMap<>(editChanges.length);
+		OffsetMap offsetUpdates= new OffsetMap(editChanges.length);
 		for (TextEditChangeGroup editChange : editChanges) {
 			IRegion oldRegion= editChange.getRegion();
 			if (oldRegion == null)
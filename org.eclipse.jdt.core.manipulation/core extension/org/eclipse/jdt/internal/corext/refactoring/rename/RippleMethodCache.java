@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+/**
+ * Caches the ripple methods found by {@link RippleMethodFinder2}, so that refactorings which
+ * look up the related methods of the same method repeatedly, e.g. while their options are
+ * changed in the wizard, do not search declarations and build type hierarchies each time.
+ * <p>
+ * Entries are keyed by the handle of the method and the kind of search. The ripple of a method
+ * depends on the type hierarchies of all types declaring a method with the same signature, so
+ * every change which might affect a type hierarchy clears the whole cache: any change of the
+ * Java model, and reconciles which add, remove or change anything but the bodies of members.
+ * Each clear starts a new generation, and results computed during an older generation are
+ * not cached.
+ * </p>
+ */
+public final class RippleMethodCache implements IElementChangedListener {
+
+	private static final int MAX_ENTRIES= 100;
+
+	private static RippleMethodCache fgInstance;
+
+	private static final class Key {
+		private final String fHandle;
+		private final boolean fExcludeBinaries;
+		private final boolean fSearchOnlyInCompilationUnit;
+		private final boolean fWithBinaryMatches;
+
+		Key(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit, boolean withBinaryMatches) {
+			fHandle= method.getHandleIdentifier();
+			fExcludeBinaries= excludeBinaries;
+			fSearchOnlyInCompilationUnit= searchOnlyInCompilationUnit;
+			fWithBinaryMatches= withBinaryMatches;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fHandle, Boolean.valueOf(fExcludeBinaries), Boolean.valueOf(fSearchOnlyInCompilationUnit), Boolean.valueOf(fWithBinaryMatches));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fExcludeBinaries == other.fExcludeBinaries && fSearchOnlyInCompilationUnit == other.fSearchOnlyInCompilationUnit
+					&& fWithBinaryMatches == other.fWithBinaryMatches && fHandle.equals(other.fHandle);
+		}
+	}
+
+	private static final class Entry {
+		final IMethod[] fRippleMethods;
+		/** matches of the binary ripple methods, or <code>null</code> if not searched for */
+		final Map<IMethod, SearchMatch> fBinaryMatches;
+
+		Entry(IMethod[] rippleMethods, Map<IMethod, SearchMatch> binaryMatches) {
+			fRippleMethods= rippleMethods;
+			fBinaryMatches= binaryMatches;
+		}
+	}
+
+	private final Map<Key, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private long fGeneration;
+
+	public static synchronized RippleMethodCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new RippleMethodCache();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance);
+			fgInstance= null;
+		}
+	}
+
+	private RippleMethodCache() {
+	}
+
+	/**
+	 * Returns the current generation of this cache. Must be read before the ripple methods are
+	 * computed and passed to {@link #put(long, IMethod, boolean, boolean, IMethod[], Map)}.
+	 *
+	 * @return the generation
+	 */
+	public synchronized long getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Returns the cached ripple methods of the given method.
+	 *
+	 * @param method the method
+	 * @param excludeBinaries whether binary methods were excluded
+	 * @param searchOnlyInCompilationUnit whether only the compilation unit of the method was
+	 *            searched
+	 * @param binaryMatches if not <code>null</code>, receives the matches of the binary ripple
+	 *            methods
+	 * @return a copy of the cached ripple methods, or <code>null</code> if not cached
+	 */
+	public synchronized IMethod[] get(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit, Map<IMethod, SearchMatch> binaryMatches) {
+		Entry entry= fEntries.get(new Key(method, excludeBinaries, searchOnlyInCompilationUnit, binaryMatches != null));
+		if (entry == null)
+			return null;
+		if (binaryMatches != null)
+			binaryMatches.putAll(entry.fBinaryMatches);
+		return entry.fRippleMethods.clone();
+	}
+
+	/**
+	 * Caches the ripple methods of the given method, unless the cache has been cleared since
+	 * the given generation.
+	 *
+	 * @param generation the {@link #getGeneration() generation} at which the computation started
+	 * @param method the method
+	 * @param excludeBinaries whether binary methods were excluded
+	 * @param searchOnlyInCompilationUnit whether only the compilation unit of the method was
+	 *            searched
+	 * @param rippleMethods the ripple methods
+	 * @param binaryMatches the matches of the binary ripple methods, or <code>null</code> if not
+	 *            searched for
+	 */
+	public void put(long generation, IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit, IMethod[] rippleMethods, Map<IMethod, SearchMatch> binaryMatches) {
+		Key key= new Key(method, excludeBinaries, searchOnlyInCompilationUnit, binaryMatches != null);
+		Entry entry= new Entry(rippleMethods.clone(), binaryMatches != null ? new HashMap<>(binaryMatches) : null);
+		synchronized (this) {
+			if (generation == fGeneration)
+				fEntries.put(key, entry);
+		}
+	}
+
+	public synchronized void clear() {
+		fEntries.clear();
+		fGeneration++;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (event.getType() == ElementChangedEvent.POST_RECONCILE) {
+			// editing the bodies of members does not change any type hierarchy
+			if (JavaModelUtil.isStructuralChange(event.getDelta()))
+				clear();
+		} else {
+			clear();
+		}
+	}
+}
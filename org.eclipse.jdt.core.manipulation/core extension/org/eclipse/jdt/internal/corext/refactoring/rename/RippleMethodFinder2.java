@@ -86,50 +86,69 @@ public class RippleMethodFinder2 {
 			return fImplementation.get(key);
 		}
 	}
+	/**
+	 * Union-find over int handles of the types, with path compression and union by rank.
+	 */
 	private static class UnionFind {
-		HashMap<IType, IType> fElementToRepresentative= new HashMap<>();
+		private final HashMap<IType, Integer> fHandles= new HashMap<>();
+		private IType[] fElements= new IType[16];
+		private int[] fParents= new int[16];
+		private int[] fRanks= new int[16];
+		private int fSize;
 
 		public void init(IType type) {
-			fElementToRepresentative.put(type, type);
+			if (fHandles.containsKey(type))
+				return;
+			if (fSize == fElements.length) {
+				int length= fSize * 2;
+				fElements= Arrays.copyOf(fElements, length);
+				fParents= Arrays.copyOf(fParents, length);
+				fRanks= Arrays.copyOf(fRanks, length);
+			}
+			int handle= fSize++;
+			fHandles.put(type, Integer.valueOf(handle));
+			fElements[handle]= type;
+			fParents[handle]= handle;
 		}
 
-		//path compression:
+		/**
+		 * @param element the type
+		 * @return the representative of the type, or <code>null</code> if the type is unknown
+		 */
 		public IType find(IType element) {
-			IType root= element;
-			IType rep= fElementToRepresentative.get(root);
-			while (rep != null && ! rep.equals(root)) {
-				root= rep;
-				rep= fElementToRepresentative.get(root);
-			}
-			if (rep == null)
+			Integer handle= fHandles.get(element);
+			if (handle == null)
 				return null;
+			return fElements[find(handle.intValue())];
+		}
 
-			rep= fElementToRepresentative.get(element);
-			while (! rep.equals(root)) {
-				IType temp= element;
-				element= rep;
-				fElementToRepresentative.put(temp, root);
-				rep= fElementToRepresentative.get(element);
+		private int find(int handle) {
+			int root= handle;
+			while (fParents[root] != root) {
+				root= fParents[root];
+			}
+			//path compression:
+			while (fParents[handle] != root) {
+				int next= fParents[handle];
+				fParents[handle]= root;
+				handle= next;
 			}
 			return root;
 		}
 
-//		//straightforward:
-//		public IType find(IType element) {
-//			IType current= element;
-//			IType rep= (IType) fElementToRepresentative.get(current);
-//			while (rep != null && ! rep.equals(current)) {
-//				current= rep;
-//				rep= (IType) fElementToRepresentative.get(current);
-//			}
-//			if (rep == null)
-//				return null;
-//			else
-//				return current;
-//		}
-
 		public void union(IType rep1, IType rep2) {
-			fElementToRepresentative.put(rep1, rep2);
+			int root1= find(fHandles.get(rep1).intValue());
+			int root2= find(fHandles.get(rep2).intValue());
+			if (root1 == root2)
+				return;
+			if (fRanks[root1] < fRanks[root2]) {
+				fParents[root1]= root2;
+			} else if (fRanks[root1] > fRanks[root2]) {
+				fParents[root2]= root1;
+			} else {
+				fParents[root1]= root2;
+				fRanks[root2]++;
+			}
 		}
 	}
 
@@ -184,7 +203,19 @@ public class RippleMethodFinder2 {
 	}
 
 	private IMethod[] getAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
-		IMethod[] rippleMethods= findAllRippleMethods(pm, owner);
+		IMethod[] rippleMethods;
+		if (owner == null) {
+			// only the primary working copies are tracked by the cache
+			RippleMethodCache cache= RippleMethodCache.getDefault();
+			rippleMethods= cache.get(fMethod, fExcludeBinaries, fSearchOnlyInCompilationUnit, fDeclarationToMatch);
+			if (rippleMethods == null) {
+				long generation= cache.getGeneration();
+				rippleMethods= findAllRippleMethods(pm, owner);
+				cache.put(generation, fMethod, fExcludeBinaries, fSearchOnlyInCompilationUnit, rippleMethods, fDeclarationToMatch);
+			}
+		} else {
+			rippleMethods= findAllRippleMethods(pm, owner);
+		}
 		if (fDeclarationToMatch == null)
 			return rippleMethods;
 
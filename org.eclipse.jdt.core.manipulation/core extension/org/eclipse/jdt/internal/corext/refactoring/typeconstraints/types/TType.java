@@ -71,6 +71,7 @@ public abstract class TType {
 	protected static final TType[] EMPTY_TYPE_ARRAY= new TType[0];
 
 	private TypeEnvironment fEnvironment;
+	private final int fId;
 	private String fBindingKey;
 	private int fModifiers;
 	private int fFlags;
@@ -83,6 +84,7 @@ public abstract class TType {
 	 */
 	protected TType(TypeEnvironment environment) {
 		fEnvironment= environment;
+		fId= environment.registerType(this);
 	}
 
 	/**
@@ -142,6 +144,17 @@ public abstract class TType {
 		return fEnvironment;
 	}
 
+	/**
+	 * Returns the id of this type. Ids are dense and unique within the
+	 * type's environment and are assigned in creation order.
+	 *
+	 * @return the type's id
+	 * @see TypeEnvironment#getType(int)
+	 */
+	public int getId() {
+		return fId;
+	}
+
 	/**
 	 * Returns the key of the binding from which this type
 	 * got constructed.
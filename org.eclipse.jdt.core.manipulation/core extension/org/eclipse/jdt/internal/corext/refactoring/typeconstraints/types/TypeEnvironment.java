@@ -70,6 +70,12 @@ public class TypeEnvironment {
 		}
 	}
 
+	/**
+	 * All types of this environment, indexed by their {@link TType#getId() id}.
+	 * Must be initialized before the primitive types below.
+	 */
+	private final List<TType> fTypes= new ArrayList<>();
+
 	/** Type code for the primitive type "int". */
 	public final PrimitiveType INT= new PrimitiveType(this, PrimitiveType.INT, BindingKey.createTypeBindingKey("int")); //$NON-NLS-1$
 	/** Type code for the primitive type "char". */
@@ -131,6 +137,10 @@ public class TypeEnvironment {
 	 * information was not requested in the constructor.
 	 */
 	private Map<TType, ArrayList<TType>> fSubTypes;
+	/**
+	 * Number of subtype relations remembered in {@link #fSubTypes}.
+	 */
+	private int fSubTypesCount;
 	/**
 	 * If <code>true</code>, replace all capture types by their wildcard type.
 	 * @since 3.7
@@ -227,6 +237,52 @@ public class TypeEnvironment {
 		return result;
 	}
 
+	/**
+	 * Returns the number of types created by this environment so far. Type ids are
+	 * in the range <code>[0, getTypeCount())</code>.
+	 *
+	 * @return the number of types of this environment
+	 */
+	public int getTypeCount() {
+		return fTypes.size();
+	}
+
+	/**
+	 * Returns the type with the given id.
+	 *
+	 * @param id the type id
+	 * @return the type with the given id
+	 * @see TType#getId()
+	 */
+	public TType getType(int id) {
+		return fTypes.get(id);
+	}
+
+	/**
+	 * Returns whether this environment remembers the direct subtypes of its types.
+	 *
+	 * @return <code>true</code> iff {@link TType#getSubTypes()} is supported
+	 */
+	public boolean remembersSubTypes() {
+		return fSubTypes != null;
+	}
+
+	/**
+	 * Returns the number of direct subtype relations this environment has remembered so far.
+	 * Clients caching information derived from {@link TType#getSubTypes()} can use this
+	 * to detect that the information is stale.
+	 *
+	 * @return the number of remembered subtype relations
+	 */
+	public int getSubTypesCount() {
+		return fSubTypesCount;
+	}
+
+	int registerType(TType type) {
+		fTypes.add(type);
+		return fTypes.size() - 1;
+	}
+
 	/**
 	 * Returns the TType for java.lang.Object.
 	 * <p>
@@ -305,6 +361,7 @@ public class TypeEnvironment {
 			Assert.isTrue(! subtypes.contains(result));
 		}
 		subtypes.add(result);
+		fSubTypesCount++;
 	}
 
 	private void cacheSubTypes(TType[] interfaces, TType result) {
@@ -13,8 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -40,8 +40,9 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	/**
 	 * Set containing the TTypes in this EnumeratedTypeSet.
+	 * Backed by a bit set over the type ids if the type environment is small enough.
 	 */
-	Set<TType> fMembers= new LinkedHashSet<>();
+	Set<TType> fMembers;
 
 	/**
 	 * Constructs a new EnumeratedTypeSet with the members of Set s in it.
@@ -52,6 +53,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	 */
 	public EnumeratedTypeSet(Iterator<TType> types, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
+		fMembers= typeSetEnvironment.createMemberSet();
 		while (types.hasNext()) {
 			fMembers.add(types.next());
 		}
@@ -65,6 +67,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	 */
 	public EnumeratedTypeSet(TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
+		fMembers= typeSetEnvironment.createMemberSet();
 		sCount++;
 	}
 
@@ -77,6 +80,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(TType t, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		Assert.isNotNull(t);
+		fMembers= typeSetEnvironment.createMemberSet();
 		fMembers.add(t);
 		sCount++;
 	}
@@ -152,8 +156,7 @@ public class EnumeratedTypeSet extends TypeSet {
 			// More than an optimization: the universe never contains array types, so
 			// if s2 has array types, the following will retain them, as it should.
 			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
-			fMembers= new LinkedHashSet<>();
-			fMembers.addAll(ets2.fMembers);
+			fMembers= cloneSet(ets2.fMembers);
 		} else
 			retainAll(s2);
 	}
@@ -211,7 +214,7 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	public void clear() {
 		if (isUniverse())
-			fMembers= new LinkedHashSet<>();
+			fMembers= getTypeSetEnvironment().createMemberSet();
 		else
 			fMembers.clear();
 	}
@@ -245,7 +248,39 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	private Set<TType> cloneSet(Set<TType> members) {
-		return new LinkedHashSet<>(members);
+		return getTypeSetEnvironment().copyMemberSet(members);
+	}
+
+	/**
+	 * Adds the types enumerated by {@link TTypes#getAllSubTypesIterator(TType)} to this set.
+	 *
+	 * @param t a type
+	 */
+	void addAllSubTypes(TType t) {
+		BitSet subTypes= getTypeSetEnvironment().getAllSubTypes(t);
+		if (subTypes != null && fMembers instanceof TTypeBitSet) {
+			((TTypeBitSet) fMembers).or(subTypes);
+		} else {
+			for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
+				fMembers.add(iterator.next());
+			}
+		}
+	}
+
+	/**
+	 * Removes the types enumerated by {@link TTypes#getAllSubTypesIterator(TType)} from this set.
+	 *
+	 * @param t a type
+	 */
+	private void removeAllSubTypes(TType t) {
+		BitSet subTypes= getTypeSetEnvironment().getAllSubTypes(t);
+		if (subTypes != null && fMembers instanceof TTypeBitSet) {
+			((TTypeBitSet) fMembers).andNot(subTypes);
+		} else {
+			for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
+				fMembers.remove(iterator.next());
+			}
+		}
 	}
 
 	public boolean addAll(TypeSet s) {
@@ -328,9 +363,7 @@ public class EnumeratedTypeSet extends TypeSet {
 					result.fMembers.remove(TTypes.createArrayType(subIter.next(), numDims));
 				}
 			} else {
-				for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
-				}
+				result.removeAllSubTypes(t);
 			}
 		}
 		result.initComplete();
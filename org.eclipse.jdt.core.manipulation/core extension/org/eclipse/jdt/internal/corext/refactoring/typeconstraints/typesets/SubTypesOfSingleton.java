@@ -215,8 +215,10 @@ public class SubTypesOfSingleton extends TypeSet {
 			if (fUpperBound instanceof ArrayType) {
 				ArrayType at= (ArrayType) fUpperBound;
 				fEnumCache= EnumeratedTypeSet.makeArrayTypesForElements(TTypes.getAllSubTypesIterator(at.getComponentType()),getTypeSetEnvironment());
-			} else
-				fEnumCache= new EnumeratedTypeSet(TTypes.getAllSubTypesIterator(fUpperBound), getTypeSetEnvironment());
+			} else {
+				fEnumCache= new EnumeratedTypeSet(getTypeSetEnvironment());
+				fEnumCache.addAllSubTypes(fUpperBound);
+			}
 
 			fEnumCache.add(fUpperBound);
 			fEnumCache.initComplete();
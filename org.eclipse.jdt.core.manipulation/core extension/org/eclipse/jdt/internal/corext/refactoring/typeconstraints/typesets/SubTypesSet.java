@@ -260,9 +260,7 @@ public class SubTypesSet extends TypeSet {
 					for(Iterator<TType> elemSubIter=TTypes.getAllSubTypesIterator(at.getElementType()); elemSubIter.hasNext(); )
 						fEnumCache.add(TTypes.createArrayType(elemSubIter.next(), numDims));
 				} else {
-					for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(ub); iterator.hasNext();) {
-						fEnumCache.fMembers.add(iterator.next());
-					}
+					fEnumCache.addAllSubTypes(ub);
 				}
 				fEnumCache.add(ub);
 			}
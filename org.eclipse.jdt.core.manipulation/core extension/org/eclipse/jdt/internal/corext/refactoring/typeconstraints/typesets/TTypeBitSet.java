@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+
+/**
+ * A {@code Set<TType>} for the types of a single {@link TypeEnvironment}, backed by a
+ * {@link BitSet} over the {@link TType#getId() type ids}. Bulk operations between two
+ * such sets are word-parallel. Iteration is in type id order, i.e. in the order in which
+ * the types were created.
+ */
+class TTypeBitSet extends AbstractSet<TType> {
+
+	private final TypeEnvironment fTypeEnvironment;
+	private final BitSet fBits;
+	private int fSize;
+
+	TTypeBitSet(TypeEnvironment typeEnvironment) {
+		fTypeEnvironment= typeEnvironment;
+		fBits= new BitSet(typeEnvironment.getTypeCount());
+	}
+
+	TTypeBitSet(TTypeBitSet other) {
+		fTypeEnvironment= other.fTypeEnvironment;
+		fBits= (BitSet) other.fBits.clone();
+		fSize= other.fSize;
+	}
+
+	/**
+	 * Adds the types with the given ids to this set.
+	 *
+	 * @param ids the type ids
+	 * @return <code>true</code> iff this set changed
+	 */
+	boolean or(BitSet ids) {
+		fBits.or(ids);
+		return updateSize();
+	}
+
+	/**
+	 * Removes the types with the given ids from this set.
+	 *
+	 * @param ids the type ids
+	 * @return <code>true</code> iff this set changed
+	 */
+	boolean andNot(BitSet ids) {
+		fBits.andNot(ids);
+		return updateSize();
+	}
+
+	private boolean updateSize() {
+		int oldSize= fSize;
+		fSize= fBits.cardinality();
+		return fSize != oldSize;
+	}
+
+	private boolean isMember(Object o) {
+		if (!(o instanceof TType))
+			return false;
+		TType type= (TType) o;
+		return type.getEnvironment() == fTypeEnvironment;
+	}
+
+	private boolean isCompatible(Collection<?> c) {
+		return c instanceof TTypeBitSet && ((TTypeBitSet) c).fTypeEnvironment == fTypeEnvironment;
+	}
+
+	@Override
+	public int size() {
+		return fSize;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return isMember(o) && fBits.get(((TType) o).getId());
+	}
+
+	@Override
+	public boolean add(TType t) {
+		Assert.isTrue(t.getEnvironment() == fTypeEnvironment);
+		int id= t.getId();
+		if (fBits.get(id))
+			return false;
+		fBits.set(id);
+		fSize++;
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!contains(o))
+			return false;
+		fBits.clear(((TType) o).getId());
+		fSize--;
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		fBits.clear();
+		fSize= 0;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends TType> c) {
+		if (isCompatible(c))
+			return or(((TTypeBitSet) c).fBits);
+		return super.addAll(c);
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		if (isCompatible(c))
+			return andNot(((TTypeBitSet) c).fBits);
+		return super.removeAll(c);
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		if (isCompatible(c)) {
+			fBits.and(((TTypeBitSet) c).fBits);
+			return updateSize();
+		}
+		return super.retainAll(c);
+	}
+
+	@Override
+	public boolean containsAll(Collection<?> c) {
+		if (isCompatible(c)) {
+			BitSet missing= (BitSet) ((TTypeBitSet) c).fBits.clone();
+			missing.andNot(fBits);
+			return missing.isEmpty();
+		}
+		return super.containsAll(c);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this)
+			return true;
+		if (o instanceof Collection && isCompatible((Collection<?>) o))
+			return fBits.equals(((TTypeBitSet) o).fBits);
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		// must be consistent with other Set<TType> implementations
+		return super.hashCode();
+	}
+
+	@Override
+	public Iterator<TType> iterator() {
+		return new Iterator<>() {
+			private int fNext= fBits.nextSetBit(0);
+			private int fLast= -1;
+
+			@Override
+			public boolean hasNext() {
+				return fNext >= 0;
+			}
+
+			@Override
+			public TType next() {
+				if (fNext < 0)
+					throw new NoSuchElementException();
+				fLast= fNext;
+				fNext= fBits.nextSetBit(fNext + 1);
+				return fTypeEnvironment.getType(fLast);
+			}
+
+			@Override
+			public void remove() {
+				if (fLast < 0)
+					throw new IllegalStateException();
+				fBits.clear(fLast);
+				fSize--;
+				fLast= -1;
+			}
+		};
+	}
+}
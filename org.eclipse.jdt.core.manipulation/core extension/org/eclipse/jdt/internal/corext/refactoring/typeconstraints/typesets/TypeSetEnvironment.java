@@ -14,8 +14,12 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
@@ -24,6 +28,15 @@ import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnv
 
 public class TypeSetEnvironment {
 
+	/**
+	 * System property to set the maximum number of types in the type environment for
+	 * which enumerated type sets are backed by bit sets over the type ids and transitive
+	 * subtype closures are cached. A value of <code>0</code> disables bit sets.
+	 */
+	public static final String MAX_BIT_SET_TYPES_PROPERTY= "org.eclipse.jdt.ui.typesets.maxBitSetTypes"; //$NON-NLS-1$
+
+	private static final int DEFAULT_MAX_BIT_SET_TYPES= 8192;
+
 	private final TypeEnvironment fTypeEnvironment;
 	private final TypeUniverseSet fUniverse;
 	private final EmptyTypeSet fEmptyTypeSet;
@@ -33,15 +46,86 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	private final int fMaxBitSetTypes;
+	/**
+	 * Transitive subtype closure, indexed by the id of a type declaration. A row is
+	 * <code>null</code> until it is first requested.
+	 */
+	private BitSet[] fSubTypeClosure= new BitSet[0];
+	private int fSubTypeClosureStamp;
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
 	public TypeSetEnvironment(TypeEnvironment typeEnvironment) {
 		fTypeEnvironment= typeEnvironment;
+		fMaxBitSetTypes= Integer.getInteger(MAX_BIT_SET_TYPES_PROPERTY, DEFAULT_MAX_BIT_SET_TYPES).intValue();
 		fUniverse= new TypeUniverseSet(this);
 		fEmptyTypeSet= new EmptyTypeSet(this);
 	}
 
+	private boolean fitsBitSets() {
+		return fTypeEnvironment.getTypeCount() <= fMaxBitSetTypes;
+	}
+
+	/**
+	 * @return a new, empty set to hold the members of an {@link EnumeratedTypeSet}
+	 */
+	Set<TType> createMemberSet() {
+		if (fitsBitSets())
+			return new TTypeBitSet(fTypeEnvironment);
+		return new LinkedHashSet<>();
+	}
+
+	/**
+	 * @param members the members of an {@link EnumeratedTypeSet}
+	 * @return a new set with the given members
+	 */
+	Set<TType> copyMemberSet(Set<TType> members) {
+		if (members instanceof TTypeBitSet)
+			return new TTypeBitSet((TTypeBitSet) members);
+		Set<TType> result= createMemberSet();
+		result.addAll(members);
+		return result;
+	}
+
+	/**
+	 * Returns the ids of the types enumerated by {@link org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes#getAllSubTypesIterator(TType)},
+	 * i.e. of the given type's declaration and all its transitive subtypes.
+	 *
+	 * @param type a type
+	 * @return the subtype ids, which must not be modified, or <code>null</code> if the type
+	 * environment is too large for bit sets or does not remember subtypes
+	 */
+	BitSet getAllSubTypes(TType type) {
+		if (!fitsBitSets() || !fTypeEnvironment.remembersSubTypes())
+			return null;
+
+		int stamp= fTypeEnvironment.getSubTypesCount();
+		if (stamp != fSubTypeClosureStamp) {
+			// new subtypes have been remembered: rows computed so far may be incomplete
+			fSubTypeClosure= new BitSet[fTypeEnvironment.getTypeCount()];
+			fSubTypeClosureStamp= stamp;
+		} else if (fSubTypeClosure.length < fTypeEnvironment.getTypeCount()) {
+			fSubTypeClosure= Arrays.copyOf(fSubTypeClosure, fTypeEnvironment.getTypeCount());
+		}
+		return getAllSubTypesOfDeclaration(type.getTypeDeclaration());
+	}
+
+	private BitSet getAllSubTypesOfDeclaration(TType declaration) {
+		int id= declaration.getId();
+		BitSet result= fSubTypeClosure[id];
+		if (result == null) {
+			result= new BitSet();
+			result.set(id);
+			fSubTypeClosure[id]= result; // guards against cycles in erroneous hierarchies
+			for (TType subType : declaration.getSubTypes()) {
+				result.or(getAllSubTypesOfDeclaration(subType.getTypeDeclaration()));
+			}
+		}
+		return result;
+	}
+
 	public TType getJavaLangObject() {
 		return fTypeEnvironment.getJavaLangObject();
 	}
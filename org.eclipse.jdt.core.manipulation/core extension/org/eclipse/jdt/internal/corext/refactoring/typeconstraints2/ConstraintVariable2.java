@@ -26,6 +26,8 @@ public abstract class ConstraintVariable2 {
 
 	private TypeEquivalenceSet fTypeEquivalenceSet;
 
+	private int fIndex= -1;
+
 	protected final TType fType;
 
 	/**
@@ -48,6 +50,13 @@ public abstract class ConstraintVariable2 {
 		}
 	}
 
+	/**
+	 * @return the index of this variable in the constraint graph of a solver, or -1 if none has been assigned
+	 */
+	public int getIndex() {
+		return fIndex;
+	}
+
 	public TypeEquivalenceSet getTypeEquivalenceSet() {
 		return fTypeEquivalenceSet;
 	}
@@ -102,6 +111,13 @@ public abstract class ConstraintVariable2 {
 		}
 	}
 
+	/**
+	 * @param index the index of this variable in the constraint graph of a solver
+	 */
+	public void setIndex(int index) {
+		fIndex= index;
+	}
+
 	public void setTypeEquivalenceSet(TypeEquivalenceSet set) {
 		fTypeEquivalenceSet= set;
 	}
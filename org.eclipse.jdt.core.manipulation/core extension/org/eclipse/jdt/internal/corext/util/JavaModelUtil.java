@@ -46,6 +46,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJarEntryResource;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
@@ -605,6 +606,27 @@ public final class JavaModelUtil {
 		return false;
 	}
 
+	/**
+	 * Tells whether the given delta describes more than edits inside the bodies of existing
+	 * elements, i.e. whether elements were added, removed or changed in a way other than their
+	 * content.
+	 *
+	 * @param delta the Java element delta
+	 * @return <code>true</code> if the delta or one of its affected children is structural
+	 */
+	public static boolean isStructuralChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		int flags= delta.getFlags() & ~(IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED | IJavaElementDelta.F_CHILDREN);
+		if (flags != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isStructuralChange(child))
+				return true;
+		}
+		return false;
+	}
+
 	public static boolean isExcludedPath(IPath resourcePath, IPath[] exclusionPatterns) {
 		char[] path = resourcePath.toString().toCharArray();
 		for (IPath exclusionPattern : exclusionPatterns) {
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+
+/**
+ * Runs independent tasks in parallel on the shared worker threads of the job manager, instead of
+ * on threads created for a single operation. The tasks run as system jobs of one job group, which
+ * limits how many of them run at the same time.
+ * <p>
+ * The results are retrieved from the returned futures. Exceptions thrown by a task are reported
+ * as the cause of the {@link java.util.concurrent.ExecutionException} of its future.
+ * </p>
+ */
+public final class ParallelTasks {
+
+	private final String fName;
+	private final JobGroup fGroup;
+	private final List<CompletableFuture<?>> fFutures= new ArrayList<>();
+
+	/**
+	 * Creates a new group of parallel tasks.
+	 *
+	 * @param name the name of the jobs running the tasks
+	 * @param maxThreads the maximum number of tasks running at the same time
+	 */
+	public ParallelTasks(String name, int maxThreads) {
+		fName= name;
+		fGroup= new JobGroup(name, maxThreads, 0);
+	}
+
+	/**
+	 * Schedules a task.
+	 *
+	 * @param task the task
+	 * @return the future of the result of the task
+	 */
+	public synchronized <T> Future<T> submit(Callable<T> task) {
+		CompletableFuture<T> future= new CompletableFuture<>();
+		fFutures.add(future);
+		Job job= new Job(fName) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				if (future.isDone())
+					return Status.CANCEL_STATUS;
+				try {
+					future.complete(task.call());
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setJobGroup(fGroup);
+		job.schedule();
+		return future;
+	}
+
+	/**
+	 * Cancels the tasks which have not completed yet. Tasks which are already running are not
+	 * interrupted, but their results are discarded.
+	 */
+	public synchronized void cancel() {
+		for (CompletableFuture<?> future : fFutures) {
+			future.cancel(false);
+		}
+		fGroup.cancel();
+	}
+}
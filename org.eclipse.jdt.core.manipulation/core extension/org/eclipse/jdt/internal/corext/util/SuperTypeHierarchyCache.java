@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,14 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -26,23 +32,42 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * Every type of a cached hierarchy is indexed, so lookups don't need to scan the cached
+ * hierarchies. The cache is bounded by the number of types in the cached hierarchies
+ * (see {@link #setCapacity(int)}), least recently used hierarchies are evicted first.
+ * Hierarchies are removed as soon as they notify a change.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private final ITypeHierarchy fTypeHierarchy;
+		private final IType[] fTypes;
+		private final Map<IType, MethodOverrideTester> fMethodOverrideTesters= new ConcurrentHashMap<>();
+		private volatile long fLastAccess;
+		private volatile boolean fDisposed;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
-			fTypeHierarchy.addTypeHierarchyChangedListener(this);
+			fTypes= getTypes(hierarchy);
 			markAsAccessed();
 		}
 
+		private static IType[] getTypes(ITypeHierarchy hierarchy) {
+			Set<IType> types= new LinkedHashSet<>();
+			types.add(hierarchy.getType());
+			for (IType type : hierarchy.getAllTypes()) {
+				types.add(type);
+			}
+			return types.toArray(new IType[types.size()]);
+		}
+
 		@Override
 		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+			fgInvalidations.incrementAndGet();
 			removeHierarchyEntryFromCache(this);
 		}
 
@@ -50,18 +75,41 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		/**
+		 * @return the types in the hierarchy, including the focus type
+		 */
+		public IType[] getTypes() {
+			return fTypes;
+		}
+
+		/**
+		 * @return the estimated size of the hierarchy
+		 */
+		public int getWeight() {
+			return fTypes.length;
+		}
+
+		public MethodOverrideTester getMethodOverrideTester(IType type) {
+			return fMethodOverrideTesters.computeIfAbsent(type, t -> new MethodOverrideTester(t, fTypeHierarchy));
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= System.nanoTime();
 		}
 
 		public long getLastAccess() {
 			return fLastAccess;
 		}
 
+		public boolean isDisposed() {
+			return fDisposed;
+		}
+
 		public void dispose() {
-			if (fTypeHierarchy != null) {
+			if (!fDisposed) {
+				fDisposed= true;
 				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
-				fTypeHierarchy= null;
+				fMethodOverrideTesters.clear();
 			}
 		}
 
@@ -72,14 +120,141 @@ public class SuperTypeHierarchyCache {
 
 	}
 
+	/**
+	 * Snapshot of the statistics of the cache.
+	 *
+	 * @see SuperTypeHierarchyCache#getStatistics()
+	 */
+	public static final class Statistics {
+
+		private final long fHits;
+		private final long fMisses;
+		private final long fEvictions;
+		private final long fInvalidations;
+		private final long fLoadTimeNanos;
+		private final int fEntryCount;
+		private final int fWeight;
+		private final int fCapacity;
+
+		Statistics(long hits, long misses, long evictions, long invalidations, long loadTimeNanos, int entryCount, int weight, int capacity) {
+			fHits= hits;
+			fMisses= misses;
+			fEvictions= evictions;
+			fInvalidations= invalidations;
+			fLoadTimeNanos= loadTimeNanos;
+			fEntryCount= entryCount;
+			fWeight= weight;
+			fCapacity= capacity;
+		}
 
-	private static final int CACHE_SIZE= 8;
+		/**
+		 * @return the number of requests which have been answered from the cache
+		 */
+		public long getHits() {
+			return fHits;
+		}
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+		/**
+		 * @return the number of requests for which a hierarchy had to be built
+		 */
+		public long getMisses() {
+			return fMisses;
+		}
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+		/**
+		 * @return the fraction of requests which have been answered from the cache, or 0 if there were no requests
+		 */
+		public double getHitRate() {
+			long requests= fHits + fMisses;
+			return requests == 0 ? 0 : (double) fHits / requests;
+		}
+
+		/**
+		 * @return the number of hierarchies which have been removed to stay within the capacity
+		 */
+		public long getEvictions() {
+			return fEvictions;
+		}
+
+		/**
+		 * @return the number of hierarchies which have been removed because they changed or
+		 *         were superseded by a new hierarchy
+		 */
+		public long getInvalidations() {
+			return fInvalidations;
+		}
+
+		/**
+		 * @return the total time spent building hierarchies, in nanoseconds
+		 */
+		public long getTotalLoadTime() {
+			return fLoadTimeNanos;
+		}
+
+		/**
+		 * @return the average time spent building a hierarchy, in nanoseconds
+		 */
+		public long getAverageLoadTime() {
+			return fMisses == 0 ? 0 : fLoadTimeNanos / fMisses;
+		}
+
+		/**
+		 * @return the number of cached hierarchies
+		 */
+		public int getEntryCount() {
+			return fEntryCount;
+		}
+
+		/**
+		 * @return the number of types in all cached hierarchies
+		 */
+		public int getWeight() {
+			return fWeight;
+		}
+
+		/**
+		 * @return the maximal number of types in all cached hierarchies
+		 */
+		public int getCapacity() {
+			return fCapacity;
+		}
+
+		@Override
+		public String toString() {
+			return "SuperTypeHierarchyCache: hits=" + fHits + ", misses=" + fMisses //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", evictions=" + fEvictions + ", invalidations=" + fInvalidations //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", average load time=" + getAverageLoadTime() / 1000 + "us" //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", entries=" + fEntryCount + ", weight=" + fWeight + "/" + fCapacity; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+
+	/**
+	 * Default maximal number of types in all cached hierarchies. Can be changed with the
+	 * system property <code>org.eclipse.jdt.ui.superTypeHierarchyCache.capacity</code>.
+	 */
+	private static final int DEFAULT_CAPACITY= 20000;
+
+	/**
+	 * The cached hierarchies. Modifications are guarded by the lock of this list.
+	 */
+	private static final List<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>();
+
+	/**
+	 * Maps each type of a cached hierarchy to the cache entries of all hierarchies which contain
+	 * it, in the order they were cached. The arrays are never modified, they are replaced under
+	 * the lock of {@link #fgHierarchyCache}.
+	 */
+	private static final Map<IType, HierarchyCacheEntry[]> fgTypeIndex= new ConcurrentHashMap<>();
+
+	private static int fgCapacity= Integer.getInteger("org.eclipse.jdt.ui.superTypeHierarchyCache.capacity", DEFAULT_CAPACITY).intValue(); //$NON-NLS-1$
+	private static int fgWeight= 0;
+
+	private static final AtomicLong fgCacheHits= new AtomicLong();
+	private static final AtomicLong fgCacheMisses= new AtomicLong();
+	private static final AtomicLong fgEvictions= new AtomicLong();
+	private static final AtomicLong fgInvalidations= new AtomicLong();
+	private static final AtomicLong fgLoadTime= new AtomicLong();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +272,7 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
-		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
-			}
-		}
-		return test;
-	}
-
-	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		return getHierarchyEntry(type, null).getMethodOverrideTester(type);
 	}
 
 	/**
@@ -138,45 +288,55 @@ public class SuperTypeHierarchyCache {
 	 * @throws JavaModelException if a problem occurs
 	 */
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
-		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
-		if (hierarchy == null) {
-			fgCacheMisses++;
-			hierarchy= type.newSupertypeHierarchy(progressMonitor);
-			addTypeHierarchyToCache(hierarchy);
+		return getHierarchyEntry(type, progressMonitor).getTypeHierarchy();
+	}
+
+	private static HierarchyCacheEntry getHierarchyEntry(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		HierarchyCacheEntry entry= findHierarchyEntryInCache(type);
+		if (entry == null) {
+			fgCacheMisses.incrementAndGet();
+			long start= System.nanoTime();
+			ITypeHierarchy hierarchy= type.newSupertypeHierarchy(progressMonitor);
+			fgLoadTime.addAndGet(System.nanoTime() - start);
+			entry= addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
+			fgCacheHits.incrementAndGet();
 		}
-		return hierarchy;
+		return entry;
 	}
 
-	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
+	private static HierarchyCacheEntry addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
 		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
+			// remove obsolete entries, i.e. hierarchies which don't exist any more or are contained in the new hierarchy
+			for (HierarchyCacheEntry entry : new ArrayList<>(fgHierarchyCache)) {
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (!curr.exists() || hierarchy.contains(curr.getType())) {
+					fgInvalidations.incrementAndGet();
+					removeHierarchyEntryFromCache(entry);
+				}
+			}
+
+			// remove the least recently accessed entries until the new entry fits
+			while (!fgHierarchyCache.isEmpty() && fgWeight + newEntry.getWeight() > fgCapacity) {
 				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
 				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
-				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
+					if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
+						oldest= entry;
 					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
 				}
+				fgEvictions.incrementAndGet();
+				removeHierarchyEntryFromCache(oldest);
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+
 			fgHierarchyCache.add(newEntry);
+			fgWeight+= newEntry.getWeight();
+			for (IType type : newEntry.getTypes()) {
+				fgTypeIndex.merge(type, new HierarchyCacheEntry[] { newEntry }, SuperTypeHierarchyCache::concat);
+			}
+			hierarchy.addTypeHierarchyChangedListener(newEntry);
 		}
+		return newEntry;
 	}
 
 
@@ -186,43 +346,129 @@ public class SuperTypeHierarchyCache {
 	 * @return <code>true</code> if a hierarchy for the given type is cached
 	 */
 	public static boolean hasInCache(IType type) {
-		return findTypeHierarchyInCache(type) != null;
+		return findHierarchyEntryInCache(type) != null;
 	}
 
 
-	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+	private static HierarchyCacheEntry findHierarchyEntryInCache(IType type) {
+		HierarchyCacheEntry[] entries= fgTypeIndex.get(type);
+		if (entries == null)
+			return null;
+		// prefer the most recently cached hierarchy
+		for (int i= entries.length - 1; i >= 0; i--) {
+			HierarchyCacheEntry entry= entries[i];
+			if (entry.isDisposed())
+				continue;
+			if (!entry.getTypeHierarchy().exists()) {
+				fgInvalidations.incrementAndGet();
+				removeHierarchyEntryFromCache(entry);
+				continue;
 			}
+			entry.markAsAccessed();
+			return entry;
 		}
 		return null;
 	}
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
 		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
+			if (!fgHierarchyCache.remove(entry))
+				return;
+			fgWeight-= entry.getWeight();
+			for (IType type : entry.getTypes()) {
+				fgTypeIndex.computeIfPresent(type, (t, entries) -> remove(entries, entry));
+			}
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
 		}
 	}
 
+	private static HierarchyCacheEntry[] concat(HierarchyCacheEntry[] entries, HierarchyCacheEntry[] added) {
+		HierarchyCacheEntry[] result= Arrays.copyOf(entries, entries.length + added.length);
+		System.arraycopy(added, 0, result, entries.length, added.length);
+		return result;
+	}
+
+	/*
+	 * Returns the entries without the given entry, or null if no entry is left.
+	 */
+	private static HierarchyCacheEntry[] remove(HierarchyCacheEntry[] entries, HierarchyCacheEntry entry) {
+		int index= Arrays.asList(entries).indexOf(entry);
+		if (index == -1)
+			return entries;
+		if (entries.length == 1)
+			return null;
+		HierarchyCacheEntry[] result= new HierarchyCacheEntry[entries.length - 1];
+		System.arraycopy(entries, 0, result, 0, index);
+		System.arraycopy(entries, index + 1, result, index, result.length - index);
+		return result;
+	}
+
+	/**
+	 * Sets the maximal number of types in all cached hierarchies. Hierarchies which don't
+	 * fit into the new capacity are evicted. A single hierarchy which is larger than the
+	 * capacity is still cached.
+	 *
+	 * @param capacity the new capacity
+	 */
+	public static void setCapacity(int capacity) {
+		synchronized (fgHierarchyCache) {
+			fgCapacity= capacity;
+			while (fgWeight > fgCapacity && fgHierarchyCache.size() > 1) {
+				HierarchyCacheEntry oldest= null;
+				for (HierarchyCacheEntry entry : fgHierarchyCache) {
+					if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
+						oldest= entry;
+					}
+				}
+				fgEvictions.incrementAndGet();
+				removeHierarchyEntryFromCache(oldest);
+			}
+		}
+	}
+
+	/**
+	 * Removes all hierarchies from the cache. The statistics are not reset.
+	 */
+	public static void clear() {
+		synchronized (fgHierarchyCache) {
+			Collection<HierarchyCacheEntry> entries= new ArrayList<>(fgHierarchyCache);
+			for (HierarchyCacheEntry entry : entries) {
+				removeHierarchyEntryFromCache(entry);
+			}
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the cache statistics.
+	 *
+	 * @return the statistics
+	 */
+	public static Statistics getStatistics() {
+		synchronized (fgHierarchyCache) {
+			return new Statistics(fgCacheHits.get(), fgCacheMisses.get(), fgEvictions.get(), fgInvalidations.get(), fgLoadTime.get(),
+					fgHierarchyCache.size(), fgWeight, fgCapacity);
+		}
+	}
+
+	/**
+	 * Resets the statistics returned by {@link #getStatistics()}, {@link #getCacheHits()}
+	 * and {@link #getCacheMisses()}.
+	 */
+	public static void resetStatistics() {
+		fgCacheHits.set(0);
+		fgCacheMisses.set(0);
+		fgEvictions.set(0);
+		fgInvalidations.set(0);
+		fgLoadTime.set(0);
+	}
+
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return (int) fgCacheHits.get();
 	}
 
 	/**
@@ -230,7 +476,7 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return (int) fgCacheMisses.get();
 	}
 
 	private SuperTypeHierarchyCache() {
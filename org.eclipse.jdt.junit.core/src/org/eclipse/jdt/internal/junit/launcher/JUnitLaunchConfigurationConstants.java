@@ -62,6 +62,12 @@ public class JUnitLaunchConfigurationConstants {
 	public static final String ATTR_TEST_METHOD_NAME= ATTR_TEST_NAME;
 
 	public static final String ATTR_KEEPRUNNING = JUnitCorePlugin.PLUGIN_ID+ ".KEEPRUNNING_ATTR"; //$NON-NLS-1$
+
+	/**
+	 * Whether the test runner is asked to send its messages with the binary protocol. Defaults to
+	 * <code>true</code>, set it to <code>false</code> to force the text protocol.
+	 */
+	public static final String ATTR_BINARY_PROTOCOL= JUnitCorePlugin.PLUGIN_ID + ".BINARY_PROTOCOL"; //$NON-NLS-1$
 	/**
 	 * The launch container, or "" iff running a single test type.
 	 */
@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Compact representation of the passed test cases of a {@link TestSuiteElement}.
+ * <p>
+ * The test cases are encoded column by column (positions, ids, names, display names,
+ * unique ids, parameter types, elapsed times, flags). Strings are front coded against
+ * the previous value of the same column, so the long common prefixes of test names and
+ * unique ids inside a suite are only stored once. The encoded block is either kept in
+ * memory or spilled to a {@link TestRunSessionSpillFile}.
+ * </p>
+ * <p>
+ * The block also keeps weak references to the compacted elements. As long as an element
+ * is still referenced elsewhere, e.g. by a selection, it is reused when the block is
+ * restored, so that its identity does not change.
+ * </p>
+ */
+final class CompactTestCaseBlock {
+
+	private static final int FLAG_DYNAMIC= 1;
+	private static final int FLAG_IGNORED= 2;
+
+	private final int fCount;
+	private final int fLength;
+
+	/**
+	 * The compacted elements, in the order of the block.
+	 */
+	private final List<WeakReference<TestCaseElement>> fElements;
+
+	/**
+	 * The encoded block, or <code>null</code> if the block has been spilled to disk.
+	 */
+	private byte[] fData;
+	private TestRunSessionSpillFile fSpillFile;
+	private long fSpillOffset;
+
+	private CompactTestCaseBlock(List<TestCaseElement> testCases, byte[] data) {
+		fCount= testCases.size();
+		fLength= data.length;
+		fData= data;
+		fElements= new ArrayList<>(fCount);
+		for (TestCaseElement testCase : testCases) {
+			fElements.add(new WeakReference<>(testCase));
+		}
+	}
+
+	/**
+	 * Tests whether the given test case can be represented by a block: it has passed or was
+	 * ignored, and it has no failure trace.
+	 *
+	 * @param testCase the test case
+	 * @return <code>true</code> iff the test case can be compacted
+	 */
+	static boolean canCompact(TestCaseElement testCase) {
+		return testCase.getStatus() == Status.OK
+				&& !testCase.isAssumptionFailure()
+				&& testCase.getTrace() == null
+				&& testCase.getExpected() == null
+				&& testCase.getActual() == null;
+	}
+
+	/**
+	 * Encodes the given test cases.
+	 *
+	 * @param testCases the test cases, all of them must satisfy {@link #canCompact(TestCaseElement)}
+	 * @param positions the index of each test case in the children of its suite
+	 * @return the block
+	 */
+	static CompactTestCaseBlock create(List<TestCaseElement> testCases, int[] positions) {
+		int count= testCases.size();
+		Encoder encoder= new Encoder(count * 64);
+		encoder.writeVarint(count);
+		int previousPosition= -1;
+		for (int position : positions) {
+			encoder.writeVarint(position - previousPosition - 1);
+			previousPosition= position;
+		}
+
+		String previous= null;
+		for (TestCaseElement testCase : testCases) {
+			previous= encoder.writeString(testCase.getId(), previous);
+		}
+		previous= null;
+		for (TestCaseElement testCase : testCases) {
+			previous= encoder.writeString(testCase.getTestName(), previous);
+		}
+		previous= null;
+		for (TestCaseElement testCase : testCases) {
+			previous= encoder.writeString(testCase.getDisplayName(), previous);
+		}
+		previous= null;
+		for (TestCaseElement testCase : testCases) {
+			previous= encoder.writeString(testCase.getUniqueId(), previous);
+		}
+		previous= null;
+		for (TestCaseElement testCase : testCases) {
+			// 0 for null, otherwise the number of parameter types + 1, followed by the types
+			String[] parameterTypes= testCase.getParameterTypes();
+			if (parameterTypes == null) {
+				encoder.writeVarint(0);
+			} else {
+				encoder.writeVarint(parameterTypes.length + 1);
+				for (String parameterType : parameterTypes) {
+					previous= encoder.writeString(parameterType, previous);
+				}
+			}
+		}
+		for (TestCaseElement testCase : testCases) {
+			double time= testCase.getElapsedTimeInSeconds();
+			// times are measured in ms, 0 encodes an unknown time
+			encoder.writeVarint(Double.isNaN(time) ? 0 : Math.round(time * 1000) + 1);
+		}
+		for (TestCaseElement testCase : testCases) {
+			int flags= 0;
+			if (testCase.isDynamicTest())
+				flags|= FLAG_DYNAMIC;
+			if (testCase.isIgnored())
+				flags|= FLAG_IGNORED;
+			encoder.write(flags);
+		}
+		return new CompactTestCaseBlock(testCases, encoder.toByteArray());
+	}
+
+	/**
+	 * @return the number of test cases in this block
+	 */
+	int getCount() {
+		return fCount;
+	}
+
+	/**
+	 * @return the size of the encoded block in bytes
+	 */
+	int getLength() {
+		return fLength;
+	}
+
+	boolean isSpilled() {
+		return fData == null;
+	}
+
+	/**
+	 * Writes the encoded block to the spill file and releases the in-memory copy.
+	 *
+	 * @param spillFile the spill file
+	 * @throws IOException if writing fails, the block stays in memory in that case
+	 */
+	void spill(TestRunSessionSpillFile spillFile) throws IOException {
+		if (fData == null)
+			return;
+		fSpillOffset= spillFile.append(fData);
+		fSpillFile= spillFile;
+		fData= null;
+	}
+
+	/**
+	 * @return <code>true</code> iff one of the test cases was ignored
+	 * @throws IOException if the block cannot be read from the spill file
+	 */
+	boolean hasIgnored() throws IOException {
+		byte[] data= getData();
+		for (int i= fLength - fCount; i < fLength; i++) {
+			if ((data[i] & FLAG_IGNORED) != 0)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Restores the test cases of this block. Compacted elements which are still referenced
+	 * are reused, the others are created again and add themselves to the given suite.
+	 *
+	 * @param suite the suite of the test cases
+	 * @param positions receives the index of each test case in the children of its suite
+	 * @return the test cases
+	 * @throws IOException if the block cannot be read from the spill file
+	 */
+	TestCaseElement[] materialize(TestSuiteElement suite, int[] positions) throws IOException {
+		Decoder decoder= new Decoder(getData());
+		int count= (int) decoder.readVarint();
+		int position= -1;
+		for (int i= 0; i < count; i++) {
+			position+= (int) decoder.readVarint() + 1;
+			positions[i]= position;
+		}
+
+		String[][] columns= new String[4][count];
+		for (String[] column : columns) {
+			String previous= null;
+			for (int i= 0; i < count; i++) {
+				String value= decoder.readString(previous);
+				column[i]= value;
+				if (value != null)
+					previous= value;
+			}
+		}
+		String[][] parameterTypes= new String[count][];
+		String previousParameterType= null;
+		for (int i= 0; i < count; i++) {
+			int length= (int) decoder.readVarint();
+			if (length == 0)
+				continue;
+			String[] types= new String[length - 1];
+			for (int j= 0; j < types.length; j++) {
+				String value= decoder.readString(previousParameterType);
+				types[j]= value;
+				if (value != null)
+					previousParameterType= value;
+			}
+			parameterTypes[i]= types;
+		}
+		long[] times= new long[count];
+		for (int i= 0; i < count; i++) {
+			times[i]= decoder.readVarint();
+		}
+
+		TestCaseElement[] testCases= new TestCaseElement[count];
+		for (int i= 0; i < count; i++) {
+			int flags= decoder.read();
+			TestCaseElement testCase= fElements.get(i).get();
+			if (testCase != null) {
+				testCases[i]= testCase;
+				continue;
+			}
+			testCase= new TestCaseElement(suite, columns[0][i], columns[1][i], columns[2][i], (flags & FLAG_DYNAMIC) != 0, parameterTypes[i], columns[3][i]);
+			testCase.setIgnored((flags & FLAG_IGNORED) != 0);
+			testCase.restoreStatus(Status.OK, times[i] == 0 ? Double.NaN : (times[i] - 1) / 1000d);
+			testCases[i]= testCase;
+		}
+		return testCases;
+	}
+
+	private byte[] getData() throws IOException {
+		byte[] data= fData;
+		if (data != null)
+			return data;
+		return fSpillFile.read(fSpillOffset, fLength);
+	}
+
+	private static class Encoder extends ByteArrayOutputStream {
+
+		Encoder(int size) {
+			super(size);
+		}
+
+		void writeVarint(long value) {
+			while ((value & ~0x7FL) != 0) {
+				write((int) ((value & 0x7F) | 0x80));
+				value>>>= 7;
+			}
+			write((int) value);
+		}
+
+		/*
+		 * Writes 0 for null, otherwise the length of the common prefix with the previous
+		 * value + 1, followed by the UTF-8 encoded rest.
+		 */
+		String writeString(String value, String previous) {
+			if (value == null) {
+				writeVarint(0);
+				return previous;
+			}
+			int prefix= 0;
+			if (previous != null) {
+				int max= Math.min(value.length(), previous.length());
+				while (prefix < max && value.charAt(prefix) == previous.charAt(prefix))
+					prefix++;
+				if (prefix > 0 && Character.isHighSurrogate(value.charAt(prefix - 1)))
+					prefix--;
+			}
+			byte[] suffix= value.substring(prefix).getBytes(StandardCharsets.UTF_8);
+			writeVarint(prefix + 1);
+			writeVarint(suffix.length);
+			write(suffix, 0, suffix.length);
+			return value;
+		}
+	}
+
+	private static class Decoder {
+		private final byte[] fBytes;
+		private int fPosition;
+
+		Decoder(byte[] bytes) {
+			fBytes= bytes;
+		}
+
+		int read() {
+			return fBytes[fPosition++] & 0xFF;
+		}
+
+		long readVarint() {
+			long result= 0;
+			int shift= 0;
+			int b;
+			do {
+				b= read();
+				result|= (long) (b & 0x7F) << shift;
+				shift+= 7;
+			} while ((b & 0x80) != 0);
+			return result;
+		}
+
+		String readString(String previous) {
+			int prefix= (int) readVarint();
+			if (prefix == 0)
+				return null;
+			int length= (int) readVarint();
+			String suffix= new String(fBytes, fPosition, length, StandardCharsets.UTF_8);
+			fPosition+= length;
+			if (prefix == 1)
+				return suffix;
+			return previous.substring(0, prefix - 1).concat(suffix);
+		}
+	}
+}
@@ -64,6 +64,15 @@ public interface ITestRunListener2 {
 	 * @param testName the name of the test that ended
 	 */
 	void testEnded(String testId, String testName);
+	/**
+	 * The test runner has measured the elapsed time of an individual test. Only test
+	 * runners using the binary protocol report this, after {@link #testEnded(String, String)}.
+	 *
+	 * @param testId a unique Id identifying the test
+	 * @param elapsedTime the elapsed time of the test in milliseconds
+	 */
+	default void testElapsedTime(String testId, long elapsedTime) {
+	}
 
 
 	/**
@@ -15,12 +15,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.PushbackReader;
+import java.io.StringReader;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
@@ -30,6 +33,7 @@ import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageReader;
 import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
 
@@ -190,6 +194,64 @@ public class RemoteTestRunnerClient {
 	    }
 	}
 
+	/**
+	 * Passes the messages of a binary stream to the processing states or directly
+	 * to the listeners.
+	 */
+	class BinaryMessageHandler implements BinaryMessageReader.IMessageHandler {
+		private final String fLineDelimiter;
+
+		BinaryMessageHandler(String lineDelimiter) {
+			fLineDelimiter= lineDelimiter;
+		}
+
+		@Override
+		public void line(String message) {
+			fLastLineDelimiter= fLineDelimiter;
+			receiveMessage(message);
+		}
+
+		@Override
+		public void text(String text) {
+			try {
+				PushbackReader reader= new PushbackReader(new StringReader(text));
+				String message;
+				while ((message= readMessage(reader)) != null)
+					receiveMessage(message);
+			} catch (IOException e) {
+				// cannot happen for a StringReader
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String treeEntry) {
+			notifyTestTreeEntry(treeEntry);
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			notifyTestStarted(testId, testName);
+		}
+
+		@Override
+		public void testEnded(String testId, String testName, long elapsedTime) {
+			// the elapsed time is reported first, the test may be compacted when it ends
+			notifyTestElapsedTime(testId, elapsedTime);
+			notifyTestEnded(testId, testName);
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			RemoteTestRunnerClient.this.testRunEnded(elapsedTime);
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			notifyTestRunStopped(elapsedTime);
+			shutDown();
+		}
+	}
+
 	/**
 	 * The failed trace that is currently reported from the RemoteTestRunner
 	 */
@@ -228,6 +290,10 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * The input stream if the RemoteTestRunner uses the binary protocol
+	 */
+	private InputStream fBinaryInput;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -266,11 +332,21 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				InputStream input= new BufferedInputStream(fSocket.getInputStream());
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				if (BinaryMessageReader.isBinaryStream(input)) {
+					fBinaryInput= input;
+					BinaryMessageReader reader= new BinaryMessageReader(input);
+					BinaryMessageHandler handler= new BinaryMessageHandler(reader.getLineDelimiter());
+					while (fBinaryInput != null && reader.read(handler)) {
+						// the handler processes the messages
+					}
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+					String message;
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -326,6 +402,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fBinaryInput != null) {
+				fBinaryInput.close();
+				fBinaryInput= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
@@ -513,28 +596,49 @@ public class RemoteTestRunnerClient {
 	}
 
 	private void notifyTestEnded(final String test) {
+		String s[]= extractTestId(test);
+		notifyTestEnded(s[0], s[1]);
+	}
+
+	private void notifyTestEnded(final String testId, final String testName) {
+		if (JUnitCorePlugin.isStopped())
+			return;
+		for (ITestRunListener2 listener : fListeners) {
+			SafeRunner.run(new ListenerSafeRunnable() {
+				@Override
+				public void run() {
+					listener.testEnded(testId, testName);
+				}
+			});
+		}
+	}
+
+	private void notifyTestElapsedTime(final String testId, final long elapsedTime) {
 		if (JUnitCorePlugin.isStopped())
 			return;
 		for (ITestRunListener2 listener : fListeners) {
 			SafeRunner.run(new ListenerSafeRunnable() {
 				@Override
 				public void run() {
-					String s[]= extractTestId(test);
-					listener.testEnded(s[0], s[1]);
+					listener.testElapsedTime(testId, elapsedTime);
 				}
 			});
 		}
 	}
 
 	private void notifyTestStarted(final String test) {
+		String s[]= extractTestId(test);
+		notifyTestStarted(s[0], s[1]);
+	}
+
+	private void notifyTestStarted(final String testId, final String testName) {
 		if (JUnitCorePlugin.isStopped())
 			return;
 		for (ITestRunListener2 listener : fListeners) {
 			SafeRunner.run(new ListenerSafeRunnable() {
 				@Override
 				public void run() {
-					String s[]= extractTestId(test);
-					listener.testStarted(s[0], s[1]);
+					listener.testStarted(testId, testName);
 				}
 			});
 		}
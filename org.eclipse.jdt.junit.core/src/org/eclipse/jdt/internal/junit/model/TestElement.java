@@ -315,6 +315,19 @@ public abstract class TestElement implements ITestElement {
 		setStatus(status);
 	}
 
+	/**
+	 * Sets the status and elapsed time of an element which is restored from a
+	 * {@link CompactTestCaseBlock}. Unlike {@link #setStatus(Status)}, the parent is
+	 * not notified.
+	 *
+	 * @param status the completed status
+	 * @param time the elapsed time in seconds, or {@link Double#NaN}
+	 */
+	void restoreStatus(Status status, double time) {
+		fStatus= status;
+		fTime= time;
+	}
+
 	public Status getStatus() {
 		return fStatus;
 	}
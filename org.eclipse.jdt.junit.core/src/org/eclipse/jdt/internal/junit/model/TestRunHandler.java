@@ -253,6 +253,8 @@ public class TestRunHandler extends DefaultHandler {
 			break;
 		case IXMLTags.NODE_TESTSUITE:
 			handleTestElementEnd(fTestSuite);
+			if (fTestSuite.getStatus().isDone())
+				fTestRunSession.compactPassedTests(fTestSuite);
 			fTestSuite= fTestSuite.getParent();
 			//TODO: end suite: compare counters?
 			break;
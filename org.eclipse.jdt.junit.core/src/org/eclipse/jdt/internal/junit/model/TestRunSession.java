@@ -16,13 +16,15 @@
 package org.eclipse.jdt.internal.junit.model;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
@@ -84,9 +86,17 @@ public class TestRunSession implements ITestRunSession {
 	private Result fTestResult;
 
 	/**
-	 * Map from testId to testElement.
+	 * Map from testId to testElement. Test cases are registered again when they are restored
+	 * by their suite after compaction, possibly by another thread than the test runner.
 	 */
-	private HashMap<String, TestElement> fIdToTest;
+	private Map<String, TestElement> fIdToTest;
+
+	/**
+	 * Map from the id of a compacted test case to its suite. The test case is restored by the
+	 * suite when it is looked up by {@link #getTestElement(String)}, and then moves back to
+	 * {@link #fIdToTest}.
+	 */
+	private Map<String, TestSuiteElement> fIdToCompactedSuite;
 
 	/**
 	 * The TestSuites for which additional children are expected.
@@ -102,6 +112,34 @@ public class TestRunSession implements ITestRunSession {
 
 	private static final String EMPTY_STRING= ""; //$NON-NLS-1$
 
+	/**
+	 * Minimal number of tests in a session before passed test cases are compacted.
+	 */
+	private static final int COMPACTION_THRESHOLD= 10000;
+
+	/**
+	 * Maximal size in bytes of the compacted test cases kept in memory. Further
+	 * compacted test cases are spilled to disk.
+	 */
+	private static final long MAX_COMPACTED_BYTES_IN_MEMORY= 16 * 1024 * 1024;
+
+	/**
+	 * <code>true</code> iff passed test cases of completed suites are replaced by a
+	 * {@link CompactTestCaseBlock}. This is disabled for sessions which are kept alive, since their
+	 * test cases can be rerun at any time.
+	 */
+	private volatile boolean fCompactPassedTests= true;
+
+	/**
+	 * Size in bytes of the compacted test cases which are kept in memory.
+	 */
+	private long fCompactedBytesInMemory;
+
+	/**
+	 * File for compacted test cases which don't fit into memory, or <code>null</code>.
+	 */
+	private TestRunSessionSpillFile fSpillFile;
+
 	/**
 	 * Tags included in this test run.
 	 */
@@ -167,7 +205,8 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerKind= ITestKind.NULL; //TODO
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
+		fIdToCompactedSuite= new ConcurrentHashMap<>();
 
 		fTestRunnerClient= null;
 
@@ -191,7 +230,8 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
+		fIdToCompactedSuite= new ConcurrentHashMap<>();
 
 		fTestRunnerClient= new RemoteTestRunnerClient();
 		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
@@ -238,7 +278,9 @@ public class TestRunSession implements ITestRunSession {
 
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
+		fIdToCompactedSuite= new ConcurrentHashMap<>();
+		deleteSpillFile();
 	}
 
 	@Override
@@ -374,10 +416,12 @@ public class TestRunSession implements ITestRunSession {
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
 			fTestRunnerClient= null;
-			fIdToTest= new HashMap<>();
+			fIdToTest= new ConcurrentHashMap<>();
+			fIdToCompactedSuite= new ConcurrentHashMap<>();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
+			deleteSpillFile();
 
 		} catch (IllegalStateException | CoreException e) {
 			JUnitCorePlugin.log(e);
@@ -393,15 +437,67 @@ public class TestRunSession implements ITestRunSession {
 		File swapFile= getSwapFile();
 		if (swapFile.exists())
 			swapFile.delete();
+		deleteSpillFile();
 	}
 
 	private File getSwapFile() throws IllegalStateException {
+		return getHistoryFile(".xml"); //$NON-NLS-1$
+	}
+
+	private File getHistoryFile(String extension) throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + extension;
 		return new File(historyDir, swapFileName);
 	}
 
+	private synchronized TestRunSessionSpillFile getSpillFile() throws IllegalStateException {
+		if (fSpillFile == null)
+			fSpillFile= new TestRunSessionSpillFile(getHistoryFile(".spill")); //$NON-NLS-1$
+		return fSpillFile;
+	}
+
+	private synchronized void deleteSpillFile() {
+		fCompactedBytesInMemory= 0;
+		if (fSpillFile != null) {
+			fSpillFile.delete();
+			fSpillFile= null;
+		}
+	}
+
+	/**
+	 * Replaces the passed test cases of a completed suite by a compact representation,
+	 * if this session is large enough. The compacted test cases are restored when the
+	 * children of the suite are requested.
+	 *
+	 * @param suite the completed suite
+	 */
+	public void compactPassedTests(TestSuiteElement suite) {
+		if (!fCompactPassedTests || fTotalCount < COMPACTION_THRESHOLD)
+			return;
+
+		List<TestCaseElement> compacted= new ArrayList<>();
+		CompactTestCaseBlock block= suite.compactPassedChildren(compacted);
+		if (block == null)
+			return;
+		for (TestCaseElement testCase : compacted) {
+			fIdToTest.remove(testCase.getId());
+			fIdToCompactedSuite.put(testCase.getId(), suite);
+		}
+
+		synchronized (this) {
+			if (fCompactedBytesInMemory + block.getLength() > MAX_COMPACTED_BYTES_IN_MEMORY) {
+				try {
+					block.spill(getSpillFile());
+					return;
+				} catch (IOException | IllegalStateException e) {
+					JUnitCorePlugin.log(e);
+				}
+			}
+			fCompactedBytesInMemory+= block.getLength();
+		}
+	}
+
 
 	public synchronized void swapIn() {
 		if (fTestRoot != null)
@@ -474,7 +570,29 @@ public class TestRunSession implements ITestRunSession {
 	}
 
 	public TestElement getTestElement(String id) {
-		return fIdToTest.get(id);
+		TestElement testElement= fIdToTest.get(id);
+		if (testElement != null)
+			return testElement;
+		TestSuiteElement suite= fIdToCompactedSuite.get(id);
+		if (suite != null) {
+			suite.getChildren(); // restores the compacted test cases, see compactedTestsRestored(..)
+			return fIdToTest.get(id);
+		}
+		return null;
+	}
+
+	/**
+	 * Registers test cases which have been restored by their suite after compaction, so that
+	 * they are looked up directly again.
+	 *
+	 * @param restored the restored test cases
+	 */
+	void compactedTestsRestored(TestCaseElement[] restored) {
+		for (TestCaseElement testCase : restored) {
+			String id= testCase.getId();
+			fIdToTest.put(id, testCase);
+			fIdToCompactedSuite.remove(id);
+		}
 	}
 
 	private TestElement addTreeEntry(String treeEntry) {
@@ -639,6 +757,7 @@ public class TestRunSession implements ITestRunSession {
 
 			fStartTime= System.currentTimeMillis();
 			fIsRunning= true;
+			fCompactPassedTests= !isKeptAlive();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionStarted();
@@ -751,6 +870,17 @@ public class TestRunSession implements ITestRunSession {
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.testEnded(testCaseElement);
 			}
+
+			TestSuiteElement parent= testCaseElement.getParent();
+			if (parent.getStatus().isDone())
+				compactPassedTests(parent);
+		}
+
+		@Override
+		public void testElapsedTime(String testId, long elapsedTime) {
+			TestElement testElement= getTestElement(testId);
+			if (testElement instanceof TestCaseElement)
+				testElement.setElapsedTimeInSeconds(elapsedTime / 1000d);
 		}
 
 
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Append-only file which holds the {@link CompactTestCaseBlock}s of a running
+ * {@link TestRunSession} that don't fit into memory. Blocks are read back by offset
+ * when a suite is expanded in the view.
+ */
+final class TestRunSessionSpillFile {
+
+	private final File fFile;
+	private RandomAccessFile fAccess;
+	private long fLength;
+
+	TestRunSessionSpillFile(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * Appends data to the end of the file.
+	 *
+	 * @param data the data to append
+	 * @return the offset at which the data has been written
+	 * @throws IOException if writing fails
+	 */
+	synchronized long append(byte[] data) throws IOException {
+		RandomAccessFile access= getAccess();
+		long offset= fLength;
+		access.seek(offset);
+		access.write(data);
+		fLength= offset + data.length;
+		return offset;
+	}
+
+	/**
+	 * Reads previously appended data.
+	 *
+	 * @param offset the offset returned by {@link #append(byte[])}
+	 * @param length the length of the data
+	 * @return the data
+	 * @throws IOException if reading fails
+	 */
+	synchronized byte[] read(long offset, int length) throws IOException {
+		RandomAccessFile access= getAccess();
+		byte[] data= new byte[length];
+		access.seek(offset);
+		access.readFully(data);
+		return data;
+	}
+
+	private RandomAccessFile getAccess() throws IOException {
+		if (fAccess == null) {
+			fAccess= new RandomAccessFile(fFile, "rw"); //$NON-NLS-1$
+			fAccess.setLength(fLength);
+		}
+		return fAccess;
+	}
+
+	/**
+	 * Closes and deletes the file. Blocks which have been spilled can't be read afterwards.
+	 */
+	synchronized void delete() {
+		if (fAccess != null) {
+			try {
+				fAccess.close();
+			} catch (IOException e) {
+				// deleted anyway
+			}
+			fAccess= null;
+		}
+		fLength= 0;
+		if (fFile.exists())
+			fFile.delete();
+	}
+}
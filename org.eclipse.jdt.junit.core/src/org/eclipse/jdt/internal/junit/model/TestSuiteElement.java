@@ -14,18 +14,28 @@
 
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestRunSession;
 import org.eclipse.jdt.junit.model.ITestSuiteElement;
 
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+
 
 public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	private List<TestElement> fChildren;
 	private Status fChildrenStatus;
 
+	/**
+	 * Passed test cases which have been removed from {@link #fChildren} to save memory,
+	 * or <code>null</code>. They are restored on the first call to {@link #getChildren()}.
+	 */
+	private CompactTestCaseBlock fCompactChildren;
+
 	public TestSuiteElement(TestSuiteElement parent, String id, String testName, int childrenCount, String displayName, String[] parameterTypes, String uniqueId) {
 		super(parent, id, testName, displayName, parameterTypes, uniqueId);
 		fChildren= new ArrayList<>(childrenCount);
@@ -46,18 +56,99 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	@Override
-	public ITestElement[] getChildren() {
+	public synchronized ITestElement[] getChildren() {
+		materializeChildren();
 		return fChildren.toArray(new ITestElement[fChildren.size()]);
 	}
 
-	public void addChild(TestElement child) {
+	/**
+	 * @return <code>true</code> iff this suite has children; does not restore compacted children
+	 */
+	public synchronized boolean hasChildren() {
+		return !fChildren.isEmpty() || fCompactChildren != null;
+	}
+
+	public synchronized void addChild(TestElement child) {
 		fChildren.add(child);
 	}
 
-	public void removeChild(TestElement child) {
+	public synchronized void removeChild(TestElement child) {
+		materializeChildren();
 		fChildren.remove(child);
 	}
 
+	/**
+	 * Replaces the children which are passed test cases by a {@link CompactTestCaseBlock}.
+	 * Failed test cases and suites are kept. Does nothing if the children have already been
+	 * compacted.
+	 *
+	 * @param compacted receives the test cases which have been removed from the children
+	 * @return the block which holds the removed test cases, or <code>null</code> if no test
+	 *         case has been compacted
+	 */
+	synchronized CompactTestCaseBlock compactPassedChildren(List<TestCaseElement> compacted) {
+		if (fCompactChildren != null)
+			return null;
+
+		int size= fChildren.size();
+		int[] positions= new int[size];
+		List<TestElement> kept= new ArrayList<>();
+		for (int i= 0; i < size; i++) {
+			TestElement child= fChildren.get(i);
+			if (child instanceof TestCaseElement && CompactTestCaseBlock.canCompact((TestCaseElement) child)) {
+				positions[compacted.size()]= i;
+				compacted.add((TestCaseElement) child);
+			} else {
+				kept.add(child);
+			}
+		}
+		if (compacted.isEmpty())
+			return null;
+
+		int[] compactedPositions= new int[compacted.size()];
+		System.arraycopy(positions, 0, compactedPositions, 0, compactedPositions.length);
+		fCompactChildren= CompactTestCaseBlock.create(compacted, compactedPositions);
+		fChildren= kept;
+		return fCompactChildren;
+	}
+
+	private void materializeChildren() {
+		CompactTestCaseBlock block= fCompactChildren;
+		if (block == null)
+			return;
+		fCompactChildren= null;
+
+		List<TestElement> kept= fChildren;
+		fChildren= new ArrayList<>(kept.size() + block.getCount());
+		int[] positions= new int[block.getCount()];
+		TestCaseElement[] restored;
+		try {
+			// the restored elements add themselves to the new list, it is rebuilt below
+			restored= block.materialize(this, positions);
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			fChildren= kept;
+			fCompactChildren= block;
+			return;
+		}
+
+		List<TestElement> children= new ArrayList<>(kept.size() + restored.length);
+		int keptIndex= 0;
+		int restoredIndex= 0;
+		while (keptIndex < kept.size() || restoredIndex < restored.length) {
+			if (restoredIndex < restored.length && (positions[restoredIndex] == children.size() || keptIndex == kept.size())) {
+				children.add(restored[restoredIndex++]);
+			} else {
+				children.add(kept.get(keptIndex++));
+			}
+		}
+		fChildren= children;
+
+		ITestRunSession session= getTestRunSession();
+		if (session instanceof TestRunSession)
+			((TestRunSession) session).compactedTestsRestored(restored);
+	}
+
 	@Override
 	public Status getStatus() {
 		Status suiteStatus= getSuiteStatus();
@@ -72,7 +163,7 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	private Status getCumulatedStatus() {
 		TestElement[] children= fChildren.toArray(new TestElement[fChildren.size()]); // copy list to avoid concurreny problems
 		if (children.length == 0)
-			return getSuiteStatus();
+			return fCompactChildren != null ? Status.OK : getSuiteStatus();
 
 		Status cumulated= children[0].getStatus();
 
@@ -91,13 +182,16 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	public void childChangedStatus(TestElement child, Status childStatus) {
-		int childCount= fChildren.size();
-		if (child == fChildren.get(0) && childStatus.isRunning()) {
+		List<TestElement> children= fChildren;
+		int childCount= children.size();
+		if (childCount == 0)
+			return;
+		if (child == children.get(0) && childStatus.isRunning()) {
 			// is first child, and is running -> copy status
 			internalSetChildrenStatus(childStatus);
 			return;
 		}
-		TestElement lastChild= fChildren.get(childCount - 1);
+		TestElement lastChild= children.get(childCount - 1);
 		if (child == lastChild) {
 			if (childStatus.isDone()) {
 				// all children done, collect cumulative status
@@ -151,7 +245,7 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	@Override
 	public String toString() {
-		return "TestSuite: " + getTestName() + " : " + super.toString() + " (" + fChildren.size() + ")";   //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		return "TestSuite: " + getTestName() + " : " + super.toString() + " (" + (fChildren.size() + (fCompactChildren != null ? fCompactChildren.getCount() : 0)) + ")";   //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 	}
 
 }
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+/**
+ * Constants of the binary framing used by the remote test runner if the client
+ * requests it with the {@link #BINARY_PROTOCOL_ARGUMENT} program argument.
+ * <p>
+ * The stream starts with the {@link #MAGIC} bytes, followed by the line delimiter
+ * of the test runner VM as a length-prefixed UTF-8 string. Afterwards the stream
+ * consists of frames. Each frame starts with its payload length as a varint,
+ * followed by the frame kind and the kind specific data. Integers are encoded as
+ * unsigned varints, strings are UTF-8 encoded.
+ * </p>
+ * <p>
+ * Only the messages from the test runner to the client are binary, requests sent
+ * by the client still use the text protocol of {@link MessageIds}.
+ * </p>
+ */
+public class BinaryMessageIds {
+
+	/**
+	 * Program argument with which the client announces that it understands the
+	 * binary protocol. Test runners which don't know the argument ignore it and
+	 * fall back to the text protocol.
+	 */
+	public static final String BINARY_PROTOCOL_ARGUMENT= "-binaryprotocol"; //$NON-NLS-1$
+
+	/**
+	 * Bytes at the start of a binary stream. The first byte can never start a
+	 * message of the text protocol.
+	 */
+	public static final byte[] MAGIC= { (byte) 0xEC, 'J', 'B', 1 };
+
+	/**
+	 * Defines a string which is referenced by its index in later frames.
+	 * Data: index + string
+	 */
+	public static final int STRING_DEFINITION= 1;
+
+	/**
+	 * A message of the text protocol which consists of a single line.
+	 * Data: message
+	 */
+	public static final int LINE= 2;
+
+	/**
+	 * A message of the text protocol which consists of multiple lines, including
+	 * the terminating line delimiter.
+	 * Data: message
+	 */
+	public static final int TEXT= 3;
+
+	/**
+	 * Notification that a test has started, see {@link MessageIds#TEST_START}.
+	 * Data: testId string index + testName string index
+	 */
+	public static final int TEST_START= 4;
+
+	/**
+	 * Notification that a test has ended, see {@link MessageIds#TEST_END}.
+	 * Data: testId string index + testName string index + elapsed time in ms
+	 */
+	public static final int TEST_END= 5;
+
+	/**
+	 * Batch of tests which have started and ended without any other message in between.
+	 * Data: count + count * (testId string index + testName string index + elapsed time in ms)
+	 */
+	public static final int TEST_START_END_BATCH= 6;
+
+	/**
+	 * Notification that a test run has ended, see {@link MessageIds#TEST_RUN_END}.
+	 * Data: elapsed time in ms
+	 */
+	public static final int TEST_RUN_END= 7;
+
+	/**
+	 * Notification that a test run was stopped, see {@link MessageIds#TEST_STOPPED}.
+	 * Data: elapsed time in ms
+	 */
+	public static final int TEST_STOPPED= 8;
+
+	/**
+	 * Notification about a test inside the test suite, see {@link MessageIds#TEST_TREE}.
+	 * Data: tree entry
+	 */
+	public static final int TEST_TREE= 9;
+
+	private BinaryMessageIds() {
+	}
+}
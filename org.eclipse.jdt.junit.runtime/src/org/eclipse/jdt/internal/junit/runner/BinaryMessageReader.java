@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes a stream written by {@link BinaryMessageWriter}.
+ */
+public class BinaryMessageReader {
+
+	/**
+	 * Receives the decoded messages.
+	 */
+	public interface IMessageHandler {
+
+		/**
+		 * A message of the text protocol without line delimiters.
+		 *
+		 * @param message the message
+		 */
+		void line(String message);
+
+		/**
+		 * One or more lines of the text protocol, each terminated by a line delimiter.
+		 *
+		 * @param text the lines
+		 */
+		void text(String text);
+
+		void testTreeEntry(String treeEntry);
+
+		void testStarted(String testId, String testName);
+
+		/**
+		 * @param testId the test id
+		 * @param testName the test name
+		 * @param elapsedTime the elapsed time of the test in ms, as measured by the test runner
+		 */
+		void testEnded(String testId, String testName, long elapsedTime);
+
+		void testRunEnded(long elapsedTime);
+
+		void testRunStopped(long elapsedTime);
+	}
+
+	private final InputStream fInput;
+	private final List<String> fStrings= new ArrayList<>();
+	private final String fLineDelimiter;
+	private byte[] fFrame= new byte[256];
+	private int fPosition;
+	private int fLimit;
+
+	/**
+	 * Creates a reader for a stream whose {@link BinaryMessageIds#MAGIC} bytes have
+	 * already been consumed, see {@link #isBinaryStream(InputStream)}.
+	 *
+	 * @param input the stream to read from, should be buffered
+	 * @throws IOException if the stream header cannot be read
+	 */
+	public BinaryMessageReader(InputStream input) throws IOException {
+		fInput= input;
+		if (!readFrame())
+			throw new EOFException();
+		fLineDelimiter= readString();
+	}
+
+	/**
+	 * Tests whether the given stream starts with {@link BinaryMessageIds#MAGIC}. If so,
+	 * the magic bytes are consumed, otherwise the stream is reset to its start.
+	 *
+	 * @param input a stream which supports {@link InputStream#mark(int)}
+	 * @return <code>true</code> if the stream is a binary stream
+	 * @throws IOException if reading fails
+	 */
+	public static boolean isBinaryStream(InputStream input) throws IOException {
+		byte[] magic= BinaryMessageIds.MAGIC;
+		input.mark(magic.length);
+		for (byte b : magic) {
+			if (input.read() != (b & 0xFF)) {
+				input.reset();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the line delimiter of the test runner VM
+	 */
+	public String getLineDelimiter() {
+		return fLineDelimiter;
+	}
+
+	/**
+	 * Reads the next frame and passes the contained messages to the handler.
+	 *
+	 * @param handler the handler to notify
+	 * @return <code>false</code> if the end of the stream has been reached
+	 * @throws IOException if reading fails or the stream is corrupt
+	 */
+	public boolean read(IMessageHandler handler) throws IOException {
+		if (!readFrame())
+			return false;
+
+		int kind= fFrame[fPosition++];
+		switch (kind) {
+			case BinaryMessageIds.STRING_DEFINITION:
+				int index= (int) readVarint();
+				if (index != fStrings.size())
+					throw new IOException("Unexpected string index " + index); //$NON-NLS-1$
+				fStrings.add(readString());
+				break;
+			case BinaryMessageIds.LINE:
+				handler.line(readString());
+				break;
+			case BinaryMessageIds.TEXT:
+				handler.text(readString());
+				break;
+			case BinaryMessageIds.TEST_TREE:
+				handler.testTreeEntry(readString());
+				break;
+			case BinaryMessageIds.TEST_START:
+				handler.testStarted(readReference(), readReference());
+				break;
+			case BinaryMessageIds.TEST_END:
+				handler.testEnded(readReference(), readReference(), readVarint());
+				break;
+			case BinaryMessageIds.TEST_START_END_BATCH:
+				int count= (int) readVarint();
+				for (int i= 0; i < count; i++) {
+					String testId= readReference();
+					String testName= readReference();
+					long elapsedTime= readVarint();
+					handler.testStarted(testId, testName);
+					handler.testEnded(testId, testName, elapsedTime);
+				}
+				break;
+			case BinaryMessageIds.TEST_RUN_END:
+				handler.testRunEnded(readVarint());
+				break;
+			case BinaryMessageIds.TEST_STOPPED:
+				handler.testRunStopped(readVarint());
+				break;
+			default:
+				// unknown frames are skipped to allow extending the protocol
+				break;
+		}
+		return true;
+	}
+
+	private boolean readFrame() throws IOException {
+		int length= 0;
+		int shift= 0;
+		int b;
+		do {
+			b= fInput.read();
+			if (b == -1) {
+				if (shift == 0)
+					return false;
+				throw new EOFException();
+			}
+			length|= (b & 0x7F) << shift;
+			shift+= 7;
+		} while ((b & 0x80) != 0);
+
+		if (length > fFrame.length)
+			fFrame= new byte[Math.max(length, fFrame.length * 2)];
+		int read= 0;
+		while (read < length) {
+			int n= fInput.read(fFrame, read, length - read);
+			if (n == -1)
+				throw new EOFException();
+			read+= n;
+		}
+		fPosition= 0;
+		fLimit= length;
+		return true;
+	}
+
+	private long readVarint() throws IOException {
+		long result= 0;
+		int shift= 0;
+		while (fPosition < fLimit) {
+			byte b= fFrame[fPosition++];
+			result|= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return result;
+			shift+= 7;
+		}
+		throw new EOFException();
+	}
+
+	private String readString() {
+		String result= new String(fFrame, fPosition, fLimit - fPosition, StandardCharsets.UTF_8);
+		fPosition= fLimit;
+		return result;
+	}
+
+	private String readReference() throws IOException {
+		int index= (int) readVarint();
+		if (index < 0 || index >= fStrings.size())
+			throw new IOException("Undefined string index " + index); //$NON-NLS-1$
+		return fStrings.get(index);
+	}
+}
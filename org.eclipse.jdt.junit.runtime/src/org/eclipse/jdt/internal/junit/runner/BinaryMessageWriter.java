@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Encodes the messages of the text protocol into the binary framing described in
+ * {@link BinaryMessageIds}.
+ * <p>
+ * Test ids and test names are sent once and referenced by index afterwards. A test
+ * start which is directly followed by the end of the same test is sent as part of a
+ * batch. Flushes requested while a batch is collected are coalesced, a timer makes
+ * sure that pending frames are sent after {@link #FLUSH_INTERVAL} ms at the latest.
+ * </p>
+ */
+public class BinaryMessageWriter implements MessageSender {
+
+	/**
+	 * Maximal time in ms pending frames are kept before they are flushed.
+	 */
+	public static final int FLUSH_INTERVAL= 50;
+
+	private static final int MAX_BATCH_SIZE= 256;
+
+	private final OutputStream fOutput;
+	private final Payload fPayload= new Payload();
+	private final byte[] fLengthBuffer= new byte[5];
+	private final Map<String, Integer> fStrings= new HashMap<>();
+	private final Map<String, Long> fStartTimes= new HashMap<>();
+
+	private final List<String> fBatch= new ArrayList<>();
+	private final List<Long> fBatchTimes= new ArrayList<>();
+	private String fPendingStart;
+	private long fPendingStartTime;
+
+	private long fLastFlush;
+	private boolean fDirty;
+	private Timer fTimer;
+	private boolean fClosed;
+
+	/**
+	 * Payload of the frame which is currently encoded.
+	 */
+	private static class Payload extends ByteArrayOutputStream {
+		Payload() {
+			super(256);
+		}
+
+		void writeVarint(long value) {
+			while ((value & ~0x7FL) != 0) {
+				write((int) ((value & 0x7F) | 0x80));
+				value>>>= 7;
+			}
+			write((int) value);
+		}
+
+		void writeString(String value) {
+			byte[] bytes= value.getBytes(StandardCharsets.UTF_8);
+			write(bytes, 0, bytes.length);
+		}
+
+		void writeTo(OutputStream out, byte[] lengthBuffer) throws IOException {
+			int length= count;
+			int i= 0;
+			while ((length & ~0x7F) != 0) {
+				lengthBuffer[i++]= (byte) ((length & 0x7F) | 0x80);
+				length>>>= 7;
+			}
+			lengthBuffer[i++]= (byte) length;
+			out.write(lengthBuffer, 0, i);
+			out.write(buf, 0, count);
+		}
+	}
+
+	/**
+	 * Creates a writer and sends the stream header.
+	 *
+	 * @param output the stream to write to, should be buffered
+	 * @throws IOException if the header cannot be written
+	 */
+	public BinaryMessageWriter(OutputStream output) throws IOException {
+		fOutput= output;
+		fOutput.write(BinaryMessageIds.MAGIC);
+		fPayload.writeString(System.getProperty("line.separator")); //$NON-NLS-1$
+		fPayload.writeTo(fOutput, fLengthBuffer);
+		fPayload.reset();
+		fOutput.flush();
+		fLastFlush= System.currentTimeMillis();
+	}
+
+	@Override
+	public synchronized void sendMessage(String msg) {
+		if (fClosed)
+			return;
+		try {
+			if (msg.startsWith(MessageIds.TEST_START)) {
+				testStarted(msg.substring(MessageIds.MSG_HEADER_LENGTH));
+			} else if (msg.startsWith(MessageIds.TEST_END)) {
+				testEnded(msg.substring(MessageIds.MSG_HEADER_LENGTH));
+			} else if (msg.startsWith(MessageIds.TEST_RUN_END)) {
+				writeElapsedTime(BinaryMessageIds.TEST_RUN_END, msg);
+			} else if (msg.startsWith(MessageIds.TEST_STOPPED)) {
+				writeElapsedTime(BinaryMessageIds.TEST_STOPPED, msg);
+			} else if (msg.startsWith(MessageIds.TEST_TREE)) {
+				writePending();
+				fPayload.write(BinaryMessageIds.TEST_TREE);
+				fPayload.writeString(msg.substring(MessageIds.MSG_HEADER_LENGTH));
+				writeFrame();
+			} else {
+				writePending();
+				boolean multiLine= msg.indexOf('\n') != -1 || msg.indexOf('\r') != -1;
+				fPayload.write(multiLine ? BinaryMessageIds.TEXT : BinaryMessageIds.LINE);
+				fPayload.writeString(multiLine ? msg + System.getProperty("line.separator") : msg); //$NON-NLS-1$
+				writeFrame();
+			}
+		} catch (IOException e) {
+			fClosed= true;
+		}
+	}
+
+	private void testStarted(String test) throws IOException {
+		if (fPendingStart != null) {
+			writeStart(fPendingStart, fPendingStartTime);
+		}
+		fPendingStart= test;
+		fPendingStartTime= System.currentTimeMillis();
+	}
+
+	private void testEnded(String test) throws IOException {
+		long now= System.currentTimeMillis();
+		if (test.equals(fPendingStart)) {
+			fBatch.add(test);
+			fBatchTimes.add(Long.valueOf(now - fPendingStartTime));
+			fPendingStart= null;
+			if (fBatch.size() >= MAX_BATCH_SIZE)
+				writePending();
+			return;
+		}
+
+		writePending();
+		Long startTime= fStartTimes.remove(test);
+		long elapsed= startTime != null ? now - startTime.longValue() : 0;
+
+		int[] references= getReferences(test);
+		fPayload.write(BinaryMessageIds.TEST_END);
+		fPayload.writeVarint(references[0]);
+		fPayload.writeVarint(references[1]);
+		fPayload.writeVarint(elapsed);
+		writeFrame();
+	}
+
+	private void writeStart(String test, long startTime) throws IOException {
+		fStartTimes.put(test, Long.valueOf(startTime));
+		int[] references= getReferences(test);
+		fPayload.write(BinaryMessageIds.TEST_START);
+		fPayload.writeVarint(references[0]);
+		fPayload.writeVarint(references[1]);
+		writeFrame();
+	}
+
+	private void writeElapsedTime(int kind, String msg) throws IOException {
+		writePending();
+		long elapsed;
+		try {
+			elapsed= Long.parseLong(msg.substring(MessageIds.MSG_HEADER_LENGTH));
+		} catch (NumberFormatException e) {
+			elapsed= 0;
+		}
+		fPayload.write(kind);
+		fPayload.writeVarint(Math.max(0, elapsed));
+		writeFrame();
+		flushNow();
+	}
+
+	/*
+	 * Writes the collected batch and the pending test start.
+	 */
+	private void writePending() throws IOException {
+		if (!fBatch.isEmpty()) {
+			int size= fBatch.size();
+			int[][] references= new int[size][];
+			for (int i= 0; i < size; i++) {
+				references[i]= getReferences(fBatch.get(i));
+			}
+			fPayload.write(BinaryMessageIds.TEST_START_END_BATCH);
+			fPayload.writeVarint(size);
+			for (int i= 0; i < size; i++) {
+				fPayload.writeVarint(references[i][0]);
+				fPayload.writeVarint(references[i][1]);
+				fPayload.writeVarint(fBatchTimes.get(i).longValue());
+			}
+			writeFrame();
+			fBatch.clear();
+			fBatchTimes.clear();
+		}
+		if (fPendingStart != null) {
+			String start= fPendingStart;
+			fPendingStart= null;
+			writeStart(start, fPendingStartTime);
+		}
+	}
+
+	/*
+	 * Returns the string indices of the test id and test name of a "testId,testName" argument.
+	 * Defines new strings as needed.
+	 */
+	private int[] getReferences(String test) throws IOException {
+		int separator= test.indexOf(',');
+		String id= separator == -1 ? test : test.substring(0, separator);
+		String name= separator == -1 ? test : test.substring(separator + 1);
+		return new int[] { getReference(id), getReference(name) };
+	}
+
+	private int getReference(String value) throws IOException {
+		Integer index= fStrings.get(value);
+		if (index != null)
+			return index.intValue();
+
+		int newIndex= fStrings.size();
+		fStrings.put(value, Integer.valueOf(newIndex));
+		// the definition is written into a frame of its own before the referencing frame
+		Payload payload= new Payload();
+		payload.write(BinaryMessageIds.STRING_DEFINITION);
+		payload.writeVarint(newIndex);
+		payload.writeString(value);
+		payload.writeTo(fOutput, fLengthBuffer);
+		return newIndex;
+	}
+
+	private void writeFrame() throws IOException {
+		fPayload.writeTo(fOutput, fLengthBuffer);
+		fPayload.reset();
+	}
+
+	@Override
+	public synchronized void flush() {
+		if (fClosed)
+			return;
+		if (System.currentTimeMillis() - fLastFlush < FLUSH_INTERVAL) {
+			fDirty= true;
+			scheduleFlush();
+			return;
+		}
+		try {
+			flushNow();
+		} catch (IOException e) {
+			fClosed= true;
+		}
+	}
+
+	private void flushNow() throws IOException {
+		writePending();
+		fOutput.flush();
+		fLastFlush= System.currentTimeMillis();
+		fDirty= false;
+	}
+
+	private void scheduleFlush() {
+		if (fTimer != null)
+			return;
+		fTimer= new Timer("BinaryMessageWriter", true); //$NON-NLS-1$
+		fTimer.schedule(new TimerTask() {
+			@Override
+			public void run() {
+				synchronized (BinaryMessageWriter.this) {
+					if (!fDirty || fClosed)
+						return;
+					try {
+						flushNow();
+					} catch (IOException e) {
+						fClosed= true;
+					}
+				}
+			}
+		}, FLUSH_INTERVAL, FLUSH_INTERVAL);
+	}
+
+	/**
+	 * Writes all pending frames and closes the underlying stream.
+	 */
+	public synchronized void close() {
+		if (fTimer != null) {
+			fTimer.cancel();
+			fTimer= null;
+		}
+		try {
+			if (!fClosed)
+				flushNow();
+		} catch (IOException e) {
+			// closed anyway
+		}
+		fClosed= true;
+		try {
+			fOutput.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
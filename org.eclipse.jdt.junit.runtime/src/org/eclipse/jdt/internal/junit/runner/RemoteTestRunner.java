@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.junit.runner;
 
 import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
@@ -136,6 +137,16 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private boolean fConsoleMode = false;
 
+	/**
+	 * Has the client requested the binary protocol?
+	 */
+	private boolean fBinaryProtocol= false;
+	/**
+	 * Writer for sending messages with the binary protocol, or <code>null</code>
+	 * if the text protocol is used
+	 */
+	private BinaryMessageWriter fBinaryWriter;
+
 	/**
 	 * Reader thread that processes messages from the client.
 	 */
@@ -201,6 +212,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -binaryprotocol: send messages using the binary protocol, see BinaryMessageIds
      * </pre>
      */
 	public static void main(String[] args) {
@@ -305,6 +317,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 			} else if ("-junitconsole".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 			    fConsoleMode  = true;
+			} else if (BinaryMessageIds.BINARY_PROTOCOL_ARGUMENT.equalsIgnoreCase(args[i])) {
+				fBinaryProtocol= true;
 			} else if ("-testloaderclass".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				String className = args[i + 1];
 				createLoader(className);
@@ -647,6 +661,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
+				if (fBinaryProtocol) {
+					fBinaryWriter= new BinaryMessageWriter(new BufferedOutputStream(fClientSocket.getOutputStream()));
+				}
 				try {
 				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), "UTF-8")), false/*true*/); //$NON-NLS-1$
 	            } catch (UnsupportedEncodingException e1) {
@@ -676,6 +693,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.close();
+			fBinaryWriter= null;
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -709,6 +730,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.sendMessage(msg);
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -749,6 +774,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.flush();
+			return;
+		}
 	    fWriter.flush();
 	}
 
@@ -877,7 +877,7 @@ public class TestViewer {
 					return sibling;
 				} else {
 					TestSuiteElement testSuiteElement= (TestSuiteElement) sibling;
-					if (testSuiteElement.getChildren().length == 0) {
+					if (! testSuiteElement.hasChildren()) {
 						return testSuiteElement;
 					}
 					return getNextChildFailure(testSuiteElement, showNext);
@@ -903,7 +903,7 @@ public class TestViewer {
 					return child;
 				} else {
 					TestSuiteElement testSuiteElement= (TestSuiteElement) child;
-					if (testSuiteElement.getChildren().length == 0) {
+					if (! testSuiteElement.hasChildren()) {
 						return testSuiteElement;
 					}
 					return getNextChildFailure(testSuiteElement, showNext);
@@ -14,9 +14,11 @@
 package org.eclipse.jdt.text.tests.contentassist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -243,6 +245,35 @@ public class ContentAssistHistoryTest {
 		assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST), ITERABLE, list(ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
 	}
 
+	@Test
+	public void testLoadStoreFile() throws Exception {
+		ContentAssistHistory history= new ContentAssistHistory();
+
+		history.remember(fgListT, fgArrayListT);
+		history.remember(fgCollectionT, fgLinkedListT);
+		history.remember(fgCharSequenceT, fgStringT);
+
+		File file= File.createTempFile("history", ".dat");
+		try {
+			ContentAssistHistory.store(history, file);
+			ContentAssistHistory loaded= ContentAssistHistory.load(file);
+
+			assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST, LINKED_LIST), ITERABLE, list(ARRAY_LIST, LINKED_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
+			assertEquals(1.0f, loaded.getHistory(COLLECTION).getRank(LINKED_LIST), 0.0f);
+			assertEquals(0.5f, loaded.getHistory(COLLECTION).getRank(ARRAY_LIST), 0.0f);
+			assertEquals(0.0f, loaded.getHistory(COLLECTION).getRank(STRING), 0.0f);
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testLoadMissingFile() throws Exception {
+		File file= File.createTempFile("history", ".dat");
+		file.delete();
+		assertNull(ContentAssistHistory.load(file));
+	}
+
 	private static void assertEqualMap(Map<String, List<String>> expected, Map<String, RHSHistory> actual) {
 		assertEqualMap("", expected, actual);
 	}
@@ -28,6 +28,7 @@ import org.junit.runners.Suite;
 			CamelCaseCompletionTest.class,
 			JavadocCompletionTest.class,
 			ContentAssistHistoryTest.class,
+			LatencyHistogramTest.class,
 			MethodInsertCompletionTest.class,
 			MethodInsertionFormattedCompletionTest.class,
 			MethodOverwriteCompletionTest.class,
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.text.java.LatencyHistogram;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void buckets() {
+		assertEquals(0, LatencyHistogram.getBucket(0));
+		assertEquals(1, LatencyHistogram.getBucket(1));
+		assertEquals(2, LatencyHistogram.getBucket(2));
+		assertEquals(2, LatencyHistogram.getBucket(3));
+		assertEquals(3, LatencyHistogram.getBucket(4));
+		assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.getBucket(Long.MAX_VALUE));
+		for (int bucket= 0; bucket < LatencyHistogram.BUCKET_COUNT; bucket++) {
+			assertEquals(bucket, LatencyHistogram.getBucket(LatencyHistogram.getLowerBound(bucket)));
+		}
+	}
+
+	@Test
+	public void percentiles() {
+		LatencyHistogram histogram= new LatencyHistogram();
+		assertEquals(0, histogram.getPercentileMillis(50));
+		for (int i= 0; i < 90; i++) {
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+		}
+		for (int i= 0; i < 10; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+		}
+		assertEquals(100, histogram.getCount());
+		assertEquals(1, histogram.getPercentileMillis(50));
+		assertEquals(1, histogram.getPercentileMillis(90));
+		assertEquals(128, histogram.getPercentileMillis(99));
+		assertEquals(100, histogram.getMaxMillis());
+		assertEquals(10.45, histogram.getMeanMillis(), 0.001);
+		assertEquals(90, histogram.getCounts()[0]);
+		assertEquals(10, histogram.getCounts()[LatencyHistogram.getBucket(100)]);
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMaxMillis());
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.ui.texteditor.AbstractTextEditor;
+
+/**
+ * Measures the time to type a statement into a method of a compilation unit, one character after
+ * the other, until the Java editor has been reconciled.
+ *
+ * @since 3.14
+ */
+public abstract class AbstractJavaEditorTypingTest extends TextPerformanceTestCase {
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 20;
+
+	private AbstractTextEditor fEditor;
+
+	private SourceViewer fSourceViewer;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fEditor= (AbstractTextEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(getFile()), EditorTestHelper.COMPILATION_UNIT_EDITOR_ID, true);
+		fSourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		EditorTestHelper.revertEditor(fEditor, true);
+		EditorTestHelper.closeAllEditors();
+	}
+
+	/**
+	 * @return the path of the compilation unit to type in
+	 */
+	protected abstract String getFile();
+
+	/**
+	 * @return the statement which is typed
+	 */
+	protected abstract String getStatement();
+
+	/**
+	 * @return the short name of the measurement in the performance summary
+	 */
+	protected abstract String getSummaryName();
+
+	/**
+	 * Returns the offset of the method body at which the statement is typed.
+	 *
+	 * @param document the document of the editor
+	 * @return the offset
+	 */
+	protected abstract int getOffset(IDocument document);
+
+	public void testTypeInMethod() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		measure(createPerformanceMeterForSummary(getSummaryName(), Dimension.CPU_TIME), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) throws BadLocationException {
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		String statement= getStatement();
+		for (int i= 0; i < runs; i++) {
+			int offset= getOffset(document);
+			assertTrue(offset > 0);
+
+			performanceMeter.start();
+			for (int j= 0; j < statement.length(); j++) {
+				document.replace(offset + j, 0, statement.substring(j, j + 1));
+				EditorTestHelper.runEventQueue();
+			}
+			assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 20));
+			performanceMeter.stop();
+
+			EditorTestHelper.revertEditor(fEditor, true);
+			assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+		}
+	}
+}
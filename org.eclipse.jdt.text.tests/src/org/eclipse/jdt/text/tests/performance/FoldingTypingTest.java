@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+/**
+ * Measures the time to type a statement into a method of a compilation unit with 20000 lines
+ * until the folding structure of the Java editor has been reconciled.
+ *
+ * @since 3.14
+ */
+public class FoldingTypingTest extends AbstractJavaEditorTypingTest {
+
+	private static final Class<FoldingTypingTest> THIS= FoldingTypingTest.class;
+
+	private static final String FILE= "/" + PerformanceTestSetup.PROJECT + "/Eclipse SWT Custom Widgets/common/org/eclipse/swt/custom/FoldingTypingTarget.java";
+
+	private static final int METHODS= 1000;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		PreferenceConstants.getPreferenceStore().setValue(PreferenceConstants.EDITOR_FOLDING_ENABLED, true);
+		ResourceTestHelper.write(FILE, getSource());
+		super.setUp();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		ResourceTestHelper.delete(FILE);
+		PreferenceConstants.getPreferenceStore().setToDefault(PreferenceConstants.EDITOR_FOLDING_ENABLED);
+	}
+
+	/**
+	 * Returns the source of a class with {@link #METHODS} commented methods of 20 lines each.
+	 *
+	 * @return the source
+	 */
+	private static String getSource() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.eclipse.swt.custom;\n\n");
+		buf.append("public class FoldingTypingTarget {\n\n");
+		for (int i= 0; i < METHODS; i++) {
+			buf.append("\t/**\n");
+			buf.append("\t * Computes value ").append(i).append(".\n");
+			buf.append("\t * @param x the input\n");
+			buf.append("\t * @return the result\n");
+			buf.append("\t */\n");
+			buf.append("\tpublic int compute").append(i).append("(int x) {\n");
+			buf.append("\t\tint result= x;\n");
+			for (int j= 0; j < 10; j++) {
+				buf.append("\t\tresult+= x * ").append(j).append(";\n");
+			}
+			buf.append("\t\treturn result;\n");
+			buf.append("\t}\n\n");
+		}
+		buf.append("\tint compute(int x) {\n");
+		buf.append("\t\treturn x;\n");
+		buf.append("\t}\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	@Override
+	protected String getFile() {
+		return FILE;
+	}
+
+	@Override
+	protected String getStatement() {
+		return "int value= compute(42) + 42; ";
+	}
+
+	@Override
+	protected String getSummaryName() {
+		return "Java editor typing with folding";
+	}
+
+	@Override
+	protected int getOffset(IDocument document) {
+		// in front of a return statement in the middle of the file
+		return document.get().indexOf("return result;", document.getLength() / 2);
+	}
+}
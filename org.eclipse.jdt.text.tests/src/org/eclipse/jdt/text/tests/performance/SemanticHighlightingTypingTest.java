@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.jface.text.IDocument;
+
+/**
+ * Measures the time to type a statement into a method of a large compilation unit
+ * until the semantic highlighting of the Java editor has been reconciled.
+ *
+ * @since 3.14
+ */
+public class SemanticHighlightingTypingTest extends AbstractJavaEditorTypingTest {
+
+	private static final Class<SemanticHighlightingTypingTest> THIS= SemanticHighlightingTypingTest.class;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected String getFile() {
+		return PerformanceTestSetup.STYLED_TEXT;
+	}
+
+	@Override
+	protected String getStatement() {
+		return "int value= getCaretOffset() + 42; ";
+	}
+
+	@Override
+	protected String getSummaryName() {
+		return "Java editor semantic highlighting typing";
+	}
+
+	@Override
+	protected int getOffset(IDocument document) {
+		// in front of the last return statement, i.e. into a method body
+		return document.get().lastIndexOf("return ");
+	}
+}
@@ -114,7 +114,9 @@ import org.junit.runners.Suite;
 
 	//--helpers
 	RenamingNameSuggestorTests.class,
-	DelegateCreatorTests.class
+	DelegateCreatorTests.class,
+	OffsetMapTests.class,
+	RenameAnalyzeUtilTests.class
 })
 public class AllRefactoringTests {
 }
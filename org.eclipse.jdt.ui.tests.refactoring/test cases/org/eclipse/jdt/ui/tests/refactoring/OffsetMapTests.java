@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.refactoring.rename.OffsetMap;
+
+public class OffsetMapTests {
+
+	@Test
+	public void testPutAndGet() {
+		OffsetMap map= new OffsetMap(2);
+		assertEquals(OffsetMap.NOT_FOUND, map.get(0));
+		map.put(0, 10);
+		map.put(-1, 11);
+		map.put(42, 12);
+		assertEquals(10, map.get(0));
+		assertEquals(11, map.get(-1));
+		assertEquals(12, map.get(42));
+		assertEquals(OffsetMap.NOT_FOUND, map.get(43));
+
+		map.put(42, 13);
+		assertEquals(13, map.get(42));
+	}
+
+	@Test
+	public void testRemove() {
+		OffsetMap map= new OffsetMap(4);
+		map.put(5, 1);
+		map.put(6, 2);
+		assertEquals(1, map.remove(5));
+		assertEquals(OffsetMap.NOT_FOUND, map.get(5));
+		assertEquals(OffsetMap.NOT_FOUND, map.remove(5));
+		assertEquals(OffsetMap.NOT_FOUND, map.remove(7));
+		assertEquals(2, map.get(6));
+
+		map.put(5, 3);
+		assertEquals(3, map.get(5));
+	}
+
+	@Test
+	public void testRemovedKeysDoNotHideCollidingKeys() {
+		// many keys in a small map collide, removing the first of a probe sequence must not hide the others
+		OffsetMap map= new OffsetMap(1);
+		for (int key= 0; key < 64; key+= 4) {
+			map.put(key, key);
+		}
+		for (int key= 0; key < 64; key+= 8) {
+			assertEquals(key, map.remove(key));
+		}
+		for (int key= 0; key < 64; key+= 4) {
+			assertEquals(key % 8 == 0 ? OffsetMap.NOT_FOUND : key, map.get(key));
+		}
+	}
+
+	@Test
+	public void testGetAfterRehash() {
+		OffsetMap map= new OffsetMap(1);
+		for (int i= 0; i < 1000; i++) {
+			map.put(i * 17, i);
+			if (i % 10 == 0)
+				map.remove(i * 17);
+		}
+		for (int i= 0; i < 1000; i++) {
+			assertEquals(i % 10 == 0 ? OffsetMap.NOT_FOUND : i, map.get(i * 17));
+		}
+		assertEquals(OffsetMap.NOT_FOUND, map.get(1));
+		assertEquals(OffsetMap.NOT_FOUND, map.get(17 * 1000));
+	}
+}
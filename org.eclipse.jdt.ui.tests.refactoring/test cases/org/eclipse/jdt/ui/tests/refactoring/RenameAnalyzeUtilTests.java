@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameAnalyzeUtil;
+import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Tests for {@link RenameAnalyzeUtil#analyzeRenameChanges2}, with enough changed compilation units
+ * to compare the occurrences in parallel on machines with more than one processor.
+ */
+public class RenameAnalyzeUtilTests extends GenericRefactoringTest {
+
+	private static final int UNITS= 150;
+
+	public RenameAnalyzeUtilTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	@Test
+	public void testShadowedReferencesInManyUnits() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java", ""
+				+ "package p;\n"
+				+ "public class A {\n"
+				+ "    protected int f;\n"
+				+ "}\n");
+		Set<String> shadowing= new HashSet<>();
+		for (int i= 0; i < UNITS; i++) {
+			String name= "B" + i;
+			boolean shadows= i % 3 == 0;
+			// the second reference is shadowed by the local variable after the rename
+			String local= shadows ? "g" : "h";
+			createCU(getPackageP(), name + ".java", ""
+					+ "package p;\n"
+					+ "public class " + name + " extends A {\n"
+					+ "    int m() {\n"
+					+ "        int r= f;\n"
+					+ "        {\n"
+					+ "            int " + local + "= 1;\n"
+					+ "            r+= f + " + local + ";\n"
+					+ "        }\n"
+					+ "        return r;\n"
+					+ "    }\n"
+					+ "}\n");
+			if (shadows)
+				shadowing.add(name + ".java");
+		}
+
+		IField field= cuA.getType("A").getField("f");
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_FIELD);
+		descriptor.setJavaElement(field);
+		descriptor.setUpdateReferences(true);
+		descriptor.setNewName("g");
+		Refactoring refactoring= createRefactoring(descriptor);
+		RefactoringStatus status= refactoring.checkAllConditions(new NullProgressMonitor());
+
+		assertTrue(status.hasError());
+		Set<String> reported= new HashSet<>();
+		for (RefactoringStatusEntry entry : status.getEntries()) {
+			if (entry.isError() && entry.getContext() instanceof JavaStatusContext) {
+				ICompilationUnit cu= ((JavaStatusContext) entry.getContext()).getCompilationUnit();
+				reported.add(cu.getElementName());
+			}
+		}
+		assertEquals(shadowing, reported);
+	}
+}
@@ -81,6 +81,13 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 			start++;
 		}
 
+		assertRippleMethods(target, rippleMethods);
+		// again, from the cache
+		assertRippleMethods(target, rippleMethods);
+	}
+
+	private static void assertRippleMethods(IMethod target, List<IMethod> expected) throws Exception {
+		List<IMethod> rippleMethods= new ArrayList<>(expected);
 		for (IMethod method : RippleMethodFinder2.getRelatedMethods(target, new NullProgressMonitor(), null)) {
 			assertTrue("method not found: " + method, rippleMethods.remove(method));
 		}
@@ -135,5 +142,18 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 	public void test12() throws Exception {
 		perform();
 	}
+	@Test
+	public void testCacheInvalidation() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		ICompilationUnit cuA= createCU(pack, "A.java", "package p;\nclass A {\n\tvoid m() {}\n}\n");
+		IMethod target= cuA.getType("A").getMethod("m", new String[0]);
+		List<IMethod> rippleMethods= new ArrayList<>();
+		rippleMethods.add(target);
+		assertRippleMethods(target, rippleMethods);
+
+		ICompilationUnit cuB= createCU(pack, "B.java", "package p;\nclass B extends A {\n\tvoid m() {}\n}\n");
+		rippleMethods.add(cuB.getType("B").getMethod("m", new String[0]));
+		assertRippleMethods(target, rippleMethods);
+	}
 
 }
@@ -48,4 +48,9 @@ public class RenameMethodPerfTests1 extends AbstractRenameMethodPerfTest {
 		tagAsSummary("Rename method - 1000 CUs, 10 Refs", Dimension.ELAPSED_PROCESS);
 		executeRefactoring(1000, 10, true, 10);
 	}
+
+	@Test
+	public void testE_5000_1() throws Exception {
+		executeRefactoring(5000, 1, true, 3);
+	}
 }
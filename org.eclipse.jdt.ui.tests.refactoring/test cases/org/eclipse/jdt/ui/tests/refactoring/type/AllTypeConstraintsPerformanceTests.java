@@ -18,7 +18,8 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	ExtractInterfacePerfAcceptanceTests.class
+	ExtractInterfacePerfAcceptanceTests.class,
+	InferTypeArgumentsPerfAcceptanceTests.class
 })
 public class AllTypeConstraintsPerformanceTests {
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.type;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.core.IJavaElement;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+
+import org.eclipse.jdt.ui.tests.performance.SWTTestProject;
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Infers type arguments for the whole SWT project, measuring elapsed time and heap usage,
+ * and once more with enumerated type sets that are not backed by bit sets.
+ */
+public class InferTypeArgumentsPerfAcceptanceTests extends RefactoringPerformanceTestCaseCommon {
+
+	private SWTTestProject fProject;
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		fProject= new SWTTestProject();
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		fProject.delete();
+		super.tearDown();
+	}
+
+	private InferTypeArgumentsRefactoring createRefactoring() {
+		return new InferTypeArgumentsRefactoring(new IJavaElement[] { fProject.getProject() });
+	}
+
+	@Test
+	public void testInferTypeArguments() throws Exception {
+		tagAsSummary("Infer Type Arguments - Elapsed Process", Dimension.ELAPSED_PROCESS);
+		executeRefactoring(createRefactoring(), true);
+	}
+
+	@Test
+	public void testInferTypeArgumentsHeap() throws Exception {
+		tagAsSummary("Infer Type Arguments - Used Java Heap", Dimension.USED_JAVA_HEAP);
+		executeRefactoring(createRefactoring(), true);
+	}
+
+	@Test
+	public void testInferTypeArgumentsWithoutBitSets() throws Exception {
+		System.setProperty(TypeSetEnvironment.MAX_BIT_SET_TYPES_PROPERTY, "0");
+		try {
+			executeRefactoring(createRefactoring(), true);
+		} finally {
+			System.clearProperty(TypeSetEnvironment.MAX_BIT_SET_TYPES_PROPERTY);
+		}
+	}
+}
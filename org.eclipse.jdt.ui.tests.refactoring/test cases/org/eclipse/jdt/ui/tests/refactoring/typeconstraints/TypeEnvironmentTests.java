@@ -93,6 +93,8 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 				assertEquals("Not same name", type.getName(), refType.getName());
 				assertEquals("Not same signature", PrettySignatures.get(type), refType.getPrettySignature());
 				assertSame("Not same type", refType, fTypeEnvironment.create(type));
+				assertTrue("Id out of range", refType.getId() < fTypeEnvironment.getTypeCount());
+				assertSame("Not same type for id", refType, fTypeEnvironment.getType(refType.getId()));
 			}
 		}
 		@Override
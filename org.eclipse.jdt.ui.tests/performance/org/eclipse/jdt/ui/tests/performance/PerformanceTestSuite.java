@@ -17,11 +17,17 @@ package org.eclipse.jdt.ui.tests.performance;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
+import org.eclipse.jdt.ui.tests.performance.common.HelperVisitorPerfTest;
+import org.eclipse.jdt.ui.tests.performance.junit.RemoteTestRunnerProtocolPerfTest;
+import org.eclipse.jdt.ui.tests.performance.refactoring.RefactoringHistoryPerfTest;
 import org.eclipse.jdt.ui.tests.performance.views.TypeHierarchyPerfTest;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	TypeHierarchyPerfTest.class
+	TypeHierarchyPerfTest.class,
+	HelperVisitorPerfTest.class,
+	RemoteTestRunnerProtocolPerfTest.class,
+	RefactoringHistoryPerfTest.class
 })
 public class PerformanceTestSuite {
 }
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.common.HelperVisitor;
+import org.eclipse.jdt.internal.common.ReferenceHolder;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Compares visiting large compilation units with a {@link HelperVisitor} through
+ * {@link HelperVisitor#build(ASTNode)} and through the compiled dispatch of
+ * {@link HelperVisitor#buildCompiled(ASTNode)}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HelperVisitorPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int CU_COUNT= 20;
+	private static final int METHOD_COUNT= 300;
+
+	private static List<CompilationUnit> fgUnits;
+
+	@BeforeClass
+	public static void parseUnits() {
+		Map<String, String> options= JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_17, options);
+		fgUnits= new ArrayList<>();
+		for (int i= 0; i < CU_COUNT; i++) {
+			ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+			parser.setKind(ASTParser.K_COMPILATION_UNIT);
+			parser.setCompilerOptions(options);
+			parser.setSource(createSource(i).toCharArray());
+			fgUnits.add((CompilationUnit) parser.createAST(null));
+		}
+	}
+
+	private static String createSource(int index) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test;\n");
+		buf.append("import java.util.*;\n");
+		buf.append("/**\n * Generated class {@link List}.\n */\n");
+		buf.append("public class E").append(index).append(" {\n");
+		for (int m= 0; m < METHOD_COUNT; m++) {
+			buf.append("    /**\n     * @param list the list\n     * @return the count\n     */\n");
+			buf.append("    public int m").append(m).append("(List<String> list, int limit) {\n");
+			buf.append("        int count= 0;\n");
+			buf.append("        Iterator<String> it= list.iterator();\n");
+			buf.append("        while (it.hasNext()) {\n");
+			buf.append("            String s= it.next();\n");
+			buf.append("            if (s.length() > limit && (count & 1) == 0) {\n");
+			buf.append("                count+= s.indexOf('x') + limit * 2;\n");
+			buf.append("            } else {\n");
+			buf.append("                list.add(s + \"-\" + count);\n");
+			buf.append("            }\n");
+			buf.append("        }\n");
+			buf.append("        int[] values= new int[] { 1, 2, 3, limit, count };\n");
+			buf.append("        for (int v : values) {\n");
+			buf.append("            count= count > v ? count - v : count + v;\n");
+			buf.append("        }\n");
+			buf.append("        return count;\n");
+			buf.append("    }\n");
+		}
+		buf.append("}\n");
+		return buf.toString();
+	}
+
+	@Test
+	public void testCompiledDispatch() throws Exception {
+		measure(true);
+	}
+
+	@Test
+	public void testDynamicDispatch() throws Exception {
+		measure(false);
+	}
+
+	private void measure(boolean compiled) throws Exception {
+		tagAsSummary("HelperVisitor dispatch", Dimension.ELAPSED_PROCESS);
+
+		// warm up
+		visitUnits(compiled);
+		visitUnits(compiled);
+
+		for (int i= 0; i < 20; i++) {
+			startMeasuring();
+			int[] counts= visitUnits(compiled);
+			stopMeasuring();
+
+			assertEquals(CU_COUNT * METHOD_COUNT, counts[0]);
+			assertEquals(CU_COUNT * METHOD_COUNT, counts[1]);
+		}
+
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static int[] visitUnits(boolean compiled) {
+		int[] counts= new int[2];
+		for (CompilationUnit unit : fgUnits) {
+			HelperVisitor<ReferenceHolder<String, Object>, String, Object> hv= new HelperVisitor<>(new HashSet<>(), new ReferenceHolder<>());
+			hv.addMethodInvocation("add", (node, holder) -> {
+				counts[0]++;
+				return true;
+			});
+			hv.addWhileStatement((node, holder) -> {
+				counts[1]++;
+			});
+			if (compiled) {
+				hv.buildCompiled(unit);
+			} else {
+				hv.build(unit);
+			}
+		}
+		return counts;
+	}
+}
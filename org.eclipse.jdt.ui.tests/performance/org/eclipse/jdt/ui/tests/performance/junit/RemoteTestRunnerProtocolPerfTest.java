@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the throughput of the socket connection between the remote test runner and
+ * {@link RemoteTestRunnerClient} for the text and the binary protocol.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RemoteTestRunnerProtocolPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int TEST_COUNT= 50000;
+
+	private static class CountingListener implements ITestRunListener2 {
+		final CountDownLatch fDone= new CountDownLatch(1);
+		int fTreeEntries;
+		int fStarted;
+		int fEnded;
+
+		@Override
+		public void testRunStarted(int testCount) {
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			fDone.countDown();
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			fDone.countDown();
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			fStarted++;
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			fEnded++;
+		}
+
+		@Override
+		public void testRunTerminated() {
+			fDone.countDown();
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			fTreeEntries++;
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+		}
+	}
+
+	private interface SenderFactory {
+		MessageSender create(OutputStream output) throws IOException;
+	}
+
+	private static final SenderFactory TEXT= output -> {
+		PrintWriter writer= new PrintWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)), false);
+		return new MessageSender() {
+			@Override
+			public void sendMessage(String msg) {
+				writer.println(msg);
+			}
+
+			@Override
+			public void flush() {
+				writer.flush();
+			}
+		};
+	};
+
+	private static final SenderFactory BINARY= output -> new BinaryMessageWriter(new BufferedOutputStream(output));
+
+	@Test
+	public void testBinaryProtocol() throws Exception {
+		measure(BINARY);
+	}
+
+	@Test
+	public void testTextProtocol() throws Exception {
+		measure(TEXT);
+	}
+
+	private void measure(SenderFactory factory) throws Exception {
+		tagAsSummary("JUnit remote test runner protocol", Dimension.ELAPSED_PROCESS);
+
+		// warm up
+		runSession(factory);
+		runSession(factory);
+
+		for (int i= 0; i < 10; i++) {
+			startMeasuring();
+			runSession(factory);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static void runSession(SenderFactory factory) throws Exception {
+		int port;
+		try (ServerSocket socket= new ServerSocket(0)) {
+			port= socket.getLocalPort();
+		}
+
+		CountingListener listener= new CountingListener();
+		RemoteTestRunnerClient client= new RemoteTestRunnerClient();
+		client.startListening(new ITestRunListener2[] { listener }, port);
+
+		try (Socket socket= connect(port)) {
+			MessageSender sender= factory.create(socket.getOutputStream());
+			sendTestRun(sender);
+			assertTrue("test run did not end", listener.fDone.await(60, TimeUnit.SECONDS));
+		} finally {
+			client.stopWaiting();
+		}
+
+		assertEquals(TEST_COUNT + 1, listener.fTreeEntries);
+		assertEquals(TEST_COUNT, listener.fStarted);
+		assertEquals(TEST_COUNT, listener.fEnded);
+	}
+
+	private static Socket connect(int port) throws Exception {
+		for (int i= 0; i < 100; i++) {
+			try {
+				return new Socket("localhost", port);
+			} catch (ConnectException e) {
+				Thread.sleep(20);
+			}
+		}
+		throw new ConnectException("client did not start listening on port " + port);
+	}
+
+	/*
+	 * Sends the same messages as the RemoteTestRunner and FirstRunExecutionListener
+	 * for a suite with TEST_COUNT passing tests.
+	 */
+	private static void sendTestRun(MessageSender sender) {
+		sender.sendMessage(MessageIds.TEST_RUN_START + TEST_COUNT + " v2");
+		sender.sendMessage(MessageIds.TEST_TREE + "1,org.example.ParameterizedTest,true," + TEST_COUNT + ",false,-1,ParameterizedTest,,[engine:junit-jupiter]/[class:org.example.ParameterizedTest]");
+		for (int i= 0; i < TEST_COUNT; i++) {
+			sender.sendMessage(MessageIds.TEST_TREE + getTestId(i) + "," + getTestName(i) + ",false,1,false,1,test(int)[" + i + "],int,[engine:junit-jupiter]/[class:org.example.ParameterizedTest]/[test-template:test(int)]/[test-template-invocation:#" + i + "]");
+		}
+		sender.flush();
+		for (int i= 0; i < TEST_COUNT; i++) {
+			String test= getTestId(i) + "," + getTestName(i);
+			sender.sendMessage(MessageIds.TEST_START + test);
+			sender.flush();
+			sender.sendMessage(MessageIds.TEST_END + test);
+			sender.flush();
+		}
+		sender.sendMessage(MessageIds.TEST_RUN_END + 1000);
+		sender.flush();
+	}
+
+	private static String getTestId(int i) {
+		return String.valueOf(i + 2);
+	}
+
+	private static String getTestName(int i) {
+		return "test[" + i + "](org.example.ParameterizedTest)";
+	}
+}
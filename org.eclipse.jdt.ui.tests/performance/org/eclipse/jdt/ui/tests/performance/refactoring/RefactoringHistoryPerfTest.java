@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.refactoring;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
+import org.eclipse.ltk.core.refactoring.history.IRefactoringHistoryService;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures range queries on a large shared refactoring history, once read from
+ * the history index tree and once from the binary history store.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RefactoringHistoryPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final String PROJECT_NAME= "RefactoringHistoryPerf";
+
+	private static final String PROPERTY_HISTORY_STORE= "org.eclipse.ltk.core.refactoring.history.store";
+
+	private static final String PREFERENCE_SHARED_REFACTORING_HISTORY= "org.eclipse.ltk.core.refactoring.enable.project.refactoring.history";
+
+	private static final int DESCRIPTOR_COUNT= 50000;
+
+	private static final long STAMP_START= 1262304000000L; // 2010-01-01
+
+	private static final long STAMP_DELTA= 60 * 60 * 1000L; // one descriptor per hour
+
+	private static final long QUERY_RANGE= 30 * 24 * STAMP_DELTA;
+
+	private static final int QUERY_COUNT= 20;
+
+	private static IProject fgProject;
+
+	@BeforeClass
+	public static void createHistory() throws Exception {
+		fgProject= ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		fgProject.create(null);
+		fgProject.open(null);
+		IEclipsePreferences preferences= new ProjectScope(fgProject).getNode(RefactoringCore.ID_PLUGIN);
+		preferences.putBoolean(PREFERENCE_SHARED_REFACTORING_HISTORY, true);
+		preferences.flush();
+
+		File history= new File(fgProject.getLocation().toFile(), ".refactorings");
+		Calendar calendar= Calendar.getInstance(TimeZone.getTimeZone("GMT+00:00"));
+		int start= 0;
+		String path= null;
+		for (int i= 0; i < DESCRIPTOR_COUNT; i++) {
+			calendar.setTimeInMillis(STAMP_START + i * STAMP_DELTA);
+			String next= calendar.get(Calendar.YEAR) + "/" + (calendar.get(Calendar.MONTH) + 1) + "/" + calendar.get(Calendar.WEEK_OF_YEAR);
+			if (path != null && !path.equals(next)) {
+				writeFolder(new File(history, path), start, i);
+				start= i;
+			}
+			path= next;
+		}
+		writeFolder(new File(history, path), start, DESCRIPTOR_COUNT);
+		fgProject.refreshLocal(IResource.DEPTH_INFINITE, null);
+		RefactoringCore.getHistoryService().connect();
+	}
+
+	/*
+	 * Appends the descriptors [start, end) to the history and index files of the given folder,
+	 * in the format written by the refactoring history service.
+	 */
+	private static void writeFolder(File folder, int start, int end) throws IOException {
+		folder.mkdirs();
+		try (Writer history= new OutputStreamWriter(new FileOutputStream(new File(folder, "refactorings.history"), true), StandardCharsets.UTF_8);
+				Writer index= new OutputStreamWriter(new FileOutputStream(new File(folder, "refactorings.index"), true), StandardCharsets.UTF_8)) {
+			history.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<session version=\"1.0\">\n");
+			for (int i= start; i < end; i++) {
+				long stamp= STAMP_START + i * STAMP_DELTA;
+				history.write("<refactoring comment=\"Renamed type 'p.Type" + i + "'\" description=\"Rename type 'Type" + i + "'\" flags=\"6\" id=\"org.eclipse.jdt.ui.rename.type\" input=\"/src&lt;p{Type"
+						+ i + ".java[Type" + i + "\" name=\"Renamed" + i + "\" project=\"" + PROJECT_NAME + "\" stamp=\"" + stamp + "\" version=\"1.0\"/>\n");
+				index.write(stamp + "\tRename type 'Type" + i + "'\n");
+			}
+			history.write("</session>\n");
+		}
+	}
+
+	@AfterClass
+	public static void deleteHistory() throws Exception {
+		System.clearProperty(PROPERTY_HISTORY_STORE);
+		RefactoringCore.getHistoryService().disconnect();
+		fgProject.delete(true, true, null);
+	}
+
+	@Test
+	public void testIndexTreeRangeQuery() throws Exception {
+		System.setProperty(PROPERTY_HISTORY_STORE, Boolean.FALSE.toString());
+		try {
+			measure();
+		} finally {
+			System.clearProperty(PROPERTY_HISTORY_STORE);
+		}
+	}
+
+	@Test
+	public void testStoreRangeQuery() throws Exception {
+		measure();
+	}
+
+	private void measure() throws Exception {
+		tagAsSummary("Refactoring history range query", Dimension.ELAPSED_PROCESS);
+
+		// warm up, migrates the history into the store if enabled
+		query();
+		query();
+
+		for (int i= 0; i < 20; i++) {
+			startMeasuring();
+			int count= query();
+			stopMeasuring();
+
+			assertEquals(QUERY_COUNT * (int) (QUERY_RANGE / STAMP_DELTA + 1), count);
+		}
+
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static int query() {
+		IRefactoringHistoryService service= RefactoringCore.getHistoryService();
+		long span= (DESCRIPTOR_COUNT - 1) * STAMP_DELTA - QUERY_RANGE;
+		int count= 0;
+		for (int i= 0; i < QUERY_COUNT; i++) {
+			long start= STAMP_START + (span / QUERY_COUNT * i) / STAMP_DELTA * STAMP_DELTA;
+			count+= service.getProjectHistory(fgProject, start, start + QUERY_RANGE, RefactoringDescriptor.NONE, null).getDescriptors().length;
+		}
+		return count;
+	}
+}
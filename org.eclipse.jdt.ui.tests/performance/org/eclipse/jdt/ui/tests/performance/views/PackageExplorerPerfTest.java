@@ -16,6 +16,7 @@ package org.eclipse.jdt.ui.tests.performance.views;
 
 import static org.junit.Assert.assertNotNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.util.zip.ZipFile;
 
@@ -44,6 +45,7 @@ import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -54,6 +56,9 @@ import org.eclipse.jdt.internal.ui.packageview.PackageExplorerPart;
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class PackageExplorerPerfTest extends JdtPerformanceTestCaseCommon {
 
+	private static final int MASS_DELTA_PACKAGES= 20;
+	private static final int MASS_DELTA_UNITS= 100;
+
 	private static class MyTestSetup extends ExternalResource {
 		public static final String SRC_CONTAINER= "src";
 
@@ -149,6 +154,54 @@ public class PackageExplorerPerfTest extends JdtPerformanceTestCaseCommon {
 		finishMeasurements();
 	}
 
+	// a mass change like a checkout of another branch: changes, deletes and adds many compilation units at once
+	@Test
+	public void testEMassDelta() throws Throwable {
+		final IJavaProject javaProject= MyTestSetup.fJProject1;
+		IPackageFragmentRoot root= javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder(MyTestSetup.SRC_CONTAINER));
+		final IPackageFragment[] packages= new IPackageFragment[MASS_DELTA_PACKAGES];
+		ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> {
+			for (int i= 0; i < packages.length; i++) {
+				packages[i]= root.createPackageFragment("mass" + i, true, null);
+				for (int j= 0; j < MASS_DELTA_UNITS; j++) {
+					packages[i].createCompilationUnit("C" + j + ".java", getMassDeltaSource(packages[i], "C" + j, false), true, null);
+				}
+			}
+		}, null);
+
+		TreeViewer viewer= getViewer();
+		viewer.expandToLevel(root, 1);
+		viewer.expandToLevel(packages[0], 1);
+		PackageExplorerPart view= getView();
+		view.selectAndReveal(root); // runs pending updates
+		joinBackgroudActivities();
+
+		startMeasuring();
+		ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> {
+			for (IPackageFragment pack : packages) {
+				for (int j= 0; j < MASS_DELTA_UNITS; j++) {
+					IFile file= (IFile) pack.getCompilationUnit("C" + j + ".java").getResource();
+					if (j % 10 == 0) {
+						file.delete(true, null);
+						pack.createCompilationUnit("D" + j + ".java", getMassDeltaSource(pack, "D" + j, true), true, null);
+					} else {
+						file.setContents(new ByteArrayInputStream(getMassDeltaSource(pack, "C" + j, true).getBytes()), true, false, null);
+					}
+				}
+			}
+		}, null);
+		view.selectAndReveal(root); // runs pending updates
+		finishMeasurements();
+	}
+
+	private static String getMassDeltaSource(IPackageFragment pack, String typeName, boolean changed) {
+		return "package " + pack.getElementName() + ";\n"
+				+ "public class " + typeName + " {\n"
+				+ (changed ? "	public void changed() {}\n" : "")
+				+ "	public void m() {}\n"
+				+ "}\n";
+	}
+
 	private void touchAllFilesOnDisk(IFolder folder) throws CoreException {
 		final long now= System.currentTimeMillis();
 		folder.accept(resource -> {
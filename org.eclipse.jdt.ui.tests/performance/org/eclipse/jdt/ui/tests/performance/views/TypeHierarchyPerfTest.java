@@ -28,6 +28,8 @@ import org.eclipse.jdt.testplugin.JavaTestPlugin;
 import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.Performance;
 
+import org.eclipse.swt.widgets.Display;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -44,6 +46,7 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchySnapshots;
 import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyViewPart;
 import org.eclipse.jdt.internal.ui.util.OpenTypeHierarchyUtil;
 
@@ -124,6 +127,65 @@ public class TypeHierarchyPerfTest extends JdtPerformanceTestCaseCommon {
 		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
 	}
 
+	@Test
+	public void testDOpenObjectHierarchyFromSnapshot() throws Exception {
+		//warm from the stored snapshot, as after a restart
+		IJavaElement element= MyTestSetup.fJProject1.findType("java.lang.Object");
+		IWorkbenchWindow workbenchWindow= JavaPlugin.getActiveWorkbenchWindow();
+
+		TypeHierarchyViewPart viewPart= OpenTypeHierarchyUtil.open(element, workbenchWindow);
+		waitForHierarchyShown(viewPart);
+
+		for (int i= 0; i < 10; i++) {
+			viewPart.setInputElement(MyTestSetup.fJProject1.findType("java.lang.String"));
+			viewPart.getSite().getPage().hideView(viewPart);
+			TypeHierarchySnapshots.getDefault().clearMemory();
+
+			joinBackgroudActivities();
+			startMeasuring();
+			viewPart= OpenTypeHierarchyUtil.open(element, workbenchWindow);
+			waitForHierarchyShown(viewPart);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testEOpenObjectHierarchyWithoutSnapshot() throws Exception {
+		//cold, no snapshot in memory or stored
+		IJavaElement element= MyTestSetup.fJProject1.findType("java.lang.Object");
+		IWorkbenchWindow workbenchWindow= JavaPlugin.getActiveWorkbenchWindow();
+
+		TypeHierarchyViewPart viewPart= OpenTypeHierarchyUtil.open(element, workbenchWindow);
+		waitForHierarchyShown(viewPart);
+
+		for (int i= 0; i < 10; i++) {
+			viewPart.setInputElement(MyTestSetup.fJProject1.findType("java.lang.String"));
+			viewPart.getSite().getPage().hideView(viewPart);
+			TypeHierarchySnapshots.getDefault().clear();
+
+			joinBackgroudActivities();
+			startMeasuring();
+			viewPart= OpenTypeHierarchyUtil.open(element, workbenchWindow);
+			waitForHierarchyShown(viewPart);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static void waitForHierarchyShown(TypeHierarchyViewPart viewPart) throws InterruptedException {
+		Display display= viewPart.getSite().getShell().getDisplay();
+		while (viewPart.getTypeHierarchyLifeCycle().isRefreshJobRunning()) {
+			if (!display.readAndDispatch()) {
+				Thread.sleep(1);
+			}
+		}
+	}
+
 	private void measureOpenHierarchy(IJavaElement element) throws Exception {
 		IWorkbenchWindow activeWorkbenchWindow= JavaPlugin.getActiveWorkbenchWindow();
 		joinBackgroudActivities();
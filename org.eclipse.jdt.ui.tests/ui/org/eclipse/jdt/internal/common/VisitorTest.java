@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -617,6 +620,75 @@ public class VisitorTest {
 		hv.build(result2);
 	}
 
+	@Test
+	public void compiledTest() {
+		List<String> dynamic = visitAll(false);
+		List<String> compiled = visitAll(true);
+		assertEquals(dynamic, compiled);
+		assertTrue(compiled.contains("while it.hasNext()"));
+		assertTrue(compiled.contains("next"));
+	}
+
+	private List<String> visitAll(boolean compiled) {
+		List<String> visited = new ArrayList<>();
+		HelperVisitor<ReferenceHolder<String,NodeFound>,String,NodeFound> hv = new HelperVisitor<>(null, new ReferenceHolder<>());
+		hv.addVariableDeclarationStatement(Iterator.class, (node, holder) -> {
+			visited.add(node.toString());
+			return true;
+		});
+		hv.addMethodInvocation("next", (node, holder) -> {
+			visited.add(node.getName().getIdentifier());
+		});
+		hv.addWhileStatement((node, holder) -> {
+			visited.add("while " + node.getExpression());
+			return true;
+		});
+		if (compiled) {
+			hv.buildCompiled(result2);
+		} else {
+			hv.build(result2);
+		}
+		return visited;
+	}
+
+	@Test
+	public void compiledModifyTest() {
+		List<String> dynamic = visitModified(false);
+		List<String> compiled = visitModified(true);
+		assertEquals(dynamic, compiled);
+		assertEquals(1, compiled.stream().filter(s -> s.startsWith("end ")).count());
+		assertTrue(compiled.contains("next"));
+	}
+
+	/*
+	 * Removes the method invocation visitors after the first method invocation, and adds
+	 * another one when a while statement is found.
+	 */
+	private List<String> visitModified(boolean compiled) {
+		List<String> visited = new ArrayList<>();
+		HelperVisitor<ReferenceHolder<String,NodeFound>,String,NodeFound> hv = new HelperVisitor<>(null, new ReferenceHolder<>());
+		hv.addMethodInvocation((node, holder) -> {
+			visited.add("start " + node.getName().getIdentifier());
+			return true;
+		});
+		hv.addMethodInvocation((node, holder) -> {
+			visited.add("end " + node.getName().getIdentifier());
+			holder.getHelperVisitor().removeVisitor(VisitorEnum.MethodInvocation);
+		});
+		hv.addWhileStatement((node, holder) -> {
+			holder.getHelperVisitor().addMethodInvocation("next", (invocation, h) -> {
+				visited.add(invocation.getName().getIdentifier());
+			});
+			return true;
+		});
+		if (compiled) {
+			hv.buildCompiled(result2);
+		} else {
+			hv.build(result2);
+		}
+		return visited;
+	}
+
 	Collection<String> getUsedVariableNames(ASTNode node) {
 		CompilationUnit root= (CompilationUnit) node.getRoot();
 		Collection<String> res= (new ScopeAnalyzer(root)).getUsedVariableNames(node.getStartPosition(), node.getLength());
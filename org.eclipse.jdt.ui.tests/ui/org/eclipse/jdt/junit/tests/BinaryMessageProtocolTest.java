@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageReader;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+/**
+ * Round trip tests for the binary protocol of the remote test runner: messages sent through a
+ * {@link BinaryMessageWriter} must arrive unchanged at the {@link BinaryMessageReader}.
+ */
+public class BinaryMessageProtocolTest {
+
+	private static final String LINE_DELIMITER= System.getProperty("line.separator");
+
+	private static class RecordingHandler implements BinaryMessageReader.IMessageHandler {
+		final List<String> fEvents= new ArrayList<>();
+
+		@Override
+		public void line(String message) {
+			fEvents.add("line:" + message);
+		}
+
+		@Override
+		public void text(String text) {
+			fEvents.add("text:" + text);
+		}
+
+		@Override
+		public void testTreeEntry(String treeEntry) {
+			fEvents.add("tree:" + treeEntry);
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			fEvents.add("start:" + testId + "," + testName);
+		}
+
+		@Override
+		public void testEnded(String testId, String testName, long elapsedTime) {
+			assertTrue(elapsedTime >= 0);
+			fEvents.add("end:" + testId + "," + testName);
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			fEvents.add("runEnd:" + elapsedTime);
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			fEvents.add("stopped:" + elapsedTime);
+		}
+	}
+
+	private final ByteArrayOutputStream fBytes= new ByteArrayOutputStream();
+	private final List<String> fExpected= new ArrayList<>();
+
+	private BinaryMessageWriter createWriter() throws IOException {
+		return new BinaryMessageWriter(fBytes);
+	}
+
+	private List<String> readAll() throws IOException {
+		BufferedInputStream input= new BufferedInputStream(new ByteArrayInputStream(fBytes.toByteArray()));
+		assertTrue(BinaryMessageReader.isBinaryStream(input));
+		BinaryMessageReader reader= new BinaryMessageReader(input);
+		assertEquals(LINE_DELIMITER, reader.getLineDelimiter());
+		RecordingHandler handler= new RecordingHandler();
+		while (reader.read(handler)) {
+			// collect all events
+		}
+		return handler.fEvents;
+	}
+
+	private void send(BinaryMessageWriter writer, String message, String expectedEvent) {
+		writer.sendMessage(message);
+		fExpected.add(expectedEvent);
+	}
+
+	private void sendTest(BinaryMessageWriter writer, String header, String test, String expectedKind) {
+		writer.sendMessage(header + test);
+		fExpected.add(expectedKind + ":" + test);
+	}
+
+	@Test
+	public void allMessageKinds() throws Exception {
+		BinaryMessageWriter writer= createWriter();
+		send(writer, MessageIds.TEST_RUN_START + "3 v2", "line:" + MessageIds.TEST_RUN_START + "3 v2");
+		send(writer, MessageIds.TEST_TREE + "1,p.Suite,true,2,false,-1,Suite,,", "tree:1,p.Suite,true,2,false,-1,Suite,,");
+		send(writer, MessageIds.TEST_TREE + "2,test1(p.Suite),false,1,false,1,test1,,", "tree:2,test1(p.Suite),false,1,false,1,test1,,");
+
+		// started and directly ended, sent as a batch
+		sendTest(writer, MessageIds.TEST_START, "2,test1(p.Suite)", "start");
+		sendTest(writer, MessageIds.TEST_END, "2,test1(p.Suite)", "end");
+
+		// failed test with a trace, start and end are sent separately
+		sendTest(writer, MessageIds.TEST_START, "3,test2(p.Suite)", "start");
+		send(writer, MessageIds.TEST_FAILED + "3,test2(p.Suite)", "line:" + MessageIds.TEST_FAILED + "3,test2(p.Suite)");
+		send(writer, MessageIds.TRACE_START, "line:" + MessageIds.TRACE_START);
+		String trace= "java.lang.AssertionError: expected" + LINE_DELIMITER + "\tat p.Suite.test2(Suite.java:12)";
+		send(writer, trace, "text:" + trace + LINE_DELIMITER);
+		send(writer, MessageIds.TRACE_END, "line:" + MessageIds.TRACE_END);
+		sendTest(writer, MessageIds.TEST_END, "3,test2(p.Suite)", "end");
+
+		// nested start and end
+		sendTest(writer, MessageIds.TEST_START, "1,p.Suite", "start");
+		sendTest(writer, MessageIds.TEST_START, "4,test3(p.Suite)", "start");
+		sendTest(writer, MessageIds.TEST_END, "4,test3(p.Suite)", "end");
+		sendTest(writer, MessageIds.TEST_END, "1,p.Suite", "end");
+
+		send(writer, MessageIds.TEST_RERAN + "4 p.Suite test3 OK", "line:" + MessageIds.TEST_RERAN + "4 p.Suite test3 OK");
+		send(writer, MessageIds.TEST_STOPPED + "0", "stopped:0");
+		send(writer, MessageIds.TEST_RUN_END + (1L << 40), "runEnd:" + (1L << 40));
+		writer.close();
+
+		assertEquals(fExpected, readAll());
+	}
+
+	@Test
+	public void nonAsciiText() throws Exception {
+		BinaryMessageWriter writer= createWriter();
+		String test= "5,tést[ü, 测试, 😀](p.Ärger)";
+		send(writer, MessageIds.TEST_TREE + test + ",false,1,false,-1,tést,,", "tree:" + test + ",false,1,false,-1,tést,,");
+		sendTest(writer, MessageIds.TEST_START, test, "start");
+		sendTest(writer, MessageIds.TEST_END, test, "end");
+		// the same strings again, now referenced by index
+		sendTest(writer, MessageIds.TEST_START, test, "start");
+		send(writer, MessageIds.TEST_ERROR + test, "line:" + MessageIds.TEST_ERROR + test);
+		sendTest(writer, MessageIds.TEST_END, test, "end");
+		String text= "Übel ☃" + LINE_DELIMITER + "😀";
+		send(writer, text, "text:" + text + LINE_DELIMITER);
+		writer.close();
+
+		assertEquals(fExpected, readAll());
+	}
+
+	@Test
+	public void longStackTrace() throws Exception {
+		StringBuilder builder= new StringBuilder("java.lang.StackOverflowError");
+		for (int i= 0; i < 20000; i++) {
+			builder.append(LINE_DELIMITER).append("\tat p.Recursion.m").append(i).append("(Recursion.java:").append(i).append(')');
+		}
+		String trace= builder.toString();
+
+		BinaryMessageWriter writer= createWriter();
+		sendTest(writer, MessageIds.TEST_START, "1,test(p.Recursion)", "start");
+		send(writer, MessageIds.TEST_ERROR + "1,test(p.Recursion)", "line:" + MessageIds.TEST_ERROR + "1,test(p.Recursion)");
+		send(writer, MessageIds.TRACE_START, "line:" + MessageIds.TRACE_START);
+		send(writer, trace, "text:" + trace + LINE_DELIMITER);
+		send(writer, MessageIds.TRACE_END, "line:" + MessageIds.TRACE_END);
+		sendTest(writer, MessageIds.TEST_END, "1,test(p.Recursion)", "end");
+		writer.close();
+
+		assertEquals(fExpected, readAll());
+	}
+
+	@Test
+	public void manyTestsInBatches() throws Exception {
+		BinaryMessageWriter writer= createWriter();
+		for (int i= 0; i < 1000; i++) {
+			String test= i + ",test" + i + "(p.Many)";
+			sendTest(writer, MessageIds.TEST_START, test, "start");
+			sendTest(writer, MessageIds.TEST_END, test, "end");
+		}
+		send(writer, MessageIds.TEST_RUN_END + "17", "runEnd:17");
+		writer.close();
+
+		assertEquals(fExpected, readAll());
+	}
+
+	@Test
+	public void textStreamIsNotBinary() throws Exception {
+		byte[] text= (MessageIds.TEST_RUN_START + "1 v2" + LINE_DELIMITER).getBytes(StandardCharsets.UTF_8);
+		BufferedInputStream input= new BufferedInputStream(new ByteArrayInputStream(text));
+		assertFalse(BinaryMessageReader.isBinaryStream(input));
+		assertEquals('%', input.read());
+	}
+}
@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.JUnitModel;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Tests that the passed tests of a large test run session are compacted without
+ * changing the test tree.
+ */
+public class TestRunSessionCompactionTest {
+
+	private static final int SUITE_COUNT= 60;
+	private static final int TESTS_PER_SUITE= 250;
+	private static final int FAILING_TEST= 117;
+
+	private File fFile;
+	private TestRunSession fSession;
+
+	@Before
+	public void setUp() throws Exception {
+		fFile= File.createTempFile("testrun", ".xml");
+		try (Writer writer= new OutputStreamWriter(new FileOutputStream(fFile), StandardCharsets.UTF_8)) {
+			writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+			writer.write("<testrun name=\"compaction\" tests=\"" + SUITE_COUNT * TESTS_PER_SUITE + "\">\n");
+			for (int suite= 0; suite < SUITE_COUNT; suite++) {
+				writer.write("<testsuite name=\"pack.Suite" + suite + "\" time=\"1.0\">\n");
+				for (int test= 0; test < TESTS_PER_SUITE; test++) {
+					writer.write("<testcase name=\"test" + test + "\" classname=\"pack.Suite" + suite + "\" time=\"0.005\"");
+					writer.write(" uniqueid=\"[engine:junit-jupiter]/[class:pack.Suite" + suite + "]/[method:test" + test + "()]\"");
+					if (test % 50 == 3)
+						writer.write(" ignored=\"true\"");
+					if (test == FAILING_TEST) {
+						writer.write("><failure>java.lang.AssertionError: test" + test + "</failure></testcase>\n");
+					} else {
+						writer.write("/>\n");
+					}
+				}
+				writer.write("</testsuite>\n");
+			}
+			writer.write("</testrun>\n");
+		}
+		fSession= JUnitModel.importTestRunSession(fFile);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fSession != null)
+			JUnitCorePlugin.getModel().removeTestRunSession(fSession);
+		fFile.delete();
+	}
+
+	@Test
+	public void testTreeIsRestored() throws Exception {
+		assertEquals(SUITE_COUNT * TESTS_PER_SUITE, fSession.getTotalCount());
+		assertEquals(SUITE_COUNT, fSession.getFailureCount());
+
+		ITestElement[] suites= fSession.getChildren();
+		assertEquals(SUITE_COUNT, suites.length);
+		for (int suite= 0; suite < SUITE_COUNT; suite++) {
+			TestSuiteElement suiteElement= (TestSuiteElement) suites[suite];
+			assertTrue(suiteElement.hasChildren());
+			assertEquals(Result.FAILURE, suiteElement.getTestResult(true));
+
+			ITestElement[] tests= suiteElement.getChildren();
+			assertEquals(TESTS_PER_SUITE, tests.length);
+			for (int test= 0; test < TESTS_PER_SUITE; test++) {
+				TestCaseElement testCase= (TestCaseElement) tests[test];
+				assertSame(suiteElement, testCase.getParent());
+				assertEquals("test" + test, testCase.getTestMethodName());
+				assertEquals("pack.Suite" + suite, testCase.getTestClassName());
+				assertEquals("[engine:junit-jupiter]/[class:pack.Suite" + suite + "]/[method:test" + test + "()]", testCase.getUniqueId());
+				assertEquals(test % 50 == 3, testCase.isIgnored());
+				assertEquals(0.005, testCase.getElapsedTimeInSeconds(), 0.0001);
+				if (test == FAILING_TEST) {
+					assertEquals(Result.FAILURE, testCase.getTestResult(false));
+					assertNotNull(testCase.getTrace());
+				} else if (test % 50 != 3) {
+					assertEquals(Result.OK, testCase.getTestResult(false));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCompactedTestsCanBeFound() throws Exception {
+		int suite= 10;
+		// the imported elements are numbered in document order, starting with 0
+		String id= Integer.toString(suite * (TESTS_PER_SUITE + 1) + 1);
+		TestCaseElement found= (TestCaseElement) fSession.getTestElement(id);
+		assertNotNull(found);
+		assertEquals("test0", found.getTestMethodName());
+		assertEquals("pack.Suite" + suite, found.getTestClassName());
+
+		TestSuiteElement suiteElement= (TestSuiteElement) fSession.getChildren()[suite];
+		assertSame(found, suiteElement.getChildren()[0]);
+
+		// the other test cases of the suite have been restored with it
+		String next= Integer.toString(suite * (TESTS_PER_SUITE + 1) + 2);
+		assertSame(suiteElement.getChildren()[1], fSession.getTestElement(next));
+
+		TestCaseElement failed= (TestCaseElement) suiteElement.getChildren()[FAILING_TEST];
+		assertSame(failed, fSession.getTestElement(failed.getId()));
+		assertNull(fSession.getTestElement("unknown"));
+	}
+
+	@Test
+	public void testCompactedElementsAreReused() throws Exception {
+		TestSuiteElement suite= (TestSuiteElement) fSession.getChildren()[SUITE_COUNT - 1];
+		ITestElement[] tests= suite.getChildren();
+
+		fSession.compactPassedTests(suite);
+		ITestElement[] restored= suite.getChildren();
+		assertEquals(tests.length, restored.length);
+		for (int i= 0; i < tests.length; i++) {
+			assertSame(tests[i], restored[i]);
+		}
+		TestCaseElement first= (TestCaseElement) tests[0];
+		assertSame(first, fSession.getTestElement(first.getId()));
+	}
+
+	@Test
+	public void testParameterTypesAreRestored() throws Exception {
+		String[][] parameterTypes= {
+				{ "java.util.Map<java.lang.String, java.lang.Integer>", "int" },
+				{},
+				null,
+				{ "java.util.List<java.util.Map<java.lang.String, java.lang.Integer>>" } };
+		TestSuiteElement suite= (TestSuiteElement) fSession.getChildren()[0];
+		suite.getChildren();
+		WeakReference<?>[] created= new WeakReference<?>[parameterTypes.length];
+		for (int i= 0; i < parameterTypes.length; i++) {
+			TestElement testElement= fSession.createTestElement(suite, "param" + i, "testParam" + i + "(pack.Suite0)", false, 0, false, null, parameterTypes[i], null);
+			testElement.setStatus(Status.OK);
+			created[i]= new WeakReference<>(testElement);
+		}
+		fSession.compactPassedTests(suite);
+
+		// the elements must be restored from the block, not reused
+		assumeTrue("compacted elements not garbage collected", collect(created));
+		for (int i= 0; i < parameterTypes.length; i++) {
+			TestCaseElement restored= (TestCaseElement) fSession.getTestElement("param" + i);
+			assertNotNull(restored);
+			assertArrayEquals(parameterTypes[i], restored.getParameterTypes());
+		}
+	}
+
+	private static boolean collect(WeakReference<?>[] references) throws InterruptedException {
+		for (int attempt= 0; attempt < 20; attempt++) {
+			System.gc();
+			boolean cleared= true;
+			for (WeakReference<?> reference : references) {
+				cleared&= reference.get() == null;
+			}
+			if (cleared)
+				return true;
+			Thread.sleep(50);
+		}
+		return false;
+	}
+
+	@Test
+	public void testExportAfterCompaction() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		JUnitModel.exportTestRunSession(fSession, out);
+		String exported= out.toString("UTF-8");
+
+		int testCases= 0;
+		for (int index= exported.indexOf("<testcase "); index != -1; index= exported.indexOf("<testcase ", index + 1)) {
+			testCases++;
+		}
+		assertEquals(SUITE_COUNT * TESTS_PER_SUITE, testCases);
+		assertTrue(exported.indexOf("classname=\"pack.Suite59\"") != -1);
+	}
+}
@@ -52,6 +52,7 @@ public class CallHierarchyTestHelper {
     private IJavaProject fJavaProject3;
     private IType fType1;
     private IType fType2;
+    private IType fType3;
     private IType fTypeP;
 	private IType fFooImplAType;
 	private IType fFooImplBType;
@@ -87,6 +88,7 @@ public class CallHierarchyTestHelper {
         assertBuildWithoutErrors(fJavaProject3);
         fType1= null;
         fType2= null;
+        fType3= null;
         fTypeP= null;
         fFooImplAType= null;
         fFooImplBType= null;
@@ -148,6 +150,32 @@ public class CallHierarchyTestHelper {
         assertBuildWithoutErrors(fJavaProject2);
     }
 
+    /**
+     * Creates the simple classes A and B and a class C in the package of B, whose methods call
+     * several members of A and C, and read and write a field. Sets the instance fields fType1, fType2
+     * and fType3.
+     */
+    public void createBulkCallerClasses() throws Exception {
+        createSimpleClasses();
+
+        ICompilationUnit cu3= fPack2.getCompilationUnit("C.java");
+        fType3=
+            cu3.createType(
+                "public class C {\n" +
+                "int count;\n" +
+                "public void first() { count++; }\n" +
+                "public void second() { first(); int value= count; }\n" +
+                "public void third() { first(); second(); count= 2; }\n" +
+                "public void fourth(pack1.A target) { target.method1(); target.method2(); third(); }\n" +
+                "public void fifth() { fourth(null); second(); second(); }\n" +
+                "}\n",
+                null,
+                true,
+                null);
+
+        assertBuildWithoutErrors(fJavaProject2);
+    }
+
     /**
      * Creates two simple classes, A and its subclass B, where B calls A's implicit constructor explicitly. Sets the instance fields fType1 and fType2.
      */
@@ -651,6 +679,10 @@ public class CallHierarchyTestHelper {
         return fType2;
     }
 
+    public IType getType3() {
+        return fType3;
+    }
+
     public IType getTypeP() {
     	return fTypeP;
     }
@@ -15,6 +15,8 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.junit.After;
 import org.junit.Before;
@@ -141,6 +143,32 @@ public class ASTProviderTest extends CoreTests {
 		cu.getBuffer().save(null, true);
 	}
 
+	@Test
+	public void testSharedASTOfInactiveUnit() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E1 {\n");
+		buf.append("}\n");
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", buf.toString(), false, null);
+
+		CompilationUnit ast= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null));
+		assertSame(ast, SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_NO, null));
+
+		buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E1 {\n");
+		buf.append("    int a;\n");
+		buf.append("}\n");
+		cu= pack1.createCompilationUnit("E1.java", buf.toString(), true, null);
+
+		CompilationUnit newAST= SharedASTProviderCore.getAST(cu, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(newAST);
+		assertNotSame(ast, newAST);
+	}
+
 	private static String getNormalizeNumber(int number) {
 		if (number < 10) {
 			return "000" + number;
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.After;
@@ -33,9 +34,17 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
 
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyVisitor;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallLocation;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallersCache;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -55,6 +64,7 @@ public class CallHierarchyTest {
 
 	@After
 	public void tearDown() throws Exception {
+        CallersCache.getDefault().clear();
         helper.tearDown();
         helper= null;
     }
@@ -157,6 +167,42 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedMethods, cachedCalls);
     }
 
+	@Test
+	public void callersAfterChange() throws Exception {
+        helper.createSimpleClasses();
+
+        IMethod method= helper.getMethod4();
+
+        MethodWrapper[] calls= getSingleCallerRoot(method).getCalls(new NullProgressMonitor());
+        helper.assertCalls(new ArrayList<>(), calls);
+
+        IMethod method5= helper.getType2().createMethod("public void method5() { method4(); }\n", null, true, null);
+
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(method5);
+
+        calls= getSingleCallerRoot(method).getCalls(new NullProgressMonitor());
+        helper.assertCalls(expectedMethods, calls);
+    }
+
+	@Test
+	public void callersInBulk() throws Exception {
+        helper.createSimpleClasses();
+
+        MethodWrapper[] calls= getSingleCallerRoot(helper.getMethod1()).getCalls(new NullProgressMonitor());
+        CallerMethodWrapper.findCallersInBulk(calls, new NullProgressMonitor());
+
+        Collection<IMember> expectedCallersOf2= new ArrayList<>();
+        expectedCallersOf2.add(helper.getMethod3());
+        MethodWrapper wrapper2= helper.findMethodWrapper(helper.getMethod2(), calls);
+        helper.assertCalls(expectedCallersOf2, wrapper2.getCalls(new NullProgressMonitor()));
+
+        Collection<IMember> expectedCallersOf3= new ArrayList<>();
+        expectedCallersOf3.add(helper.getMethod4());
+        MethodWrapper wrapper3= helper.findMethodWrapper(helper.getMethod3(), calls);
+        helper.assertCalls(expectedCallersOf3, wrapper3.getCalls(new NullProgressMonitor()));
+    }
+
 	@Test
 	public void recursiveCallers() throws Exception {
         helper.createSimpleClasses();
@@ -531,6 +577,127 @@ public class CallHierarchyTest {
 		checkCalls(component, expectedCaller);
     }
 
+    @Test
+    public void bulkCallersEqualCallersPerMember() throws Exception {
+        helper.createBulkCallerClasses();
+
+        IType type3= helper.getType3();
+        IMember[] members= { type3.getMethod("first", EMPTY), type3.getMethod("second", EMPTY), type3.getMethod("third", EMPTY),
+                type3.getField("count"), helper.getMethod1(), helper.getMethod2() };
+
+        CallersCache.getDefault().clear();
+        List<String> expected= new ArrayList<>();
+        for (MethodWrapper root : CallHierarchy.getDefault().getCallerRoots(members)) {
+            collectCallers(root, "", false, expected);
+        }
+        assertFalse(expected.isEmpty());
+
+        CallersCache.getDefault().clear();
+        MethodWrapper[] roots= CallHierarchy.getDefault().getCallerRoots(members);
+        CallerMethodWrapper.findCallersInBulk(roots, new NullProgressMonitor());
+        IJavaSearchScope scope= CallHierarchyCore.getDefault().getSearchScope();
+        for (IMember member : members) {
+            if (member instanceof IMethod) {
+                assertNotNull("Not found in bulk: " + member.getElementName(), CallersCache.getDefault().get(member, IJavaSearchConstants.REFERENCES, scope));
+            }
+        }
+        List<String> actual= new ArrayList<>();
+        for (MethodWrapper root : roots) {
+            collectCallers(root, "", false, actual);
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void prefetchedCallersEqualCallersPerMember() throws Exception {
+        helper.createBulkCallerClasses();
+
+        IMethod method= helper.getType3().getMethod("first", EMPTY);
+
+        CallersCache.getDefault().clear();
+        List<String> expected= new ArrayList<>();
+        collectCallers(getSingleCallerRoot(method), "", true, expected);
+        Collections.sort(expected);
+
+        CallersCache.getDefault().clear();
+        List<String> actual= new ArrayList<>();
+        getSingleCallerRoot(method).accept(new CallHierarchyVisitor() {
+            @Override
+            public boolean visit(MethodWrapper methodWrapper) {
+                if (methodWrapper.getParent() != null) {
+                    actual.add(describeCaller(methodWrapper, getPath(methodWrapper)));
+                }
+                return true;
+            }
+        }, new NullProgressMonitor());
+        Collections.sort(actual);
+
+        // first <- second <- third <- fourth <- fifth, with further callers on every level
+        assertTrue(actual.size() > 5);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void cachedCallersAfterSuperTypeChange() throws Exception {
+        helper.createSimpleClasses();
+
+        IPackageFragment pack2= helper.getPackage2();
+        pack2.createCompilationUnit("X.java", "package pack2;\npublic class X extends pack1.A {\n}\n", true, null);
+        pack2.createCompilationUnit("Y.java", "package pack2;\npublic class Y {\npublic void method1() { }\n}\n", true, null);
+        IType typeZ= pack2.createCompilationUnit("Z.java", "package pack2;\npublic class Z {\npublic void callIt(X x) { x.method1(); }\n}\n", true, null).getType("Z");
+
+        IMethod method= helper.getMethod1();
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(helper.getMethod2());
+        expectedMethods.add(helper.getMethod3());
+        expectedMethods.add(typeZ.getMethod("callIt", new String[] { "QX;" }));
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+        // X.java does not mention method1, but the call in Z now refers to Y.method1
+        pack2.createCompilationUnit("X.java", "package pack2;\npublic class X extends Y {\n}\n", true, null);
+        expectedMethods.remove(typeZ.getMethod("callIt", new String[] { "QX;" }));
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+    }
+
+    /**
+     * Adds the callers of the given wrapper to the given list, searching each wrapper on its own.
+     *
+     * @param wrapper the wrapper
+     * @param path the path of the wrapper
+     * @param deep whether to add the callers of the callers, until a recursive caller is reached
+     * @param result the list to add the callers to
+     */
+    private static void collectCallers(MethodWrapper wrapper, String path, boolean deep, List<String> result) {
+        MethodWrapper[] callers= wrapper.getCalls(new NullProgressMonitor());
+        List<String> described= new ArrayList<>();
+        for (MethodWrapper caller : callers) {
+            String callerPath= path + "/" + wrapper.getMember().getHandleIdentifier();
+            described.add(describeCaller(caller, callerPath));
+            if (deep && !caller.isRecursive()) {
+                collectCallers(caller, callerPath, deep, result);
+            }
+        }
+        Collections.sort(described);
+        result.addAll(described);
+    }
+
+    private static String getPath(MethodWrapper wrapper) {
+        StringBuilder path= new StringBuilder();
+        for (MethodWrapper parent= wrapper.getParent(); parent != null; parent= parent.getParent()) {
+            path.insert(0, "/" + parent.getMember().getHandleIdentifier());
+        }
+        return path.toString();
+    }
+
+    private static String describeCaller(MethodWrapper caller, String path) {
+        List<Integer> starts= new ArrayList<>();
+        for (CallLocation location : caller.getMethodCall().getCallLocations()) {
+            starts.add(location.getStart());
+        }
+        Collections.sort(starts);
+        return path + " <- " + caller.getMember().getHandleIdentifier() + " at " + starts;
+    }
+
     private void checkCalls(IMember memberToCheck, IMethod... expectedCallers) {
         MethodWrapper[] methodWrappers = CallHierarchy.getDefault().getCallerRoots(new IMember[] { memberToCheck });
         MethodWrapper[] callers = methodWrappers[0].getCalls(new NullProgressMonitor());
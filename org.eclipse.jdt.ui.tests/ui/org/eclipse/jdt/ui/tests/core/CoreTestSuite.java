@@ -45,8 +45,10 @@ MethodOverrideTest1d8.class,
 NameProposerTest.class,
 OverrideTest.class,
 PartialASTTest.class,
+ProblemSeverityIndexTest.class,
 ScopeAnalyzerTest.class,
 TemplateStoreTest.class,
+SuperTypeHierarchyCacheTest.class,
 TypeHierarchyTest.class,
 TypeHierarchyViewPartTest.class,
 TypeRulesTest.class,
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaModelMarker;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
+
+public class ProblemSeverityIndexTest {
+
+	private final IProblemChangedListener fListener= (changedResources, isMarkerChange) -> {
+		// only keeps the index connected
+	};
+
+	private IProject fProject;
+	private IFolder fFolder;
+	private IFile fFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject("ProblemSeverityIndexTest");
+		fProject.create(null);
+		fProject.open(null);
+		fFolder= fProject.getFolder("folder");
+		fFolder.create(true, true, null);
+		fFile= fFolder.getFile("A.java");
+		fFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		JavaPlugin.getDefault().getProblemMarkerManager().addListener(fListener);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaPlugin.getDefault().getProblemMarkerManager().removeListener(fListener);
+		fProject.delete(true, true, null);
+	}
+
+	private static ProblemSeverityIndex getIndex() throws InterruptedException {
+		ProblemMarkerManager manager= JavaPlugin.getDefault().getProblemMarkerManager();
+		long end= System.currentTimeMillis() + 10000;
+		ProblemSeverityIndex index;
+		while ((index= manager.getSeverityIndex()) == null && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertNotNull("index not built", index);
+		return index;
+	}
+
+	private static IMarker createProblem(IResource resource, int severity, int charStart) throws CoreException {
+		IMarker marker= resource.createMarker(IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		if (charStart != -1) {
+			marker.setAttribute(IMarker.CHAR_START, charStart);
+			marker.setAttribute(IMarker.CHAR_END, charStart + 1);
+		}
+		return marker;
+	}
+
+	@Test
+	public void markersCreatedWhileTheIndexIsBuilt() throws Exception {
+		createProblem(fFile, IMarker.SEVERITY_ERROR, 5);
+		createProblem(fFolder, IMarker.SEVERITY_WARNING, -1);
+
+		ProblemSeverityIndex index= getIndex();
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fFile));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxTreeSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxTreeSeverity(fProject));
+		assertArrayEquals(new int[] { 5 }, index.getPositions(fFile, IMarker.SEVERITY_ERROR));
+	}
+
+	@Test
+	public void addedMarkers() throws Exception {
+		ProblemSeverityIndex index= getIndex();
+		assertEquals(-1, index.getMaxSeverity(fFile));
+		assertEquals(-1, index.getMaxTreeSeverity(fProject));
+
+		createProblem(fFile, IMarker.SEVERITY_WARNING, 20);
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFile));
+		assertEquals(-1, index.getMaxSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxTreeSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxTreeSeverity(fProject));
+
+		createProblem(fFile, IMarker.SEVERITY_ERROR, 30);
+		createProblem(fFile, IMarker.SEVERITY_ERROR, 10);
+		createProblem(fProject, IMarker.SEVERITY_INFO, -1);
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fFile));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxTreeSeverity(fProject));
+		assertEquals(IMarker.SEVERITY_INFO, index.getMaxSeverity(fProject));
+		assertFalse(index.hasBuildPathError(fProject));
+
+		assertArrayEquals(new int[] { 10, 30 }, index.getPositions(fFile, IMarker.SEVERITY_ERROR));
+		assertArrayEquals(new int[] { 20 }, index.getPositions(fFile, IMarker.SEVERITY_WARNING));
+		assertArrayEquals(new int[0], index.getPositions(fFile, IMarker.SEVERITY_INFO));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fFile, 0, 11));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFile, 11, 30));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fFile, 30, 31));
+		assertEquals(-1, index.getMaxSeverity(fFile, 31, 100));
+	}
+
+	@Test
+	public void changedMarkers() throws Exception {
+		ProblemSeverityIndex index= getIndex();
+		IMarker marker= createProblem(fFile, IMarker.SEVERITY_ERROR, 10);
+		createProblem(fFile, IMarker.SEVERITY_WARNING, 20);
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxTreeSeverity(fProject));
+
+		marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFile));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxTreeSeverity(fProject));
+		assertArrayEquals(new int[0], index.getPositions(fFile, IMarker.SEVERITY_ERROR));
+		assertArrayEquals(new int[] { 10 }, index.getPositions(fFile, IMarker.SEVERITY_INFO));
+
+		marker.setAttribute(IMarker.CHAR_START, 40);
+		assertArrayEquals(new int[] { 40 }, index.getPositions(fFile, IMarker.SEVERITY_INFO));
+		assertEquals(-1, index.getMaxSeverity(fFile, 0, 15));
+		assertEquals(IMarker.SEVERITY_INFO, index.getMaxSeverity(fFile, 30, 50));
+	}
+
+	@Test
+	public void removedMarkers() throws Exception {
+		ProblemSeverityIndex index= getIndex();
+		IMarker error= createProblem(fFile, IMarker.SEVERITY_ERROR, 10);
+		IMarker warning= createProblem(fFile, IMarker.SEVERITY_WARNING, 20);
+
+		error.delete();
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFile));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxTreeSeverity(fProject));
+		assertArrayEquals(new int[0], index.getPositions(fFile, IMarker.SEVERITY_ERROR));
+
+		warning.delete();
+		assertEquals(-1, index.getMaxSeverity(fFile));
+		assertEquals(-1, index.getMaxTreeSeverity(fFolder));
+		assertEquals(-1, index.getMaxTreeSeverity(fProject));
+		assertArrayEquals(new int[0], index.getPositions(fFile, IMarker.SEVERITY_WARNING));
+	}
+
+	@Test
+	public void removedResources() throws Exception {
+		ProblemSeverityIndex index= getIndex();
+		createProblem(fFile, IMarker.SEVERITY_ERROR, 10);
+		createProblem(fProject, IMarker.SEVERITY_WARNING, -1);
+
+		fFolder.delete(true, null);
+		assertEquals(-1, index.getMaxSeverity(fFile));
+		assertEquals(-1, index.getMaxTreeSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxTreeSeverity(fProject));
+	}
+
+	@Test
+	public void movedResources() throws Exception {
+		ProblemSeverityIndex index= getIndex();
+		createProblem(fFile, IMarker.SEVERITY_ERROR, 10);
+
+		IFolder moved= fProject.getFolder("moved");
+		fFolder.move(moved.getFullPath(), true, null);
+		IFile movedFile= moved.getFile(fFile.getName());
+		assertTrue(movedFile.exists());
+		assertEquals(-1, index.getMaxTreeSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(movedFile));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxTreeSeverity(moved));
+		assertArrayEquals(new int[] { 10 }, index.getPositions(movedFile, IMarker.SEVERITY_ERROR));
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache.Statistics;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SuperTypeHierarchyCacheTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJavaProject;
+	private IPackageFragment fPackage;
+
+	private int fOldCapacity;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		fPackage= root.createPackageFragment("pack", true, null);
+
+		fOldCapacity= SuperTypeHierarchyCache.getStatistics().getCapacity();
+		SuperTypeHierarchyCache.clear();
+		SuperTypeHierarchyCache.resetStatistics();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SuperTypeHierarchyCache.setCapacity(fOldCapacity);
+		SuperTypeHierarchyCache.clear();
+		JavaProjectHelper.clear(fJavaProject, pts.getDefaultClasspath());
+	}
+
+	private IType createType(String name, String source) throws Exception {
+		ICompilationUnit cu= fPackage.createCompilationUnit(name + ".java", "package pack;\n" + source, true, null);
+		return cu.getType(name);
+	}
+
+	@Test
+	public void hierarchyOfSubtypeIsReused() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public class B extends A {\n}\n");
+
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(b);
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(a));
+
+		Statistics statistics= SuperTypeHierarchyCache.getStatistics();
+		assertEquals(1, statistics.getMisses());
+		assertEquals(1, statistics.getHits());
+		assertEquals(1, statistics.getEntryCount());
+		assertEquals(hierarchy.getAllTypes().length, statistics.getWeight());
+	}
+
+	@Test
+	public void methodOverrideTesterIsCached() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+
+		MethodOverrideTester tester= SuperTypeHierarchyCache.getMethodOverrideTester(a);
+		assertSame(tester, SuperTypeHierarchyCache.getMethodOverrideTester(a));
+		assertSame(SuperTypeHierarchyCache.getTypeHierarchy(a), tester.getTypeHierarchy());
+	}
+
+	@Test
+	public void capacityEvictsLeastRecentlyUsed() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public class B {\n}\n");
+		IType c= createType("C", "public class C {\n}\n");
+
+		int weight= a.newSupertypeHierarchy(null).getAllTypes().length;
+		SuperTypeHierarchyCache.setCapacity(2 * weight);
+
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.getTypeHierarchy(b);
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.getTypeHierarchy(c);
+
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+		assertFalse(SuperTypeHierarchyCache.hasInCache(b));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(c));
+
+		Statistics statistics= SuperTypeHierarchyCache.getStatistics();
+		assertEquals(1, statistics.getEvictions());
+		assertEquals(2, statistics.getEntryCount());
+		assertTrue(statistics.getWeight() <= statistics.getCapacity());
+	}
+
+	@Test
+	public void sharedTypesStayCachedAfterEviction() throws Exception {
+		IType a= createType("A", "public class A {\n}\n");
+		IType b= createType("B", "public class B {\n}\n");
+		IType c= createType("C", "public class C {\n}\n");
+		IType object= fJavaProject.findType("java.lang.Object");
+
+		int weight= a.newSupertypeHierarchy(null).getAllTypes().length;
+		SuperTypeHierarchyCache.setCapacity(2 * weight);
+
+		ITypeHierarchy hierarchyA= SuperTypeHierarchyCache.getTypeHierarchy(a);
+		ITypeHierarchy hierarchyB= SuperTypeHierarchyCache.getTypeHierarchy(b);
+		// java.lang.Object is in both hierarchies, the most recently cached one is used
+		assertSame(hierarchyB, SuperTypeHierarchyCache.getTypeHierarchy(object));
+
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.getTypeHierarchy(c); // evicts the hierarchy of B
+		assertFalse(SuperTypeHierarchyCache.hasInCache(b));
+
+		SuperTypeHierarchyCache.resetStatistics();
+		assertTrue(SuperTypeHierarchyCache.hasInCache(object));
+		assertTrue(SuperTypeHierarchyCache.getTypeHierarchy(object).contains(object));
+		assertSame(hierarchyA, SuperTypeHierarchyCache.getTypeHierarchy(a));
+		assertEquals(0, SuperTypeHierarchyCache.getStatistics().getMisses());
+	}
+}
@@ -300,4 +300,19 @@ public class TypeInfoTest {
 		assertEquals(null, filter.getPackagePattern());
    }
 
+	@Test
+	public void testNamePrefix() {
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(new IJavaElement[] { fJProject1 });
+
+		assertEquals("", new TypeInfoFilter("", scope, 0, null).getNamePrefix());
+		assertEquals("vect", new TypeInfoFilter("vect", scope, 0, null).getNamePrefix());
+		assertEquals("vector", new TypeInfoFilter("vector<", scope, 0, null).getNamePrefix());
+		assertEquals("Ar", new TypeInfoFilter("Ar*List", scope, 0, null).getNamePrefix());
+		assertEquals("", new TypeInfoFilter("?List", scope, 0, null).getNamePrefix());
+		assertEquals("N", new TypeInfoFilter("NPE", scope, 0, null).getNamePrefix());
+		assertEquals("N", new TypeInfoFilter("NuPoEx ", scope, 0, null).getNamePrefix());
+		assertEquals("entry", new TypeInfoFilter("java.util.Map.entry", scope, 0, null).getNamePrefix());
+		assertEquals("", new TypeInfoFilter("java.util.", scope, 0, null).getNamePrefix());
+	}
+
 }
\ No newline at end of file
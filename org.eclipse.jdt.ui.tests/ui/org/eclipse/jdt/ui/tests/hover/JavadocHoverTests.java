@@ -38,6 +38,8 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.IType;
@@ -205,5 +207,48 @@ public class JavadocHoverTests extends CoreTests {
 		}
 	}
 
+	@Test
+	public void testInheritDocAfterSuperTypeChange() throws Exception {
+		String superSource=
+				"package p;\n" +
+				"public class Super {\n" +
+				"	/**\n" +
+				"	 * Original description.\n" +
+				"	 */\n" +
+				"	public void m() {\n" +
+				"	}\n" +
+				"}\n";
+		String subSource=
+				"package p;\n" +
+				"public class Sub extends Super {\n" +
+				"	/**\n" +
+				"	 * {@inheritDoc}\n" +
+				"	 */\n" +
+				"	@Override\n" +
+				"	public void m() {\n" +
+				"	}\n" +
+				"}\n";
+		ICompilationUnit superCu= getWorkingCopy("/TestSetupProject/src/p/Super.java", superSource, null);
+		ICompilationUnit subCu= getWorkingCopy("/TestSetupProject/src/p/Sub.java", subSource, null);
+		IMethod method= subCu.getType("Sub").getMethod("m", new String[0]);
+
+		String actualHtmlContent= getHoverHtml(subCu, method);
+		assertTrue(actualHtmlContent, actualHtmlContent.contains("Original description."));
+		// served from the cache
+		assertEquals(actualHtmlContent, getHoverHtml(subCu, method));
+
+		// the inherited description must not be served from the cache once the super type changed
+		superCu.getBuffer().setContents(superSource.replace("Original", "Changed"));
+		superCu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+		actualHtmlContent= getHoverHtml(subCu, method);
+		assertTrue(actualHtmlContent, actualHtmlContent.contains("Changed description."));
+	}
+
+	private static String getHoverHtml(ICompilationUnit cu, IMember member) throws JavaModelException {
+		ISourceRange range= member.getNameRange();
+		JavadocBrowserInformationControlInput hoverInfo= JavadocHover.getHoverInfo(new IJavaElement[] { member }, cu, new Region(range.getOffset(), range.getLength()), null);
+		return hoverInfo.getHtml();
+	}
+
 }
 
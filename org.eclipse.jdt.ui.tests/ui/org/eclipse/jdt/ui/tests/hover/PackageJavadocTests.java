@@ -16,6 +16,7 @@ package org.eclipse.jdt.ui.tests.hover;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.net.URL;
 
@@ -30,6 +31,8 @@ import org.eclipse.jdt.testplugin.JavaTestPlugin;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.jface.text.Region;
@@ -104,6 +107,40 @@ public class PackageJavadocTests extends CoreTests {
 		assertTrue(actualHtmlContent, actualHtmlContent.contains("This is the test content"));
 	}
 
+	@Test
+	public void testChangedPackageHtml_src() throws Exception {
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(new Path("testresources/PackageJavadocTests/JavadocHover_src.zip"));
+		JavaProjectHelper.addSourceContainerWithImport(fJProject1, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		ICompilationUnit cu= (ICompilationUnit)fJProject1.findElement(new Path("junit/javadochoverhtml/JavaDocHoverTest.java"));
+		assertNotNull("JavaDocHoverTest.java", cu);
+
+		IPackageFragment pack= (IPackageFragment)cu.getParent();
+		String actualHtmlContent= JavadocHover.getHoverInfo(new IJavaElement[] { pack }, cu, new Region(21, 16), null).getHtml();
+		assertTrue(actualHtmlContent, actualHtmlContent.contains("Test package documentation in package.html"));
+
+		// the hover content is cached, a changed package.html must not show the old content
+		IFile packageHtml= ((IFolder)pack.getResource()).getFile("package.html");
+		packageHtml.setContents(new ByteArrayInputStream("<html><body>Changed package documentation</body></html>".getBytes()), true, false, null);
+		actualHtmlContent= JavadocHover.getHoverInfo(new IJavaElement[] { pack }, cu, new Region(21, 16), null).getHtml();
+		assertTrue(actualHtmlContent, actualHtmlContent.contains("Changed package documentation"));
+	}
+
+	@Test
+	public void testChangedPackageInfoJava_src() throws Exception {
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(new Path("testresources/PackageJavadocTests/JavadocHover_src.zip"));
+		JavaProjectHelper.addSourceContainerWithImport(fJProject1, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		ICompilationUnit cu= (ICompilationUnit)fJProject1.findElement(new Path("junit/javadochover/Activator.java"));
+		assertNotNull("Activator.java", cu);
+
+		IPackageFragment pack= (IPackageFragment)cu.getParent();
+		String actualHtmlContent= JavadocHover.getHoverInfo(new IJavaElement[] { pack }, cu, new Region(21, 12), null).getHtml();
+		assertTrue(actualHtmlContent, actualHtmlContent.contains("This is the test content"));
+
+		pack.createCompilationUnit("package-info.java", "/**\n * Changed package documentation.\n */\npackage " + pack.getElementName() + ";\n", true, null);
+		actualHtmlContent= JavadocHover.getHoverInfo(new IJavaElement[] { pack }, cu, new Region(21, 12), null).getHtml();
+		assertTrue(actualHtmlContent, actualHtmlContent.contains("Changed package documentation."));
+	}
+
 	@Test
 	public void testGetDocFromPackageHtml_archive() throws Exception {
 		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(new Path("testresources/PackageJavadocTests/JavadocHover_src.zip"));
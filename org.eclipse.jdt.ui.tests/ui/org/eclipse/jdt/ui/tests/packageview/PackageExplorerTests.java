@@ -29,7 +29,8 @@ import org.junit.runners.Suite;
 	PackageExplorerShowInTests.class,
 	WorkingSetDropAdapterTest.class,
 	HierarchicalContentProviderTests.class,
-	PackageCacheTest.class
+	PackageCacheTest.class,
+	PackageExplorerUpdatesTest.class
 })
 public class PackageExplorerTests {
 }
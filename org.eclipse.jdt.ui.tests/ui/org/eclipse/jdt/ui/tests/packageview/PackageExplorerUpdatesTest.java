@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.viewers.IBasicPropertyConstants;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerUpdates;
+
+/**
+ * Tests for {@link PackageExplorerUpdates#coalesce(TreeViewer, java.util.Collection)}.
+ */
+public class PackageExplorerUpdatesTest {
+
+	private static final String ROOT= "root";
+	private static final String PARENT= "parent";
+	private static final String X= "x";
+
+	private Shell fShell;
+	private TreeViewer fViewer;
+	private Map<Object, List<Object>> fChildren;
+
+	private class ContentProvider implements ITreeContentProvider {
+		@Override
+		public Object[] getElements(Object inputElement) {
+			return getChildren(inputElement);
+		}
+
+		@Override
+		public Object[] getChildren(Object parentElement) {
+			List<Object> children= fChildren.get(parentElement);
+			return children != null ? children.toArray() : new Object[0];
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			for (Map.Entry<Object, List<Object>> entry : fChildren.entrySet()) {
+				if (entry.getValue().contains(element))
+					return entry.getKey();
+			}
+			return null;
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return getChildren(element).length > 0;
+		}
+	}
+
+	@Before
+	public void setUp() {
+		fChildren= new HashMap<>();
+		List<Object> children= new ArrayList<>();
+		// many children before x, so that x is not visible while parent is
+		for (int i= 0; i < 200; i++) {
+			children.add("child" + i);
+		}
+		children.add(X);
+		fChildren.put(ROOT, new ArrayList<>(Arrays.asList(PARENT)));
+		fChildren.put(PARENT, children);
+
+		fShell= new Shell(Display.getDefault());
+		fShell.setSize(200, 100);
+		fViewer= new TreeViewer(fShell, SWT.NONE);
+		fViewer.getTree().setSize(200, 100);
+		fViewer.setContentProvider(new ContentProvider());
+		fViewer.setLabelProvider(new LabelProvider());
+		fViewer.setInput(ROOT);
+		fViewer.expandToLevel(PARENT, 1);
+		fShell.open();
+	}
+
+	@After
+	public void tearDown() {
+		fShell.dispose();
+	}
+
+	private void run(Runnable... updates) {
+		for (Runnable runnable : PackageExplorerUpdates.coalesce(fViewer, Arrays.asList(updates))) {
+			runnable.run();
+		}
+	}
+
+	private int countItems(Object element) {
+		return fViewer.testFindItems(element).length;
+	}
+
+	@Test
+	public void removeThenAdd() {
+		// x is moved away and back, it must stay in the tree
+		run(new PackageExplorerUpdates.Remove(fViewer, X), new PackageExplorerUpdates.Add(fViewer, PARENT, X));
+		assertEquals(1, countItems(X));
+	}
+
+	@Test
+	public void addThenRemove() {
+		fChildren.get(PARENT).remove(X);
+		fViewer.refresh(PARENT);
+		assertEquals(0, countItems(X));
+
+		run(new PackageExplorerUpdates.Add(fViewer, PARENT, X), new PackageExplorerUpdates.Remove(fViewer, X));
+		assertEquals(0, countItems(X));
+	}
+
+	@Test
+	public void removeThenRefresh() {
+		fChildren.get(PARENT).remove(X);
+		run(new PackageExplorerUpdates.Remove(fViewer, X), new PackageExplorerUpdates.Refresh(fViewer, X, true),
+				new PackageExplorerUpdates.Refresh(fViewer, PARENT, false));
+		assertEquals(0, countItems(X));
+	}
+
+	@Test
+	public void addThenRefresh() {
+		String y= "y";
+		fChildren.get(PARENT).add(0, y);
+		run(new PackageExplorerUpdates.Add(fViewer, PARENT, y), new PackageExplorerUpdates.Refresh(fViewer, y, true));
+		assertEquals(1, countItems(y));
+	}
+
+	@Test
+	public void coveredUpdatesAreDropped() {
+		PackageExplorerUpdates.Refresh refresh= new PackageExplorerUpdates.Refresh(fViewer, PARENT, true);
+		List<Runnable> updates= PackageExplorerUpdates.coalesce(fViewer, Arrays.asList(
+				refresh,
+				new PackageExplorerUpdates.Refresh(fViewer, PARENT, true),
+				new PackageExplorerUpdates.Update(fViewer, X, new String[] { IBasicPropertyConstants.P_IMAGE })));
+		assertEquals(1, updates.size());
+		assertSame(refresh, updates.get(0));
+	}
+
+	@Test
+	public void otherRunnablesKeepTheirPlace() {
+		Runnable other= () -> { /* not an update */ };
+		List<Runnable> updates= PackageExplorerUpdates.coalesce(fViewer, Arrays.asList(
+				new PackageExplorerUpdates.Remove(fViewer, X),
+				other,
+				new PackageExplorerUpdates.Add(fViewer, PARENT, X)));
+		assertEquals(3, updates.size());
+		assertSame(other, updates.get(1));
+		assertTrue(updates.get(0) instanceof PackageExplorerUpdates.Remove);
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests that the parallel execution mode of {@link CleanUpRefactoring} produces the same result
+ * as the sequential one. The projects of a clean up are processed one after the other, only the
+ * batches of one project are parsed in parallel. Hence the test creates one compilation unit more
+ * than fit into a batch, all in the same project.
+ */
+public class CleanUpParallelTest extends CleanUpTestCase {
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	@Override
+	protected IJavaProject getProject() {
+		return projectSetup.getProject();
+	}
+
+	@Override
+	protected IClasspathEntry[] getDefaultClasspath() throws CoreException {
+		return projectSetup.getDefaultClasspath();
+	}
+
+	@Test
+	public void parallelExecutionEqualsSequentialExecution() throws Exception {
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS_OVERRIDE);
+
+		List<ICompilationUnit> cus= new ArrayList<>();
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		for (int i= 0; i <= ASTBatchParser.getMaxBatchSize(); i++) {
+			String sample= "" //
+					+ "package test1;\n" //
+					+ "public class E" + i + " {\n" //
+					+ "    public int foo(boolean b) {\n" //
+					+ "        if (b)\n" //
+					+ "            return " + i + ";\n" //
+					+ "        for (int j= 0; j < " + i + "; j++)\n" //
+					+ "            b= !b;\n" //
+					+ "        return -1;\n" //
+					+ "    }\n" //
+					+ "    public String toString() {\n" //
+					+ "        return \"E" + i + "\";\n" //
+					+ "    }\n" //
+					+ "}\n";
+			cus.add(pack1.createCompilationUnit("E" + i + ".java", sample, false, null));
+		}
+		ICompilationUnit[] units= cus.toArray(new ICompilationUnit[cus.size()]);
+		assertEquals(2, ASTBatchParser.splitIntoBatches(units).length);
+		String[] original= getContents(units);
+
+		String[] sequential= cleanUp(units, false);
+		assertFalse(Arrays.equals(original, sequential));
+
+		for (int i= 0; i < units.length; i++) {
+			IPackageFragment pack= (IPackageFragment) units[i].getParent();
+			units[i]= pack.createCompilationUnit(units[i].getElementName(), original[i], true, null);
+		}
+		String[] parallel= cleanUp(units, true);
+		assertArrayEquals(sequential, parallel);
+	}
+
+	private String[] cleanUp(ICompilationUnit[] units, boolean parallel) throws CoreException {
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelExecution(parallel);
+		performRefactoring(ref, units, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+		return getContents(units);
+	}
+
+	private static String[] getContents(ICompilationUnit[] units) throws CoreException {
+		String[] contents= new String[units.length];
+		for (int i= 0; i < units.length; i++) {
+			contents[i]= units[i].getBuffer().getContents();
+		}
+		return contents;
+	}
+}
@@ -46,6 +46,7 @@ import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.MultiFixTarget;
 import org.eclipse.jdt.internal.corext.fix.FixMessages;
 
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
@@ -59,6 +60,7 @@ import org.eclipse.jdt.internal.ui.fix.Java50CleanUp;
 import org.eclipse.jdt.internal.ui.fix.MultiFixMessages;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.text.correction.CorrectionMarkerResolutionGenerator;
+import org.eclipse.jdt.internal.ui.text.correction.CorrectionMarkerResolutionGenerator.CorrectionMarkerResolution;
 
 /**
  * Tests the cleanup features related to Java 5 (i.e. Tiger).
@@ -4330,6 +4332,51 @@ public class CleanUpTest1d5 extends CleanUpTestCase {
 
 	}
 
+	@Test
+	public void testOverrideMultiFixTargets() throws Exception {
+		Hashtable<String, String> opts= JavaCore.getOptions();
+		opts.put(JavaCore.COMPILER_PB_MISSING_OVERRIDE_ANNOTATION, JavaCore.ERROR);
+		JavaCore.setOptions(opts);
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String sample= "" //
+				+ "package test1;\n" //
+				+ "public class E1 extends MyAbstract {\n" //
+				+ "    public void run() {};\n" //
+				+ "    public int compareTo(String o) { return -1; };\n" //
+				+ "}\n";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", sample, false, null);
+		sample= "" //
+				+ "package test1;\n" //
+				+ "public class E2 extends MyAbstract {\n" //
+				+ "    public void run() {};\n" //
+				+ "}\n";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", sample, false, null);
+		sample= "" //
+				+ "package test1;\n" //
+				+ "public abstract class MyAbstract {\n" //
+				+ "    public void run();\n" //
+				+ "    public int compareTo(String o);\n" //
+				+ "}";
+		pack1.createCompilationUnit("MyAbstract.java", sample, false, null);
+
+		cu1.getJavaProject().getProject().build(IncrementalProjectBuilder.FULL_BUILD, null);
+
+		IMarker[] markers1= cu1.getResource().findMarkers(null, true, IResource.DEPTH_INFINITE);
+		IMarker[] markers2= cu2.getResource().findMarkers(null, true, IResource.DEPTH_INFINITE);
+		assertEquals(2, markers1.length);
+		assertEquals(1, markers2.length);
+
+		// the markers of a compilation unit end up in one target, whatever their order
+		IMarker[] markers= { markers1[0], markers2[0], markers1[1] };
+		MultiFixTarget[] targets= CorrectionMarkerResolution.getCleanUpTargets(markers, new NullProgressMonitor());
+		assertEquals(2, targets.length);
+		assertEquals(cu1, targets[0].getCompilationUnit());
+		assertEquals(2, targets[0].getProblems().length);
+		assertEquals(cu2, targets[1].getCompilationUnit());
+		assertEquals(1, targets[1].getProblems().length);
+	}
+
 	@Test
 	public void testRemoveThisBug536138() throws Exception {
 		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
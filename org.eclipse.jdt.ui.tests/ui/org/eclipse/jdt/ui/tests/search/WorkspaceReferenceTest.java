@@ -14,12 +14,26 @@
 package org.eclipse.jdt.ui.tests.search;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.text.Match;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+
+import org.eclipse.jdt.ui.search.ElementQuerySpecification;
 import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
 
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
 /**
  */
 public class WorkspaceReferenceTest {
@@ -36,4 +50,36 @@ public class WorkspaceReferenceTest {
 	public void testFindOverridden() throws Exception {
 		assertEquals(6, SearchTestHelper.countMethodRefs("junit.framework.TestCase", "countTestCases", new String[0]));
 	}
+
+	@Test
+	public void testMatchLimit() throws Exception {
+		IMethod method= SearchTestHelper.getMethod("junit.framework.Test", "countTestCases", new String[0]);
+		JavaSearchQuery query= new JavaSearchQuery(new ElementQuerySpecification(method, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		query.setMatchLimit(4);
+		IStatus status= NewSearchUI.runQueryInForeground(null, query);
+		assertEquals(IStatus.INFO, status.getSeverity());
+		assertEquals(4, ((JavaSearchResult) query.getSearchResult()).getMatchCount());
+	}
+
+	@Test
+	public void testStoredMatches() throws Exception {
+		JavaSearchQuery query= SearchTestHelper.runMethodRefQuery("junit.framework.Test", "countTestCases", new String[0]);
+		JavaSearchResult result= (JavaSearchResult) query.getSearchResult();
+		assertEquals(9, result.getMatchCount());
+		int count= 0;
+		Match removed= null;
+		for (Object element : result.getElements()) {
+			Match[] matches= result.getMatches(element);
+			assertEquals(result.getMatchCount(element), matches.length);
+			Match[] again= result.getMatches(element);
+			for (int i= 0; i < matches.length; i++) {
+				assertSame(matches[i], again[i]);
+			}
+			count+= matches.length;
+			removed= matches[0];
+		}
+		assertEquals(9, count);
+		result.removeMatch(removed);
+		assertEquals(8, result.getMatchCount());
+	}
 }
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.views;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompilerHelper;
+import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
+import org.eclipse.jdt.bcoview.preferences.BCOConstants;
+
+/**
+ * Tests for the cache of decompiled classes in {@link DecompilerHelper}.
+ */
+public class DecompilerHelperTest {
+
+	private static final String BYTECODE_OUTLINE_VIEW= "org.eclipse.jdt.bcoview.views.BytecodeOutlineView";
+
+	private byte[] fBytes;
+
+	@Before
+	public void setUp() throws Exception {
+		DecompilerHelper.clearCache();
+		fBytes= readClass(DecompilerHelperTest.class);
+	}
+
+	@After
+	public void tearDown() {
+		DecompilerHelper.clearCache();
+	}
+
+	private static byte[] readClass(Class<?> clazz) throws IOException {
+		try (InputStream stream= clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+			assertNotNull(stream);
+			return stream.readAllBytes();
+		}
+	}
+
+	private static DecompilerOptions createOptions(String methodFilter, int... modes) {
+		BitSet bits= new BitSet();
+		for (int mode : modes) {
+			bits.set(mode);
+		}
+		return new DecompilerOptions(null, methodFilter, bits);
+	}
+
+	@Test
+	public void sameContentIsCached() {
+		DecompiledClass first= DecompilerHelper.getDecompiledClass(fBytes, createOptions(null, BCOConstants.F_SHOW_LINE_INFO));
+		// equal content in another array and equal options in other instances
+		DecompiledClass second= DecompilerHelper.getDecompiledClass(fBytes.clone(), createOptions(null, BCOConstants.F_SHOW_LINE_INFO));
+		assertSame(first, second);
+	}
+
+	@Test
+	public void differentContentIsNotShared() throws Exception {
+		DecompilerOptions options= createOptions(null);
+		DecompiledClass first= DecompilerHelper.getDecompiledClass(fBytes, options);
+		DecompiledClass second= DecompilerHelper.getDecompiledClass(readClass(SmokeViewsTest.class), options);
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void differentOptionsAreNotShared() {
+		DecompiledClass plain= DecompilerHelper.getDecompiledClass(fBytes, createOptions(null));
+		assertNotSame(plain, DecompilerHelper.getDecompiledClass(fBytes, createOptions(null, BCOConstants.F_SHOW_ASMIFIER_CODE)));
+		assertNotSame(plain, DecompilerHelper.getDecompiledClass(fBytes, createOptions("setUp()V")));
+		assertSame(plain, DecompilerHelper.getDecompiledClass(fBytes, createOptions(null)));
+	}
+
+	@Test
+	public void optionsChangedAfterTheCall() {
+		DecompilerOptions options= createOptions(null);
+		DecompiledClass plain= DecompilerHelper.getDecompiledClass(fBytes, options);
+		options.modes.set(BCOConstants.F_SHOW_RAW_BYTECODE);
+		assertSame(plain, DecompilerHelper.getDecompiledClass(fBytes, createOptions(null)));
+		assertNotSame(plain, DecompilerHelper.getDecompiledClass(fBytes, options));
+	}
+
+	@Test
+	public void clearCache() {
+		DecompiledClass first= DecompilerHelper.getDecompiledClass(fBytes, createOptions(null));
+		DecompilerHelper.clearCache();
+		assertNotSame(first, DecompilerHelper.getDecompiledClass(fBytes, createOptions(null)));
+	}
+
+	@Test
+	public void cacheIsClearedWhenTheLastViewIsClosed() throws Exception {
+		IWorkbenchPage page= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		IViewPart view= page.showView(BYTECODE_OUTLINE_VIEW);
+		DisplayHelper.driveEventQueue(Display.getDefault());
+
+		DecompiledClass first= DecompilerHelper.getDecompiledClass(fBytes, createOptions(null));
+		assertSame(first, DecompilerHelper.getDecompiledClass(fBytes, createOptions(null)));
+
+		page.hideView(view);
+		DisplayHelper.driveEventQueue(Display.getDefault());
+		assertNotSame(first, DecompilerHelper.getDecompiledClass(fBytes, createOptions(null)));
+	}
+}
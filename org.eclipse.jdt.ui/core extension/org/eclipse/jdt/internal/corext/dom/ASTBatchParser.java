@@ -39,6 +39,7 @@ import org.eclipse.jdt.core.dom.IBinding;
 public class ASTBatchParser {
 
 	private static final int MAX_AT_ONCE;
+	private static final int MAX_CONCURRENT_BATCHES;
 	static {
 		long maxMemory= Runtime.getRuntime().maxMemory() / (1 << 20); // in MiB
 
@@ -47,6 +48,9 @@ public class ASTBatchParser {
 		else if (maxMemory >= 1000) MAX_AT_ONCE= 200;
 		else if (maxMemory >=  500) MAX_AT_ONCE= 100;
 		else                        MAX_AT_ONCE=  25;
+
+		int byMemory= (int) Math.max(1, maxMemory / 1000);
+		MAX_CONCURRENT_BATCHES= Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), byMemory));
 	}
 
 	/**
@@ -77,28 +81,67 @@ public class ASTBatchParser {
 		monitor.beginTask("", compilationUnits.length); //$NON-NLS-1$
 		try {
 
-			for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
-				if (units.length <= MAX_AT_ONCE) {
-					createParser(units[0].getJavaProject()).createASTs(units, bindingKeys, requestor, new SubProgressMonitor(monitor, units.length));
-				} else {
-					List<ICompilationUnit> list= Arrays.asList(units);
-					int end= 0;
-					int cursor= 0;
-					while (cursor < units.length) {
-						end= Math.min(end + MAX_AT_ONCE, units.length);
-						List<ICompilationUnit> toParse= list.subList(cursor, end);
-
-						createParser(units[0].getJavaProject()).createASTs(toParse.toArray(new ICompilationUnit[toParse.size()]), bindingKeys, requestor,
-							new SubProgressMonitor(monitor, toParse.size()));
-						cursor= end;
-					}
-				}
+			for (ICompilationUnit[] units : splitIntoBatches(compilationUnits)) {
+				createParser(units[0].getJavaProject()).createASTs(units, bindingKeys, requestor, new SubProgressMonitor(monitor, units.length));
 			}
 		} finally {
 			monitor.done();
 		}
 	}
 
+	/**
+	 * Splits <code>compilationUnits</code> into batches which can be passed to one
+	 * parser each. All compilation units of a batch belong to the same project and
+	 * the batch size is chosen such that it is unlikely that an out of memory
+	 * exception will occur. The order of the compilation units is preserved within
+	 * each project.
+	 *
+	 * @param compilationUnits the compilation units to split
+	 * @return the batches, never empty arrays
+	 * @since 3.30
+	 */
+	public static ICompilationUnit[][] splitIntoBatches(ICompilationUnit[] compilationUnits) {
+		if (compilationUnits.length == 0)
+			return new ICompilationUnit[0][];
+
+		List<ICompilationUnit[]> result= new ArrayList<>();
+		for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
+			if (units.length <= MAX_AT_ONCE) {
+				result.add(units);
+			} else {
+				int cursor= 0;
+				while (cursor < units.length) {
+					int end= Math.min(cursor + MAX_AT_ONCE, units.length);
+					result.add(Arrays.copyOfRange(units, cursor, end));
+					cursor= end;
+				}
+			}
+		}
+		return result.toArray(new ICompilationUnit[result.size()][]);
+	}
+
+	/**
+	 * Returns the maximal number of compilation units in a batch created by
+	 * {@link #splitIntoBatches(ICompilationUnit[])}.
+	 *
+	 * @return the maximal batch size
+	 * @since 3.30
+	 */
+	public static int getMaxBatchSize() {
+		return MAX_AT_ONCE;
+	}
+
+	/**
+	 * Returns the number of batches created by {@link #splitIntoBatches(ICompilationUnit[])}
+	 * which can be parsed at the same time without risking an out of memory exception.
+	 *
+	 * @return the maximal number of batches to parse concurrently, at least 1
+	 * @since 3.30
+	 */
+	public static int getMaxConcurrentBatches() {
+		return MAX_CONCURRENT_BATCHES;
+	}
+
 	/**
 	 * Creates a new parser which can be used to create ASTs
 	 * for compilation units in <code>project</code>
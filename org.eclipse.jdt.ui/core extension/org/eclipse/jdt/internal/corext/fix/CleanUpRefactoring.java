@@ -19,6 +19,11 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -27,6 +32,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -78,6 +84,7 @@ import org.eclipse.jdt.internal.corext.refactoring.changes.MultiStateCompilation
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextEditUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelTasks;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.cleanup.CleanUpContext;
@@ -205,13 +212,21 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private final static class CleanUpRefactoringProgressMonitor extends SubProgressMonitor {
 
 		private double fRealWork;
-		private int fFlushCount;
+		private final AtomicInteger fFlushCount;
 		private final int fSize;
 		private final int fIndex;
 
 		private CleanUpRefactoringProgressMonitor(IProgressMonitor monitor, int ticks, int size, int index) {
+			this(monitor, ticks, size, index, new AtomicInteger());
+		}
+
+		/*
+		 * Monitors sharing the same flush count report a consistent index when
+		 * compilation units are processed concurrently.
+		 */
+		private CleanUpRefactoringProgressMonitor(IProgressMonitor monitor, int ticks, int size, int index, AtomicInteger flushCount) {
 			super(monitor, ticks);
-			fFlushCount= 0;
+			fFlushCount= flushCount;
 			fSize= size;
 			fIndex= index;
 		}
@@ -224,7 +239,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		public void flush() {
 			super.internalWorked(fRealWork);
 			reset();
-			fFlushCount++;
+			fFlushCount.incrementAndGet();
 		}
 
 		public void reset() {
@@ -235,7 +250,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		public void done() {}
 
 		public int getIndex() {
-			return fIndex + fFlushCount;
+			return fIndex + fFlushCount.get();
 		}
 
 		public String getSubTaskMessage(ICompilationUnit source) {
@@ -244,6 +259,56 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * Serializes progress reporting of the workers used by the parallel execution mode.
+	 */
+	private static final class SynchronizedProgressMonitor extends ProgressMonitorWrapper {
+
+		private SynchronizedProgressMonitor(IProgressMonitor monitor) {
+			super(monitor);
+		}
+
+		@Override
+		public synchronized void beginTask(String name, int totalWork) {
+			super.beginTask(name, totalWork);
+		}
+
+		@Override
+		public synchronized void done() {
+			super.done();
+		}
+
+		@Override
+		public synchronized void internalWorked(double work) {
+			super.internalWorked(work);
+		}
+
+		@Override
+		public synchronized boolean isCanceled() {
+			return super.isCanceled();
+		}
+
+		@Override
+		public synchronized void setCanceled(boolean b) {
+			super.setCanceled(b);
+		}
+
+		@Override
+		public synchronized void setTaskName(String name) {
+			super.setTaskName(name);
+		}
+
+		@Override
+		public synchronized void subTask(String name) {
+			super.subTask(name);
+		}
+
+		@Override
+		public synchronized void worked(int work) {
+			super.worked(work);
+		}
+	}
+
 	private static class CleanUpASTRequestor extends ASTRequestor {
 
 		private final List<ParseListElement> fUndoneElements;
@@ -252,13 +317,22 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private final CleanUpRefactoringProgressMonitor fMonitor;
 
 		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
+			this(createParseElementMap(parseList), solutions, monitor);
+		}
+
+		public CleanUpASTRequestor(Hashtable<ICompilationUnit, ParseListElement> parseElementMap, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
 			fSolutions= solutions;
 			fMonitor= monitor;
 			fUndoneElements= new ArrayList<>();
-			fCompilationUnitParseElementMap= new Hashtable<>(parseList.size());
+			fCompilationUnitParseElementMap= parseElementMap;
+		}
+
+		public static Hashtable<ICompilationUnit, ParseListElement> createParseElementMap(List<ParseListElement> parseList) {
+			Hashtable<ICompilationUnit, ParseListElement> result= new Hashtable<>(parseList.size());
 			for (ParseListElement element : parseList) {
-				fCompilationUnitParseElementMap.put(element.getTarget().getCompilationUnit(), element);
+				result.put(element.getTarget().getCompilationUnit(), element);
 			}
+			return result;
 		}
 
 		@Override
@@ -294,6 +368,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return fUndoneElements;
 		}
 
+		public Hashtable<ICompilationUnit, List<CleanUpChange>> getSolutions() {
+			return fSolutions;
+		}
+
 		private ICleanUp[] calculateSolutions(CleanUpContext context, ICleanUp[] cleanUps) {
 			List<ICleanUp>result= new ArrayList<>();
 			CleanUpChange solution;
@@ -359,61 +437,145 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			List<ICompilationUnit> parseList= new ArrayList<>();
 			List<ICompilationUnit> sourceList= new ArrayList<>();
 
-			try {
-				for (ParseListElement element : fParseList) {
-					ICompilationUnit compilationUnit= element.getTarget().getCompilationUnit();
-					if (fSolutions.containsKey(compilationUnit)) {
-						if (fWorkingCopies.containsKey(compilationUnit)) {
-							compilationUnit= fWorkingCopies.get(compilationUnit);
-						} else {
-							compilationUnit= compilationUnit.getWorkingCopy(new WorkingCopyOwner() {}, null);
-							fWorkingCopies.put(compilationUnit.getPrimary(), compilationUnit);
-						}
-						applyChange(compilationUnit, fSolutions.get(compilationUnit.getPrimary()));
-					}
-
-					if (requiresAST(element.getCleanUps())) {
-						parseList.add(compilationUnit);
+			for (ParseListElement element : fParseList) {
+				ICompilationUnit compilationUnit= element.getTarget().getCompilationUnit();
+				if (fSolutions.containsKey(compilationUnit)) {
+					if (fWorkingCopies.containsKey(compilationUnit)) {
+						compilationUnit= fWorkingCopies.get(compilationUnit);
 					} else {
-						sourceList.add(compilationUnit);
+						compilationUnit= compilationUnit.getWorkingCopy(new WorkingCopyOwner() {}, null);
+						fWorkingCopies.put(compilationUnit.getPrimary(), compilationUnit);
 					}
+					applyChange(compilationUnit, fSolutions.get(compilationUnit.getPrimary()));
 				}
 
-				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
+				if (requiresAST(element.getCleanUps())) {
+					parseList.add(compilationUnit);
+				} else {
+					sourceList.add(compilationUnit);
+				}
+			}
+
+			ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
+			ICompilationUnit[][] batches= ASTBatchParser.splitIntoBatches(units);
+			if (fParallelExecution && batches.length > 1) {
+				IProgressMonitor synchronizedMonitor= new SynchronizedProgressMonitor(monitor);
+				AtomicInteger flushCount= new AtomicInteger();
+				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(synchronizedMonitor, sourceList.size(), fSize, fIndex, flushCount);
 				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
-				if (parseList.size() > 0) {
-					ASTBatchParser parser= new ASTBatchParser() {
-						@Override
-						protected ASTParser createParser(IJavaProject project) {
-							ASTParser result= createCleanUpASTParser();
-							result.setProject(project);
-
-							Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-							options.putAll(fCleanUpOptions);
-							result.setCompilerOptions(options);
-							return result;
-						}
-					};
-					try {
-						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
-					} catch (FixCalculationException e) {
-						throw e.getException();
-					}
+
+				List<ParseListElement> undoneElements= parseInParallel(batches, synchronizedMonitor, flushCount);
+				processSources(sourceList, requestor, monitor);
+
+				undoneElements.addAll(requestor.getUndoneElements());
+				fParseList= undoneElements;
+				fIndex= cuMonitor.getIndex();
+				return;
+			}
+
+			CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
+			CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+			if (parseList.size() > 0) {
+				try {
+					createBatchParser().createASTs(units, new String[0], requestor, cuMonitor);
+				} catch (FixCalculationException e) {
+					throw e.getException();
 				}
+			}
+
+			processSources(sourceList, requestor, monitor);
 
-				for (ICompilationUnit cu : sourceList) {
-					monitor.worked(1);
+			fParseList= requestor.getUndoneElements();
+			fIndex= cuMonitor.getIndex();
+		}
+
+		private void processSources(List<ICompilationUnit> sourceList, CleanUpASTRequestor requestor, IProgressMonitor monitor) {
+			for (ICompilationUnit cu : sourceList) {
+				monitor.worked(1);
 
-					requestor.acceptSource(cu);
+				requestor.acceptSource(cu);
 
-					if (monitor.isCanceled())
-						throw new OperationCanceledException();
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+			}
+		}
+
+		private ASTBatchParser createBatchParser() {
+			return new ASTBatchParser() {
+				@Override
+				protected ASTParser createParser(IJavaProject project) {
+					ASTParser result= createCleanUpASTParser();
+					result.setProject(project);
+
+					Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+					options.putAll(fCleanUpOptions);
+					result.setCompilerOptions(options);
+					return result;
 				}
+			};
+		}
 
-				fParseList= requestor.getUndoneElements();
-				fIndex= cuMonitor.getIndex();
+		/*
+		 * Parses and fixes each batch in its own job. Every job collects its solutions
+		 * in a private table, the tables are merged into fSolutions in batch order afterwards.
+		 * Since a compilation unit is contained in exactly one batch the result is the same as
+		 * the one of the sequential execution.
+		 */
+		private List<ParseListElement> parseInParallel(ICompilationUnit[][] batches, IProgressMonitor monitor, AtomicInteger flushCount) throws CoreException {
+			int threads= Math.min(batches.length, ASTBatchParser.getMaxConcurrentBatches());
+			ParallelTasks tasks= new ParallelTasks(getName(), threads);
+			try {
+				Hashtable<ICompilationUnit, ParseListElement> parseElementMap= CleanUpASTRequestor.createParseElementMap(fParseList);
+				List<Future<CleanUpASTRequestor>> futures= new ArrayList<>(batches.length);
+				for (ICompilationUnit[] batch : batches) {
+					CleanUpRefactoringProgressMonitor batchMonitor= new CleanUpRefactoringProgressMonitor(monitor, batch.length, fSize, fIndex, flushCount);
+					futures.add(tasks.submit(() -> {
+						CleanUpASTRequestor requestor= new CleanUpASTRequestor(parseElementMap, new Hashtable<>(batch.length), batchMonitor);
+						createBatchParser().createASTs(batch, new String[0], requestor, batchMonitor);
+						return requestor;
+					}));
+				}
+
+				List<ParseListElement> undoneElements= new ArrayList<>();
+				for (Future<CleanUpASTRequestor> future : futures) {
+					CleanUpASTRequestor requestor= awaitBatch(future, monitor);
+					for (Entry<ICompilationUnit, List<CleanUpChange>> entry : requestor.getSolutions().entrySet()) {
+						List<CleanUpChange> changes= fSolutions.get(entry.getKey());
+						if (changes == null) {
+							fSolutions.put(entry.getKey(), entry.getValue());
+						} else {
+							changes.addAll(entry.getValue());
+						}
+					}
+					undoneElements.addAll(requestor.getUndoneElements());
+				}
+				return undoneElements;
 			} finally {
+				tasks.cancel();
+			}
+		}
+
+		private CleanUpASTRequestor awaitBatch(Future<CleanUpASTRequestor> future, IProgressMonitor monitor) throws CoreException {
+			while (true) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				try {
+					return future.get(100, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					// check for cancellation again
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					Throwable cause= e.getCause();
+					if (cause instanceof FixCalculationException)
+						throw ((FixCalculationException) cause).getException();
+					if (cause instanceof OperationCanceledException)
+						throw (OperationCanceledException) cause;
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+				}
 			}
 		}
 
@@ -501,6 +663,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * Default for the parallel execution mode, see {@link #setParallelExecution(boolean)}.
+	 */
+	private static final boolean PARALLEL_EXECUTION= Boolean.getBoolean("org.eclipse.jdt.ui.cleanup.parallel"); //$NON-NLS-1$
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -508,6 +675,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private final String fName;
 
 	private boolean fUseOptionsFromProfile;
+	private boolean fParallelExecution;
 
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
@@ -518,12 +686,26 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelExecution= PARALLEL_EXECUTION;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Enables or disables the parallel execution mode. If enabled, the compilation units
+	 * of a project are split into memory bounded batches which are parsed and cleaned up
+	 * on a bounded pool of workers. The resulting changes are the same as the ones of the
+	 * sequential execution. Only clean ups which can create fixes for different compilation
+	 * units concurrently must be added if the mode is enabled.
+	 *
+	 * @param enabled <code>true</code> to process batches in parallel
+	 */
+	public void setParallelExecution(boolean enabled) {
+		fParallelExecution= enabled;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -239,6 +239,14 @@ public abstract class History<K, V> {
 	 */
 	protected abstract K getKey(V object);
 
+	/**
+	 * Called whenever the content of the history has changed. The lock of the
+	 * history is held while this method is called. Subclasses may override.
+	 */
+	protected void historyChanged() {
+		// default: do nothing
+	}
+
 	private void rebuildPositions() {
 		fPositions.clear();
 		int pos=0;
@@ -246,6 +254,7 @@ public abstract class History<K, V> {
 			fPositions.put(getKey(element), pos);
 			pos++;
 		}
+		historyChanged();
 	}
 
 	private void load(InputSource inputSource) throws CoreException {
@@ -15,11 +15,16 @@
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.w3c.dom.Element;
 
@@ -165,13 +170,118 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 	}
 
+	/**
+	 * Fetches the time stamps of the types accessed since they were last checked, without a full
+	 * consistency check.
+	 */
+	private static class TimestampJob extends Job {
+		public TimestampJob() {
+			super(CorextMessages.TypeInfoHistory_consistency_check);
+		}
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			OpenTypeHistory history= OpenTypeHistory.getInstance();
+			history.fetchPendingTimestamps(monitor);
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * Immutable view of the history which is read without holding the lock of the history.
+	 * Besides the types, it contains an index of the simple type names, sorted by their
+	 * case-normalized form, so that filters only look at types sharing their name prefix.
+	 */
+	private static final class Snapshot {
+
+		static final Snapshot EMPTY= new Snapshot(new TypeNameMatch[0]);
+
+		/** the types, most recently used first */
+		final TypeNameMatch[] fTypes;
+		final Set<TypeNameMatch> fTypeSet;
+		/** normalized simple names, sorted */
+		private final String[] fSortedNames;
+		/** index into fTypes for each entry of fSortedNames */
+		private final int[] fSortedPositions;
+
+		Snapshot(TypeNameMatch[] types) {
+			fTypes= types;
+			fTypeSet= new HashSet<>(Arrays.asList(types));
+			Integer[] order= new Integer[types.length];
+			String[] names= new String[types.length];
+			for (int i= 0; i < types.length; i++) {
+				order[i]= i;
+				names[i]= normalize(types[i].getSimpleTypeName());
+			}
+			Arrays.sort(order, (i1, i2) -> names[i1].compareTo(names[i2]));
+			fSortedNames= new String[types.length];
+			fSortedPositions= new int[types.length];
+			for (int i= 0; i < order.length; i++) {
+				fSortedNames[i]= names[order[i]];
+				fSortedPositions[i]= order[i];
+			}
+		}
+
+		/**
+		 * Returns the types whose simple name starts with the given prefix, ignoring case.
+		 *
+		 * @param prefix the name prefix
+		 * @return the matching types, most recently used first
+		 */
+		TypeNameMatch[] getTypesWithPrefix(String prefix) {
+			if (prefix.length() == 0)
+				return fTypes;
+			String key= normalize(prefix);
+			int low= 0;
+			int high= fSortedNames.length;
+			while (low < high) {
+				int mid= (low + high) >>> 1;
+				if (fSortedNames[mid].compareTo(key) < 0) {
+					low= mid + 1;
+				} else {
+					high= mid;
+				}
+			}
+			int end= low;
+			while (end < fSortedNames.length && fSortedNames[end].startsWith(key)) {
+				end++;
+			}
+			int[] positions= Arrays.copyOfRange(fSortedPositions, low, end);
+			Arrays.sort(positions);
+			TypeNameMatch[] result= new TypeNameMatch[positions.length];
+			for (int i= 0; i < positions.length; i++) {
+				result[i]= fTypes[positions[i]];
+			}
+			return result;
+		}
+
+		/*
+		 * Case folding which is at least as lenient as String#equalsIgnoreCase and
+		 * Strings#startsWithIgnoreCase, so the index never misses a match.
+		 */
+		private static String normalize(String name) {
+			char[] chars= name.toCharArray();
+			for (int i= 0; i < chars.length; i++) {
+				chars[i]= Character.toLowerCase(Character.toUpperCase(chars[i]));
+			}
+			return new String(chars);
+		}
+	}
+
 	// Needs to be volatile since accesses aren't synchronized.
 	private volatile boolean fNeedsConsistencyCheck;
-	// Map of cached time stamps
+	// Needs to be volatile since reads aren't synchronized. Replaced on every change.
+	private volatile Snapshot fSnapshot= Snapshot.EMPTY;
+	// Map of cached time stamps. Concurrent since the consistency check reads it unsynchronized.
 	private Map<TypeNameMatch, Long> fTimestampMapping;
 
+	// Types accessed without a time stamp, to be fetched by the timestamp job.
+	private final Set<TypeNameMatch> fPendingTimestamps= ConcurrentHashMap.newKeySet();
+	// Serializes the consistency checks, which run without the lock of the history.
+	private final Object fConsistencyCheckLock= new Object();
+
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
+	private final TimestampJob fTimestampJob;
 
 	private static final String FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
 	private static final String NODE_ROOT= "typeInfoHistroy"; //$NON-NLS-1$
@@ -196,7 +306,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	private OpenTypeHistory() {
 		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
-		fTimestampMapping= new HashMap<>();
+		fTimestampMapping= new ConcurrentHashMap<>();
 		fNeedsConsistencyCheck= true;
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
@@ -208,6 +318,9 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=135278
 		// for details.
 		fUpdateJob.setPriority(Job.SHORT);
+		fTimestampJob= new TimestampJob();
+		fTimestampJob.setSystem(true);
+		fTimestampJob.setPriority(Job.SHORT);
 	}
 
 	public void markAsInconsistent() {
@@ -238,18 +351,24 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	@Override
-	public synchronized boolean contains(TypeNameMatch type) {
-		return super.contains(type);
+	public boolean contains(TypeNameMatch type) {
+		return fSnapshot.fTypeSet.contains(type);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fSnapshot.fTypes.length == 0;
 	}
 
 	@Override
 	public synchronized void accessed(TypeNameMatch info) {
+		super.accessed(info);
 		// Fetching the timestamp might not be cheap (remote file system
-		// external Jars. So check if we alreay have one.
+		// external Jars). So leave it to the timestamp job if we don't have one.
 		if (!fTimestampMapping.containsKey(info)) {
-			fTimestampMapping.put(info, getContainerTimestamp(info));
+			fPendingTimestamps.add(info);
+			fTimestampJob.schedule();
 		}
-		super.accessed(info);
 	}
 
 	@Override
@@ -258,34 +377,43 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return (TypeNameMatch)super.remove(info);
 	}
 
-	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+	public void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		replace(old, newMatch, getContainerTimestamp(newMatch));
+	}
+
+	private synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch, long timestamp) {
 		fTimestampMapping.remove(old);
-		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
+		fTimestampMapping.put(newMatch, timestamp);
 		super.remove(old);
 		super.accessed(newMatch);
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
-		Collection<TypeNameMatch> values= getValues();
-		int size= values.size();
-		TypeNameMatch[] result= new TypeNameMatch[size];
-		int i= size - 1;
-		for (TypeNameMatch typeNameMatch : values) {
-			result[i]= typeNameMatch;
-			i--;
-		}
-		return result;
+	public TypeNameMatch[] getTypeInfos() {
+		return fSnapshot.fTypes.clone();
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
-		List<TypeNameMatch> result= new ArrayList<>();
-		for (TypeNameMatch type : getValues()) {
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+		Snapshot snapshot= fSnapshot;
+		TypeNameMatch[] candidates= filter == null ? snapshot.fTypes : snapshot.getTypesWithPrefix(filter.getNamePrefix());
+		List<TypeNameMatch> result= new ArrayList<>(candidates.length);
+		for (TypeNameMatch type : candidates) {
 			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
 				result.add(type);
 		}
-		Collections.reverse(result);
 		return result.toArray(new TypeNameMatch[result.size()]);
+	}
 
+	@Override
+	protected void historyChanged() {
+		Collection<TypeNameMatch> values= getValues();
+		int size= values.size();
+		TypeNameMatch[] types= new TypeNameMatch[size];
+		int i= size - 1;
+		for (TypeNameMatch typeNameMatch : values) {
+			types[i]= typeNameMatch;
+			i--;
+		}
+		fSnapshot= new Snapshot(types);
 	}
 
 	@Override
@@ -293,42 +421,101 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+	private void fetchPendingTimestamps(IProgressMonitor monitor) {
+		for (TypeNameMatch type : fPendingTimestamps) {
+			if (monitor.isCanceled())
+				return;
+			fPendingTimestamps.remove(type);
+			long timestamp= getContainerTimestamp(type);
+			synchronized (this) {
+				// the consistency check may have set a time stamp meanwhile
+				if (!fTimestampMapping.containsKey(type))
+					updateTimestamp(type, timestamp);
+			}
+		}
+	}
+
+	/*
+	 * Does not hold the lock of the history: the file system and the Java model are only accessed
+	 * while the lock is not held, so readers of the history are never blocked by slow file systems.
+	 * Concurrent checks, from the update job and from checkConsistency() after its join was
+	 * cancelled, are serialized by a separate lock.
+	 * The types are checked grouped by package fragment root, and every container (compilation
+	 * unit or archive) is asked for its time stamp only once.
+	 */
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+		synchronized (fConsistencyCheckLock) {
+			doCheckConsistency(monitor);
+		}
+	}
+
+	private void doCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
 		// Setting fNeedsConsistencyCheck is necessary here since
 		// markAsInconsistent isn't synchronized.
 		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
+		TypeNameMatch[] typesToCheck= fSnapshot.fTypes;
+		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.length);
 		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
+		Map<IPackageFragmentRoot, List<TypeNameMatch>> typesByRoot= new LinkedHashMap<>();
 		for (TypeNameMatch type : typesToCheck) {
-			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
-				continue;
-			try {
-				IType jType= type.getType();
-				if (jType == null || !jType.exists()) {
-					remove(type);
-				} else {
-					// copy over the modifiers since they may have changed
-					int modifiers= jType.getFlags();
-					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+			typesByRoot.computeIfAbsent(type.getPackageFragmentRoot(), root -> new ArrayList<>()).add(type);
+		}
+		Map<Object, Long> containerTimestamps= new HashMap<>();
+		for (Entry<IPackageFragmentRoot, List<TypeNameMatch>> entry : typesByRoot.entrySet()) {
+			IPackageFragmentRoot root= entry.getKey();
+			boolean rootExists= root != null && root.exists();
+			for (TypeNameMatch type : entry.getValue()) {
+				long currentTimestamp= rootExists ? getContainerTimestamp(type, containerTimestamps) : IResource.NULL_STAMP;
+				Long lastTested= fTimestampMapping.get(type);
+				if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
+					continue;
+				try {
+					IType jType= type.getType();
+					if (jType == null || !jType.exists()) {
+						remove(type);
 					} else {
-						fTimestampMapping.put(type, currentTimestamp);
+						// copy over the modifiers since they may have changed
+						int modifiers= jType.getFlags();
+						if (modifiers != type.getModifiers()) {
+							replaceIfContained(type, SearchEngine.createTypeNameMatch(jType, modifiers), currentTimestamp);
+						} else {
+							updateTimestamp(type, currentTimestamp);
+						}
 					}
+				} catch (JavaModelException e) {
+					remove(type);
 				}
-			} catch (JavaModelException e) {
-				remove(type);
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				monitor.worked(1);
 			}
-			if (monitor.isCanceled())
-				throw new OperationCanceledException();
-			monitor.worked(1);
 		}
 		monitor.done();
 		fNeedsConsistencyCheck= false;
 	}
 
+	private synchronized void replaceIfContained(TypeNameMatch old, TypeNameMatch newMatch, long timestamp) {
+		// the type may have been removed while it was checked
+		if (super.contains(old))
+			replace(old, newMatch, timestamp);
+	}
+
+	private synchronized void updateTimestamp(TypeNameMatch type, long timestamp) {
+		if (super.contains(type))
+			fTimestampMapping.put(type, timestamp);
+	}
+
+	private long getContainerTimestamp(TypeNameMatch match, Map<Object, Long> containerTimestamps) {
+		IResource resource= match.getType().getResource();
+		Object container= resource != null ? resource : match.getPackageFragmentRoot();
+		Long timestamp= containerTimestamps.get(container);
+		if (timestamp == null) {
+			timestamp= Long.valueOf(getContainerTimestamp(match));
+			containerTimestamps.put(container, timestamp);
+		}
+		return timestamp.longValue();
+	}
+
 	private long getContainerTimestamp(TypeNameMatch match) {
 		try {
 			IType type= match.getType();
@@ -226,6 +226,31 @@ public class TypeInfoFilter {
 		return fNameMatcher.getPattern();
 	}
 
+	/**
+	 * Returns a prefix which the simple name of every type matched by this filter starts with,
+	 * ignoring case. Camel case patterns only guarantee the first character.
+	 *
+	 * @return the prefix of all matched simple type names, can be empty
+	 */
+	public String getNamePrefix() {
+		String pattern= fNameMatcher.getPattern();
+		if (fText.length() == 0 || pattern.length() == 0)
+			return ""; //$NON-NLS-1$
+		switch (fNameMatcher.getMatchKind()) {
+			case SearchPattern.R_EXACT_MATCH:
+			case SearchPattern.R_PREFIX_MATCH:
+				return pattern;
+			case SearchPattern.R_PATTERN_MATCH:
+				int end= 0;
+				while (end < pattern.length() && pattern.charAt(end) != '*' && pattern.charAt(end) != '?') {
+					end++;
+				}
+				return pattern.substring(0, end);
+			default:
+				return pattern.substring(0, 1);
+		}
+	}
+
 	public int getSearchFlags() {
 		return fNameMatcher.getMatchKind();
 	}
@@ -123,7 +123,9 @@ import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.folding.JavaFoldingStructureProviderRegistry;
 import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaEditorTextHoverDescriptor;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchySnapshots;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImagesOnFileSystemRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
@@ -202,6 +204,12 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	private static final String TYPEFILTER_MIGRATED= "typefilter_migrated_2"; //$NON-NLS-1$
 
+	/**
+	 * The file in the state location storing the content assist history.
+	 * @since 3.30
+	 */
+	private static final String CONTENT_ASSIST_HISTORY_FILE= "content_assist_history.dat"; //$NON-NLS-1$
+
 	/**
 	 * @deprecated to avoid deprecation warning
 	 */
@@ -504,7 +512,9 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			}
 
 			if (fContentAssistHistory != null) {
-				ContentAssistHistory.store(fContentAssistHistory, getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				ContentAssistHistory.store(fContentAssistHistory, getStateLocation().append(CONTENT_ASSIST_HISTORY_FILE).toFile());
+				// the history used to be stored in the preferences, drop it once migrated
+				getPluginPreferences().setToDefault(PreferenceConstants.CODEASSIST_LRU_HISTORY);
 				fContentAssistHistory= null;
 			}
 
@@ -551,6 +561,10 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 			OpenTypeHistory.shutdown();
 
+			TypeHierarchySnapshots.shutdown();
+
+			JavadocContentCache.shutdown();
+
 			JavaManipulation.setPreferenceNodeId(null);
 		} finally {
 			super.stop(context);
@@ -1015,7 +1029,9 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	public ContentAssistHistory getContentAssistHistory() {
 		if (fContentAssistHistory == null) {
 			try {
-				fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
+				fContentAssistHistory= ContentAssistHistory.load(getStateLocation().append(CONTENT_ASSIST_HISTORY_FILE).toFile());
+				if (fContentAssistHistory == null)
+					fContentAssistHistory= ContentAssistHistory.load(getPluginPreferences(), PreferenceConstants.CODEASSIST_LRU_HISTORY);
 			} catch (CoreException x) {
 				log(x);
 			}
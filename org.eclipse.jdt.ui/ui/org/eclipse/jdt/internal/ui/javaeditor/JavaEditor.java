@@ -239,6 +239,7 @@ import org.eclipse.jdt.internal.ui.text.JavaWordIterator;
 import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaExpandHover;
 import org.eclipse.jdt.internal.ui.text.java.hover.SourceViewerInformationControl;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
 import org.eclipse.jdt.internal.ui.util.ElementValidator;
 import org.eclipse.jdt.internal.ui.util.JavaUIHelp;
 import org.eclipse.jdt.internal.ui.viewsupport.ISelectionListenerWithAST;
@@ -2570,6 +2571,8 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 		if (isShowingOverrideIndicators())
 			installOverrideIndicator(false);
+
+		JavadocContentCache.getDefault().prefetchAttachedJavadoc(getInputJavaElement());
 	}
 
 	/*
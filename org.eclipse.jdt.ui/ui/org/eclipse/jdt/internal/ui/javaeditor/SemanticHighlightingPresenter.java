@@ -47,11 +47,82 @@ import org.eclipse.jdt.internal.ui.text.JavaPresentationReconciler;
 public class SemanticHighlightingPresenter extends SemanticHighlightingPresenterCore
 	implements ITextPresentationListener, ITextInputListener, IDocumentListener {
 
+	/**
+	 * The document range which has been changed since the last completed reconcile.
+	 * <p>
+	 * NOTE: Also used from background thread.
+	 * </p>
+	 *
+	 * @since 3.30
+	 */
+	public static final class DirtyRegion {
+
+		/** The offset, or <code>-1</code> if the whole document has to be reconciled */
+		private final int fOffset;
+		/** The length */
+		private final int fLength;
+		/** The number of document changes when this region has been taken */
+		private final int fModificationCount;
+
+		private DirtyRegion(int offset, int length, int modificationCount) {
+			fOffset= offset;
+			fLength= length;
+			fModificationCount= modificationCount;
+		}
+
+		/**
+		 * @return <code>true</code> iff the whole document has to be reconciled
+		 */
+		public boolean isWholeDocument() {
+			return fOffset < 0;
+		}
+
+		/**
+		 * @return the offset of the changed range
+		 */
+		public int getOffset() {
+			return fOffset;
+		}
+
+		/**
+		 * @return the length of the changed range
+		 */
+		public int getLength() {
+			return fLength;
+		}
+	}
+
 	/** The source viewer this semantic highlighting reconciler is installed on */
 	private JavaSourceViewer fSourceViewer;
 	/** The background presentation reconciler */
 	private JavaPresentationReconciler fPresentationReconciler;
 
+	/**
+	 * Dirty region lock.
+	 * @since 3.30
+	 */
+	private final Object fDirtyRegionLock= new Object();
+	/**
+	 * <code>true</code> iff the whole document has to be reconciled.
+	 * @since 3.30
+	 */
+	private boolean fIsDocumentDirty= true;
+	/**
+	 * Start of the range changed since the last completed reconcile, <code>-1</code> if there is none.
+	 * @since 3.30
+	 */
+	private int fDirtyStart= -1;
+	/**
+	 * Exclusive end of the range changed since the last completed reconcile.
+	 * @since 3.30
+	 */
+	private int fDirtyEnd= -1;
+	/**
+	 * Number of document changes.
+	 * @since 3.30
+	 */
+	private int fModificationCount;
+
 	/**
 	 * Creates and returns a new highlighted position with the given offset, length and highlighting.
 	 * <p>
@@ -123,6 +194,30 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 		return null;
 	}
 
+	/**
+	 * Adds all current positions which are contained in the given range to the given list.
+	 * <p>
+	 * NOTE: Called from background thread.
+	 * </p>
+	 *
+	 * @param list The list
+	 * @param offset The range offset
+	 * @param length The range length
+	 * @since 3.30
+	 */
+	public void addAllPositions(List<Position> list, int offset, int length) {
+		int end= offset + length;
+		synchronized (fPositionLock) {
+			for (int i= computeIndexAtOffset(fPositions, offset), n= fPositions.size(); i < n; i++) {
+				Position position= fPositions.get(i);
+				if (position.getOffset() >= end)
+					break;
+				if (position.getOffset() + position.getLength() <= end)
+					list.add(position);
+			}
+		}
+	}
+
 	/**
 	 * Create a runnable for updating the presentation.
 	 * <p>
@@ -321,6 +416,7 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 		setCanceled(true);
 		releaseDocument(oldInput);
 		resetState();
+		invalidateDirtyRegion();
 	}
 
 	/*
@@ -344,6 +440,76 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 	 */
 	@Override
 	public void documentChanged(DocumentEvent event) {
+		int offset= event.getOffset();
+		String text= event.getText();
+		int end= offset + (text != null ? text.length() : 0);
+		int eventEnd= offset + event.getLength();
+		synchronized (fDirtyRegionLock) {
+			fModificationCount++;
+			if (fIsDocumentDirty)
+				return;
+			if (fDirtyStart < 0) {
+				fDirtyStart= offset;
+				fDirtyEnd= end;
+			} else {
+				if (fDirtyEnd >= eventEnd)
+					fDirtyEnd+= end - eventEnd;
+				else if (fDirtyEnd > offset)
+					fDirtyEnd= end;
+				fDirtyStart= Math.min(fDirtyStart, offset);
+				fDirtyEnd= Math.max(fDirtyEnd, end);
+			}
+		}
+	}
+
+	/**
+	 * Returns the document range which has been changed since the last completed reconcile.
+	 * <p>
+	 * NOTE: Called from background thread.
+	 * </p>
+	 *
+	 * @return the dirty region
+	 * @since 3.30
+	 */
+	public DirtyRegion getDirtyRegion() {
+		synchronized (fDirtyRegionLock) {
+			if (fIsDocumentDirty || fDirtyStart < 0)
+				return new DirtyRegion(-1, 0, fModificationCount);
+			return new DirtyRegion(fDirtyStart, fDirtyEnd - fDirtyStart, fModificationCount);
+		}
+	}
+
+	/**
+	 * Marks the given dirty region as reconciled, unless the document has been changed
+	 * since the region has been taken.
+	 * <p>
+	 * NOTE: Also called from background thread.
+	 * </p>
+	 *
+	 * @param dirtyRegion the reconciled dirty region
+	 * @since 3.30
+	 */
+	public void clearDirtyRegion(DirtyRegion dirtyRegion) {
+		synchronized (fDirtyRegionLock) {
+			if (dirtyRegion.fModificationCount == fModificationCount) {
+				fIsDocumentDirty= false;
+				fDirtyStart= -1;
+				fDirtyEnd= -1;
+			}
+		}
+	}
+
+	/**
+	 * Marks the whole document for the next reconcile, e.g. because the highlightings have
+	 * been changed.
+	 *
+	 * @since 3.30
+	 */
+	public void invalidateDirtyRegion() {
+		synchronized (fDirtyRegionLock) {
+			fModificationCount++;
+			fIsDocumentDirty= true;
+		}
 	}
 
 	/**
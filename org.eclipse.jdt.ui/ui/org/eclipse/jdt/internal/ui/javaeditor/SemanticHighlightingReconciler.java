@@ -36,16 +36,21 @@ import org.eclipse.ui.IWorkbenchPartSite;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
 import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.YieldStatement;
@@ -54,6 +59,7 @@ import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.HighlightedPosition;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.Highlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingPresenter.DirtyRegion;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.DeprecatedMemberHighlighting;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.RestrictedIdentifiersHighlighting;
 import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
@@ -372,12 +378,19 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private Highlighting fJobDeprecatedMemberHighlighting;
 
+	/**
+	 * The dirty region taken before the reconciler builds the AST, or <code>null</code>.
+	 * @since 3.30
+	 */
+	private DirtyRegion fDirtyRegion;
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener#aboutToBeReconciled()
 	 */
 	@Override
 	public void aboutToBeReconciled() {
-		// Do nothing
+		SemanticHighlightingPresenter presenter= fPresenter;
+		fDirtyRegion= presenter != null ? presenter.getDirtyRegion() : null;
 	}
 
 	/*
@@ -385,6 +398,22 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	@Override
 	public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+		DirtyRegion dirtyRegion= fDirtyRegion;
+		fDirtyRegion= null;
+		reconciled(ast, forced ? null : dirtyRegion, progressMonitor);
+	}
+
+	/**
+	 * Reconciles the positions of the given AST.
+	 *
+	 * @param ast the AST
+	 * @param dirtyRegion the region changed since the last completed reconcile, taken before
+	 *            the AST has been built, or <code>null</code> if the whole AST has to be
+	 *            reconciled and the AST may not reflect the current document
+	 * @param progressMonitor the progress monitor
+	 * @since 3.30
+	 */
+	private void reconciled(CompilationUnit ast, DirtyRegion dirtyRegion, IProgressMonitor progressMonitor) {
 		// ensure at most one thread can be reconciling at any time
 		synchronized (fReconcileLock) {
 			if (fIsReconciling)
@@ -405,11 +434,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			ASTNode[] subtrees= getAffectedSubtrees(ast, dirtyRegion);
 			if (subtrees.length == 0)
 				return;
 
-			startReconcilingPositions();
+			startReconcilingPositions(subtrees);
 
 			if (!fJobPresenter.isCanceled()) {
 				fJobDeprecatedMemberHighlighting= null;
@@ -427,8 +456,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (!fJobPresenter.isCanceled())
 				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
 
-			if (!fJobPresenter.isCanceled())
-				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+			if (!fJobPresenter.isCanceled()) {
+				if (textPresentation != null)
+					updatePresentation(textPresentation, fAddedPositions, fRemovedPositions, dirtyRegion);
+				else if (dirtyRegion != null && fAddedPositions.isEmpty() && fRemovedPositions.isEmpty())
+					fJobPresenter.clearDirtyRegion(dirtyRegion);
+			}
 
 			stopReconcilingPositions();
 		} finally {
@@ -444,18 +477,53 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 
 	/**
 	 * @param node Root node
+	 * @param dirtyRegion the region changed since the last completed reconcile or <code>null</code>
 	 * @return Array of subtrees that may be affected by past document changes
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
+	private ASTNode[] getAffectedSubtrees(CompilationUnit node, DirtyRegion dirtyRegion) {
+		if (dirtyRegion != null && !dirtyRegion.isWholeDocument()) {
+			Block body= getEnclosingBody(node, dirtyRegion.getOffset(), dirtyRegion.getLength());
+			if (body != null)
+				return new ASTNode[] { body };
+		}
 		return new ASTNode[] { node };
 	}
 
+	/**
+	 * Returns the outermost method or initializer body which strictly encloses the given range.
+	 * Changes inside such a body can't affect the highlighting outside of it: the declarations
+	 * it contains are not visible outside and the signature and Javadoc are not part of it.
+	 *
+	 * @param node Root node
+	 * @param offset the range offset
+	 * @param length the range length
+	 * @return the body or <code>null</code> if the range is not strictly enclosed by a body
+	 * @since 3.30
+	 */
+	private static Block getEnclosingBody(CompilationUnit node, int offset, int length) {
+		Block body= null;
+		for (ASTNode current= NodeFinder.perform(node, offset, length); current != null; current= current.getParent()) {
+			StructuralPropertyDescriptor location= current.getLocationInParent();
+			if (location == MethodDeclaration.BODY_PROPERTY || location == Initializer.BODY_PROPERTY)
+				body= (Block) current;
+		}
+		if (body != null && body.getStartPosition() < offset && offset + length < body.getStartPosition() + body.getLength())
+			return body;
+		return null;
+	}
+
 	/**
 	 * Start reconciling positions.
+	 *
+	 * @param subtrees the AST subtrees
 	 */
-	private void startReconcilingPositions() {
-		fJobPresenter.addAllPositions(fRemovedPositions);
+	private void startReconcilingPositions(ASTNode[] subtrees) {
+		for (ASTNode subtree : subtrees) {
+			if (subtree.getNodeType() == ASTNode.COMPILATION_UNIT)
+				fJobPresenter.addAllPositions(fRemovedPositions);
+			else
+				fJobPresenter.addAllPositions(fRemovedPositions, subtree.getStartPosition(), subtree.getLength());
+		}
 		fNOfRemovedPositions= fRemovedPositions.size();
 	}
 
@@ -465,10 +533,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param subtrees the AST subtrees
 	 */
 	private void reconcilePositions(ASTNode[] subtrees) {
-		// FIXME: remove positions not covered by subtrees
-
-
-
+		// positions not covered by the subtrees have been left out by startReconcilingPositions(ASTNode[])
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
 		List<Position> oldPositions= fRemovedPositions;
@@ -486,8 +551,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param textPresentation the text presentation
 	 * @param addedPositions the added positions
 	 * @param removedPositions the removed positions
+	 * @param dirtyRegion the reconciled dirty region or <code>null</code>
 	 */
-	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions) {
+	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions, DirtyRegion dirtyRegion) {
 		Runnable runnable= fJobPresenter.createUpdateRunnable(textPresentation, addedPositions, removedPositions);
 		if (runnable == null)
 			return;
@@ -508,7 +574,15 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		if (display == null || display.isDisposed())
 			return;
 
-		display.asyncExec(runnable);
+		if (dirtyRegion == null) {
+			display.asyncExec(runnable);
+		} else {
+			SemanticHighlightingPresenter presenter= fJobPresenter;
+			display.asyncExec(() -> {
+				runnable.run();
+				presenter.clearDirtyRegion(dirtyRegion);
+			});
+		}
 	}
 
 	/**
@@ -593,7 +667,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 						if (monitor.isCanceled())
 							return Status.CANCEL_STATUS;
 						CompilationUnit ast= SharedASTProviderCore.getAST(element, SharedASTProviderCore.WAIT_YES, monitor);
-						reconciled(ast, false, monitor);
+						reconciled(ast, null, monitor);
 						synchronized (fJobLock) {
 							// allow the job to be gc'ed
 							if (fJob == this)
@@ -637,6 +711,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @since 3.2
 	 */
 	public void refresh() {
+		SemanticHighlightingPresenter presenter= fPresenter;
+		if (presenter != null)
+			presenter.invalidateDirtyRegion();
 		scheduleJob();
 	}
 }
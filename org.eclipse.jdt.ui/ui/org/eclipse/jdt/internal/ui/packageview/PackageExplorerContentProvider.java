@@ -16,13 +16,11 @@ package org.eclipse.jdt.internal.ui.packageview;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
-import org.eclipse.swt.widgets.TreeItem;
-import org.eclipse.swt.widgets.Widget;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -83,6 +81,12 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	protected static final int GRANT_PARENT= 1 << 1;
 	protected static final int PROJECT= 1 << 2;
 
+	/**
+	 * The time in milliseconds the update job spends on pending updates before it yields the
+	 * display thread and reschedules itself.
+	 */
+	private static final long UPDATE_SLICE_MILLIS= 50;
+
 	private TreeViewer fViewer;
 	private Object fInput;
 	private boolean fIsFlatLayout;
@@ -177,7 +181,7 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 					if (viewer != null && viewer.isBusy()) {
 						schedule(100); // reschedule when viewer is busy: bug 184991
 					} else {
-						runPendingUpdates();
+						runPendingUpdates(UPDATE_SLICE_MILLIS);
 					}
 					return Status.OK_STATUS;
 				}
@@ -191,23 +195,52 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	 * Run all of the runnables that are the widget updates. Must be called in the display thread.
 	 */
 	public void runPendingUpdates() {
+		runPendingUpdates(-1);
+	}
+
+	/**
+	 * Runs the pending widget updates, coalesced and visible items first. If the updates take longer
+	 * than the given time, the remaining ones are left pending and the update job is rescheduled,
+	 * so that the display thread can process events in between. Must be called in the display
+	 * thread.
+	 *
+	 * @param millis the time to spend, or <code>-1</code> to run all updates
+	 */
+	private void runPendingUpdates(long millis) {
 		Collection<Runnable> pendingUpdates;
 		synchronized (this) {
 			pendingUpdates= fPendingUpdates;
 			fPendingUpdates= null;
 		}
-		if (pendingUpdates != null && fViewer != null) {
-			Control control = fViewer.getControl();
-			if (control != null && !control.isDisposed()) {
-				runUpdates(pendingUpdates);
+		if (pendingUpdates == null || fViewer == null)
+			return;
+		Control control= fViewer.getControl();
+		if (control == null || control.isDisposed())
+			return;
+
+		List<Runnable> updates= PackageExplorerUpdates.coalesce(fViewer, pendingUpdates);
+		long deadline= System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+		int count= updates.size();
+		int i= 0;
+		while (i < count) {
+			updates.get(i++).run();
+			if (millis >= 0 && i < count && System.nanoTime() - deadline > 0)
+				break;
+		}
+		if (i < count) {
+			List<Runnable> remaining= new ArrayList<>(updates.subList(i, count));
+			synchronized (this) {
+				if (fPendingUpdates != null)
+					remaining.addAll(fPendingUpdates);
+				fPendingUpdates= remaining;
 			}
+			postAsyncUpdate(control.getDisplay());
 		}
 	}
 
 	private void runUpdates(Collection<Runnable> runnables) {
-		Iterator<Runnable> runnableIterator = runnables.iterator();
-		while (runnableIterator.hasNext()){
-			runnableIterator.next().run();
+		for (Runnable runnable : PackageExplorerUpdates.coalesce(fViewer, runnables)) {
+			runnable.run();
 		}
 	}
 
@@ -837,7 +870,7 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	 * @param runnables the resulting view changes as runnables (type {@link Runnable})
 	 */
 	 private void postUpdateIcon(final IJavaElement element, Collection<Runnable> runnables) {
-		 runnables.add(() -> fViewer.update(element, new String[]{IBasicPropertyConstants.P_IMAGE}));
+		 runnables.add(new PackageExplorerUpdates.Update(fViewer, element, new String[]{IBasicPropertyConstants.P_IMAGE}));
 	 }
 
 	/**
@@ -949,35 +982,17 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	}
 
 	protected void postRefresh(final List<Object> toRefresh, final boolean updateLabels, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Object element : toRefresh.toArray()) {
-				if (element == null || fViewer.testFindItems(element).length > 0) {
-					fViewer.refresh(element, updateLabels);
-				}
-			}
-		});
+		for (Object element : toRefresh) {
+			runnables.add(new PackageExplorerUpdates.Refresh(fViewer, element, updateLabels));
+		}
 	}
 
 	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Widget item : fViewer.testFindItems(element)) {
-				if (item instanceof TreeItem && !item.isDisposed()) {
-					TreeItem parentItem= ((TreeItem) item).getParentItem();
-					if (parentItem != null && !parentItem.isDisposed() && parent.equals(parentItem.getData())) {
-						return; // no add, element already added (most likely by a refresh)
-					}
-				}
-			}
-			fViewer.add(parent, element);
-		});
+		runnables.add(new PackageExplorerUpdates.Add(fViewer, parent, element));
 	}
 
 	protected void postRemove(final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			if (fViewer.testFindItems(element).length > 0) {
-				fViewer.remove(element);
-			}
-		});
+		runnables.add(new PackageExplorerUpdates.Remove(fViewer, element));
 	}
 
 	protected void postProjectStateChanged(final Object root, Collection<Runnable> runnables) {
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.packageview;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+import org.eclipse.jface.viewers.TreeViewer;
+
+/**
+ * The viewer updates posted by the {@link PackageExplorerContentProvider} and their coalescing.
+ * <p>
+ * Refreshes, additions, removals and label updates are posted as the runnables defined here, so
+ * that a batch of updates can be {@link #coalesce(TreeViewer, Collection) coalesced} before it is
+ * run: updates which are covered by the refresh of an ancestor tree item and updates of tree items
+ * which are not realized are dropped, and the refreshes and label updates of visible tree items
+ * are run first. Additions and removals, and all updates of the elements they touch, keep the
+ * order in which they were posted. Other runnables are run in the order they were posted, the
+ * updates between them are only reordered among each other.
+ * </p>
+ */
+public final class PackageExplorerUpdates {
+
+	/**
+	 * An update of the tree items of one element.
+	 */
+	public abstract static class ElementUpdate implements Runnable {
+		final TreeViewer fViewer;
+		final Object fElement;
+
+		ElementUpdate(TreeViewer viewer, Object element) {
+			fViewer= viewer;
+			fElement= element;
+		}
+	}
+
+	/**
+	 * Refreshes the tree items of an element and their subtrees.
+	 */
+	public static final class Refresh extends ElementUpdate {
+		final boolean fUpdateLabels;
+
+		public Refresh(TreeViewer viewer, Object element, boolean updateLabels) {
+			super(viewer, element);
+			fUpdateLabels= updateLabels;
+		}
+
+		@Override
+		public void run() {
+			if (fElement == null || fViewer.testFindItems(fElement).length > 0) {
+				fViewer.refresh(fElement, fUpdateLabels);
+			}
+		}
+	}
+
+	/**
+	 * Adds an element to the tree items of its parent.
+	 */
+	public static final class Add extends ElementUpdate {
+		final Object fParent;
+
+		public Add(TreeViewer viewer, Object parent, Object element) {
+			super(viewer, element);
+			fParent= parent;
+		}
+
+		@Override
+		public void run() {
+			for (Widget item : fViewer.testFindItems(fElement)) {
+				if (item instanceof TreeItem && !item.isDisposed()) {
+					TreeItem parentItem= ((TreeItem) item).getParentItem();
+					if (parentItem != null && !parentItem.isDisposed() && fParent.equals(parentItem.getData())) {
+						return; // no add, element already added (most likely by a refresh)
+					}
+				}
+			}
+			fViewer.add(fParent, fElement);
+		}
+	}
+
+	/**
+	 * Removes the tree items of an element.
+	 */
+	public static final class Remove extends ElementUpdate {
+
+		public Remove(TreeViewer viewer, Object element) {
+			super(viewer, element);
+		}
+
+		@Override
+		public void run() {
+			if (fViewer.testFindItems(fElement).length > 0) {
+				fViewer.remove(fElement);
+			}
+		}
+	}
+
+	/**
+	 * Updates properties of the labels of the tree items of an element.
+	 */
+	public static final class Update extends ElementUpdate {
+		final String[] fProperties;
+
+		public Update(TreeViewer viewer, Object element, String[] properties) {
+			super(viewer, element);
+			fProperties= properties;
+		}
+
+		@Override
+		public void run() {
+			fViewer.update(fElement, fProperties);
+		}
+	}
+
+	private PackageExplorerUpdates() {
+	}
+
+	/**
+	 * Coalesces a batch of updates. Must be called in the display thread.
+	 *
+	 * @param viewer the viewer
+	 * @param runnables the updates and other runnables in the order they were posted
+	 * @return the runnables to run instead
+	 */
+	public static List<Runnable> coalesce(TreeViewer viewer, Collection<Runnable> runnables) {
+		Tree tree= viewer.getTree();
+		Rectangle clientArea= tree.getClientArea();
+		List<Runnable> result= new ArrayList<>(runnables.size());
+		List<ElementUpdate> segment= new ArrayList<>();
+		for (Runnable runnable : runnables) {
+			if (runnable instanceof ElementUpdate) {
+				ElementUpdate update= (ElementUpdate) runnable;
+				if (update.fViewer == viewer) {
+					segment.add(update);
+					continue;
+				}
+			}
+			coalesceSegment(viewer, clientArea, segment, result);
+			segment.clear();
+			result.add(runnable);
+		}
+		coalesceSegment(viewer, clientArea, segment, result);
+		return result;
+	}
+
+	private static void coalesceSegment(TreeViewer viewer, Rectangle clientArea, List<ElementUpdate> segment, List<Runnable> result) {
+		if (segment.isEmpty())
+			return;
+		if (segment.size() == 1) {
+			result.add(segment.get(0));
+			return;
+		}
+
+		// the tree items refreshed by the segment, with and without label update
+		Set<Widget> refreshed= Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<Widget> labelsRefreshed= Collections.newSetFromMap(new IdentityHashMap<>());
+		// the elements added by the segment, their items may not exist yet
+		Set<Object> added= new HashSet<>();
+		// the elements added, removed or added to by the segment, their updates keep their order
+		Set<Object> structural= new HashSet<>();
+		for (ElementUpdate update : segment) {
+			if (update instanceof Refresh) {
+				Widget[] items= findItems(viewer, update.fElement);
+				Collections.addAll(refreshed, items);
+				if (((Refresh) update).fUpdateLabels) {
+					Collections.addAll(labelsRefreshed, items);
+				}
+			} else if (update instanceof Add) {
+				added.add(update.fElement);
+				structural.add(update.fElement);
+				structural.add(((Add) update).fParent);
+			} else if (update instanceof Remove) {
+				structural.add(update.fElement);
+			}
+		}
+
+		// refreshes and label updates of visible items, run first
+		List<ElementUpdate> visible= new ArrayList<>();
+		// all other updates, in the order they were posted
+		List<ElementUpdate> ordered= new ArrayList<>();
+		// the tree items refreshed by the refreshes kept so far, to refresh each item only once
+		Set<Widget> kept= Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<Widget> labelsKept= Collections.newSetFromMap(new IdentityHashMap<>());
+		for (ElementUpdate update : segment) {
+			Widget[] items;
+			boolean covered;
+			if (update instanceof Add) {
+				items= findItems(viewer, ((Add) update).fParent);
+				if (items.length == 0)
+					continue; // the parent is not realized, it will get the element when it is
+				covered= isCovered(items, true, refreshed);
+			} else {
+				items= findItems(viewer, update.fElement);
+				if (items.length == 0) {
+					if (added.contains(update.fElement))
+						ordered.add(update); // can't tell before the addition ran
+					continue;
+				}
+				if (update instanceof Refresh) {
+					boolean updateLabels= ((Refresh) update).fUpdateLabels;
+					List<Widget> itemList= Arrays.asList(items);
+					covered= isCovered(items, false, updateLabels ? labelsRefreshed : refreshed)
+							|| (updateLabels ? labelsKept : kept).containsAll(itemList);
+					if (!covered) {
+						kept.addAll(itemList);
+						if (updateLabels)
+							labelsKept.addAll(itemList);
+					}
+				} else if (update instanceof Update) {
+					covered= isCovered(items, true, labelsRefreshed);
+				} else {
+					covered= isCovered(items, false, refreshed);
+				}
+			}
+			if (!covered) {
+				boolean movable= (update instanceof Refresh || update instanceof Update) && !structural.contains(update.fElement);
+				(movable && isVisible(items, clientArea) ? visible : ordered).add(update);
+			}
+		}
+		result.addAll(visible);
+		result.addAll(ordered);
+	}
+
+	private static Widget[] findItems(TreeViewer viewer, Object element) {
+		if (element == null)
+			return new Widget[] { viewer.getTree() };
+		return viewer.testFindItems(element);
+	}
+
+	/*
+	 * Tells whether each of the items is refreshed along with one of its ancestors.
+	 */
+	private static boolean isCovered(Widget[] items, boolean includeSelf, Set<Widget> refreshed) {
+		if (refreshed.isEmpty())
+			return false;
+		for (Widget item : items) {
+			if (!isCovered(item, includeSelf, refreshed))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean isCovered(Widget item, boolean includeSelf, Set<Widget> refreshed) {
+		if (includeSelf && refreshed.contains(item))
+			return true;
+		if (!(item instanceof TreeItem))
+			return false;
+		TreeItem parent= ((TreeItem) item).getParentItem();
+		Widget ancestor= parent != null ? parent : ((TreeItem) item).getParent();
+		return isCovered(ancestor, true, refreshed);
+	}
+
+	private static boolean isVisible(Widget[] items, Rectangle clientArea) {
+		for (Widget item : items) {
+			if (item instanceof Tree)
+				return true;
+			if (item instanceof TreeItem && !item.isDisposed() && isVisible((TreeItem) item, clientArea))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isVisible(TreeItem item, Rectangle clientArea) {
+		for (TreeItem parent= item.getParentItem(); parent != null; parent= parent.getParentItem()) {
+			if (!parent.getExpanded())
+				return false;
+		}
+		return item.getBounds().intersects(clientArea);
+	}
+}
@@ -92,13 +92,17 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 	private static final Key PREF_CATEGORY_ORDER= getJDTUIKey(PreferenceConstants.CODEASSIST_CATEGORY_ORDER);
 	private static final Key PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC= getJDTCoreKey(JavaCore.TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC);
 	private static final Key PREF_CODEASSIST_NONUITHREAD_COMPUTATION = getJDTUIKey(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION);
+	private static final Key PREF_CODEASSIST_CONCURRENT_COMPUTATION= getJDTUIKey(PreferenceConstants.CODEASSIST_CONCURRENT_COMPUTATION);
+	private static final Key PREF_CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE= getJDTUIKey(PreferenceConstants.CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE);
 
 	private static Key[] getAllKeys() {
 		return new Key[] {
 				PREF_EXCLUDED_CATEGORIES,
 				PREF_CATEGORY_ORDER,
 				PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC,
-				PREF_CODEASSIST_NONUITHREAD_COMPUTATION
+				PREF_CODEASSIST_NONUITHREAD_COMPUTATION,
+				PREF_CODEASSIST_CONCURRENT_COMPUTATION,
+				PREF_CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE
 		};
 	}
 
@@ -397,6 +401,7 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 		createParameterTimeoutControl(composite, columns);
 		createFiller(composite, columns);
 		createNonUIThreadControl(composite, columns);
+		createConcurrentComputationControl(composite, columns);
 
 		updateControls();
 		if (fModel.elements.size() > 0) {
@@ -426,6 +431,32 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 		}
 	}
 
+	private void createConcurrentComputationControl(Composite composite, int columns) {
+		PixelConverter pixelConverter= new PixelConverter(composite);
+		String str= PreferencesMessages.CodeAssistAdvancedConfigurationBlock_concurrentComputation;
+		Button checkbox= addCheckBox(composite, str, PREF_CODEASSIST_CONCURRENT_COMPUTATION, new String[] { Boolean.TRUE.toString(), Boolean.FALSE.toString() }, pixelConverter.convertWidthInCharsToPixels(7));
+		checkbox.setLayoutData(new GridData(GridData.FILL, GridData.FILL, true, false, columns, 1));
+
+		Composite deadlineComposite= new Composite(composite, SWT.NONE);
+		GridLayout layout= new GridLayout(4, false);
+		layout.marginWidth= 0;
+		layout.marginHeight= 0;
+		deadlineComposite.setLayout(layout);
+		GridData gd= new GridData(GridData.FILL, GridData.FILL, true, false, columns, 1);
+		gd.horizontalIndent= pixelConverter.convertWidthInCharsToPixels(3);
+		deadlineComposite.setLayoutData(gd);
+
+		str= PreferencesMessages.CodeAssistAdvancedConfigurationBlock_concurrentComputation_deadline;
+		addTextField(deadlineComposite, str, PREF_CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE, 0, pixelConverter.convertWidthInCharsToPixels(7));
+
+		checkbox.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				setTextFieldEnabled(PREF_CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE, checkbox.getSelection());
+			}
+		});
+	}
+
 	private void createDefaultLabel(Composite composite, int h_span) {
 	    final ICommandService commandSvc= PlatformUI.getWorkbench().getAdapter(ICommandService.class);
 		final Command command= commandSvc.getCommand(ITextEditorActionDefinitionIds.CONTENT_ASSIST_PROPOSALS);
@@ -658,6 +689,7 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 	@Override
 	protected void updateControls() {
 		super.updateControls();
+		setTextFieldEnabled(PREF_CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE, getCheckBox(PREF_CODEASSIST_CONCURRENT_COMPUTATION).getSelection());
 
 		fModel.update();
 		updateCheckedState();
@@ -701,7 +733,7 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 	 */
 	@Override
 	protected void validateSettings(Key changedKey, String oldValue, String newValue) {
-		if (changedKey == PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC) {
+		if (changedKey == PREF_CODEASSIST_TIMEOUT_FOR_PARAMETER_NAME_FROM_ATTACHED_JAVADOC || changedKey == PREF_CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE) {
 			final StatusInfo status= new StatusInfo();
 			if (newValue.length() == 0) {
 				status.setError(PreferencesMessages.CodeAssistAdvancedConfigurationBlock_parameterNameFromAttachedJavadoc_timeout_emptyInput);
@@ -15,45 +15,68 @@ package org.eclipse.jdt.internal.ui.search;
 
 import org.eclipse.search.ui.text.Match;
 
+import org.eclipse.jdt.core.search.SearchMatch;
+
 /**
  * A search match with additional java-specific info.
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
+	/*
+	 * The accuracy and the access kinds are packed into one field, there may be
+	 * hundreds of thousands of matches. The flags are also kept by JavaMatchStore.
+	 */
+	static final int INACCURATE= 1;
+	static final int WRITE_ACCESS= 1 << 1;
+	static final int READ_ACCESS= 1 << 2;
+	static final int JAVADOC= 1 << 3;
+	static final int SUPER_INVOCATION= 1 << 4;
+
 	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
+	private final byte fFlags;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
+		this(element, matchRule, offset, length, toFlags(accuracy, isReadAccess, isWriteAccess, isJavadoc, isSuperInvocation));
+	}
+
+	JavaElementMatch(Object element, int matchRule, int offset, int length, int flags) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
 		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
+		fFlags= (byte) flags;
+	}
+
+	static int toFlags(int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
+		int flags= 0;
+		if (accuracy == SearchMatch.A_INACCURATE)
+			flags|= INACCURATE;
+		if (isWriteAccess)
+			flags|= WRITE_ACCESS;
+		if (isReadAccess)
+			flags|= READ_ACCESS;
+		if (isJavadoc)
+			flags|= JAVADOC;
+		if (isSuperInvocation)
+			flags|= SUPER_INVOCATION;
+		return flags;
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return (fFlags & INACCURATE) != 0 ? SearchMatch.A_INACCURATE : SearchMatch.A_ACCURATE;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fFlags & WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fFlags & READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fFlags & JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fFlags & SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchFilter;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+
+/**
+ * Stores the matches of a Java search compactly, in int arrays per compilation unit. The
+ * {@link JavaElementMatch}es of a compilation unit are only created when the matches of one of
+ * its elements are requested, e.g. when the element is shown in the search view or the unit is
+ * opened in an editor. From then on the same match objects are returned.
+ * <p>
+ * The counts of matches needed to show the elements of the search result are kept per element,
+ * so they don't create matches. The store is not thread safe.
+ * </p>
+ */
+final class JavaMatchStore {
+
+	/*
+	 * Flags of the stored matches in addition to the ones of JavaElementMatch.
+	 */
+	private static final int FILTERED= 1 << 5;
+	private static final int REMOVED= 1 << 6;
+
+	private static final Match[] NO_MATCHES= new Match[0];
+
+	/**
+	 * The matches of one compilation unit, in the order they were added.
+	 */
+	private static final class UnitMatches {
+		int[] fElementIndexes= new int[8];
+		int[] fOffsets= new int[8];
+		int[] fLengths= new int[8];
+		int[] fRules= new int[8];
+		byte[] fFlags= new byte[8];
+		int fSize;
+
+		/** the enclosing elements of the matches, indexed by fElementIndexes */
+		IJavaElement[] fElements= new IJavaElement[2];
+		int fElementCount;
+
+		/** the created matches, <code>null</code> if the matches have not been requested yet */
+		JavaElementMatch[] fMatches;
+
+		void add(int elementIndex, int offset, int length, int rule, int flags) {
+			if (fSize == fOffsets.length) {
+				int capacity= fSize * 2;
+				fElementIndexes= Arrays.copyOf(fElementIndexes, capacity);
+				fOffsets= Arrays.copyOf(fOffsets, capacity);
+				fLengths= Arrays.copyOf(fLengths, capacity);
+				fRules= Arrays.copyOf(fRules, capacity);
+				fFlags= Arrays.copyOf(fFlags, capacity);
+				if (fMatches != null)
+					fMatches= Arrays.copyOf(fMatches, capacity);
+			}
+			fElementIndexes[fSize]= elementIndex;
+			fOffsets[fSize]= offset;
+			fLengths[fSize]= length;
+			fRules[fSize]= rule;
+			fFlags[fSize]= (byte) flags;
+			if (fMatches != null)
+				fMatches[fSize]= createMatch(fSize);
+			fSize++;
+		}
+
+		int addElement(IJavaElement element) {
+			if (fElementCount == fElements.length)
+				fElements= Arrays.copyOf(fElements, fElementCount * 2);
+			fElements[fElementCount]= element;
+			return fElementCount++;
+		}
+
+		JavaElementMatch createMatch(int index) {
+			int flags= fFlags[index];
+			JavaElementMatch match= new JavaElementMatch(fElements[fElementIndexes[index]], fRules[index], fOffsets[index], fLengths[index], flags & ~(FILTERED | REMOVED));
+			match.setFiltered((flags & FILTERED) != 0);
+			return match;
+		}
+
+		void createMatches() {
+			if (fMatches != null)
+				return;
+			fMatches= new JavaElementMatch[fOffsets.length];
+			for (int i= 0; i < fSize; i++) {
+				if ((fFlags[i] & REMOVED) == 0)
+					fMatches[i]= createMatch(i);
+			}
+		}
+	}
+
+	/**
+	 * The counts of the matches of an element.
+	 */
+	private static final class ElementMatches {
+		final UnitMatches fUnit;
+		final int fIndex;
+		int fCount;
+		int fDisplayedCount;
+		int fPotentialCount;
+
+		ElementMatches(UnitMatches unit, int index) {
+			fUnit= unit;
+			fIndex= index;
+		}
+	}
+
+	private final Map<ICompilationUnit, UnitMatches> fUnits= new HashMap<>();
+	private final Map<Object, ElementMatches> fElements= new LinkedHashMap<>();
+	private MatchFilter[] fFilters;
+	private int fMatchCount;
+
+	/**
+	 * Adds a match.
+	 *
+	 * @param element the enclosing element of the match
+	 * @param unit the compilation unit containing the element
+	 * @param matchRule the match rule
+	 * @param offset the offset of the match
+	 * @param length the length of the match
+	 * @param flags the flags of the match, see {@link JavaElementMatch#toFlags}
+	 */
+	void add(IJavaElement element, ICompilationUnit unit, int matchRule, int offset, int length, int flags) {
+		ElementMatches elementMatches= fElements.get(element);
+		if (elementMatches == null) {
+			UnitMatches unitMatches= fUnits.get(unit);
+			if (unitMatches == null) {
+				unitMatches= new UnitMatches();
+				fUnits.put(unit, unitMatches);
+			}
+			elementMatches= new ElementMatches(unitMatches, unitMatches.addElement(element));
+			fElements.put(element, elementMatches);
+		}
+		if (fFilters != null && fFilters.length > 0 && isFiltered(new JavaElementMatch(element, matchRule, offset, length, flags)))
+			flags|= FILTERED;
+		elementMatches.fUnit.add(elementMatches.fIndex, offset, length, matchRule, flags);
+		count(elementMatches, flags, 1);
+		fMatchCount++;
+	}
+
+	private static void count(ElementMatches elementMatches, int flags, int delta) {
+		elementMatches.fCount+= delta;
+		if ((flags & FILTERED) == 0)
+			elementMatches.fDisplayedCount+= delta;
+		if ((flags & JavaElementMatch.INACCURATE) != 0)
+			elementMatches.fPotentialCount+= delta;
+	}
+
+	private boolean isFiltered(Match match) {
+		if (fFilters != null) {
+			for (MatchFilter filter : fFilters) {
+				if (filter.filters(match))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the matches of the given element. Creates the matches of its compilation unit if
+	 * they don't exist yet.
+	 *
+	 * @param element the element
+	 * @return the matches, in the order they were added
+	 */
+	Match[] getMatches(Object element) {
+		ElementMatches elementMatches= fElements.get(element);
+		if (elementMatches == null)
+			return NO_MATCHES;
+		UnitMatches unit= elementMatches.fUnit;
+		unit.createMatches();
+		Match[] result= new Match[elementMatches.fCount];
+		int count= 0;
+		for (int i= 0; i < unit.fSize; i++) {
+			if (unit.fElementIndexes[i] == elementMatches.fIndex && unit.fMatches[i] != null)
+				result[count++]= unit.fMatches[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Removes a match which has been returned by {@link #getMatches(Object)}.
+	 *
+	 * @param match the match
+	 * @return <code>true</code> if the match was in the store
+	 */
+	boolean remove(Match match) {
+		ElementMatches elementMatches= fElements.get(match.getElement());
+		if (elementMatches == null || elementMatches.fUnit.fMatches == null)
+			return false;
+		UnitMatches unit= elementMatches.fUnit;
+		for (int i= 0; i < unit.fSize; i++) {
+			if (unit.fMatches[i] == match) {
+				unit.fMatches[i]= null;
+				count(elementMatches, unit.fFlags[i], -1);
+				unit.fFlags[i]|= REMOVED;
+				fMatchCount--;
+				if (elementMatches.fCount == 0)
+					fElements.remove(match.getElement());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Sets the filters of the search result and updates the filter state of the stored matches.
+	 *
+	 * @param filters the active filters, can be <code>null</code>
+	 * @return the elements whose number of displayed matches has changed
+	 */
+	Object[] setFilters(MatchFilter[] filters) {
+		fFilters= filters;
+		List<Object> changed= new ArrayList<>();
+		for (UnitMatches unit : fUnits.values()) {
+			int[] displayed= new int[unit.fElementCount];
+			for (int i= 0; i < unit.fSize; i++) {
+				int flags= unit.fFlags[i];
+				if ((flags & REMOVED) != 0)
+					continue;
+				Match match= unit.fMatches != null ? unit.fMatches[i] : unit.createMatch(i);
+				boolean filtered= isFiltered(match);
+				match.setFiltered(filtered);
+				unit.fFlags[i]= (byte) (filtered ? flags | FILTERED : flags & ~FILTERED);
+				if (!filtered)
+					displayed[unit.fElementIndexes[i]]++;
+			}
+			for (int index= 0; index < unit.fElementCount; index++) {
+				ElementMatches elementMatches= fElements.get(unit.fElements[index]);
+				if (elementMatches != null && elementMatches.fUnit == unit && elementMatches.fIndex == index && elementMatches.fDisplayedCount != displayed[index]) {
+					elementMatches.fDisplayedCount= displayed[index];
+					changed.add(unit.fElements[index]);
+				}
+			}
+		}
+		return changed.toArray();
+	}
+
+	Object[] getElements() {
+		return fElements.keySet().toArray();
+	}
+
+	boolean isEmpty() {
+		return fElements.isEmpty();
+	}
+
+	int getMatchCount() {
+		return fMatchCount;
+	}
+
+	int getMatchCount(Object element) {
+		ElementMatches elementMatches= fElements.get(element);
+		return elementMatches != null ? elementMatches.fCount : 0;
+	}
+
+	int getDisplayedMatchCount(Object element) {
+		ElementMatches elementMatches= fElements.get(element);
+		return elementMatches != null ? elementMatches.fDisplayedCount : 0;
+	}
+
+	int getPotentialMatchCount(Object element) {
+		ElementMatches elementMatches= fElements.get(element);
+		return elementMatches != null ? elementMatches.fPotentialCount : 0;
+	}
+
+	void clear() {
+		fUnits.clear();
+		fElements.clear();
+		fMatchCount= 0;
+	}
+}
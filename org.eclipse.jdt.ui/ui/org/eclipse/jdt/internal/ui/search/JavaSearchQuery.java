@@ -20,6 +20,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -60,8 +61,14 @@ public class JavaSearchQuery implements ISearchQuery {
 
 	private static final String PERF_SEARCH_PARTICIPANT= "org.eclipse.jdt.ui/perf/search/participants"; //$NON-NLS-1$
 
+	/**
+	 * Default for the match limit, see {@link #setMatchLimit(int)}.
+	 */
+	private static final int MATCH_LIMIT= Integer.getInteger("org.eclipse.jdt.ui.search.matchLimit", -1).intValue(); //$NON-NLS-1$
+
 	private ISearchResult fResult;
 	private final List<QuerySpecification> fPatternDataList;
+	private int fMatchLimit= MATCH_LIMIT;
 
 	public JavaSearchQuery(QuerySpecification data) {
 		if (data == null) {
@@ -78,6 +85,17 @@ public class JavaSearchQuery implements ISearchQuery {
 		fPatternDataList= dataList;
 	}
 
+	/**
+	 * Sets the number of matches after which the search engine is stopped. The matches found up to
+	 * then are kept in the result, query participants are not run in that case. Matches of query
+	 * participants are not counted.
+	 *
+	 * @param limit the number of matches, or <code>-1</code> to find all matches
+	 */
+	public void setMatchLimit(int limit) {
+		fMatchLimit= limit;
+	}
+
 	private static class SearchRequestor implements ISearchRequestor {
 		private IQueryParticipant fParticipant;
 		private JavaSearchResult fSearchResult;
@@ -172,10 +190,17 @@ public class JavaSearchQuery implements ISearchQuery {
 			SubMonitor subMonitor= SubMonitor.convert(monitor, Messages.format(SearchMessages.JavaSearchQuery_task_label, stringPattern), totalTicks);
 
 			boolean ignorePotentials= NewSearchUI.arePotentialMatchesIgnored();
-			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
-
-
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials, fMatchLimit);
+
+			try {
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+			} catch (OperationCanceledException e) {
+				if (!collector.isLimitReached() || subMonitor.isCanceled())
+					throw e;
+				collector.flush();
+				String message= Messages.format(SearchMessages.JavaSearchQuery_status_limit_message, String.valueOf(textResult.getMatchCount()));
+				return new Status(IStatus.INFO, JavaPlugin.getPluginId(), 0, message, null);
+			}
 			for (int i= 0; i < participantDescriptors.length; i++) {
 				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
 				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
@@ -13,8 +13,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -22,19 +28,68 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.resource.ImageDescriptor;
 
 import org.eclipse.search.ui.ISearchQuery;
+import org.eclipse.search.ui.ISearchResult;
+import org.eclipse.search.ui.SearchResultEvent;
 import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
 import org.eclipse.search.ui.text.MatchFilter;
 
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.search.SearchMatch;
+
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.search.IMatchPresentation;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 
+/**
+ * The result of a {@link JavaSearchQuery}.
+ * <p>
+ * Besides the matches added as {@link Match} objects, the result holds the matches of compilation
+ * units which are not open in an editor in a {@link JavaMatchStore}. The match objects of such a
+ * unit are only created when the matches of one of its elements are requested. Since the stored
+ * matches don't exist as objects when they are added, their addition is reported by a
+ * {@link StoredMatchesEvent} instead of a {@link MatchEvent}.
+ * </p>
+ */
 public class JavaSearchResult extends AbstractJavaSearchResult {
 
+	/**
+	 * Reports that stored matches of some elements have been added or that the number of their
+	 * displayed matches has changed.
+	 */
+	public static class StoredMatchesEvent extends SearchResultEvent {
+		private static final long serialVersionUID= 1L;
+
+		private final Object[] fElements;
+
+		StoredMatchesEvent(ISearchResult searchResult, Object[] elements) {
+			super(searchResult);
+			fElements= elements;
+		}
+
+		public Object[] getElements() {
+			return fElements;
+		}
+	}
+
+	private static class StoredMatchEvent extends MatchEvent {
+		private static final long serialVersionUID= 1L;
+
+		StoredMatchEvent(ISearchResult searchResult, int kind, Match[] matches) {
+			super(searchResult);
+			setKind(kind);
+			setMatches(matches);
+		}
+	}
+
+	private static final Comparator<Match> MATCH_COMPARATOR= Comparator.comparingInt(Match::getOffset).thenComparingInt(Match::getLength);
+
 	private final JavaSearchQuery fQuery;
 	private final Map<Object, IMatchPresentation> fElementsToParticipants;
+	private final JavaMatchStore fStore= new JavaMatchStore();
 
 	public JavaSearchResult(JavaSearchQuery query) {
 		fQuery= query;
@@ -63,6 +118,12 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 	public void setActiveMatchFilters(MatchFilter[] filters) {
 		super.setActiveMatchFilters(filters);
 		JavaMatchFilter.setLastUsedFilters(filters);
+		Object[] changed;
+		synchronized (fStore) {
+			changed= fStore.setFilters(filters);
+		}
+		if (changed.length > 0)
+			fireChange(new StoredMatchesEvent(this, changed));
 	}
 
 	@Override
@@ -91,20 +152,162 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 		return true;
 	}
 
+	/**
+	 * Adds a match of a compilation unit to the store of this result. The match object is only
+	 * created when the matches of the element are requested. Listeners are not notified before
+	 * {@link #storedMatchesAdded(Object[])} is called.
+	 *
+	 * @param element the enclosing element of the match
+	 * @param unit the compilation unit containing the element
+	 * @param matchRule the match rule
+	 * @param offset the offset of the match
+	 * @param length the length of the match
+	 * @param flags the flags of the match, see {@link JavaElementMatch#toFlags}
+	 */
+	void addStoredMatch(IJavaElement element, ICompilationUnit unit, int matchRule, int offset, int length, int flags) {
+		synchronized (fStore) {
+			fStore.add(element, unit, matchRule, offset, length, flags);
+		}
+	}
+
+	/**
+	 * Notifies the listeners that stored matches of the given elements have been added.
+	 *
+	 * @param elements the elements
+	 */
+	void storedMatchesAdded(Object[] elements) {
+		if (elements.length > 0)
+			fireChange(new StoredMatchesEvent(this, elements));
+	}
+
+	@Override
+	public Match[] getMatches(Object element) {
+		Match[] matches= super.getMatches(element);
+		Match[] stored;
+		synchronized (fStore) {
+			stored= fStore.getMatches(element);
+		}
+		if (stored.length == 0)
+			return matches;
+		if (matches.length == 0)
+			return stored;
+		Match[] result= Arrays.copyOf(matches, matches.length + stored.length);
+		System.arraycopy(stored, 0, result, matches.length, stored.length);
+		Arrays.sort(result, MATCH_COMPARATOR);
+		return result;
+	}
+
+	@Override
+	public int getMatchCount() {
+		int count= super.getMatchCount();
+		synchronized (fStore) {
+			return count + fStore.getMatchCount();
+		}
+	}
+
+	@Override
+	public int getMatchCount(Object element) {
+		int count= super.getMatchCount(element);
+		synchronized (fStore) {
+			return count + fStore.getMatchCount(element);
+		}
+	}
+
+	@Override
+	public Object[] getElements() {
+		Object[] elements= super.getElements();
+		Object[] stored;
+		synchronized (fStore) {
+			if (fStore.isEmpty())
+				return elements;
+			stored= fStore.getElements();
+		}
+		if (elements.length == 0)
+			return stored;
+		Set<Object> result= new LinkedHashSet<>(Arrays.asList(elements));
+		result.addAll(Arrays.asList(stored));
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the number of matches of the given element which are not filtered, without creating
+	 * the stored matches of the element.
+	 *
+	 * @param element the element
+	 * @return the number of displayed matches
+	 */
+	int getDisplayedMatchCount(Object element) {
+		int count= 0;
+		for (Match match : super.getMatches(element)) {
+			if (!match.isFiltered())
+				count++;
+		}
+		synchronized (fStore) {
+			return count + fStore.getDisplayedMatchCount(element);
+		}
+	}
+
+	/**
+	 * Returns the number of inaccurate matches of the given element, without creating the stored
+	 * matches of the element.
+	 *
+	 * @param element the element
+	 * @return the number of potential matches
+	 */
+	int getPotentialMatchCount(Object element) {
+		int count= 0;
+		for (Match match : super.getMatches(element)) {
+			if (match instanceof JavaElementMatch && ((JavaElementMatch) match).getAccuracy() == SearchMatch.A_INACCURATE)
+				count++;
+		}
+		synchronized (fStore) {
+			return count + fStore.getPotentialMatchCount(element);
+		}
+	}
+
 	@Override
 	public void removeAll() {
 		synchronized(this) {
 			fElementsToParticipants.clear();
 		}
+		synchronized (fStore) {
+			fStore.clear();
+		}
 		super.removeAll();
 	}
 
 	@Override
 	public void removeMatch(Match match) {
+		boolean stored;
+		synchronized (fStore) {
+			stored= fStore.remove(match);
+		}
+		if (stored) {
+			fireChange(new StoredMatchEvent(this, MatchEvent.REMOVED, new Match[] { match }));
+			return;
+		}
 		synchronized(this) {
 			if (getMatchCount(match.getElement()) == 1)
 				fElementsToParticipants.remove(match.getElement());
 		}
 		super.removeMatch(match);
 	}
+
+	@Override
+	public void removeMatches(Match[] matches) {
+		List<Match> removed= new ArrayList<>();
+		List<Match> others= new ArrayList<>();
+		synchronized (fStore) {
+			for (Match match : matches) {
+				if (fStore.remove(match))
+					removed.add(match);
+				else
+					others.add(match);
+			}
+		}
+		if (!removed.isEmpty())
+			fireChange(new StoredMatchEvent(this, MatchEvent.REMOVED, removed.toArray(new Match[removed.size()])));
+		if (!others.isEmpty())
+			super.removeMatches(others.toArray(new Match[others.size()]));
+	}
 }
@@ -13,12 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.dnd.DND;
 import org.eclipse.swt.dnd.Transfer;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.Tree;
@@ -60,6 +64,8 @@ import org.eclipse.ui.part.ResourceTransfer;
 import org.eclipse.ui.texteditor.ITextEditor;
 
 import org.eclipse.search.ui.IContextMenuConstants;
+import org.eclipse.search.ui.ISearchResult;
+import org.eclipse.search.ui.ISearchResultListener;
 import org.eclipse.search.ui.ISearchResultViewPart;
 import org.eclipse.search.ui.NewSearchUI;
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
@@ -161,6 +167,13 @@ public class JavaSearchResultPage extends AbstractTextSearchViewPage implements
 
 	private JavaSearchEditorOpener fEditorOpener= new JavaSearchEditorOpener();
 
+	/** the elements with added stored matches which have not been updated in the viewer yet */
+	private final Set<Object> fStoredElements= new LinkedHashSet<>();
+	private final ISearchResultListener fStoredMatchesListener= e -> {
+		if (e instanceof JavaSearchResult.StoredMatchesEvent)
+			storedMatchesChanged(((JavaSearchResult.StoredMatchesEvent) e).getElements());
+	};
+
 	public JavaSearchResultPage() {
 		fCopyQualifiedNameAction= null;
 
@@ -297,10 +310,60 @@ public class JavaSearchResultPage extends AbstractTextSearchViewPage implements
 
 	@Override
 	public void dispose() {
+		ISearchResult input= getInput();
+		if (input != null)
+			input.removeListener(fStoredMatchesListener);
 		fActionGroup.dispose();
 		super.dispose();
 	}
 
+	@Override
+	public void setInput(ISearchResult newSearch, Object viewState) {
+		ISearchResult oldSearch= getInput();
+		if (oldSearch != null)
+			oldSearch.removeListener(fStoredMatchesListener);
+		synchronized (fStoredElements) {
+			fStoredElements.clear();
+		}
+		super.setInput(newSearch, viewState);
+		if (newSearch != null)
+			newSearch.addListener(fStoredMatchesListener);
+	}
+
+	@Override
+	public int getDisplayedMatchCount(Object element) {
+		AbstractTextSearchResult input= getInput();
+		if (input instanceof JavaSearchResult)
+			return ((JavaSearchResult) input).getDisplayedMatchCount(element);
+		return super.getDisplayedMatchCount(element);
+	}
+
+	private void storedMatchesChanged(Object[] elements) {
+		Control control= getControl();
+		if (control == null || control.isDisposed())
+			return;
+		boolean post;
+		synchronized (fStoredElements) {
+			post= fStoredElements.isEmpty();
+			fStoredElements.addAll(Arrays.asList(elements));
+		}
+		if (post)
+			control.getDisplay().asyncExec(this::updateStoredElements);
+	}
+
+	private void updateStoredElements() {
+		Object[] elements;
+		synchronized (fStoredElements) {
+			elements= fStoredElements.toArray();
+			fStoredElements.clear();
+		}
+		Control control= getControl();
+		if (elements.length == 0 || control == null || control.isDisposed())
+			return;
+		elementsChanged(elements);
+		getViewPart().updateLabel();
+	}
+
 	@Override
 	protected void elementsChanged(Object[] objects) {
 		if (fContentProvider != null)
@@ -13,10 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
 import org.eclipse.jdt.core.search.FieldReferenceMatch;
@@ -27,14 +36,50 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Adds the matches reported by the search engine to a search result.
+ * <p>
+ * The matches are streamed into the result in batches: every batch is added at once and causes
+ * a single change event, instead of one event per match. A batch is complete when the matches of
+ * another resource are reported after at least {@link #MIN_BATCH_SIZE} matches, when it reaches
+ * {@link #MAX_BATCH_SIZE} matches or when the reporting ends.
+ * </p>
+ * <p>
+ * The matches of compilation units which are not open in an editor are added to the store of a
+ * {@link JavaSearchResult} without creating {@link Match} objects for them.
+ * </p>
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+
+	private static final int MIN_BATCH_SIZE= 100;
+	private static final int MAX_BATCH_SIZE= 2000;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
+	private final int fMatchLimit;
+	private int fMatchCount;
+	private final List<Match> fBatch= new ArrayList<>();
+	private final Set<Object> fBatchElements= new LinkedHashSet<>();
+	private int fBatchSize;
+	private Object fBatchResource;
 
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
+		this(search, ignorePotentials, -1);
+	}
+
+	/**
+	 * Creates a collector which stops the search after a number of matches.
+	 *
+	 * @param search the search result to add the matches to
+	 * @param ignorePotentials whether to ignore inaccurate matches
+	 * @param matchLimit the number of matches after which the search is stopped by throwing an
+	 *            {@link OperationCanceledException}, or <code>-1</code> for no limit
+	 */
+	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials, int matchLimit) {
 		super();
 		fSearch= search;
 		fIgnorePotentials= ignorePotentials;
+		fMatchLimit= matchLimit;
 	}
 
 	@Override
@@ -43,6 +88,10 @@ public class NewSearchResultCollector extends SearchRequestor {
 		if (enclosingElement != null) {
 			if (fIgnorePotentials && (match.getAccuracy() == SearchMatch.A_INACCURATE))
 				return;
+			if (isLimitReached()) {
+				flush();
+				throw new OperationCanceledException();
+			}
 			boolean isWriteAccess= false;
 			boolean isReadAccess= false;
 			if (match instanceof FieldReferenceMatch) {
@@ -63,16 +112,57 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			Object resource= match.getResource();
+			if (fBatchSize >= MAX_BATCH_SIZE || fBatchSize >= MIN_BATCH_SIZE && !Objects.equals(resource, fBatchResource))
+				flush();
+			fBatchResource= resource;
+			int flags= JavaElementMatch.toFlags(match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation);
+			ICompilationUnit unit= (ICompilationUnit) enclosingElement.getAncestor(IJavaElement.COMPILATION_UNIT);
+			if (fSearch instanceof JavaSearchResult && unit != null && !unit.isWorkingCopy()) {
+				// the matches of a unit which is not open in an editor are only created when shown
+				((JavaSearchResult) fSearch).addStoredMatch(enclosingElement, unit, match.getRule(), match.getOffset(), match.getLength(), flags);
+				fBatchElements.add(enclosingElement);
+			} else {
+				fBatch.add(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), flags));
+			}
+			fBatchSize++;
+			fMatchCount++;
 		}
 	}
 
+	/**
+	 * Adds the matches collected so far to the search result.
+	 */
+	public void flush() {
+		if (!fBatch.isEmpty()) {
+			fSearch.addMatches(fBatch.toArray(new Match[fBatch.size()]));
+			fBatch.clear();
+		}
+		if (!fBatchElements.isEmpty()) {
+			((JavaSearchResult) fSearch).storedMatchesAdded(fBatchElements.toArray());
+			fBatchElements.clear();
+		}
+		fBatchSize= 0;
+		fBatchResource= null;
+	}
+
+	/**
+	 * Returns whether the search has been stopped or should be stopped since the match limit has
+	 * been reached.
+	 *
+	 * @return <code>true</code> if the match limit has been reached
+	 */
+	public boolean isLimitReached() {
+		return fMatchLimit != -1 && fMatchCount >= fMatchLimit;
+	}
+
 	@Override
 	public void beginReporting() {
 	}
 
 	@Override
 	public void endReporting() {
+		flush();
 	}
 
 	@Override
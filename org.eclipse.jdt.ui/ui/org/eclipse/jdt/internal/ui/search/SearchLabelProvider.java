@@ -111,7 +111,10 @@ public abstract class SearchLabelProvider extends AppearanceAwareLabelProvider {
 	protected final int getNumberOfPotentialMatches(Object element) {
 		int res= 0;
 		AbstractTextSearchResult result= fPage.getInput();
-		if (result != null) {
+		if (result instanceof JavaSearchResult) {
+			// does not create the stored matches of the element
+			return ((JavaSearchResult) result).getPotentialMatchCount(element);
+		} else if (result != null) {
 			for (Match match : result.getMatches(element)) {
 				if ((match) instanceof JavaElementMatch) {
 					if (((JavaElementMatch) match).getAccuracy() == SearchMatch.A_INACCURATE) {
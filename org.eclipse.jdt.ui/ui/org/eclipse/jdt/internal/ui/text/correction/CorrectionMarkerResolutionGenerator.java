@@ -15,16 +15,22 @@ package org.eclipse.jdt.internal.ui.text.correction;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.graphics.Image;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -142,20 +148,23 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 				monitor= new NullProgressMonitor();
 
 			try {
-				MultiFixTarget[] problems= getCleanUpTargets(markers);
+				SubMonitor progress= SubMonitor.convert(monitor, 10);
+				MultiFixTarget[] problems= getCleanUpTargets(markers, progress.split(1));
 
 				if (fProposal instanceof CreatePackageInfoWithDefaultNullnessProposal) {
-					((CreatePackageInfoWithDefaultNullnessProposal) fProposal).resolve(problems, monitor);
+					((CreatePackageInfoWithDefaultNullnessProposal) fProposal).resolve(problems, progress.split(9));
 					return;
 				}
 
-				((FixCorrectionProposal)fProposal).resolve(problems, monitor);
+				((FixCorrectionProposal)fProposal).resolve(problems, progress.split(9));
 
 				IEditorPart part= EditorUtility.isOpenInEditor(fCompilationUnit);
 				if (part instanceof ITextEditor) {
 					((ITextEditor) part).selectAndReveal(fOffset, fLength);
 					part.setFocus();
 				}
+			} catch (OperationCanceledException e) {
+				// canceled while collecting the problems, nothing has been changed
 			} catch (CoreException e) {
 				JavaPlugin.log(e);
 			} finally {
@@ -164,29 +173,57 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 		}
 
 		public static MultiFixTarget[] getCleanUpTargets(IMarker[] markers) {
-			Hashtable<ICompilationUnit, List<IProblemLocation>> problemLocations= new Hashtable<>();
+			return getCleanUpTargets(markers, null);
+		}
+
+		/**
+		 * Returns one clean up target per compilation unit with the locations of all the given
+		 * markers in that compilation unit. The locations of a target are grouped by problem id.
+		 * The compilation unit and the annotation model of an editor are looked up once per
+		 * resource, not once per marker.
+		 *
+		 * @param markers the markers
+		 * @param monitor the progress monitor, can be <code>null</code>
+		 * @return the clean up targets
+		 * @throws OperationCanceledException if the monitor has been canceled
+		 * @since 3.30
+		 */
+		public static MultiFixTarget[] getCleanUpTargets(IMarker[] markers, IProgressMonitor monitor) {
+			SubMonitor progress= SubMonitor.convert(monitor, markers.length);
+
+			Map<IResource, List<IMarker>> markersByResource= new LinkedHashMap<>();
 			for (IMarker marker : markers) {
-				ICompilationUnit cu= getCompilationUnit(marker);
+				markersByResource.computeIfAbsent(marker.getResource(), resource -> new ArrayList<>()).add(marker);
+			}
+
+			Map<ICompilationUnit, Map<Integer, List<IProblemLocation>>> problemLocations= new LinkedHashMap<>();
+			for (List<IMarker> resourceMarkers : markersByResource.values()) {
+				if (progress.isCanceled())
+					throw new OperationCanceledException();
 
+				ICompilationUnit cu= getCompilationUnit(resourceMarkers.get(0));
 				if (cu != null) {
 					IEditorInput input= EditorUtility.getEditorInput(cu);
-					IProblemLocation location= findProblemLocation(input, marker);
-					if (location != null) {
-						List<IProblemLocation> l= problemLocations.get(cu.getPrimary());
-						if (l == null) {
-							l= new ArrayList<>();
-							problemLocations.put(cu.getPrimary(), l);
+					Map<IMarker, IProblemLocation> locations= findProblemLocations(input, cu, resourceMarkers);
+					for (IMarker marker : resourceMarkers) {
+						IProblemLocation location= locations.get(marker);
+						if (location != null) {
+							problemLocations.computeIfAbsent(cu.getPrimary(), unit -> new LinkedHashMap<>())
+								.computeIfAbsent(Integer.valueOf(location.getProblemId()), id -> new ArrayList<>()).add(location);
 						}
-						l.add(location);
 					}
 				}
+				progress.worked(resourceMarkers.size());
 			}
 
 			MultiFixTarget[] result= new MultiFixTarget[problemLocations.size()];
 			int i= 0;
-			for (Map.Entry<ICompilationUnit, List<IProblemLocation>> entry : problemLocations.entrySet()) {
+			for (Map.Entry<ICompilationUnit, Map<Integer, List<IProblemLocation>>> entry : problemLocations.entrySet()) {
 				ICompilationUnit cu= entry.getKey();
-				List<IProblemLocation> locations= entry.getValue();
+				List<IProblemLocation> locations= new ArrayList<>();
+				for (List<IProblemLocation> locationsOfProblem : entry.getValue().values()) {
+					locations.addAll(locationsOfProblem);
+				}
 				result[i]= new MultiFixTarget(cu, locations.toArray(new IProblemLocation[locations.size()]));
 				i++;
 			}
@@ -314,6 +351,8 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 
 	private static final IMarkerResolution[] NO_RESOLUTIONS= new IMarkerResolution[0];
 
+	private static final String[] MARKER_ATTRIBUTES= { IJavaModelMarker.ID, IMarker.CHAR_START, IMarker.CHAR_END, IMarker.SEVERITY };
+
 
 	/**
 	 * Constructor for CorrectionMarkerResolutionGenerator.
@@ -442,12 +481,48 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 		return null;
 	}
 
+	/*
+	 * Returns the problem locations of markers of the same resource. Unlike calling
+	 * findProblemLocation(IEditorInput, IMarker) for each marker, the annotations of an editor
+	 * are only traversed once.
+	 */
+	private static Map<IMarker, IProblemLocation> findProblemLocations(IEditorInput input, ICompilationUnit cu, List<IMarker> markers) {
+		Map<IMarker, IProblemLocation> result= new HashMap<>();
+		IAnnotationModel model= null;
+		if (input != null && !(markers.get(0).getResource() instanceof IFolder))
+			model= JavaPlugin.getDefault().getCompilationUnitDocumentProvider().getAnnotationModel(input);
+		if (model == null) {
+			for (IMarker marker : markers) {
+				IProblemLocation location= createFromMarker(marker, cu);
+				if (location != null)
+					result.put(marker, location);
+			}
+			return result;
+		}
+		Set<IMarker> remaining= new HashSet<>(markers);
+		Iterator<Annotation> iter= model.getAnnotationIterator();
+		while (iter.hasNext() && !remaining.isEmpty()) {
+			Annotation curr= iter.next();
+			if (curr instanceof JavaMarkerAnnotation) {
+				JavaMarkerAnnotation annot= (JavaMarkerAnnotation) curr;
+				if (remaining.remove(annot.getMarker())) {
+					Position pos= model.getPosition(annot);
+					if (pos != null) {
+						result.put(annot.getMarker(), new ProblemLocation(pos.getOffset(), pos.getLength(), annot));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
 	private static IProblemLocation createFromMarker(IMarker marker, ICompilationUnit cu) {
 		try {
-			int id= marker.getAttribute(IJavaModelMarker.ID, -1);
-			int start= marker.getAttribute(IMarker.CHAR_START, -1);
-			int end= marker.getAttribute(IMarker.CHAR_END, -1);
-			int severity= marker.getAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+			Object[] attributes= marker.getAttributes(MARKER_ATTRIBUTES);
+			int id= getIntAttribute(attributes[0], -1);
+			int start= getIntAttribute(attributes[1], -1);
+			int end= getIntAttribute(attributes[2], -1);
+			int severity= getIntAttribute(attributes[3], IMarker.SEVERITY_INFO);
 			String[] arguments= CorrectionEngine.getProblemArguments(marker);
 			String markerType= marker.getType();
 			if (cu != null && id != -1 && start != -1 && end != -1 && arguments != null) {
@@ -460,5 +535,8 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 		return null;
 	}
 
+	private static int getIntAttribute(Object value, int defaultValue) {
+		return value instanceof Integer ? ((Integer) value).intValue() : defaultValue;
+	}
 
 }
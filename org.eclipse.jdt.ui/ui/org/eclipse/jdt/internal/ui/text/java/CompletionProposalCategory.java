@@ -276,6 +276,23 @@ public final class CompletionProposalCategory {
 		return false;
 	}
 
+	/**
+	 * Returns <code>true</code> if any computer of the category in the given partition requires
+	 * to be called in the UI thread, <code>false</code> otherwise.
+	 *
+	 * @param partition the partition
+	 * @return <code>true</code> if the category requires the UI thread
+	 * @since 3.30
+	 */
+	public boolean requiresUIThread(String partition) {
+		List<CompletionProposalComputerDescriptor> descriptors= fRegistry.getProposalComputerDescriptors(partition);
+		for (CompletionProposalComputerDescriptor desc : descriptors) {
+			if (desc.getCategory() == this && desc.requiresUIThread())
+				return true;
+		}
+		return false;
+	}
+
 	/**
 	 * @return sortOrder
 	 */
@@ -155,6 +155,12 @@ final class CompletionProposalComputerDescriptor {
 	 */
 	private final boolean fRequiresUIThread;
 
+	/**
+	 * The latencies of computing completion proposals.
+	 * @since 3.30
+	 */
+	private final LatencyHistogram fLatency= new LatencyHistogram();
+
 
 
 
@@ -343,6 +349,7 @@ final class CompletionProposalComputerDescriptor {
 			if (computer == null) // not active yet
 				return Collections.emptyList();
 
+			long start= System.nanoTime();
 			try {
 				PerformanceStats stats= startMeter(context, computer);
 				List<ICompletionProposal> proposals= computer.computeCompletionProposals(context, monitor);
@@ -353,6 +360,7 @@ final class CompletionProposalComputerDescriptor {
 					return proposals;
 				}
 			} finally {
+				fLatency.record(System.nanoTime() - start);
 				// If computers are using non-ui thread, don't report delays.
 				fIsReportingDelay= !(context.getViewer() instanceof JavaSourceViewer)
 						|| !((JavaSourceViewer) context.getViewer()).isAsyncCompletionActive();
@@ -616,4 +624,14 @@ final class CompletionProposalComputerDescriptor {
 	public boolean requiresUIThread() {
 		return this.fRequiresUIThread;
 	}
+
+	/**
+	 * Returns the latencies of computing completion proposals through the described extension.
+	 *
+	 * @return the latency histogram of the described extension
+	 * @since 3.30
+	 */
+	public LatencyHistogram getLatencyHistogram() {
+		return fLatency;
+	}
 }
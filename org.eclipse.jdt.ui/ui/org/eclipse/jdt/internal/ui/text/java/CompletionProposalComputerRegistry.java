@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -531,4 +532,18 @@ public final class CompletionProposalComputerRegistry {
 	public Stream<String> getComputersRequiringUIThreadNames() {
 		return fDescriptors.stream().filter(CompletionProposalComputerDescriptor::requiresUIThread).map(CompletionProposalComputerDescriptor::getName);
 	}
+
+	/**
+	 * Returns the latencies of computing completion proposals per computer.
+	 *
+	 * @return a map from computer id to its latency histogram
+	 * @since 3.30
+	 */
+	public Map<String, LatencyHistogram> getLatencyHistograms() {
+		Map<String, LatencyHistogram> histograms= new LinkedHashMap<>();
+		for (CompletionProposalComputerDescriptor descriptor : getProposalComputerDescriptors()) {
+			histograms.put(descriptor.getId(), descriptor.getLatencyHistogram());
+		}
+		return histograms;
+	}
 }
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubProgressMonitor;
+
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+
+import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Computes the completion proposals of several {@link CompletionProposalCategory categories}
+ * concurrently on a bounded pool of threads.
+ * <p>
+ * Categories whose computers require the UI thread are computed in the invoking thread if that is
+ * the UI thread. A category is never computed concurrently with itself: if the computation of an
+ * earlier invocation is still running, the new one starts after it.
+ * </p>
+ *
+ * @since 3.30
+ */
+final class ConcurrentCategoryComputation {
+
+	/**
+	 * The proposals computed by one category.
+	 */
+	static final class CategoryResult {
+		final CompletionProposalCategory fCategory;
+		final List<ICompletionProposal> fProposals;
+
+		CategoryResult(CompletionProposalCategory category, List<ICompletionProposal> proposals) {
+			fCategory= category;
+			fProposals= proposals;
+		}
+	}
+
+	private static final int POOL_SIZE= Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	private static final ThreadPoolExecutor EXECUTOR;
+
+	static {
+		AtomicInteger count= new AtomicInteger();
+		EXECUTOR= new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Java Content Assist #" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * The last computation of each category, used to run computations of a category one after
+	 * the other. Access is synchronized on the map.
+	 */
+	private static final Map<CompletionProposalCategory, CompletableFuture<CategoryResult>> fgLastComputation= new WeakHashMap<>();
+
+	private final List<CompletableFuture<CategoryResult>> fFutures;
+
+	/**
+	 * The computations which were not done in {@link #getResults(long)}.
+	 */
+	private final List<CompletableFuture<CategoryResult>> fLate= new ArrayList<>();
+
+	private final NullProgressMonitor fMonitor= new NullProgressMonitor();
+
+	/**
+	 * Starts the computation of the given categories.
+	 *
+	 * @param categories the categories
+	 * @param context the invocation context passed to the computers
+	 * @param partition the partition type where the invocation occurred
+	 */
+	ConcurrentCategoryComputation(List<CompletionProposalCategory> categories, ContentAssistInvocationContext context, String partition) {
+		boolean isUIThread= Display.getCurrent() != null;
+		fFutures= new ArrayList<>(categories.size());
+		List<CompletionProposalCategory> inlineCategories= new ArrayList<>();
+		List<CompletableFuture<CategoryResult>> inlineFutures= new ArrayList<>();
+		for (CompletionProposalCategory category : categories) {
+			CompletableFuture<CategoryResult> future;
+			if (isUIThread && category.requiresUIThread(partition)) {
+				future= new CompletableFuture<>();
+				inlineCategories.add(category);
+				inlineFutures.add(future);
+			} else {
+				synchronized (fgLastComputation) {
+					CompletableFuture<CategoryResult> last= fgLastComputation.get(category);
+					CompletableFuture<?> previous= last != null ? last.handle((result, exception) -> null) : CompletableFuture.completedFuture(null);
+					future= previous.thenApplyAsync(v -> compute(category, context, partition), EXECUTOR);
+					fgLastComputation.put(category, future);
+				}
+			}
+			fFutures.add(future);
+		}
+		// compute the remaining categories while the others are running
+		for (int i= 0; i < inlineCategories.size(); i++) {
+			try {
+				inlineFutures.get(i).complete(compute(inlineCategories.get(i), context, partition));
+			} catch (RuntimeException e) {
+				inlineFutures.get(i).completeExceptionally(e);
+			}
+		}
+	}
+
+	private CategoryResult compute(CompletionProposalCategory category, ContentAssistInvocationContext context, String partition) {
+		if (fMonitor.isCanceled())
+			return new CategoryResult(category, Collections.emptyList());
+		List<ICompletionProposal> proposals= category.computeCompletionProposals(context, partition, new SubProgressMonitor(fMonitor, 1));
+		return new CategoryResult(category, proposals);
+	}
+
+	/**
+	 * Waits until all categories are computed or the deadline has passed and returns the results
+	 * of the categories which are done, in the order of the categories.
+	 *
+	 * @param deadline the deadline as given by {@link System#nanoTime()}
+	 * @return the results of the categories computed until the deadline
+	 */
+	List<CategoryResult> getResults(long deadline) {
+		try {
+			long remaining= deadline - System.nanoTime();
+			CompletableFuture.allOf(fFutures.toArray(new CompletableFuture[fFutures.size()])).get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			// take what is there
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		List<CategoryResult> results= new ArrayList<>(fFutures.size());
+		fLate.clear();
+		for (CompletableFuture<CategoryResult> future : fFutures) {
+			if (future.isDone()) {
+				CategoryResult result= getResult(future);
+				if (result != null)
+					results.add(result);
+			} else {
+				fLate.add(future);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Calls the given consumer once all categories which were not done by
+	 * {@link #getResults(long)} are done. Does nothing if all categories were done.
+	 *
+	 * @param consumer the consumer of the results of the late categories, called in a pool thread
+	 */
+	void whenLateResultsDone(Consumer<List<CategoryResult>> consumer) {
+		List<CompletableFuture<CategoryResult>> late= new ArrayList<>(fLate);
+		if (late.isEmpty())
+			return;
+		CompletableFuture.allOf(late.toArray(new CompletableFuture[late.size()])).handle((v, exception) -> {
+			if (!fMonitor.isCanceled()) {
+				List<CategoryResult> results= new ArrayList<>(late.size());
+				for (CompletableFuture<CategoryResult> future : late) {
+					CategoryResult result= getResult(future);
+					if (result != null)
+						results.add(result);
+				}
+				consumer.accept(results);
+			}
+			return null;
+		});
+	}
+
+	private static CategoryResult getResult(CompletableFuture<CategoryResult> future) {
+		if (!future.isDone() || future.isCompletedExceptionally())
+			return null;
+		try {
+			return future.getNow(null);
+		} catch (RuntimeException e) {
+			JavaPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Cancels the computations which are still running and suppresses the notification about late
+	 * results.
+	 */
+	void cancel() {
+		fMonitor.setCanceled(true);
+	}
+
+	boolean isCanceled() {
+		return fMonitor.isCanceled();
+	}
+}
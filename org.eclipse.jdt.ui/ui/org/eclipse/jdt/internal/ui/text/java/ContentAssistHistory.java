@@ -13,19 +13,24 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.util.ArrayList;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -65,6 +70,10 @@ import org.eclipse.jdt.internal.ui.JavaUIStatus;
 
 /**
  * An LRU cache for code assist.
+ * <p>
+ * Type names are interned to dense integer ids, the remembered right hand sides of each left hand
+ * side are kept as <code>int</code> arrays. The history is thread safe.
+ * </p>
  *
  * @since 3.2
  */
@@ -94,15 +103,18 @@ public final class ContentAssistHistory {
 				rootElement.setAttribute(ATTRIBUTE_MAX_RHS, Integer.toString(history.fMaxRHS));
 				document.appendChild(rootElement);
 
-				for (Entry<String, MRUSet<String>> entry : history.fLHSCache.entrySet()) {
-					String lhs = entry.getKey();
-					Element lhsElement= document.createElement(NODE_LHS);
-					lhsElement.setAttribute(ATTRIBUTE_NAME, lhs);
-					rootElement.appendChild(lhsElement);
-					for (String rhs : entry.getValue()) {
-						Element rhsElement= document.createElement(NODE_RHS);
-						rhsElement.setAttribute(ATTRIBUTE_NAME, rhs);
-						lhsElement.appendChild(rhsElement);
+				synchronized (history) {
+					TypeTable table= history.fTypes;
+					LHSIndex index= history.fLHSIndex;
+					for (int entry= index.first(); entry != LHSIndex.NIL; entry= index.next(entry)) {
+						Element lhsElement= document.createElement(NODE_LHS);
+						lhsElement.setAttribute(ATTRIBUTE_NAME, table.getName(index.getLHS(entry)));
+						rootElement.appendChild(lhsElement);
+						for (int rhs : index.getRHS(entry)) {
+							Element rhsElement= document.createElement(NODE_RHS);
+							rhsElement.setAttribute(ATTRIBUTE_NAME, table.getName(rhs));
+							lhsElement.appendChild(rhsElement);
+						}
 					}
 				}
 
@@ -131,8 +143,9 @@ public final class ContentAssistHistory {
 			if (root == null || !NODE_ROOT.equalsIgnoreCase(root.getNodeName()))
 				return null;
 
-			int maxLHS= parseNaturalInt(root.getAttribute(ATTRIBUTE_MAX_LHS), DEFAULT_TRACKED_LHS);
-			int maxRHS= parseNaturalInt(root.getAttribute(ATTRIBUTE_MAX_RHS), DEFAULT_TRACKED_RHS);
+			// histories written by earlier versions used smaller defaults, don't shrink below the current ones
+			int maxLHS= Math.max(parseNaturalInt(root.getAttribute(ATTRIBUTE_MAX_LHS), DEFAULT_TRACKED_LHS), DEFAULT_TRACKED_LHS);
+			int maxRHS= Math.max(parseNaturalInt(root.getAttribute(ATTRIBUTE_MAX_RHS), DEFAULT_TRACKED_RHS), DEFAULT_TRACKED_RHS);
 
 			ContentAssistHistory history= new ContentAssistHistory(maxLHS, maxRHS);
 
@@ -145,7 +158,7 @@ public final class ContentAssistHistory {
 					if (NODE_LHS.equalsIgnoreCase(lhsElement.getNodeName())) {
 						String lhs= lhsElement.getAttribute(ATTRIBUTE_NAME);
 						if (lhs != null) {
-							Set<String> cache= history.getCache(lhs);
+							int lhsId= history.fTypes.intern(lhs);
 							NodeList children= lhsElement.getChildNodes();
 							int nRHS= children.getLength();
 							for (int j= 0; j < nRHS; j++) {
@@ -155,7 +168,7 @@ public final class ContentAssistHistory {
 									if (NODE_RHS.equalsIgnoreCase(rhsElement.getNodeName())) {
 										String rhs= rhsElement.getAttribute(ATTRIBUTE_NAME);
 										if (rhs != null) {
-											cache.add(rhs);
+											history.fLHSIndex.add(lhsId, history.fTypes.intern(rhs));
 										}
 									}
 								}
@@ -185,80 +198,352 @@ public final class ContentAssistHistory {
 	}
 
 	/**
-	 * Most recently used variant with capped size that only counts
-	 * {@linkplain #put(Object, Object) put} as access. This is implemented by always removing an
-	 * element before it gets put back.
+	 * Binary persistence implementation. The format is a header with a magic number, the format
+	 * version and the tracked sizes, followed by the table of type names and, for each left hand
+	 * side from least to most recently added, its type id followed by the ids of its right hand
+	 * sides from least to most recently remembered.
 	 *
-	 * @since 3.2
+	 * @since 3.30
 	 */
-	private static final class MRUMap<K, V> extends LinkedHashMap<K, V> {
-		private static final long serialVersionUID= 1L;
-		private final int fMaxSize;
+	private static final class BinaryReaderWriter {
+
+		private static final int MAGIC= 0x4A434148; // "JCAH"
+		private static final int VERSION= 1;
+
+		public void store(ContentAssistHistory history, DataOutputStream out) throws IOException {
+			synchronized (history) {
+				history.compact();
+				TypeTable table= history.fTypes;
+				LHSIndex index= history.fLHSIndex;
+
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(history.fMaxLHS);
+				out.writeInt(history.fMaxRHS);
+
+				int typeCount= table.size();
+				out.writeInt(typeCount);
+				for (int id= 0; id < typeCount; id++) {
+					out.writeUTF(table.getName(id));
+				}
+
+				out.writeInt(index.size());
+				for (int entry= index.first(); entry != LHSIndex.NIL; entry= index.next(entry)) {
+					out.writeInt(index.getLHS(entry));
+					int[] rhs= index.getRHS(entry);
+					out.writeInt(rhs.length);
+					for (int id : rhs) {
+						out.writeInt(id);
+					}
+				}
+			}
+		}
+
+		public ContentAssistHistory load(DataInputStream in) throws IOException {
+			if (in.readInt() != MAGIC)
+				throw new IOException("Not a content assist history"); //$NON-NLS-1$
+			int version= in.readInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported content assist history version: " + version); //$NON-NLS-1$
+
+			int maxLHS= in.readInt();
+			int maxRHS= in.readInt();
+			ContentAssistHistory history= new ContentAssistHistory(maxLHS > 0 ? maxLHS : DEFAULT_TRACKED_LHS, maxRHS > 0 ? maxRHS : DEFAULT_TRACKED_RHS);
+
+			int typeCount= checkCount(in.readInt());
+			int[] ids= new int[typeCount];
+			for (int i= 0; i < typeCount; i++) {
+				ids[i]= history.fTypes.intern(in.readUTF());
+			}
+
+			int lhsCount= checkCount(in.readInt());
+			for (int i= 0; i < lhsCount; i++) {
+				int lhs= ids[checkId(in.readInt(), typeCount)];
+				int rhsCount= checkCount(in.readInt());
+				for (int j= 0; j < rhsCount; j++) {
+					history.fLHSIndex.add(lhs, ids[checkId(in.readInt(), typeCount)]);
+				}
+			}
+			return history;
+		}
+
+		private int checkCount(int count) throws IOException {
+			if (count < 0)
+				throw new IOException("Corrupt content assist history"); //$NON-NLS-1$
+			return count;
+		}
+
+		private int checkId(int id, int typeCount) throws IOException {
+			if (id < 0 || id >= typeCount)
+				throw new IOException("Corrupt content assist history"); //$NON-NLS-1$
+			return id;
+		}
+	}
+
+	/**
+	 * Interns fully qualified type names to dense integer ids. The table only grows, ids stay valid
+	 * for the lifetime of a table; {@link ContentAssistHistory#compact()} replaces the table of a
+	 * history to drop names no longer referenced.
+	 *
+	 * @since 3.30
+	 */
+	private static final class TypeTable {
+		private String[] fNames= new String[16];
+		private int[] fHashes= new int[16];
+		/** open addressing table from name hash to id + 1, <code>0</code> marks a free slot */
+		private int[] fSlots= new int[32];
+		private int fSize;
 
 		/**
-		 * Creates a new <code>MRUMap</code> with the given size.
+		 * Returns the id of a type name.
 		 *
-		 * @param maxSize the maximum size of the cache, must be &gt; 0
+		 * @param name the fully qualified type name
+		 * @return the id of <code>name</code>, or <code>-1</code> if it is not interned
 		 */
-		public MRUMap(int maxSize) {
-			Assert.isLegal(maxSize > 0);
-			fMaxSize= maxSize;
+		public synchronized int find(String name) {
+			int hash= name.hashCode();
+			int mask= fSlots.length - 1;
+			for (int i= mix(hash) & mask;; i= (i + 1) & mask) {
+				int slot= fSlots[i];
+				if (slot == 0)
+					return -1;
+				int id= slot - 1;
+				if (fHashes[id] == hash && fNames[id].equals(name))
+					return id;
+			}
 		}
 
-		/*
-		 * @see java.util.HashMap#put(java.lang.Object, java.lang.Object)
+		/**
+		 * Returns the id of a type name, assigning the next free id if the name is new.
+		 *
+		 * @param name the fully qualified type name
+		 * @return the id of <code>name</code>
 		 */
-		@Override
-		public V put(K key, V value) {
-			V object= remove(key);
-			super.put(key, value);
-			return object;
+		public synchronized int intern(String name) {
+			int id= find(name);
+			if (id != -1)
+				return id;
+
+			if (fSize == fNames.length) {
+				fNames= Arrays.copyOf(fNames, fSize * 2);
+				fHashes= Arrays.copyOf(fHashes, fSize * 2);
+			}
+			id= fSize++;
+			fNames[id]= name;
+			fHashes[id]= name.hashCode();
+			if (fSize * 2 > fSlots.length) {
+				fSlots= new int[fSlots.length * 2];
+				for (int i= 0; i < fSize; i++) {
+					insert(i);
+				}
+			} else {
+				insert(id);
+			}
+			return id;
 		}
 
-		/*
-		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
-		 */
-		@Override
-		protected boolean removeEldestEntry(Entry<K, V> eldest) {
-			return size() > fMaxSize;
+		private void insert(int id) {
+			int mask= fSlots.length - 1;
+			int i= mix(fHashes[id]) & mask;
+			while (fSlots[i] != 0) {
+				i= (i + 1) & mask;
+			}
+			fSlots[i]= id + 1;
+		}
+
+		public synchronized String getName(int id) {
+			return fNames[id];
+		}
+
+		public synchronized int size() {
+			return fSize;
 		}
 	}
 
 	/**
-	 * Most recently used variant with capped size that orders the elements by addition.
-	 * This is implemented by always removing an element before it gets added back.
+	 * The right hand sides remembered per left hand side, keyed by the dense type ids of a
+	 * {@link TypeTable}. Entries are held in parallel arrays and linked in the order in which they
+	 * were added; when the maximum number of left hand sides is exceeded, the least recently added
+	 * entry is dropped. The right hand sides of an entry are kept in an <code>int</code> array, least
+	 * recently remembered first.
 	 *
-	 * @since 3.2
+	 * @since 3.30
 	 */
-	private static final class MRUSet<E> extends LinkedHashSet<E> {
-		private static final long serialVersionUID= 1L;
-		private final int fMaxSize;
+	private static final class LHSIndex {
+		static final int NIL= -1;
+
+		private final int fMaxLHS;
+		private final int fMaxRHS;
+
+		/** map from type id to entry + 1, <code>0</code> if the type is no left hand side */
+		private int[] fEntryOfType= new int[16];
+
+		private int[] fLHS= new int[16];
+		private int[][] fRHS= new int[16][];
+		private int[] fRHSCount= new int[16];
+		private int[] fPrevious= new int[16];
+		private int[] fNext= new int[16];
+
+		/** the least recently added entry */
+		private int fFirst= NIL;
+		/** the most recently added entry */
+		private int fLast= NIL;
+		/** the first free entry, free entries are linked by {@link #fNext} */
+		private int fFree= NIL;
+		private int fAllocated;
+		private int fSize;
+
+		LHSIndex(int maxLHS, int maxRHS) {
+			fMaxLHS= maxLHS;
+			fMaxRHS= maxRHS;
+		}
 
 		/**
-		 * Creates a new <code>MRUSet</code> with the given size.
+		 * Returns the entry of a left hand side.
 		 *
-		 * @param maxSize the maximum size of the cache, must be &gt; 0
+		 * @param lhs the type id of the left hand side
+		 * @return the entry, or {@link #NIL} if <code>lhs</code> has no entry
 		 */
-		public MRUSet(int maxSize) {
-			Assert.isLegal(maxSize > 0);
-			fMaxSize= maxSize;
+		int get(int lhs) {
+			return lhs < fEntryOfType.length ? fEntryOfType[lhs] - 1 : NIL;
 		}
 
-		/*
-		 * @see java.util.HashSet#add(java.lang.Object)
+		/**
+		 * Remembers a right hand side for a left hand side, making it the most recently remembered
+		 * one.
+		 *
+		 * @param lhs the type id of the left hand side
+		 * @param rhs the type id of the right hand side
 		 */
-		@Override
-		public boolean add(E o) {
-			if (remove(o)) {
-				super.add(o);
-				return false;
+		void add(int lhs, int rhs) {
+			int entry= get(lhs);
+			if (entry == NIL)
+				entry= create(lhs);
+
+			int[] types= fRHS[entry];
+			int count= fRHSCount[entry];
+			int index= 0;
+			while (index < count && types[index] != rhs) {
+				index++;
 			}
+			if (index == count) {
+				if (count == fMaxRHS) {
+					index= 0; // drop the least recently remembered
+				} else {
+					if (count == types.length) {
+						types= Arrays.copyOf(types, Math.min(count * 2, fMaxRHS));
+						fRHS[entry]= types;
+					}
+					fRHSCount[entry]= ++count;
+				}
+			}
+			System.arraycopy(types, index + 1, types, index, count - index - 1);
+			types[count - 1]= rhs;
+		}
 
-			if (size() >= fMaxSize)
-				remove(this.iterator().next());
+		private int create(int lhs) {
+			if (fSize == fMaxLHS)
+				remove(fFirst);
+
+			int entry;
+			if (fFree != NIL) {
+				entry= fFree;
+				fFree= fNext[entry];
+			} else {
+				if (fAllocated == fLHS.length) {
+					int capacity= fAllocated * 2;
+					fLHS= Arrays.copyOf(fLHS, capacity);
+					fRHS= Arrays.copyOf(fRHS, capacity);
+					fRHSCount= Arrays.copyOf(fRHSCount, capacity);
+					fPrevious= Arrays.copyOf(fPrevious, capacity);
+					fNext= Arrays.copyOf(fNext, capacity);
+				}
+				entry= fAllocated++;
+			}
 
-			super.add(o);
-			return true;
+			fLHS[entry]= lhs;
+			fRHS[entry]= new int[Math.min(4, fMaxRHS)];
+			fRHSCount[entry]= 0;
+			fPrevious[entry]= fLast;
+			fNext[entry]= NIL;
+			if (fLast == NIL)
+				fFirst= entry;
+			else
+				fNext[fLast]= entry;
+			fLast= entry;
+			fSize++;
+
+			if (lhs >= fEntryOfType.length)
+				fEntryOfType= Arrays.copyOf(fEntryOfType, Math.max(lhs + 1, fEntryOfType.length * 2));
+			fEntryOfType[lhs]= entry + 1;
+			return entry;
+		}
+
+		private void remove(int entry) {
+			int previous= fPrevious[entry];
+			int next= fNext[entry];
+			if (previous == NIL)
+				fFirst= next;
+			else
+				fNext[previous]= next;
+			if (next == NIL)
+				fLast= previous;
+			else
+				fPrevious[next]= previous;
+
+			fEntryOfType[fLHS[entry]]= 0;
+			fRHS[entry]= null;
+			fNext[entry]= fFree;
+			fFree= entry;
+			fSize--;
+		}
+
+		int first() {
+			return fFirst;
+		}
+
+		int next(int entry) {
+			return fNext[entry];
+		}
+
+		int getLHS(int entry) {
+			return fLHS[entry];
+		}
+
+		/**
+		 * @param entry an entry
+		 * @return a copy of the type ids of the right hand sides of the entry, least recently
+		 *         remembered first
+		 */
+		int[] getRHS(int entry) {
+			return Arrays.copyOf(fRHS[entry], fRHSCount[entry]);
+		}
+
+		int size() {
+			return fSize;
+		}
+
+		/**
+		 * Returns a copy of this index with all type ids mapped.
+		 *
+		 * @param map the map from old to new type id
+		 * @param mapSize the number of new type ids
+		 * @return the new index
+		 */
+		LHSIndex remap(int[] map, int mapSize) {
+			LHSIndex index= new LHSIndex(fMaxLHS, fMaxRHS);
+			index.fEntryOfType= new int[Math.max(mapSize, 16)];
+			for (int entry= fFirst; entry != NIL; entry= fNext[entry]) {
+				int newEntry= index.create(map[fLHS[entry]]);
+				int count= fRHSCount[entry];
+				int[] types= new int[Math.max(count, Math.min(4, fMaxRHS))];
+				for (int i= 0; i < count; i++) {
+					types[i]= map[fRHS[entry][i]];
+				}
+				index.fRHS[newEntry]= types;
+				index.fRHSCount[newEntry]= count;
+			}
+			return index;
 		}
 	}
 
@@ -268,11 +553,26 @@ public final class ContentAssistHistory {
 	 * @since 3.2
 	 */
 	public static final class RHSHistory {
-		private final LinkedHashMap<String, Integer> fHistory;
+		private final TypeTable fTable;
+		/** type ids, least recently selected first */
+		private final int[] fTypes;
+		/** open addressing table from type id to rank, <code>0</code> marks a free slot */
+		private final int[] fRanks;
 		private List<String> fList;
 
-		RHSHistory(LinkedHashMap<String, Integer> history) {
-			fHistory= history;
+		RHSHistory(TypeTable table, int[] types) {
+			fTable= table;
+			fTypes= types;
+			int capacity= Integer.highestOneBit(Math.max(types.length, 1)) * 4;
+			fRanks= new int[capacity];
+			int mask= capacity - 1;
+			for (int rank= 1; rank <= types.length; rank++) {
+				int i= mix(types[rank - 1]) & mask;
+				while (fRanks[i] != 0) {
+					i= (i + 1) & mask;
+				}
+				fRanks[i]= rank;
+			}
 		}
 
 		/**
@@ -283,10 +583,19 @@ public final class ContentAssistHistory {
 		 * @return the rank of <code>type</code>
 		 */
 		public float getRank(String type) {
-			if (fHistory == null)
+			if (fTypes.length == 0)
+				return 0.0F;
+			int id= fTable.find(type);
+			if (id == -1)
 				return 0.0F;
-			Integer integer= fHistory.get(type);
-			return integer == null ? 0.0F : integer.floatValue() / fHistory.size();
+			int mask= fRanks.length - 1;
+			for (int i= mix(id) & mask;; i= (i + 1) & mask) {
+				int rank= fRanks[i];
+				if (rank == 0)
+					return 0.0F;
+				if (fTypes[rank - 1] == id)
+					return (float) rank / fTypes.length;
+			}
 		}
 
 		/**
@@ -295,7 +604,7 @@ public final class ContentAssistHistory {
 		 * @return the size of the history
 		 */
 		public int size() {
-			return fHistory == null ? 0 : fHistory.size();
+			return fTypes.length;
 		}
 
 		/**
@@ -305,17 +614,32 @@ public final class ContentAssistHistory {
 		 * @return the list of remembered types as fully qualified type names
 		 */
 		public List<String> getTypes() {
-			if (fHistory == null)
+			if (fTypes.length == 0)
 				return Collections.emptyList();
 			if (fList == null) {
-				fList= Collections.unmodifiableList(new ArrayList<>(fHistory.keySet()));
+				String[] names= new String[fTypes.length];
+				for (int i= 0; i < names.length; i++) {
+					names[i]= fTable.getName(fTypes[i]);
+				}
+				fList= Collections.unmodifiableList(Arrays.asList(names));
 			}
 			return fList;
 		}
 	}
 
-	private static final RHSHistory EMPTY_HISTORY= new RHSHistory(null);
-	private static final int DEFAULT_TRACKED_LHS= 100;
+	/**
+	 * Spreads the bits of a hash code or type id for use in an open addressing table.
+	 *
+	 * @param hash the hash code
+	 * @return the spread hash code
+	 */
+	private static int mix(int hash) {
+		int h= hash * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static final RHSHistory EMPTY_HISTORY= new RHSHistory(null, new int[0]);
+	private static final int DEFAULT_TRACKED_LHS= 5000;
 	private static final int DEFAULT_TRACKED_RHS= 10;
 
 	private static final Set<String> UNCACHEABLE;
@@ -328,7 +652,13 @@ public final class ContentAssistHistory {
 		UNCACHEABLE= Collections.unmodifiableSet(uncacheable);
 	}
 
-	private final LinkedHashMap<String, MRUSet<String>> fLHSCache;
+	/** the minimal number of interned type names which triggers a {@link #compact()} */
+	private static final int MIN_COMPACTION_SIZE= 1024;
+
+	private TypeTable fTypes;
+	private LHSIndex fLHSIndex;
+	/** the number of interned type names at which to {@link #compact()} the next time */
+	private int fCompactionSize= MIN_COMPACTION_SIZE;
 	private final int fMaxLHS;
 	private final int fMaxRHS;
 
@@ -343,7 +673,8 @@ public final class ContentAssistHistory {
 		Assert.isLegal(maxRHS > 0);
 		fMaxLHS= maxLHS;
 		fMaxRHS= maxRHS;
-		fLHSCache= new MRUMap<>(fMaxLHS);
+		fTypes= new TypeTable();
+		fLHSIndex= new LHSIndex(fMaxLHS, fMaxRHS);
 	}
 
 	/**
@@ -390,19 +721,14 @@ public final class ContentAssistHistory {
 	 *        requested, or <code>null</code>
 	 * @return the right hand side history for the given type
 	 */
-	public RHSHistory getHistory(String lhs) {
-		MRUSet<String> rhsCache= fLHSCache.get(lhs);
-		if (rhsCache != null) {
-			int count= rhsCache.size();
-			LinkedHashMap<String, Integer> history= new LinkedHashMap<>((int) (count / 0.75));
-			int rank= 1;
-			for (Iterator<String> it= rhsCache.iterator(); it.hasNext(); rank++) {
-				String type= it.next();
-				history.put(type, rank);
-			}
-			return new RHSHistory(history);
-		}
-		return EMPTY_HISTORY;
+	public synchronized RHSHistory getHistory(String lhs) {
+		if (lhs == null)
+			return EMPTY_HISTORY;
+		int id= fTypes.find(lhs);
+		int entry= id == -1 ? LHSIndex.NIL : fLHSIndex.get(id);
+		if (entry == LHSIndex.NIL)
+			return EMPTY_HISTORY;
+		return new RHSHistory(fTypes, fLHSIndex.getRHS(entry));
 	}
 
 	/**
@@ -411,19 +737,46 @@ public final class ContentAssistHistory {
 	 *
 	 * @return the set of remembered right hand sides ordered by least recent selection
 	 */
-	public Map<String, RHSHistory> getEntireHistory() {
-		HashMap<String, RHSHistory> map= new HashMap<>((int) (fLHSCache.size() / 0.75));
-		for (Entry<String, MRUSet<String>> entry : fLHSCache.entrySet()) {
-			String lhs= entry.getKey();
-			map.put(lhs, getHistory(lhs));
+	public synchronized Map<String, RHSHistory> getEntireHistory() {
+		HashMap<String, RHSHistory> map= new HashMap<>((int) (fLHSIndex.size() / 0.75));
+		for (int entry= fLHSIndex.first(); entry != LHSIndex.NIL; entry= fLHSIndex.next(entry)) {
+			map.put(fTypes.getName(fLHSIndex.getLHS(entry)), new RHSHistory(fTypes, fLHSIndex.getRHS(entry)));
 		}
 		return Collections.unmodifiableMap(map);
 	}
 
 	private void rememberInternal(IType lhs, String rhsQualifiedName) throws JavaModelException {
 		String lhsQualifiedName= lhs.getFullyQualifiedName();
-		if (isCacheableLHS(lhs, lhsQualifiedName))
-			getCache(lhsQualifiedName).add(rhsQualifiedName);
+		if (isCacheableLHS(lhs, lhsQualifiedName)) {
+			synchronized (this) {
+				fLHSIndex.add(fTypes.intern(lhsQualifiedName), fTypes.intern(rhsQualifiedName));
+				if (fTypes.size() >= fCompactionSize)
+					compact();
+			}
+		}
+	}
+
+	/**
+	 * Drops the interned names of types which are no longer remembered. The type table and the
+	 * index are replaced rather than modified, so that the {@link RHSHistory histories} handed out
+	 * so far remain valid.
+	 */
+	private synchronized void compact() {
+		int[] map= new int[fTypes.size()];
+		Arrays.fill(map, -1);
+		TypeTable types= new TypeTable();
+		for (int entry= fLHSIndex.first(); entry != LHSIndex.NIL; entry= fLHSIndex.next(entry)) {
+			int lhs= fLHSIndex.getLHS(entry);
+			if (map[lhs] == -1)
+				map[lhs]= types.intern(fTypes.getName(lhs));
+			for (int rhs : fLHSIndex.getRHS(entry)) {
+				if (map[rhs] == -1)
+					map[rhs]= types.intern(fTypes.getName(rhs));
+			}
+		}
+		fLHSIndex= fLHSIndex.remap(map, types.size());
+		fTypes= types;
+		fCompactionSize= Math.max(MIN_COMPACTION_SIZE, types.size() * 2);
 	}
 
 	private boolean isCacheableLHS(IType type, String qualifiedName) throws JavaModelException {
@@ -434,18 +787,48 @@ public final class ContentAssistHistory {
 		return !type.isInterface() && !Flags.isAbstract(type.getFlags());
 	}
 
-	private Set<String> getCache(String lhs) {
-		MRUSet<String> rhsCache= fLHSCache.get(lhs);
-		if (rhsCache == null) {
-			rhsCache= new MRUSet<>(fMaxRHS);
-			fLHSCache.put(lhs, rhsCache);
-		}
+	private IProgressMonitor getProgressMonitor() {
+		return new NullProgressMonitor();
+	}
 
-		return rhsCache;
+	/**
+	 * Stores the history into the given file in a compact binary format.
+	 *
+	 * @param history the history to store
+	 * @param file the file to store the history into
+	 * @throws CoreException if writing the file fails
+	 * @see #load(File) on how to restore a history stored by this method
+	 * @since 3.30
+	 */
+	public static void store(ContentAssistHistory history, File file) throws CoreException {
+		File temp= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				new BinaryReaderWriter().store(history, out);
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			temp.delete();
+			throw new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, JavaTextMessages.ContentAssistHistory_write_error, e));
+		}
 	}
 
-	private IProgressMonitor getProgressMonitor() {
-		return new NullProgressMonitor();
+	/**
+	 * Loads a history from a file written by {@link #store(ContentAssistHistory, File)}.
+	 *
+	 * @param file the file to load the history from
+	 * @return the loaded history, or <code>null</code> if the file does not exist
+	 * @throws CoreException if reading the file fails
+	 * @since 3.30
+	 */
+	public static ContentAssistHistory load(File file) throws CoreException {
+		if (!file.isFile())
+			return null;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			return new BinaryReaderWriter().load(in);
+		} catch (IOException e) {
+			throw new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, JavaTextMessages.ContentAssistHistory_read_error, e));
+		}
 	}
 
 	/**
@@ -22,9 +22,12 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
@@ -77,6 +80,7 @@ import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.text.java.ConcurrentCategoryComputation.CategoryResult;
 
 
 /**
@@ -181,6 +185,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 				return;
 			}
 
+			cancelConcurrentComputation();
 			for (CompletionProposalCategory cat : getCategoriesToNotify()) {
 				cat.sessionEnded();
 			}
@@ -215,7 +220,9 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		 */
 		@Override
 		public void assistSessionRestarted(ContentAssistEvent event) {
-			fRepetition= 0;
+			if (fLateProposals == null) {
+				fRepetition= 0;
+			}
 		}
 	}
 
@@ -229,6 +236,23 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 
 	private static final Comparator<CompletionProposalCategory> ORDER_COMPARATOR= (d1, d2) -> d1.getSortOrder() - d2.getSortOrder();
 
+	/**
+	 * Proposals which include the ones computed after the deadline of a concurrent computation.
+	 *
+	 * @since 3.30
+	 */
+	private static final class LateProposals {
+		final int fOffset;
+		final List<ICompletionProposal> fProposals;
+		final boolean fNeedsSortingAfterFiltering;
+
+		LateProposals(int offset, List<ICompletionProposal> proposals, boolean needsSortingAfterFiltering) {
+			fOffset= offset;
+			fProposals= proposals;
+			fNeedsSortingAfterFiltering= needsSortingAfterFiltering;
+		}
+	}
+
 	private final List<CompletionProposalCategory> fCategories;
 	private final String fPartition;
 	private final ContentAssistant fAssistant;
@@ -259,6 +283,21 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 */
 	private boolean fNeedsSortingAfterFiltering;
 
+	/**
+	 * The concurrent computation of the last invocation, or <code>null</code> if none.
+	 *
+	 * @since 3.30
+	 */
+	private volatile ConcurrentCategoryComputation fConcurrentComputation;
+
+	/**
+	 * The proposals to be shown by the next invocation instead of computing them, or
+	 * <code>null</code> if none.
+	 *
+	 * @since 3.30
+	 */
+	private volatile LateProposals fLateProposals;
+
 
 	public ContentAssistProcessor(ContentAssistant assistant, String partition) {
 		Assert.isNotNull(partition);
@@ -286,7 +325,17 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		long setup= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		monitor.subTask(JavaTextMessages.ContentAssistProcessor_collecting_proposals);
-		List<ICompletionProposal> proposals= collectProposals(viewer, offset, monitor, context);
+		List<ICompletionProposal> proposals;
+		LateProposals lateProposals= fLateProposals;
+		fLateProposals= null;
+		if (lateProposals != null && lateProposals.fOffset == offset) {
+			proposals= new ArrayList<>(lateProposals.fProposals);
+			if (lateProposals.fNeedsSortingAfterFiltering) {
+				fNeedsSortingAfterFiltering= true;
+			}
+		} else {
+			proposals= collectProposals(viewer, offset, monitor, context);
+		}
 		long collect= JavaPlugin.DEBUG_RESULT_COLLECTOR ? System.currentTimeMillis() : 0;
 
 		monitor.subTask(JavaTextMessages.ContentAssistProcessor_sorting_proposals);
@@ -306,6 +355,9 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 			System.err.println("Code Assist (setup):\t" + (setup - start) ); //$NON-NLS-1$
 			System.err.println("Code Assist (collect):\t" + (collect - setup) ); //$NON-NLS-1$
 			System.err.println("Code Assist (sort):\t" + (filter - collect) ); //$NON-NLS-1$
+			for (Map.Entry<String, LatencyHistogram> entry : fComputerRegistry.getLatencyHistograms().entrySet()) {
+				System.err.println("Code Assist (" + entry.getKey() + "):\t" + entry.getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
 		}
 
 		return result;
@@ -326,9 +378,14 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 * @return the list of proposals
 	 */
 	private List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset, IProgressMonitor monitor, ContentAssistInvocationContext context) {
+		List<CompletionProposalCategory> providers= getCategories();
+		if (providers.size() > 1 && isConcurrentComputationEnabled()) {
+			return collectProposalsConcurrently(providers, viewer, offset, monitor, context);
+		}
+		cancelConcurrentComputation();
+
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
-		List<CompletionProposalCategory> providers= getCategories();
 		for (CompletionProposalCategory cat : providers) {
 			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1));
 			proposals.addAll(computed);
@@ -344,6 +401,101 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	/**
+	 * Collects the proposals of the given categories concurrently. Returns the proposals of the
+	 * categories which are computed when the deadline passes and shows the proposals of the other
+	 * categories when they are computed.
+	 *
+	 * @param categories the categories
+	 * @param viewer the text viewer
+	 * @param offset the offset
+	 * @param monitor the progress monitor
+	 * @param context the code assist invocation context
+	 * @return the list of proposals computed until the deadline
+	 * @since 3.30
+	 */
+	private List<ICompletionProposal> collectProposalsConcurrently(List<CompletionProposalCategory> categories, ITextViewer viewer, int offset, IProgressMonitor monitor, ContentAssistInvocationContext context) {
+		cancelConcurrentComputation();
+		int deadline= JavaPlugin.getDefault().getPreferenceStore().getInt(PreferenceConstants.CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE);
+		long deadlineNanos= System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadline);
+
+		ConcurrentCategoryComputation computation= new ConcurrentCategoryComputation(categories, context, fPartition);
+		fConcurrentComputation= computation;
+		List<CategoryResult> results= computation.getResults(deadlineNanos);
+		monitor.worked(categories.size());
+
+		List<ICompletionProposal> proposals= new ArrayList<>();
+		boolean needsSortingAfterFiltering= addResults(results, proposals);
+		if (fNeedsSortingAfterFiltering && !needsSortingAfterFiltering) {
+			fAssistant.setSorter(null);
+		}
+		fNeedsSortingAfterFiltering= needsSortingAfterFiltering;
+
+		List<ICompletionProposal> early= new ArrayList<>(proposals);
+		computation.whenLateResultsDone(lateResults -> {
+			List<ICompletionProposal> all= new ArrayList<>(early);
+			boolean lateNeedsSorting= addResults(lateResults, all);
+			LateProposals lateProposals= new LateProposals(offset, all, needsSortingAfterFiltering || lateNeedsSorting);
+			Display.getDefault().asyncExec(() -> showLateProposals(computation, viewer, lateProposals));
+		});
+		return proposals;
+	}
+
+	/**
+	 * Adds the proposals of the given results to the given list.
+	 *
+	 * @param results the results of the categories
+	 * @param proposals the list to add the proposals to
+	 * @return <code>true</code> if any category with proposals requires sorting after filtering
+	 * @since 3.30
+	 */
+	private boolean addResults(List<CategoryResult> results, List<ICompletionProposal> proposals) {
+		boolean needsSortingAfterFiltering= false;
+		for (CategoryResult result : results) {
+			proposals.addAll(result.fProposals);
+			needsSortingAfterFiltering= needsSortingAfterFiltering || (result.fCategory.isSortingAfterFilteringNeeded() && !result.fProposals.isEmpty());
+			if (fErrorMessage == null) {
+				fErrorMessage= result.fCategory.getErrorMessage();
+			}
+		}
+		return needsSortingAfterFiltering;
+	}
+
+	/**
+	 * Shows the proposals including the ones computed after the deadline if the content assist
+	 * session is still active and the caret has not moved.
+	 *
+	 * @param computation the concurrent computation
+	 * @param viewer the text viewer
+	 * @param lateProposals the proposals to show
+	 * @since 3.30
+	 */
+	private void showLateProposals(ConcurrentCategoryComputation computation, ITextViewer viewer, LateProposals lateProposals) {
+		if (computation != fConcurrentComputation || computation.isCanceled() || fRepetition < 0) {
+			return;
+		}
+		StyledText textWidget= viewer.getTextWidget();
+		if (textWidget == null || textWidget.isDisposed() || viewer.getSelectedRange().x != lateProposals.fOffset) {
+			return;
+		}
+		// the next invocation picks up the late proposals instead of computing them again
+		fLateProposals= lateProposals;
+		fAssistant.showPossibleCompletions();
+	}
+
+	private void cancelConcurrentComputation() {
+		ConcurrentCategoryComputation computation= fConcurrentComputation;
+		if (computation != null) {
+			computation.cancel();
+			fConcurrentComputation= null;
+		}
+		fLateProposals= null;
+	}
+
+	private boolean isConcurrentComputationEnabled() {
+		return JavaPlugin.getDefault().getPreferenceStore().getBoolean(PreferenceConstants.CODEASSIST_CONCURRENT_COMPUTATION);
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
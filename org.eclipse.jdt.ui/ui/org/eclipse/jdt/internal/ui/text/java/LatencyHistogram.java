@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe histogram of latencies with buckets of exponentially growing size. Bucket
+ * <code>0</code> counts latencies below one millisecond, bucket <code>i</code> latencies from
+ * <code>2<sup>i-1</sup></code> up to <code>2<sup>i</sup></code> milliseconds and the last bucket
+ * all longer latencies.
+ *
+ * @since 3.30
+ */
+public final class LatencyHistogram {
+
+	/** The number of buckets, the last one counts latencies of 16 seconds and more. */
+	public static final int BUCKET_COUNT= 16;
+
+	private final AtomicLongArray fCounts= new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong fTotalNanos= new AtomicLong();
+	private final AtomicLong fMaxNanos= new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		if (nanos < 0)
+			nanos= 0;
+		fCounts.incrementAndGet(getBucket(TimeUnit.NANOSECONDS.toMillis(nanos)));
+		fTotalNanos.addAndGet(nanos);
+		fMaxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * Returns the bucket counting the given latency.
+	 *
+	 * @param millis the latency in milliseconds
+	 * @return the index of the bucket
+	 */
+	public static int getBucket(long millis) {
+		if (millis <= 0)
+			return 0;
+		int bucket= 64 - Long.numberOfLeadingZeros(millis);
+		return Math.min(bucket, BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Returns the lower bound of the latencies counted by the given bucket.
+	 *
+	 * @param bucket the index of the bucket
+	 * @return the lower bound in milliseconds
+	 */
+	public static long getLowerBound(int bucket) {
+		return bucket == 0 ? 0 : 1L << (bucket - 1);
+	}
+
+	/**
+	 * @return a snapshot of the counts per bucket
+	 */
+	public long[] getCounts() {
+		long[] counts= new long[BUCKET_COUNT];
+		for (int i= 0; i < BUCKET_COUNT; i++) {
+			counts[i]= fCounts.get(i);
+		}
+		return counts;
+	}
+
+	/**
+	 * @return the number of recorded latencies
+	 */
+	public long getCount() {
+		long count= 0;
+		for (int i= 0; i < BUCKET_COUNT; i++) {
+			count+= fCounts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * @return the mean latency in milliseconds, or <code>0</code> if none was recorded
+	 */
+	public double getMeanMillis() {
+		long count= getCount();
+		return count == 0 ? 0 : fTotalNanos.get() / (count * 1e6);
+	}
+
+	/**
+	 * @return the longest latency in milliseconds
+	 */
+	public long getMaxMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(fMaxNanos.get());
+	}
+
+	/**
+	 * Returns an upper bound for the given percentile, i.e. the upper bound of the bucket which
+	 * contains it.
+	 *
+	 * @param percentile the percentile, between <code>0</code> and <code>100</code>
+	 * @return the upper bound of the percentile in milliseconds
+	 */
+	public long getPercentileMillis(double percentile) {
+		long[] counts= getCounts();
+		long count= 0;
+		for (long c : counts) {
+			count+= c;
+		}
+		if (count == 0)
+			return 0;
+		long rank= (long) Math.ceil(count * percentile / 100);
+		long seen= 0;
+		for (int i= 0; i < BUCKET_COUNT - 1; i++) {
+			seen+= counts[i];
+			if (seen >= rank)
+				return getLowerBound(i + 1);
+		}
+		return getMaxMillis();
+	}
+
+	/**
+	 * Forgets all recorded latencies.
+	 */
+	public void reset() {
+		for (int i= 0; i < BUCKET_COUNT; i++) {
+			fCounts.set(i, 0);
+		}
+		fTotalNanos.set(0);
+		fMaxNanos.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d, mean=%.1fms, p50<=%dms, p90<=%dms, p99<=%dms, max=%dms", //$NON-NLS-1$
+				Long.valueOf(getCount()), Double.valueOf(getMeanMillis()), Long.valueOf(getPercentileMillis(50)),
+				Long.valueOf(getPercentileMillis(90)), Long.valueOf(getPercentileMillis(99)), Long.valueOf(getMaxMillis()));
+	}
+}
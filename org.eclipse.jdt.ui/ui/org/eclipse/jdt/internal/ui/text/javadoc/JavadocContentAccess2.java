@@ -310,7 +310,7 @@ public class JavadocContentAccess2 {
 		 * 		or <code>null</code> if none could be found
 		 */
 		public CharSequence getInheritedMainDescription(IMethod method) {
-			return getInheritedDescription(method, JavadocContentAccess2::getMainDescription);
+			return getInheritedDescription(method, "main", JavadocContentAccess2::getMainDescription); //$NON-NLS-1$
 		}
 
 		/**
@@ -323,7 +323,7 @@ public class JavadocContentAccess2 {
 		 *         <code>null</code> if none could be found
 		 */
 		public CharSequence getInheritedTypeParamDescription(IMethod method, final int typeParamIndex) {
-			return getInheritedDescription(method, contentAccess -> contentAccess.getInheritedTypeParamDescription(typeParamIndex));
+			return getInheritedDescription(method, "typeparam:" + typeParamIndex, contentAccess -> contentAccess.getInheritedTypeParamDescription(typeParamIndex)); //$NON-NLS-1$
 		}
 
 		/**
@@ -336,7 +336,7 @@ public class JavadocContentAccess2 {
 		 * 		or <code>null</code> if none could be found
 		 */
 		public CharSequence getInheritedParamDescription(IMethod method, final int paramIndex) {
-			return getInheritedDescription(method, contentAccess -> contentAccess.getInheritedParamDescription(paramIndex));
+			return getInheritedDescription(method, "param:" + paramIndex, contentAccess -> contentAccess.getInheritedParamDescription(paramIndex)); //$NON-NLS-1$
 		}
 
 		/**
@@ -347,7 +347,7 @@ public class JavadocContentAccess2 {
 		 * 		or <code>null</code> if none could be found
 		 */
 		public CharSequence getInheritedReturnDescription(IMethod method) {
-			return getInheritedDescription(method, JavadocContentAccess2::getReturnDescription);
+			return getInheritedDescription(method, "return", JavadocContentAccess2::getReturnDescription); //$NON-NLS-1$
 		}
 
 		/**
@@ -360,10 +360,33 @@ public class JavadocContentAccess2 {
 		 * 		or <code>null</code> if none could be found
 		 */
 		public CharSequence getInheritedExceptionDescription(IMethod method, final String simpleName) {
-			return getInheritedDescription(method, contentAccess -> contentAccess.getExceptionDescription(simpleName));
+			return getInheritedDescription(method, "throws:" + simpleName, contentAccess -> contentAccess.getExceptionDescription(simpleName)); //$NON-NLS-1$
 		}
 
-		private CharSequence getInheritedDescription(final IMethod method, final DescriptionGetter descriptionGetter) {
+		/**
+		 * Returns the description from an overridden method. Descriptions are memoized across
+		 * lookups by the {@link JavadocContentCache}.
+		 *
+		 * @param method a method
+		 * @param kind identifies the description, unique per description getter
+		 * @param descriptionGetter the description getter
+		 * @return the description, or <code>null</code> if none could be found
+		 */
+		private CharSequence getInheritedDescription(final IMethod method, String kind, final DescriptionGetter descriptionGetter) {
+			if (fStartingType == null)
+				return findInheritedDescription(method, descriptionGetter);
+			try {
+				return JavadocContentCache.getDefault().getInheritedDescription(fStartingType, method, kind, () -> {
+					CharSequence description= findInheritedDescription(method, descriptionGetter);
+					return description != null ? description.toString() : null;
+				});
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+			}
+			return null;
+		}
+
+		private CharSequence findInheritedDescription(final IMethod method, final DescriptionGetter descriptionGetter) {
 			try {
 				return (CharSequence) new InheritDocVisitor() {
 					@Override
@@ -507,6 +530,10 @@ public class JavadocContentAccess2 {
 	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
 	 */
 	public static String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
+		return JavadocContentCache.getDefault().getHTMLContent(element, useAttachedJavadoc, () -> computeHTMLContent(element, useAttachedJavadoc));
+	}
+
+	private static String computeHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
 		if (element instanceof IPackageFragment) {
 			return getHTMLContent((IPackageFragment) element);
 		}
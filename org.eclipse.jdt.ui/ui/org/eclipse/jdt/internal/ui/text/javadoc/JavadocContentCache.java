@@ -0,0 +1,402 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Caches the Javadoc HTML rendered by {@link JavadocContentAccess2} and the descriptions it
+ * resolves for <code>{&#64;inheritDoc}</code> tags, and prefetches attached Javadoc.
+ * <p>
+ * Entries are keyed by the handle identifiers of the elements. Content computed from source
+ * folders is dropped whenever a compilation unit or a non-Java resource of a package in a source
+ * folder changes, for example a <code>package.html</code> file. Content computed from class files
+ * is kept until the class path, an archive, a class file or a non-Java resource of a package in a
+ * library changes. Content of elements in non-primary working copies is not cached, since their
+ * handles are not unique.
+ * </p>
+ *
+ * @since 3.30
+ */
+public final class JavadocContentCache implements IElementChangedListener {
+
+	/**
+	 * Computes the content to cache.
+	 */
+	interface ContentComputer {
+		String compute() throws CoreException;
+	}
+
+	/** Upper bound for the number of characters of the cached HTML. */
+	private static final int MAX_HTML_CHARS= 4 * 1024 * 1024;
+
+	private static final int MAX_INHERITED_DESCRIPTIONS= 5000;
+
+	private static final int MAX_PREFETCHED_TYPES_PER_INPUT= 50;
+
+	private static final int NOT_AFFECTED= 0;
+	private static final int SOURCE_AFFECTED= 1;
+	private static final int ALL_AFFECTED= 2;
+
+	/** Marks content which was computed to be <code>null</code>. */
+	private static final String NO_CONTENT= new String();
+
+	private static JavadocContentCache fgInstance;
+
+	private static final class Entry {
+		final String fContent;
+		final boolean fFromSource;
+
+		Entry(String content, boolean fromSource) {
+			fContent= content;
+			fFromSource= fromSource;
+		}
+	}
+
+	/**
+	 * The HTML per element, in access order. Access is synchronized on this.
+	 */
+	private final LinkedHashMap<String, Entry> fHTMLContents= new LinkedHashMap<>(64, 0.75f, true);
+	private int fHTMLChars;
+
+	/**
+	 * The inherited descriptions, in access order. Access is synchronized on this.
+	 */
+	private final LinkedHashMap<String, Entry> fInheritedDescriptions= new LinkedHashMap<String, Entry>(64, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_INHERITED_DESCRIPTIONS;
+		}
+	};
+
+	/**
+	 * Incremented whenever content computed from compilation units is dropped, to avoid caching
+	 * content that was computed while it became stale.
+	 */
+	private long fSourceStamp;
+
+	/**
+	 * Incremented whenever all content is dropped.
+	 */
+	private long fClasspathStamp;
+
+	/** The types whose attached Javadoc has been prefetched. Access is synchronized on this. */
+	private final Set<String> fPrefetchedTypes= new HashSet<>();
+
+	/** The inputs to prefetch attached Javadoc for. Access is synchronized on this. */
+	private final ArrayDeque<ITypeRoot> fPrefetchQueue= new ArrayDeque<>();
+
+	private final Job fPrefetchJob= new Job(JavaDocMessages.JavadocContentCache_prefetch_job) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			ITypeRoot input;
+			while ((input= pollPrefetchQueue()) != null) {
+				if (monitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				prefetch(input, monitor);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	public static synchronized JavadocContentCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new JavadocContentCache();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance);
+			fgInstance.fPrefetchJob.cancel();
+			fgInstance.clear();
+			fgInstance= null;
+		}
+	}
+
+	private JavadocContentCache() {
+		fPrefetchJob.setSystem(true);
+		fPrefetchJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Returns the cached HTML of the given element or computes and caches it.
+	 *
+	 * @param element the element
+	 * @param useAttachedJavadoc whether the content may come from attached Javadoc
+	 * @param computer computes the content if it is not cached
+	 * @return the content, can be <code>null</code>
+	 * @throws CoreException if computing the content fails
+	 */
+	String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc, ContentComputer computer) throws CoreException {
+		if (!isCacheable(element))
+			return computer.compute();
+		String key= (useAttachedJavadoc ? 'A' : 'S') + element.getHandleIdentifier();
+		long sourceStamp;
+		long classpathStamp;
+		synchronized (this) {
+			Entry entry= fHTMLContents.get(key);
+			if (entry != null)
+				return entry.fContent == NO_CONTENT ? null : entry.fContent;
+			sourceStamp= fSourceStamp;
+			classpathStamp= fClasspathStamp;
+		}
+		String content= computer.compute();
+		boolean fromSource= isFromSource(element);
+		synchronized (this) {
+			if (classpathStamp == fClasspathStamp && (!fromSource || sourceStamp == fSourceStamp)) {
+				Entry old= fHTMLContents.put(key, new Entry(content != null ? content : NO_CONTENT, fromSource));
+				if (old != null)
+					fHTMLChars-= old.fContent.length();
+				fHTMLChars+= content != null ? content.length() : 0;
+				trimHTMLContents();
+			}
+		}
+		return content;
+	}
+
+	private void trimHTMLContents() {
+		for (Iterator<Entry> iter= fHTMLContents.values().iterator(); fHTMLChars > MAX_HTML_CHARS && iter.hasNext();) {
+			fHTMLChars-= iter.next().fContent.length();
+			iter.remove();
+		}
+	}
+
+	/**
+	 * Returns the cached description which replaces an <code>{&#64;inheritDoc}</code> tag or
+	 * computes and caches it.
+	 *
+	 * @param startingType the type in whose hierarchy the description is looked up
+	 * @param method the method whose Javadoc contains the tag
+	 * @param kind identifies the tag, e.g. the main description or a certain parameter
+	 * @param computer computes the description if it is not cached
+	 * @return the description, can be <code>null</code>
+	 * @throws CoreException if computing the description fails
+	 */
+	String getInheritedDescription(IType startingType, IJavaElement method, String kind, ContentComputer computer) throws CoreException {
+		if (!isCacheable(startingType) || !isCacheable(method))
+			return computer.compute();
+		String key= startingType.getHandleIdentifier() + '|' + method.getHandleIdentifier() + '|' + kind;
+		long sourceStamp;
+		long classpathStamp;
+		synchronized (this) {
+			Entry entry= fInheritedDescriptions.get(key);
+			if (entry != null)
+				return entry.fContent == NO_CONTENT ? null : entry.fContent;
+			sourceStamp= fSourceStamp;
+			classpathStamp= fClasspathStamp;
+		}
+		String description= computer.compute();
+		boolean fromSource= isFromSource(startingType) || isFromSource(method);
+		synchronized (this) {
+			if (classpathStamp == fClasspathStamp && (!fromSource || sourceStamp == fSourceStamp)) {
+				fInheritedDescriptions.put(key, new Entry(description != null ? description : NO_CONTENT, fromSource));
+			}
+		}
+		return description;
+	}
+
+	private static boolean isCacheable(IJavaElement element) {
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return cu == null || cu.getOwner() == null;
+	}
+
+	private static boolean isFromSource(IJavaElement element) {
+		if (element.getAncestor(IJavaElement.COMPILATION_UNIT) != null)
+			return true;
+		// e.g. a package, whose content comes from package-info.java or package.html
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		try {
+			return root != null && root.getKind() == IPackageFragmentRoot.K_SOURCE;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Drops all cached content.
+	 */
+	public synchronized void clear() {
+		fHTMLContents.clear();
+		fHTMLChars= 0;
+		fInheritedDescriptions.clear();
+		fPrefetchedTypes.clear();
+		fSourceStamp++;
+		fClasspathStamp++;
+	}
+
+	private synchronized void clearSourceContent() {
+		for (Iterator<Entry> iter= fHTMLContents.values().iterator(); iter.hasNext();) {
+			Entry entry= iter.next();
+			if (entry.fFromSource) {
+				fHTMLChars-= entry.fContent.length();
+				iter.remove();
+			}
+		}
+		fInheritedDescriptions.values().removeIf(entry -> entry.fFromSource);
+		fSourceStamp++;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		switch (processDelta(event.getDelta())) {
+			case ALL_AFFECTED:
+				clear();
+				break;
+			case SOURCE_AFFECTED:
+				clearSourceContent();
+				break;
+			default:
+				break;
+		}
+	}
+
+	/*
+	 * Returns which of the cached content is affected by the delta.
+	 */
+	private int processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED
+						| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					return ALL_AFFECTED;
+				}
+				return processChildren(delta);
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+						| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER
+						| IJavaElementDelta.F_SOURCEATTACHED | IJavaElementDelta.F_SOURCEDETACHED)) != 0) {
+					return ALL_AFFECTED;
+				}
+				return processChildren(delta);
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getResourceDeltas() != null) {
+					// a non-Java resource like package.html has changed
+					return isFromSource(element) ? Math.max(SOURCE_AFFECTED, processChildren(delta)) : ALL_AFFECTED;
+				}
+				return processChildren(delta);
+			case IJavaElement.COMPILATION_UNIT:
+				return SOURCE_AFFECTED;
+			case IJavaElement.CLASS_FILE:
+				return ALL_AFFECTED;
+			default:
+				return processChildren(delta);
+		}
+	}
+
+	private int processChildren(IJavaElementDelta delta) {
+		int result= NOT_AFFECTED;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			result= Math.max(result, processDelta(child));
+			if (result == ALL_AFFECTED)
+				break;
+		}
+		return result;
+	}
+
+	/**
+	 * Prefetches in the background the attached Javadoc of the types of the given editor input
+	 * which have no source, and of their super types which have no source.
+	 *
+	 * @param input the editor input, can be <code>null</code>
+	 */
+	public void prefetchAttachedJavadoc(ITypeRoot input) {
+		if (input == null)
+			return;
+		synchronized (this) {
+			if (fPrefetchQueue.contains(input))
+				return;
+			fPrefetchQueue.add(input);
+		}
+		fPrefetchJob.schedule();
+	}
+
+	private synchronized ITypeRoot pollPrefetchQueue() {
+		return fPrefetchQueue.poll();
+	}
+
+	private void prefetch(ITypeRoot input, IProgressMonitor monitor) {
+		try {
+			IType type= input.findPrimaryType();
+			if (type == null || !type.exists())
+				return;
+			int count= 0;
+			if (input instanceof IOrdinaryClassFile && prefetch(type, monitor))
+				count++;
+			for (IType superType : SuperTypeHierarchyCache.getTypeHierarchy(type).getAllSupertypes(type)) {
+				if (count >= MAX_PREFETCHED_TYPES_PER_INPUT || monitor.isCanceled())
+					break;
+				if (superType.isBinary() && prefetch(superType, monitor))
+					count++;
+			}
+		} catch (JavaModelException e) {
+			// the input has been deleted or its hierarchy can't be computed, nothing to prefetch
+		}
+	}
+
+	/*
+	 * Fetches the attached Javadoc of the given type, which lets Java Core cache it for its
+	 * members. Returns whether the Javadoc was fetched.
+	 */
+	private boolean prefetch(IType type, IProgressMonitor monitor) throws JavaModelException {
+		if (type.getOpenable().getBuffer() != null)
+			return false; // Javadoc comes from the source
+		synchronized (this) {
+			if (!fPrefetchedTypes.add(type.getHandleIdentifier()))
+				return false;
+		}
+		try {
+			type.getAttachedJavadoc(monitor);
+		} catch (JavaModelException e) {
+			// no Javadoc location or the Javadoc can't be read, hovers will report it
+		} catch (RuntimeException e) {
+			JavaPlugin.log(e);
+		}
+		return true;
+	}
+}
@@ -84,6 +84,14 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	private boolean fRefreshJobCanceledExplicitly= true;
 
+	/**
+	 * Indicates whether the hierarchy was loaded from a stored snapshot and still has to be
+	 * refreshed once it is shown.
+	 *
+	 * @since 3.30
+	 */
+	private volatile boolean fSnapshotRefreshNeeded;
+
 	/**
 	 * Creates the type hierarchy life cycle.
 	 *
@@ -271,6 +279,8 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	protected void doHierarchyRefreshBackground(final IJavaElement[] elements, final IProgressMonitor pm) throws JavaModelException {
 		doHierarchyRefresh(elements, pm);
 		if (!pm.isCanceled()) {
+			final boolean snapshotRefreshNeeded= fSnapshotRefreshNeeded;
+			fSnapshotRefreshNeeded= false;
 			Display.getDefault().asyncExec(() -> {
 				synchronized (TypeHierarchyLifeCycle.this) {
 					if (fRefreshHierarchyJob == null) {
@@ -282,18 +292,31 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 					return;
 				fTypeHierarchyViewPart.setViewersInput();
 				fTypeHierarchyViewPart.updateViewers();
+				if (snapshotRefreshNeeded && fHierarchy != null) {
+					// show the stored snapshot right away and bring it up to date in the background
+					typeHierarchyChanged(fHierarchy);
+				}
 			});
 		}
 	}
 
 	private ITypeHierarchy createTypeHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
-		if (elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE) {
-			IType type= (IType)elements[0];
+		IType type= getFocusType(elements);
+		if (type != null) {
+			// stored snapshots are only used when they can be shown before they are refreshed
+			TypeHierarchySnapshots.Snapshot snapshot= TypeHierarchySnapshots.getDefault().get(type, fIsSuperTypesOnly, fTypeHierarchyViewPart != null, pm);
+			if (snapshot != null) {
+				fSnapshotRefreshNeeded= !snapshot.isCurrent();
+				return snapshot.getHierarchy();
+			}
+			ITypeHierarchy hierarchy;
 			if (fIsSuperTypesOnly) {
-				return type.newSupertypeHierarchy(pm);
+				hierarchy= type.newSupertypeHierarchy(pm);
 			} else {
-				return type.newTypeHierarchy(pm);
+				hierarchy= type.newTypeHierarchy(pm);
 			}
+			storeSnapshot(type, hierarchy, pm);
+			return hierarchy;
 		} else {
 			IRegion region= JavaCore.newRegion();
 			for (IJavaElement element : elements) {
@@ -312,6 +335,19 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	private static IType getFocusType(IJavaElement[] elements) {
+		if (elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE) {
+			return (IType) elements[0];
+		}
+		return null;
+	}
+
+	private void storeSnapshot(IType type, ITypeHierarchy hierarchy, IProgressMonitor pm) {
+		if (pm == null || !pm.isCanceled()) {
+			TypeHierarchySnapshots.getDefault().put(type, fIsSuperTypesOnly, hierarchy, pm);
+		}
+	}
+
 
 	public void doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
 		boolean hierachyCreationNeeded= (fHierarchy == null || !Arrays.equals(elements, fInputElements));
@@ -322,6 +358,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			JavaCore.removeElementChangedListener(this);
 		}
 		if (hierachyCreationNeeded) {
+			fSnapshotRefreshNeeded= false;
 			fHierarchy= createTypeHierarchy(elements, pm);
 			if (pm != null && pm.isCanceled()) {
 				throw new OperationCanceledException();
@@ -331,6 +368,10 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			fHierarchy.refresh(pm);
 			if (pm != null && pm.isCanceled())
 				throw new OperationCanceledException();
+			IType type= getFocusType(elements);
+			if (type != null) {
+				storeSnapshot(type, fHierarchy, pm);
+			}
 		}
 		fHierarchy.addTypeHierarchyChangedListener(this);
 		JavaCore.addElementChangedListener(this);
@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Keeps snapshots of the type hierarchies of focus types, so that opening the hierarchy of a type
+ * again does not have to compute it from scratch.
+ * <p>
+ * Snapshots are keyed by the focus type and by whether the hierarchy contains the super types only.
+ * The most recently used hierarchies are kept in memory, where they are current: the type
+ * hierarchy tracks the Java element deltas itself, and a hierarchy is dropped from memory as soon
+ * as a delta affects it. All snapshots are also stored in the workspace state location. Stored
+ * snapshots survive restarts but may be outdated, clients have to refresh them before relying on
+ * them.
+ * </p>
+ *
+ * @since 3.30
+ */
+public final class TypeHierarchySnapshots {
+
+	/**
+	 * A snapshot of a type hierarchy.
+	 */
+	public static final class Snapshot {
+		private final ITypeHierarchy fHierarchy;
+		private final boolean fIsCurrent;
+
+		Snapshot(ITypeHierarchy hierarchy, boolean isCurrent) {
+			fHierarchy= hierarchy;
+			fIsCurrent= isCurrent;
+		}
+
+		public ITypeHierarchy getHierarchy() {
+			return fHierarchy;
+		}
+
+		/**
+		 * @return <code>true</code> if the hierarchy is known to be up to date,
+		 *         <code>false</code> if it was loaded from the state location and needs a refresh
+		 */
+		public boolean isCurrent() {
+			return fIsCurrent;
+		}
+	}
+
+	private static final String SNAPSHOT_DIR= "typehierarchies"; //$NON-NLS-1$
+	private static final String SNAPSHOT_FILE_EXTENSION= ".hierarchy"; //$NON-NLS-1$
+	private static final int MAGIC= 0x4A544853; // JTHS
+	private static final int VERSION= 1;
+
+	private static final int MAX_MEMORY_ENTRIES= 5;
+	private static final int MAX_STORED_SNAPSHOTS= 50;
+
+	private static TypeHierarchySnapshots fgInstance;
+
+	private final class Entry implements ITypeHierarchyChangedListener {
+		final String fKey;
+		final ITypeHierarchy fHierarchy;
+
+		Entry(String key, ITypeHierarchy hierarchy) {
+			fKey= key;
+			fHierarchy= hierarchy;
+		}
+
+		@Override
+		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+			remove(this);
+		}
+	}
+
+	/**
+	 * The current hierarchies in memory, in access order. Access is synchronized on this.
+	 */
+	private final Map<String, Entry> fEntries= new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			if (size() > MAX_MEMORY_ENTRIES) {
+				eldest.getValue().fHierarchy.removeTypeHierarchyChangedListener(eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+	};
+
+	public static synchronized TypeHierarchySnapshots getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new TypeHierarchySnapshots();
+		}
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			fgInstance.clearMemory();
+			fgInstance= null;
+		}
+	}
+
+	private TypeHierarchySnapshots() {
+	}
+
+	/**
+	 * Returns the snapshot of the hierarchy of the given type.
+	 *
+	 * @param focus the focus type
+	 * @param isSuperTypesOnly whether the hierarchy contains the super types only
+	 * @param includeStored whether to load a snapshot from the state location if no current one
+	 *            is in memory
+	 * @param pm the progress monitor, can be <code>null</code>
+	 * @return the snapshot, or <code>null</code> if there is none
+	 */
+	public Snapshot get(IType focus, boolean isSuperTypesOnly, boolean includeStored, IProgressMonitor pm) {
+		String key= getKey(focus, isSuperTypesOnly);
+		synchronized (this) {
+			Entry entry= fEntries.get(key);
+			if (entry != null)
+				return new Snapshot(entry.fHierarchy, true);
+		}
+		if (!includeStored)
+			return null;
+		ITypeHierarchy hierarchy= load(focus, key, pm);
+		return hierarchy != null ? new Snapshot(hierarchy, false) : null;
+	}
+
+	/**
+	 * Remembers the given up to date hierarchy of the given type and stores it in the state
+	 * location.
+	 *
+	 * @param focus the focus type
+	 * @param isSuperTypesOnly whether the hierarchy contains the super types only
+	 * @param hierarchy the hierarchy
+	 * @param pm the progress monitor, can be <code>null</code>
+	 */
+	public void put(IType focus, boolean isSuperTypesOnly, ITypeHierarchy hierarchy, IProgressMonitor pm) {
+		String key= getKey(focus, isSuperTypesOnly);
+		Entry entry= new Entry(key, hierarchy);
+		hierarchy.addTypeHierarchyChangedListener(entry);
+		synchronized (this) {
+			Entry old= fEntries.put(key, entry);
+			if (old != null)
+				old.fHierarchy.removeTypeHierarchyChangedListener(old);
+		}
+		store(key, hierarchy, pm);
+	}
+
+	private synchronized void remove(Entry entry) {
+		if (fEntries.get(entry.fKey) == entry) {
+			fEntries.remove(entry.fKey);
+		}
+		entry.fHierarchy.removeTypeHierarchyChangedListener(entry);
+	}
+
+	/**
+	 * Forgets the hierarchies in memory. The snapshots in the state location are kept.
+	 */
+	public synchronized void clearMemory() {
+		for (Entry entry : fEntries.values()) {
+			entry.fHierarchy.removeTypeHierarchyChangedListener(entry);
+		}
+		fEntries.clear();
+	}
+
+	/**
+	 * Forgets all hierarchies and deletes the snapshots in the state location.
+	 */
+	public void clear() {
+		clearMemory();
+		File dir= getSnapshotDir();
+		File[] files= dir != null ? dir.listFiles() : null;
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	private static String getKey(IType focus, boolean isSuperTypesOnly) {
+		return (isSuperTypesOnly ? 'S' : 'H') + focus.getHandleIdentifier();
+	}
+
+	private static File getSnapshotDir() {
+		try {
+			return JavaPlugin.getDefault().getStateLocation().append(SNAPSHOT_DIR).toFile();
+		} catch (IllegalStateException e) {
+			// no state location
+			return null;
+		}
+	}
+
+	private static File getSnapshotFile(String key) {
+		File dir= getSnapshotDir();
+		if (dir == null)
+			return null;
+		return new File(dir, Integer.toHexString(key.hashCode()) + SNAPSHOT_FILE_EXTENSION);
+	}
+
+	private static ITypeHierarchy load(IType focus, String key, IProgressMonitor pm) {
+		File file= getSnapshotFile(key);
+		if (file == null || !file.isFile())
+			return null;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !key.equals(in.readUTF()))
+				return null; // outdated format or hash collision
+			ITypeHierarchy hierarchy= focus.loadTypeHierachy(new NonClosingInputStream(in), pm);
+			file.setLastModified(System.currentTimeMillis());
+			return hierarchy;
+		} catch (IOException | JavaModelException e) {
+			file.delete();
+			return null;
+		}
+	}
+
+	private static void store(String key, ITypeHierarchy hierarchy, IProgressMonitor pm) {
+		File file= getSnapshotFile(key);
+		if (file == null)
+			return;
+		File dir= file.getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs())
+			return;
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(key);
+			hierarchy.store(new NonClosingOutputStream(out), pm);
+		} catch (IOException | JavaModelException e) {
+			JavaPlugin.log(e);
+			file.delete();
+			return;
+		}
+		prune(dir);
+	}
+
+	/*
+	 * Deletes the least recently used snapshots if there are too many.
+	 */
+	private static void prune(File dir) {
+		File[] files= dir.listFiles((d, name) -> name.endsWith(SNAPSHOT_FILE_EXTENSION));
+		if (files == null || files.length <= MAX_STORED_SNAPSHOTS)
+			return;
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (int i= 0; i < files.length - MAX_STORED_SNAPSHOTS; i++) {
+			files[i].delete();
+		}
+	}
+
+	/*
+	 * Keep the type hierarchy from closing the file streams, which also contain the header.
+	 */
+	private static final class NonClosingInputStream extends FilterInputStream {
+		NonClosingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public void close() {
+			// the caller closes the stream
+		}
+	}
+
+	private static final class NonClosingOutputStream extends FilterOutputStream {
+		NonClosingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+}
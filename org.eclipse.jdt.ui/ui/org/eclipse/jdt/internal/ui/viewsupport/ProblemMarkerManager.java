@@ -109,6 +109,8 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	private final ProblemSeverityIndex fSeverityIndex= new ProblemSeverityIndex();
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
 	public ProblemMarkerManager() {
@@ -123,8 +125,10 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		try {
 			IResourceDelta delta= event.getDelta();
-			if (delta != null)
+			if (delta != null) {
+				fSeverityIndex.update(delta);
 				delta.accept(new ProjectErrorVisitor(changedElements));
+			}
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
@@ -161,6 +165,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().addResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().addGlobalAnnotationModelListener(this);
+			fSeverityIndex.connect();
 		}
 		fListeners.add(listener);
 	}
@@ -174,9 +179,20 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			fSeverityIndex.disconnect();
 		}
 	}
 
+	/**
+	 * Returns the index of the problem severities in the workspace. The index is only available
+	 * while this manager has listeners and after it has been built in the background.
+	 *
+	 * @return the severity index, or <code>null</code> if not available
+	 */
+	public ProblemSeverityIndex getSeverityIndex() {
+		return fSeverityIndex.isReady() ? fSeverityIndex : null;
+	}
+
 	private void fireChanges() {
 		throttledUpdates.throttledExec();
 	}
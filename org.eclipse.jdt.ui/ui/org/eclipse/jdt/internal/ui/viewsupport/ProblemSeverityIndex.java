@@ -0,0 +1,522 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+
+import org.eclipse.jdt.core.IJavaModelMarker;
+
+import org.eclipse.jdt.launching.JavaRuntime;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * An index of the problem markers in the workspace which answers the maximum problem severity of
+ * a resource or of a resource tree without querying the markers.
+ * <p>
+ * The index keeps the number of problems per severity on every resource and rolled up for every
+ * resource tree. For files it also keeps the start positions of the text problems sorted by
+ * severity, so the maximum severity within a source range is found by binary search.
+ * </p>
+ * <p>
+ * The index is built once from the markers in the workspace and then updated from the resource
+ * deltas received by the {@link ProblemMarkerManager}. It is only up to date while the manager
+ * listens to resource changes, see {@link ProblemMarkerManager#getSeverityIndex()}.
+ * </p>
+ */
+public final class ProblemSeverityIndex {
+
+	private static final int SEVERITIES= IMarker.SEVERITY_ERROR + 1;
+
+	private static final int FLAG_TEXT= 1;
+	private static final int FLAG_BUILDPATH= 2;
+
+	private static final String[] ATTRIBUTES= { IMarker.SEVERITY, IMarker.CHAR_START };
+
+	private static final class MarkerEntry {
+		final Long fId;
+		final IPath fPath;
+		/** the severity, or <code>-1</code> if not one of the known severities */
+		final int fSeverity;
+		/** the start position, or <code>-1</code> if not a text marker or not set */
+		final int fCharStart;
+		final boolean fBuildPathProblem;
+
+		MarkerEntry(Long id, IPath path, int severity, int charStart, boolean buildPathProblem) {
+			fId= id;
+			fPath= path;
+			fSeverity= severity;
+			fCharStart= charStart;
+			fBuildPathProblem= buildPathProblem;
+		}
+	}
+
+	private static final class Node {
+		/** number of problems per severity on the resource itself */
+		final int[] fOwn= new int[SEVERITIES];
+		/** number of problems per severity in the resource tree */
+		final int[] fTree= new int[SEVERITIES];
+		int fBuildPathErrors;
+		/** the problems on the resource itself */
+		final Set<MarkerEntry> fMarkers= new HashSet<>();
+		/** sorted start positions of the text problems per severity, <code>null</code> if stale */
+		int[][] fPositions;
+
+		boolean isEmpty() {
+			for (int count : fTree) {
+				if (count != 0)
+					return false;
+			}
+			return true;
+		}
+	}
+
+	/** the index content, replaced as a whole when the index is built */
+	private Content fContent= new Content();
+	/** map from marker type to its FLAG_* bits, also used while the index is built */
+	private final Map<String, Integer> fTypeFlags= new ConcurrentHashMap<>();
+
+	/** written while holding the lock, read without to never block on the initialization */
+	private volatile boolean fReady;
+	private Job fInitializeJob;
+	/**
+	 * the resources whose markers changed while the index is built, with the depth to read them
+	 * again, or <code>null</code> if not building
+	 */
+	private Map<IResource, Integer> fPendingChanges;
+
+	ProblemSeverityIndex() {
+	}
+
+	/**
+	 * Starts to build the index in the background.
+	 */
+	synchronized void connect() {
+		if (fInitializeJob != null)
+			return;
+		fPendingChanges= new LinkedHashMap<>();
+		fInitializeJob= new Job("Java problems index initialization...") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				initialize(this, monitor);
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			}
+		};
+		fInitializeJob.setSystem(true);
+		fInitializeJob.setPriority(Job.DECORATE);
+		fInitializeJob.schedule();
+	}
+
+	/**
+	 * Stops to maintain the index and forgets its content.
+	 */
+	synchronized void disconnect() {
+		if (fInitializeJob != null) {
+			fInitializeJob.cancel();
+			fInitializeJob= null;
+		}
+		fContent= new Content();
+		fPendingChanges= null;
+		fReady= false;
+	}
+
+	/**
+	 * @return whether the index is built and up to date
+	 */
+	boolean isReady() {
+		return fReady;
+	}
+
+	/*
+	 * Reads the markers of the workspace without holding the lock, so that resource deltas are
+	 * not blocked meanwhile. The resources changed during the scan are recorded by update() and
+	 * read again once the new content is in place.
+	 */
+	private void initialize(Job job, IProgressMonitor monitor) {
+		synchronized (this) {
+			if (fInitializeJob != job || monitor.isCanceled())
+				return;
+		}
+		Content content= new Content();
+		try {
+			content.addMarkers(JavaPlugin.getWorkspace().getRoot(), IResource.DEPTH_INFINITE);
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+			return;
+		}
+		synchronized (this) {
+			if (fInitializeJob != job || monitor.isCanceled())
+				return;
+			fContent= content;
+			try {
+				for (Map.Entry<IResource, Integer> change : fPendingChanges.entrySet()) {
+					IResource resource= change.getKey();
+					int depth= change.getValue().intValue();
+					content.removeMarkers(resource, depth);
+					if (resource.isAccessible())
+						content.addMarkers(resource, depth);
+				}
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+				restart();
+				return;
+			}
+			fPendingChanges= null;
+			fReady= true;
+		}
+	}
+
+	private void restart() {
+		fReady= false;
+		if (fInitializeJob != null) {
+			fInitializeJob.cancel();
+			fInitializeJob= null;
+		}
+		connect();
+	}
+
+	/**
+	 * Returns the maximum severity of the problems on the given resource itself.
+	 *
+	 * @param resource the resource
+	 * @return the maximum severity, or <code>-1</code> if there are no problems
+	 */
+	public synchronized int getMaxSeverity(IResource resource) {
+		Node node= fContent.fNodes.get(resource.getFullPath());
+		return node != null ? getMaxSeverity(node.fOwn) : -1;
+	}
+
+	/**
+	 * Returns the maximum severity of the problems on the given resource and its descendants.
+	 *
+	 * @param resource the resource
+	 * @return the maximum severity, or <code>-1</code> if there are no problems
+	 */
+	public synchronized int getMaxTreeSeverity(IResource resource) {
+		Node node= fContent.fNodes.get(resource.getFullPath());
+		return node != null ? getMaxSeverity(node.fTree) : -1;
+	}
+
+	private static int getMaxSeverity(int[] counts) {
+		for (int severity= IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+			if (counts[severity] != 0)
+				return severity;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns whether there is a build path or JRE container problem of severity error on the given
+	 * resource itself.
+	 *
+	 * @param resource the resource, usually a project
+	 * @return <code>true</code> if there is such a build path error
+	 */
+	public synchronized boolean hasBuildPathError(IResource resource) {
+		Node node= fContent.fNodes.get(resource.getFullPath());
+		return node != null && node.fBuildPathErrors != 0;
+	}
+
+	/**
+	 * Returns the maximum severity of the text problems on the given file which start in the given
+	 * range.
+	 *
+	 * @param file the file
+	 * @param start the start of the range, inclusive
+	 * @param end the end of the range, exclusive
+	 * @return the maximum severity, or <code>-1</code> if there are no problems in the range
+	 */
+	public synchronized int getMaxSeverity(IResource file, int start, int end) {
+		Node node= fContent.fNodes.get(file.getFullPath());
+		if (node == null)
+			return -1;
+		int[][] positions= getPositions(node);
+		for (int severity= IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+			int[] starts= positions[severity];
+			int index= Arrays.binarySearch(starts, start);
+			if (index < 0) {
+				index= -index - 1;
+			} else {
+				while (index > 0 && starts[index - 1] == start) {
+					index--;
+				}
+			}
+			if (index < starts.length && starts[index] < end)
+				return severity;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the start positions of the text problems with the given severity on the given file.
+	 *
+	 * @param file the file
+	 * @param severity the severity
+	 * @return the sorted start positions
+	 */
+	public synchronized int[] getPositions(IResource file, int severity) {
+		Node node= fContent.fNodes.get(file.getFullPath());
+		if (node == null)
+			return new int[0];
+		return getPositions(node)[severity].clone();
+	}
+
+	private static int[][] getPositions(Node node) {
+		if (node.fPositions == null) {
+			int[][] positions= new int[SEVERITIES][];
+			int[] sizes= new int[SEVERITIES];
+			for (int severity= 0; severity < SEVERITIES; severity++) {
+				positions[severity]= new int[node.fOwn[severity]];
+			}
+			for (MarkerEntry entry : node.fMarkers) {
+				if (entry.fSeverity != -1 && entry.fCharStart != -1) {
+					positions[entry.fSeverity][sizes[entry.fSeverity]++]= entry.fCharStart;
+				}
+			}
+			for (int severity= 0; severity < SEVERITIES; severity++) {
+				positions[severity]= Arrays.copyOf(positions[severity], sizes[severity]);
+				Arrays.sort(positions[severity]);
+			}
+			node.fPositions= positions;
+		}
+		return node.fPositions;
+	}
+
+	/**
+	 * Updates the index from a resource delta.
+	 *
+	 * @param delta the resource delta
+	 */
+	synchronized void update(IResourceDelta delta) {
+		try {
+			if (fReady) {
+				delta.accept(this::visit);
+			} else if (fPendingChanges != null) {
+				delta.accept(this::record);
+			}
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+			// rebuild rather than to serve wrong severities
+			restart();
+		}
+	}
+
+	private boolean visit(IResourceDelta delta) throws CoreException {
+		IResource resource= delta.getResource();
+		if (isTreeChange(delta)) {
+			// markers were moved along or became (in)accessible, read the tree again
+			fContent.removeMarkers(resource, IResource.DEPTH_INFINITE);
+			if (resource.isAccessible())
+				fContent.addMarkers(resource, IResource.DEPTH_INFINITE);
+			return false;
+		}
+		if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
+			for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
+				if (markerDelta.isSubtypeOf(IMarker.PROBLEM)) {
+					processMarkerDelta(resource, markerDelta);
+				}
+			}
+		}
+		return true;
+	}
+
+	private boolean record(IResourceDelta delta) {
+		IResource resource= delta.getResource();
+		if (isTreeChange(delta)) {
+			fPendingChanges.put(resource, Integer.valueOf(IResource.DEPTH_INFINITE));
+			return false;
+		}
+		if ((delta.getFlags() & IResourceDelta.MARKERS) != 0)
+			fPendingChanges.putIfAbsent(resource, Integer.valueOf(IResource.DEPTH_ZERO));
+		return true;
+	}
+
+	private static boolean isTreeChange(IResourceDelta delta) {
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		return kind == IResourceDelta.REMOVED
+				|| kind == IResourceDelta.ADDED && (flags & IResourceDelta.MOVED_FROM) != 0
+				|| delta.getResource() instanceof IProject && (flags & IResourceDelta.OPEN) != 0;
+	}
+
+	private void processMarkerDelta(IResource resource, IMarkerDelta markerDelta) {
+		Long id= Long.valueOf(markerDelta.getId());
+		switch (markerDelta.getKind()) {
+			case IResourceDelta.ADDED:
+				int typeFlags= getTypeFlags(markerDelta);
+				int charStart= (typeFlags & FLAG_TEXT) != 0 ? markerDelta.getAttribute(IMarker.CHAR_START, -1) : -1;
+				fContent.add(id, resource, markerDelta.getAttribute(IMarker.SEVERITY, -1), charStart, typeFlags);
+				break;
+			case IResourceDelta.REMOVED:
+				fContent.remove(id);
+				break;
+			case IResourceDelta.CHANGED:
+				try {
+					fContent.add(markerDelta.getMarker(), resource, getTypeFlags(markerDelta));
+				} catch (CoreException e) {
+					// deleted in the meantime, a removal delta follows
+					fContent.remove(id);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	private int getTypeFlags(IMarkerDelta markerDelta) {
+		Integer flags= fTypeFlags.get(markerDelta.getType());
+		if (flags == null) {
+			flags= toTypeFlags(markerDelta.isSubtypeOf(IMarker.TEXT),
+					markerDelta.isSubtypeOf(IJavaModelMarker.BUILDPATH_PROBLEM_MARKER) || markerDelta.isSubtypeOf(JavaRuntime.JRE_CONTAINER_MARKER));
+			fTypeFlags.put(markerDelta.getType(), flags);
+		}
+		return flags.intValue();
+	}
+
+	private int getTypeFlags(IMarker marker) throws CoreException {
+		Integer flags= fTypeFlags.get(marker.getType());
+		if (flags == null) {
+			flags= toTypeFlags(marker.isSubtypeOf(IMarker.TEXT),
+					marker.isSubtypeOf(IJavaModelMarker.BUILDPATH_PROBLEM_MARKER) || marker.isSubtypeOf(JavaRuntime.JRE_CONTAINER_MARKER));
+			fTypeFlags.put(marker.getType(), flags);
+		}
+		return flags.intValue();
+	}
+
+	private static Integer toTypeFlags(boolean text, boolean buildPathProblem) {
+		return Integer.valueOf((text ? FLAG_TEXT : 0) | (buildPathProblem ? FLAG_BUILDPATH : 0));
+	}
+
+	/**
+	 * The markers and nodes of the index. Guarded by the index, except while it is built.
+	 */
+	private final class Content {
+		final Map<Long, MarkerEntry> fEntries= new HashMap<>();
+		final Map<IPath, Node> fNodes= new HashMap<>();
+
+		void addMarkers(IResource resource, int depth) throws CoreException {
+			for (IMarker marker : resource.findMarkers(IMarker.PROBLEM, true, depth)) {
+				try {
+					add(marker, marker.getResource(), getTypeFlags(marker));
+				} catch (CoreException e) {
+					// deleted in the meantime
+				}
+			}
+		}
+
+		void add(IMarker marker, IResource resource, int typeFlags) throws CoreException {
+			Object[] values= marker.getAttributes(ATTRIBUTES);
+			int severity= values[0] instanceof Integer ? ((Integer) values[0]).intValue() : -1;
+			int charStart= (typeFlags & FLAG_TEXT) != 0 && values[1] instanceof Integer ? ((Integer) values[1]).intValue() : -1;
+			add(Long.valueOf(marker.getId()), resource, severity, charStart, typeFlags);
+		}
+
+		void add(Long id, IResource resource, int severity, int charStart, int typeFlags) {
+			remove(id);
+			if (severity < IMarker.SEVERITY_INFO || severity > IMarker.SEVERITY_ERROR)
+				severity= -1;
+			MarkerEntry entry= new MarkerEntry(id, resource.getFullPath(), severity, charStart < 0 ? -1 : charStart, (typeFlags & FLAG_BUILDPATH) != 0);
+			fEntries.put(id, entry);
+
+			Node node= getNode(entry.fPath);
+			node.fMarkers.add(entry);
+			node.fPositions= null;
+			if (severity == -1)
+				return;
+			node.fOwn[severity]++;
+			if (entry.fBuildPathProblem && severity == IMarker.SEVERITY_ERROR)
+				node.fBuildPathErrors++;
+			for (IPath path= entry.fPath;; path= path.removeLastSegments(1)) {
+				getNode(path).fTree[severity]++;
+				if (path.isRoot() || path.isEmpty())
+					break;
+			}
+		}
+
+		private Node getNode(IPath path) {
+			return fNodes.computeIfAbsent(path, p -> new Node());
+		}
+
+		void remove(Long id) {
+			MarkerEntry entry= fEntries.remove(id);
+			if (entry == null)
+				return;
+
+			Node node= fNodes.get(entry.fPath);
+			node.fMarkers.remove(entry);
+			node.fPositions= null;
+			int severity= entry.fSeverity;
+			if (severity != -1) {
+				node.fOwn[severity]--;
+				if (entry.fBuildPathProblem && severity == IMarker.SEVERITY_ERROR)
+					node.fBuildPathErrors--;
+				for (IPath path= entry.fPath;; path= path.removeLastSegments(1)) {
+					Node ancestor= fNodes.get(path);
+					ancestor.fTree[severity]--;
+					if (ancestor.isEmpty() && ancestor.fMarkers.isEmpty())
+						fNodes.remove(path);
+					if (path.isRoot() || path.isEmpty())
+						break;
+				}
+			} else if (node.isEmpty() && node.fMarkers.isEmpty()) {
+				fNodes.remove(entry.fPath);
+			}
+		}
+
+		/*
+		 * Removes the markers of the given resource, or of the resource tree for DEPTH_INFINITE.
+		 */
+		void removeMarkers(IResource resource, int depth) {
+			IPath path= resource.getFullPath();
+			Node node= fNodes.get(path);
+			if (node == null)
+				return;
+			List<Long> removed= new ArrayList<>();
+			if (depth == IResource.DEPTH_ZERO || resource.getType() == IResource.FILE) {
+				for (MarkerEntry entry : node.fMarkers) {
+					removed.add(entry.fId);
+				}
+			} else {
+				for (MarkerEntry entry : fEntries.values()) {
+					if (path.isPrefixOf(entry.fPath))
+						removed.add(entry.fId);
+				}
+			}
+			for (Long id : removed) {
+				remove(id);
+			}
+		}
+	}
+}
@@ -2988,6 +2988,28 @@ public class PreferenceConstants {
 	 */
 	public static final String CODEASSIST_NONUITHREAD_COMPUTATION= "content_assist_noUIThread_computation"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that controls whether the proposal categories of the default content
+	 * assist list are computed concurrently. Categories whose computers require the UI Thread are
+	 * still computed in the invoking thread.
+	 * <p>Value is of type <code>Boolean</code></p>
+	 *
+	 * @see #CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE
+	 * @since 3.30
+	 */
+	public static final String CODEASSIST_CONCURRENT_COMPUTATION= "content_assist_concurrent_computation"; //$NON-NLS-1$
+
+	/**
+	 * A named preference that holds the time in milliseconds after which the proposals of the
+	 * concurrently computed categories are shown. Proposals which are computed later are added to
+	 * the open proposal list when they are available.
+	 * <p>Value is of type <code>Integer</code></p>
+	 *
+	 * @see #CODEASSIST_CONCURRENT_COMPUTATION
+	 * @since 3.30
+	 */
+	public static final String CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE= "content_assist_concurrent_computation_deadline"; //$NON-NLS-1$
+
 
 	/**
 	 * A named preference that controls if the Java code assist gets auto activated.
@@ -3765,7 +3787,9 @@ public class PreferenceConstants {
 	/**
 	 * A named preference that stores the content assist LRU history
 	 * <p>
-	 * Value is an XML encoded version of the history.
+	 * Value is an XML encoded version of the history. The history is now stored in a file in the
+	 * state location of the Java UI plug-in, this preference is only read to migrate an existing
+	 * history.
 	 * </p>
 	 *
 	 * @see org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory#load(org.eclipse.core.runtime.Preferences, String)
@@ -4138,6 +4162,8 @@ public class PreferenceConstants {
 		store.setDefault(PreferenceConstants.CODEASSIST_AUTOINSERT, true);
 		store.setDefault(PreferenceConstants.CODEASSIST_DISABLE_COMPLETION_PROPOSAL_TRIGGER_CHARS, false);
 		store.setDefault(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION, true);
+		store.setDefault(PreferenceConstants.CODEASSIST_CONCURRENT_COMPUTATION, false);
+		store.setDefault(PreferenceConstants.CODEASSIST_CONCURRENT_COMPUTATION_DEADLINE, 500);
 		store.setDefault(PreferenceConstants.PREF_MIN_CHAIN_LENGTH, 2);
 		store.setDefault(PreferenceConstants.PREF_MAX_CHAIN_LENGTH, 4);
 		store.setDefault(PreferenceConstants.PREF_MAX_CHAINS, 20);
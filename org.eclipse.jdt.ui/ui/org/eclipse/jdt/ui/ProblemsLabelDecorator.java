@@ -82,6 +82,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -149,6 +150,12 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	private ListenerList<ILabelProviderListener> fListeners;
 	private ISourceRange fCachedRange;
 
+	/**
+	 * Tells whether a subclass overrides {@link #isInside(int, ISourceReference)}, in which case
+	 * the problems in a source range can't be looked up by range.
+	 */
+	private final boolean fOverridesIsInside;
+
 	/** job to update adornments for container resources in UI thread */
 	private final AdornmentUpdateJob adornmentUpdateJob;
 
@@ -169,10 +176,23 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	 */
 	public ProblemsLabelDecorator(ImageDescriptorRegistry registry) {
 		fRegistry= registry;
+		fOverridesIsInside= overridesIsInside(getClass());
 		adornmentUpdateJob = new AdornmentUpdateJob();
 		AdornmentCacheManager.register(this);
 	}
 
+	private static boolean overridesIsInside(Class<?> clazz) {
+		for (Class<?> curr= clazz; curr != ProblemsLabelDecorator.class; curr= curr.getSuperclass()) {
+			try {
+				curr.getDeclaredMethod("isInside", int.class, ISourceReference.class); //$NON-NLS-1$
+				return true;
+			} catch (NoSuchMethodException e) {
+				// look at the superclass
+			}
+		}
+		return false;
+	}
+
 	private ImageDescriptorRegistry getRegistry() {
 		if (fRegistry == null) {
 			fRegistry= fUseNewRegistry ? new ImageDescriptorRegistry() : JavaPlugin.getImageDescriptorRegistry();
@@ -551,10 +571,14 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		}
 	}
 
-	private int computeContainerAdornmentFlags(IResource resource) {
+	private int computeContainerAdornmentFlags(IResource resource) throws CoreException {
 		if (resource == null) {
 			return 0;
 		}
+		if (getSeverityIndex() != null) {
+			// cheap enough to not compute in the background
+			return getErrorTicksFromMarkers(resource, IResource.DEPTH_INFINITE);
+		}
 		Integer cachedAdornment = AdornmentCacheManager.getAdornment(resource);
 		int adornment = cachedAdornment != null ? cachedAdornment.intValue() : 0;
 		AdornmentCacheManager.scheduleTask(resource, adornmentUpdateJob);
@@ -582,10 +606,44 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		return false;
 	}
 
+	private static ProblemSeverityIndex getSeverityIndex() {
+		return JavaPlugin.getDefault().getProblemMarkerManager().getSeverityIndex();
+	}
+
+	/**
+	 * Looks up the maximum problem severity of a resource in the severity index.
+	 *
+	 * @param index the severity index
+	 * @param res the resource
+	 * @param depth the depth
+	 * @return the maximum severity, <code>-1</code> if there are no problems, or
+	 *         <code>-2</code> if the index can't answer the query
+	 */
+	private static int getMaxProblemSeverity(ProblemSeverityIndex index, IResource res, int depth) {
+		switch (depth) {
+			case IResource.DEPTH_ZERO:
+				return index.getMaxSeverity(res);
+			case IResource.DEPTH_INFINITE:
+				return index.getMaxTreeSeverity(res);
+			default:
+				return res.getType() == IResource.FILE ? index.getMaxSeverity(res) : -2;
+		}
+	}
+
 	private static int getErrorTicksFromMarkers(IResource res, int depth) throws CoreException {
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
+		ProblemSeverityIndex index= getSeverityIndex();
+		if (index != null) {
+			int severity= getMaxProblemSeverity(index, res, depth);
+			if (severity != -2) {
+				if (res instanceof IProject && index.hasBuildPathError(res)) {
+					return ERRORTICK_BUILDPATH_ERROR;
+				}
+				return convertToTick(severity);
+			}
+		}
 		int severity= -1;
 		if (res instanceof IProject) {
 			severity= res.findMaxProblemSeverity(IJavaModelMarker.BUILDPATH_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
@@ -605,6 +663,24 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
+		ProblemSeverityIndex index= getSeverityIndex();
+		if (index != null && res.getType() == IResource.FILE) {
+			if (!fOverridesIsInside) {
+				ISourceRange range= sourceElement.getSourceRange();
+				if (range == null) {
+					return 0;
+				}
+				return convertToTick(index.getMaxSeverity(res, range.getOffset(), range.getOffset() + range.getLength()));
+			}
+			for (int severity= IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+				for (int pos : index.getPositions(res, severity)) {
+					if (isInside(pos, sourceElement)) {
+						return convertToTick(severity);
+					}
+				}
+			}
+			return 0;
+		}
 		int severity= -1;
 		IMarker[] markers= res.findMarkers(IMarker.PROBLEM, true, depth);
 		if (markers != null && markers.length > 0) {
@@ -675,6 +751,13 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	}
 
 	private int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
+		ProblemSeverityIndex index= getSeverityIndex();
+		if (index != null && IMarker.PROBLEM.equals(type) && includeSubtypes) {
+			int severity= getMaxProblemSeverity(index, res, depth);
+			if (severity != -2) {
+				return severity;
+			}
+		}
 		try {
 			return res.findMaxProblemSeverity(type, includeSubtypes, depth);
 		} catch (CoreException e) {
@@ -31,7 +31,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -365,7 +367,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					FoldingStructureComputationContext ctx= createContext(false);
+					IRegion modified= fModifiedRegionTracker.consume();
+					if (!updateIncrementally(ctx, delta, modified))
+						update(ctx);
 				} finally {
 					fUpdatingCount--;
 				}
@@ -448,6 +453,74 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Tracks the region of the document that has been modified since the folding structure was
+	 * last updated. The region of the previous update is reported once more along with the next
+	 * one, since the Java elements of an update may not reflect the latest modifications yet.
+	 *
+	 * @since 3.30
+	 */
+	private static final class ModifiedRegionTracker implements IDocumentListener {
+		private int fOffset= -1;
+		private int fEnd;
+		private int fPreviousOffset= -1;
+		private int fPreviousEnd;
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			int offset= event.getOffset();
+			int oldEnd= offset + event.getLength();
+			int newEnd= offset + (event.getText() == null ? 0 : event.getText().length());
+			if (fPreviousOffset != -1) {
+				fPreviousOffset= shift(fPreviousOffset, offset, oldEnd, newEnd, true);
+				fPreviousEnd= shift(fPreviousEnd, offset, oldEnd, newEnd, false);
+			}
+			if (fOffset == -1) {
+				fOffset= offset;
+				fEnd= newEnd;
+			} else {
+				fOffset= Math.min(shift(fOffset, offset, oldEnd, newEnd, true), offset);
+				fEnd= Math.max(shift(fEnd, offset, oldEnd, newEnd, false), newEnd);
+			}
+		}
+
+		private static int shift(int position, int offset, int oldEnd, int newEnd, boolean isStart) {
+			if (position < offset || position == offset && isStart)
+				return position;
+			if (position >= oldEnd)
+				return position + newEnd - oldEnd;
+			return isStart ? offset : newEnd;
+		}
+
+		/**
+		 * Returns the region modified since the previous call, including the region returned by
+		 * the previous call.
+		 *
+		 * @return the modified region, or <code>null</code> if nothing has been modified
+		 */
+		synchronized IRegion consume() {
+			int offset= fOffset;
+			int end= fEnd;
+			if (fPreviousOffset != -1) {
+				offset= offset == -1 ? fPreviousOffset : Math.min(offset, fPreviousOffset);
+				end= Math.max(end, fPreviousEnd);
+			}
+			fPreviousOffset= fOffset;
+			fPreviousEnd= fEnd;
+			fOffset= -1;
+			return offset == -1 ? null : new Region(offset, end - offset);
+		}
+
+		synchronized void reset() {
+			fOffset= -1;
+			fPreviousOffset= -1;
+		}
+	}
+
 	/**
 	 * Projection position that will return two foldable regions: one folding away
 	 * the region from after the '/**' to the beginning of the content, the other
@@ -727,6 +800,18 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	private volatile int fUpdatingCount= 0;
 
+	/**
+	 * Tracks the modifications of {@link #fTrackedDocument} for incremental updates.
+	 * @since 3.30
+	 */
+	private final ModifiedRegionTracker fModifiedRegionTracker= new ModifiedRegionTracker();
+
+	/**
+	 * The document whose modifications are tracked, or <code>null</code>.
+	 * @since 3.30
+	 */
+	private volatile IDocument fTrackedDocument;
+
 	/**
 	 * Creates a new folding provider. It must be
 	 * {@link #install(ITextEditor, ProjectionViewer) installed} on an editor/viewer pair before it
@@ -831,6 +916,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			JavaCore.removeElementChangedListener(fElementListener);
 			fElementListener= null;
 		}
+		trackDocument(null);
 	}
 
 	/*
@@ -841,11 +927,24 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		fUpdatingCount++;
 		try {
 			update(createInitialContext());
+			trackDocument(isInstalled() ? getDocument() : null);
 		} finally {
 			fUpdatingCount--;
 		}
 	}
 
+	private void trackDocument(IDocument document) {
+		IDocument tracked= fTrackedDocument;
+		if (tracked != document) {
+			if (tracked != null)
+				tracked.removeDocumentListener(fModifiedRegionTracker);
+			fTrackedDocument= document;
+			if (document != null)
+				document.addDocumentListener(fModifiedRegionTracker);
+		}
+		fModifiedRegionTracker.reset();
+	}
+
 	private FoldingStructureComputationContext createInitialContext() {
 		initializePreferences();
 		fInput= getInputElement();
@@ -891,13 +990,140 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		if (ctx == null)
 			return;
 
+		computeFoldingStructure(ctx);
+		updateAnnotations(ctx, null);
+	}
+
+	/**
+	 * Updates the folding structure of the members affected by a reconcile delta which only
+	 * changed the content of existing elements. The positions of the folding regions of the other
+	 * members have been kept up to date by the document.
+	 *
+	 * @param ctx the computation context, can be <code>null</code>
+	 * @param delta the delta of the input element
+	 * @param modified the region of the document modified since the last update, can be
+	 *            <code>null</code>
+	 * @return <code>true</code> if the folding structure has been updated, <code>false</code> if
+	 *         the whole structure needs to be computed
+	 * @since 3.30
+	 */
+	private boolean updateIncrementally(FoldingStructureComputationContext ctx, IJavaElementDelta delta, IRegion modified) {
+		if (ctx == null || ctx.getDocument() != fTrackedDocument || (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0)
+			return false;
+		if (!(fInput instanceof ISourceReference) || !(fInput instanceof IParent))
+			return false;
+		try {
+			IType firstType= null;
+			IJavaElement[] children= ((IParent) fInput).getChildren();
+			for (IJavaElement child : children) {
+				if (child.getElementType() == IJavaElement.TYPE) {
+					firstType= (IType) child;
+					break;
+				}
+			}
+			if (firstType == null)
+				return false;
+			// the header comment is computed along with the first type
+			ISourceRange nameRange= firstType.getNameRange();
+			if (!SourceRange.isAvailable(nameRange) || modified != null && modified.getOffset() <= nameRange.getOffset() + nameRange.getLength())
+				return false;
+
+			Set<IJavaElement> scope= new HashSet<>();
+			if (!collectChangedElements(delta, firstType, scope))
+				return false;
+			if (modified != null)
+				collectModifiedElements(children, modified, scope);
+			if (scope.isEmpty())
+				return true;
+
+			String source= ((ISourceReference) fInput).getSource();
+			if (source == null)
+				return false;
+			ctx.setFirstType(firstType);
+			ctx.getScanner().setSource(source.toCharArray());
+			for (IJavaElement element : scope) {
+				if (isInScope(element.getParent(), scope))
+					continue; // computed along with its ancestor
+				computeFoldingStructure(element, ctx);
+				if (element instanceof IParent)
+					computeFoldingStructure(((IParent) element).getChildren(), ctx);
+			}
+			updateAnnotations(ctx, scope);
+			return true;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	/*
+	 * Adds the members changed by the delta to the scope. Returns false if elements have been
+	 * added, removed or reordered, or if the first type itself has changed.
+	 */
+	private static boolean collectChangedElements(IJavaElementDelta delta, IType firstType, Set<IJavaElement> scope) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & IJavaElementDelta.F_REORDER) != 0)
+				return false;
+			IJavaElement element= child.getElement();
+			if ((child.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_FINE_GRAINED)) != 0) {
+				if (element.equals(firstType))
+					return false;
+				if (element instanceof IMember || element instanceof IImportContainer)
+					scope.add(element);
+			}
+			if (!collectChangedElements(child, firstType, scope))
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * Adds the members whose source intersects the modified region to the scope. Types are only
+	 * added if their declaration has been modified, otherwise their members are checked.
+	 */
+	private static void collectModifiedElements(IJavaElement[] elements, IRegion modified, Set<IJavaElement> scope) throws JavaModelException {
+		int modifiedEnd= modified.getOffset() + modified.getLength();
+		for (IJavaElement element : elements) {
+			if (!(element instanceof ISourceReference))
+				continue;
+			ISourceRange range= ((ISourceReference) element).getSourceRange();
+			if (!SourceRange.isAvailable(range) || range.getOffset() > modifiedEnd || range.getOffset() + range.getLength() < modified.getOffset())
+				continue;
+			if (element.getElementType() == IJavaElement.TYPE) {
+				IType type= (IType) element;
+				ISourceRange nameRange= type.getNameRange();
+				if (!SourceRange.isAvailable(nameRange) || modified.getOffset() <= nameRange.getOffset() + nameRange.getLength())
+					scope.add(type);
+				else
+					collectModifiedElements(type.getChildren(), modified, scope);
+			} else {
+				scope.add(element);
+			}
+		}
+	}
+
+	private static boolean isInScope(IJavaElement element, Set<IJavaElement> scope) {
+		for (IJavaElement e= element; e != null; e= e.getParent()) {
+			if (scope.contains(e))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Updates the annotation model with the folding structure computed into the context.
+	 *
+	 * @param ctx the computation context
+	 * @param scope the elements whose folding structure has been computed along with the one of
+	 *            their descendants, or <code>null</code> if the whole structure has been computed
+	 * @since 3.30
+	 */
+	private void updateAnnotations(FoldingStructureComputationContext ctx, Set<IJavaElement> scope) {
 		Map<JavaProjectionAnnotation, Position> additions= new HashMap<>();
 		List<JavaProjectionAnnotation> deletions= new ArrayList<>();
 		List<JavaProjectionAnnotation> updates= new ArrayList<>();
 
-		computeFoldingStructure(ctx);
 		Map<JavaProjectionAnnotation, Position> newStructure= ctx.fMap;
-		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx);
+		Map<IJavaElement, List<Tuple>> oldStructure= computeCurrentStructure(ctx, scope);
 
 		Iterator<JavaProjectionAnnotation> e= newStructure.keySet().iterator();
 		while (e.hasNext()) {
@@ -1391,7 +1617,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		return null;
 	}
 
-	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx) {
+	private Map<IJavaElement, List<Tuple>> computeCurrentStructure(FoldingStructureComputationContext ctx, Set<IJavaElement> scope) {
 		Map<IJavaElement, List<Tuple>> map= new HashMap<>();
 		ProjectionAnnotationModel model= ctx.getModel();
 		Iterator<Annotation> e= model.getAnnotationIterator();
@@ -1399,6 +1625,8 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			Object annotation= e.next();
 			if (annotation instanceof JavaProjectionAnnotation) {
 				JavaProjectionAnnotation java= (JavaProjectionAnnotation) annotation;
+				if (scope != null && !isInScope(java.getElement(), scope))
+					continue;
 				Position position= model.getPosition(java);
 				Assert.isNotNull(position);
 				List<Tuple> list= map.get(java.getElement());
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+
+public class ParallelCompositeChangeTests {
+
+	private static final int FILES= 20;
+
+	private SimpleTestProject fProject;
+	private IFile[] fFiles;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		IFolder folder= fProject.createFolder("test");
+		fFiles= new IFile[FILES];
+		for (int i= 0; i < FILES; i++) {
+			fFiles[i]= fProject.createFile(folder, "file" + i + ".txt", "hello " + i);
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	@Test
+	public void testPerformAndUndo() throws Exception {
+		CompositeChange change= new CompositeChange("replace");
+		for (IFile file : fFiles) {
+			change.add(createChange(file, 0, 5, "bye"));
+		}
+
+		PerformChangeOperation op= perform(change);
+		assertTrue(op.changeExecuted());
+		assertTrue(op.getEditTime() >= 0);
+		assertTrue(op.getCommitTime() >= 0);
+		for (int i= 0; i < FILES; i++) {
+			assertEquals("bye " + i, fProject.getContent(fFiles[i]));
+		}
+
+		Change undo= op.getUndoChange();
+		assertNotNull(undo);
+		assertTrue(perform(undo).changeExecuted());
+		for (int i= 0; i < FILES; i++) {
+			assertEquals("hello " + i, fProject.getContent(fFiles[i]));
+		}
+	}
+
+	@Test
+	public void testFailingChange() throws Exception {
+		int failing= FILES / 2;
+		CompositeChange change= new CompositeChange("replace");
+		for (int i= 0; i < FILES; i++) {
+			// the edit of the failing change lies outside of the document
+			change.add(createChange(fFiles[i], i == failing ? 100 : 0, 5, "bye"));
+		}
+
+		try {
+			perform(change);
+			fail("performing the change should fail");
+		} catch (CoreException e) {
+			// expected
+		}
+
+		// same as the sequential execution: the changes before the failing one are performed
+		for (int i= 0; i < FILES; i++) {
+			String expected= (i < failing ? "bye " : "hello ") + i;
+			assertEquals(expected, fProject.getContent(fFiles[i]));
+		}
+		Change undo= change.getUndoUntilException();
+		assertNotNull(undo);
+		assertFalse(perform(undo).changeExecutionFailed());
+		for (int i= 0; i < FILES; i++) {
+			assertEquals("hello " + i, fProject.getContent(fFiles[i]));
+		}
+	}
+
+	@Test
+	public void testOwnDocumentsAreEditedOnCallingThread() throws Exception {
+		Set<Thread> threads= ConcurrentHashMap.newKeySet();
+		CompositeChange change= new CompositeChange("replace");
+		for (IFile file : fFiles) {
+			OwnDocumentChange child= new OwnDocumentChange(file, threads);
+			child.setEdit(new ReplaceEdit(0, 5, "bye"));
+			child.setSaveMode(TextFileChange.FORCE_SAVE);
+			change.add(child);
+		}
+
+		assertTrue(perform(change).changeExecuted());
+		for (int i= 0; i < FILES; i++) {
+			assertEquals("bye " + i, fProject.getContent(fFiles[i]));
+		}
+		assertEquals(Set.of(Thread.currentThread()), threads);
+	}
+
+	/**
+	 * A text file change which acquires its document itself, like the changes of Java working
+	 * copies do. Records the threads its document is edited on.
+	 */
+	private static final class OwnDocumentChange extends TextFileChange {
+		private final Set<Thread> fThreads;
+		private final IDocumentListener fListener= new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+				fThreads.add(Thread.currentThread());
+			}
+
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				// nothing to do
+			}
+		};
+
+		OwnDocumentChange(IFile file, Set<Thread> threads) {
+			super(file.getName(), file);
+			fThreads= threads;
+		}
+
+		@Override
+		protected IDocument acquireDocument(IProgressMonitor pm) throws CoreException {
+			IDocument document= super.acquireDocument(pm);
+			document.addDocumentListener(fListener);
+			return document;
+		}
+
+		@Override
+		protected void releaseDocument(IDocument document, IProgressMonitor pm) throws CoreException {
+			document.removeDocumentListener(fListener);
+			super.releaseDocument(document, pm);
+		}
+	}
+
+	private static TextFileChange createChange(IFile file, int offset, int length, String text) {
+		TextFileChange result= new TextFileChange(file.getName(), file);
+		result.setEdit(new ReplaceEdit(offset, length, text));
+		result.setSaveMode(TextFileChange.FORCE_SAVE);
+		return result;
+	}
+
+	private static PerformChangeOperation perform(Change change) throws CoreException {
+		change.initializeValidationData(new NullProgressMonitor());
+		PerformChangeOperation op= new PerformChangeOperation(change);
+		op.setParallelExecution(true);
+		op.run(null);
+		return op;
+	}
+}
@@ -21,6 +21,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -35,6 +38,7 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.resources.ResourcesPlugin;
 
@@ -43,6 +47,7 @@ import org.eclipse.ltk.core.refactoring.PerformRefactoringOperation;
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
 import org.eclipse.ltk.core.refactoring.RefactoringDescriptorProxy;
+import org.eclipse.ltk.core.refactoring.RefactoringSessionDescriptor;
 import org.eclipse.ltk.core.refactoring.history.IRefactoringExecutionListener;
 import org.eclipse.ltk.core.refactoring.history.IRefactoringHistoryListener;
 import org.eclipse.ltk.core.refactoring.history.IRefactoringHistoryService;
@@ -53,6 +58,7 @@ import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringPreferenceConstants;
 import org.eclipse.ltk.internal.core.refactoring.history.RefactoringDescriptorProxyAdapter;
 import org.eclipse.ltk.internal.core.refactoring.history.RefactoringHistoryImplementation;
+import org.eclipse.ltk.internal.core.refactoring.history.RefactoringHistoryManager;
 import org.eclipse.ltk.internal.core.refactoring.history.RefactoringHistoryService;
 
 public class RefactoringHistoryServiceTests {
@@ -581,6 +587,48 @@ public class RefactoringHistoryServiceTests {
 		assertEquals("Refactoring history has wrong size", 0, proxies.length);
 	}
 
+	@Test
+	public void testReadProjectHistory7() throws Exception {
+		final RefactoringHistoryService service= RefactoringHistoryService.getInstance();
+		RefactoringHistory history= service.getProjectHistory(fProject.getProject(), STAMP_FACTOR * 3, STAMP_FACTOR * 5, RefactoringDescriptor.NONE, null);
+		RefactoringDescriptorProxy[] proxies= history.getDescriptors();
+		assertEquals("Refactoring history has wrong size", 3, proxies.length);
+		for (RefactoringDescriptorProxy proxy : proxies) {
+			assertTrue("Refactoring descriptor is out of range", proxy.getTimeStamp() >= STAMP_FACTOR * 3 && proxy.getTimeStamp() <= STAMP_FACTOR * 5);
+			RefactoringDescriptor descriptor= proxy.requestDescriptor(null);
+			assertNotNull("Could not resolve refactoring descriptor", descriptor);
+			assertEquals("Wrong refactoring descriptor resolved", proxy.getTimeStamp(), descriptor.getTimeStamp());
+			assertEquals("Wrong refactoring descriptor resolved", proxy.getDescription(), descriptor.getDescription());
+		}
+	}
+
+	@Test
+	public void testReadProjectHistory8() throws Exception {
+		final IProject project= fProject.getProject();
+		final RefactoringHistoryService service= RefactoringHistoryService.getInstance();
+		assertEquals("Refactoring history has wrong size", TOTAL_PROJECT_NUMBER, service.getProjectHistory(project, null).getDescriptors().length);
+		final long stamp= STAMP_FACTOR * 1000L;
+		MockRefactoring refactoring= new MockRefactoring(project.getName(), "An external description", "An external comment", Collections.<String, String> emptyMap(), RefactoringDescriptor.NONE);
+		RefactoringDescriptor descriptor= refactoring.createRefactoringDescriptor();
+		descriptor.setTimeStamp(stamp);
+		File folder= project.getFolder(RefactoringHistoryService.NAME_HISTORY_FOLDER).getFolder(RefactoringHistoryManager.stampToPath(stamp)).getLocation().toFile();
+		assertTrue("Could not create history folder", folder.mkdirs());
+		try (OutputStream stream= new FileOutputStream(new File(folder, RefactoringHistoryService.NAME_HISTORY_FILE))) {
+			service.writeRefactoringSession(new RefactoringSessionDescriptor(new RefactoringDescriptor[] { descriptor}, RefactoringSessionDescriptor.VERSION_1_0, null), stream, true);
+		}
+		try (OutputStream stream= new FileOutputStream(new File(folder, RefactoringHistoryService.NAME_INDEX_FILE))) {
+			RefactoringHistoryManager.writeRefactoringDescriptorProxies(stream, new RefactoringDescriptorProxy[] { new RefactoringDescriptorProxyAdapter(descriptor)});
+		}
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		RefactoringDescriptorProxy[] proxies= service.getProjectHistory(project, null).getDescriptors();
+		assertEquals("Refactoring history has wrong size", TOTAL_PROJECT_NUMBER + 1, proxies.length);
+		proxies= service.getProjectHistory(project, stamp, stamp, RefactoringDescriptor.NONE, null).getDescriptors();
+		assertEquals("Refactoring history has wrong size", 1, proxies.length);
+		RefactoringDescriptor resolved= proxies[0].requestDescriptor(null);
+		assertNotNull("Could not resolve refactoring descriptor", resolved);
+		assertEquals("Wrong refactoring descriptor resolved", "An external description", resolved.getDescription());
+	}
+
 	@Test
 	public void testReadRefactoringHistory0() throws Exception {
 		setUpWorkspaceRefactorings();
@@ -16,8 +16,18 @@ package org.eclipse.ltk.core.refactoring;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -26,7 +36,21 @@ import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.UndoEdit;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ltk.internal.core.refactoring.Changes;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCoreMessages;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
 
@@ -44,10 +68,43 @@ import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
  */
 public class CompositeChange extends Change {
 
+	/**
+	 * Tells whether text file changes of a class can be performed in a batch, i.e. whether the
+	 * class does not override how a text change is performed or how its edits are applied.
+	 */
+	private static final ClassValue<Boolean> BATCHABLE= new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return Boolean.valueOf(!overrides(type, "perform", IProgressMonitor.class) //$NON-NLS-1$
+					&& !overrides(type, "performEdits", IDocument.class)); //$NON-NLS-1$
+		}
+	};
+
+	/**
+	 * Tells whether the documents of text file changes of a class are the plain documents of their
+	 * file buffers, which can be edited from worker threads. Subclasses acquiring their documents
+	 * differently, e.g. from the buffers of Java working copies, are edited on the calling thread.
+	 */
+	private static final ClassValue<Boolean> PLAIN_DOCUMENT= new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return Boolean.valueOf(!overrides(type, "acquireDocument", IProgressMonitor.class) //$NON-NLS-1$
+					&& !overrides(type, "releaseDocument", IDocument.class, IProgressMonitor.class)); //$NON-NLS-1$
+		}
+	};
+
+	/**
+	 * The workers applying the edits of text file changes performed in a batch. Idle workers are
+	 * terminated after a while.
+	 */
+	private static final ExecutorService EDIT_EXECUTOR= createEditExecutor();
+
 	private String fName;
 	private List<Change> fChanges;
 	private boolean fIsSynthetic;
 	private Change fUndoUntilException;
+	private boolean fParallelExecution;
+	private PerformChangeTimer fTimer;
 
 	/**
 	 * Creates a new composite change with the given name.
@@ -270,11 +327,39 @@ public class CompositeChange extends Change {
 		Change change= null;
 		boolean canceled= false;
 		try {
-			for (Iterator<Change> iter= fChanges.iterator(); iter.hasNext();) {
+			for (ListIterator<Change> iter= fChanges.listIterator(); iter.hasNext();) {
 				change= iter.next();
 				if (canceled && !internalProcessOnCancel(change))
 					continue;
 
+				if (fParallelExecution && !canceled && isBatchable(change)) {
+					List<TextFileChange> changes= collectBatch((TextFileChange) change, iter);
+					if (changes.size() > 1) {
+						Batch batch= new Batch(changes);
+						try {
+							batch.perform(new SubProgressMonitor(pm, changes.size()), fTimer);
+						} catch (CoreException | RuntimeException e) {
+							// as in the sequential execution, the changes before the failed one are done
+							undos= addUndos(undos, batch, batch.fPerformed);
+							for (int i= 0; i < batch.fPerformed; i++) {
+								fChanges.remove(changes.get(i));
+								disposeChange(changes.get(i));
+							}
+							change= changes.get(batch.fPerformed);
+							throw e;
+						}
+						undos= addUndos(undos, batch, changes.size());
+						for (int i= 0; i < changes.size(); i++) {
+							iter.previous();
+							iter.remove();
+						}
+						for (TextFileChange performed : changes) {
+							disposeChange(performed);
+						}
+						continue;
+					}
+				}
+
 				if (change.isEnabled()) {
 					Change undoChange= null;
 					try {
@@ -300,17 +385,7 @@ public class CompositeChange extends Change {
 				iter.remove();
 				// Make sure we dispose the change since it will now longer be
 				// in the list of children when call CompositeChange#dispose()
-				final Change changeToDispose= change;
-				SafeRunner.run(new ISafeRunnable() {
-					@Override
-					public void run() throws Exception {
-						changeToDispose.dispose();
-					}
-					@Override
-					public void handleException(Throwable exception) {
-						RefactoringCorePlugin.log(exception);
-					}
-				});
+				disposeChange(change);
 			}
 			if (canceled)
 				throw new OperationCanceledException();
@@ -327,6 +402,270 @@ public class CompositeChange extends Change {
 		}
 	}
 
+	private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+		for (Class<?> current= type; current != TextFileChange.class; current= current.getSuperclass()) {
+			try {
+				current.getDeclaredMethod(name, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// look at the super class
+			}
+		}
+		return false;
+	}
+
+	private static ExecutorService createEditExecutor() {
+		AtomicInteger count= new AtomicInteger();
+		int threads= Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Refactoring Text Edits " + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static void disposeChange(Change change) {
+		SafeRunner.run(new ISafeRunnable() {
+			@Override
+			public void run() throws Exception {
+				change.dispose();
+			}
+			@Override
+			public void handleException(Throwable exception) {
+				RefactoringCorePlugin.log(exception);
+			}
+		});
+	}
+
+	/**
+	 * Makes this composite change perform runs of consecutive enabled text file changes on
+	 * distinct files in a batch: the documents are acquired on the calling thread, the edits are
+	 * applied in parallel, and the buffers are committed in a single workspace operation. The
+	 * undo change is the same as the one of the sequential execution.
+	 *
+	 * @param parallel <code>true</code> to perform text file changes in batches
+	 * @param timer the timer accumulating the commit time, or <code>null</code>
+	 */
+	void setParallelExecution(boolean parallel, PerformChangeTimer timer) {
+		fParallelExecution= parallel;
+		fTimer= timer;
+	}
+
+	private static boolean isBatchable(Change change) {
+		return change instanceof TextFileChange && change.isEnabled() && BATCHABLE.get(change.getClass()).booleanValue();
+	}
+
+	/*
+	 * Collects the batchable changes following the given one, up to the first change which isn't
+	 * batchable or modifies a file of the batch again. Leaves the iterator behind the last change
+	 * of the batch.
+	 */
+	private static List<TextFileChange> collectBatch(TextFileChange first, ListIterator<Change> iter) {
+		List<TextFileChange> result= new ArrayList<>();
+		Set<IFile> files= new HashSet<>();
+		result.add(first);
+		files.add(first.getFile());
+		while (iter.hasNext()) {
+			Change next= iter.next();
+			if (!isBatchable(next) || !files.add(((TextFileChange) next).getFile())) {
+				iter.previous();
+				break;
+			}
+			result.add((TextFileChange) next);
+		}
+		return result;
+	}
+
+	private static List<Change> addUndos(List<Change> undos, Batch batch, int count) {
+		if (undos == null)
+			return null;
+		for (int i= 0; i < count; i++) {
+			if (batch.fUndoChanges[i] == null)
+				return null;
+			undos.add(batch.fUndoChanges[i]);
+		}
+		return undos;
+	}
+
+	/**
+	 * A run of text file changes on distinct files, performed in phases.
+	 */
+	private static final class Batch {
+
+		private final List<TextFileChange> fChanges;
+		private final IDocument[] fDocuments;
+		private final UndoEdit[] fUndoEdits;
+		private final boolean[] fEdited;
+		private final Throwable[] fFailures;
+		final Change[] fUndoChanges;
+		/** the number of leading changes which have been performed, the next one failed */
+		int fPerformed;
+
+		Batch(List<TextFileChange> changes) {
+			fChanges= changes;
+			fDocuments= new IDocument[changes.size()];
+			fUndoEdits= new UndoEdit[changes.size()];
+			fEdited= new boolean[changes.size()];
+			fFailures= new Throwable[changes.size()];
+			fUndoChanges= new Change[changes.size()];
+		}
+
+		void perform(IProgressMonitor pm, PerformChangeTimer timer) throws CoreException {
+			int size= fChanges.size();
+			pm.beginTask("", size * 4); //$NON-NLS-1$
+			int acquired= 0;
+			try {
+				// acquiring may connect buffers and working copies, which needs the rule of the calling thread
+				for (; acquired < size; acquired++) {
+					fDocuments[acquired]= fChanges.get(acquired).acquireDocument(new SubProgressMonitor(pm, 1));
+				}
+
+				int edited= performEdits();
+				pm.worked(size);
+
+				long start= System.nanoTime();
+				try {
+					commit(edited, pm);
+				} finally {
+					if (timer != null)
+						timer.addCommitTime(System.nanoTime() - start);
+				}
+				for (int i= 0; i < fPerformed; i++) {
+					fUndoChanges[i]= fChanges.get(i).createUndoChange(fUndoEdits[i]);
+				}
+
+				// revert the documents edited behind a failed change, they must not be committed later
+				revert(fPerformed + 1);
+				if (fPerformed < size)
+					throw asException(fFailures[fPerformed]);
+			} finally {
+				for (int i= 0; i < acquired; i++) {
+					try {
+						fChanges.get(i).releaseDocument(fDocuments[i], new SubProgressMonitor(pm, 1));
+					} catch (CoreException | RuntimeException e) {
+						// the buffers have already been committed
+						RefactoringCorePlugin.log(e);
+					}
+				}
+				pm.done();
+			}
+		}
+
+		/*
+		 * Applies the edits, returns the number of leading changes whose edits have been applied.
+		 */
+		private int performEdits() {
+			int size= fChanges.size();
+			// documents shown in editors are edited in their synchronization context, which might
+			// be the calling thread, documents not owned by a plain file buffer on the calling thread
+			List<Integer> parallel= new ArrayList<>(size);
+			for (int i= 0; i < size; i++) {
+				TextFileChange change= fChanges.get(i);
+				if (!change.isSynchronizationContextRequested() && PLAIN_DOCUMENT.get(change.getClass()).booleanValue())
+					parallel.add(Integer.valueOf(i));
+			}
+			if (parallel.size() > 1 && Runtime.getRuntime().availableProcessors() > 1) {
+				List<Future<?>> futures= new ArrayList<>(parallel.size());
+				for (Integer index : parallel) {
+					futures.add(EDIT_EXECUTOR.submit(() -> performEdits(index.intValue())));
+				}
+				awaitAll(futures);
+			} else {
+				for (Integer index : parallel) {
+					performEdits(index.intValue());
+				}
+			}
+
+			int edited= 0;
+			while (edited < size && fFailures[edited] == null) {
+				if (!fEdited[edited]) {
+					performEdits(edited);
+					if (fFailures[edited] != null)
+						break;
+				}
+				edited++;
+			}
+			return edited;
+		}
+
+		private void performEdits(int index) {
+			try {
+				fUndoEdits[index]= fChanges.get(index).performEdits(fDocuments[index]);
+				fEdited[index]= true;
+			} catch (BadLocationException | MalformedTreeException | RuntimeException e) {
+				fFailures[index]= e;
+			}
+		}
+
+		private static void awaitAll(List<Future<?>> futures) {
+			// the workers modify the documents, don't return before they are done
+			boolean interrupted= false;
+			for (Future<?> future : futures) {
+				while (true) {
+					try {
+						future.get();
+						break;
+					} catch (InterruptedException e) {
+						interrupted= true;
+					} catch (ExecutionException e) {
+						// the change has not been edited, it is edited again on the calling thread
+						break;
+					}
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+
+		/*
+		 * Commits the buffers of the given number of leading changes in one workspace operation.
+		 */
+		private void commit(int count, IProgressMonitor pm) throws CoreException {
+			fPerformed= 0;
+			IWorkspace workspace= ResourcesPlugin.getWorkspace();
+			IResourceRuleFactory factory= workspace.getRuleFactory();
+			ISchedulingRule rule= null;
+			for (int i= 0; i < count; i++) {
+				rule= MultiRule.combine(rule, factory.modifyRule(fChanges.get(i).getFile()));
+			}
+			try {
+				workspace.run(monitor -> {
+					monitor.beginTask("", count); //$NON-NLS-1$
+					for (; fPerformed < count; fPerformed++) {
+						fChanges.get(fPerformed).commit(fDocuments[fPerformed], new SubProgressMonitor(monitor, 1));
+					}
+					monitor.done();
+				}, rule, IWorkspace.AVOID_UPDATE, new SubProgressMonitor(pm, fChanges.size()));
+			} catch (CoreException | RuntimeException e) {
+				fFailures[fPerformed]= e;
+			}
+		}
+
+		private void revert(int from) {
+			for (int i= fChanges.size() - 1; i >= from; i--) {
+				if (fEdited[i] && fUndoEdits[i] != null) {
+					try {
+						fChanges.get(i).revertEdits(fDocuments[i], fUndoEdits[i]);
+					} catch (BadLocationException | MalformedTreeException e) {
+						RefactoringCorePlugin.log(e);
+					}
+				}
+			}
+		}
+
+		private static CoreException asException(Throwable failure) {
+			if (failure instanceof CoreException)
+				return (CoreException) failure;
+			if (failure instanceof BadLocationException)
+				return Changes.asCoreException((BadLocationException) failure);
+			if (failure instanceof MalformedTreeException)
+				return Changes.asCoreException((MalformedTreeException) failure);
+			throw (RuntimeException) failure;
+		}
+	}
+
 	private void handleUndos(Change failedChange, List<Change> undos) {
 		if (undos == null) {
 			fUndoUntilException= null;
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.ltk.core.refactoring;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -63,6 +65,11 @@ import org.eclipse.ltk.internal.core.refactoring.NotCancelableProgressMonitor;
  */
 public class PerformChangeOperation implements IWorkspaceRunnable {
 
+	/**
+	 * System property enabling the parallel execution of composite changes by default.
+	 */
+	private static final String PARALLEL_EXECUTION_PROPERTY= "org.eclipse.ltk.core.refactoring.parallelChanges"; //$NON-NLS-1$
+
 	private Change fChange;
 	private CreateChangeOperation fCreateChangeOperation;
 	private RefactoringStatus fValidationStatus;
@@ -75,6 +82,11 @@ public class PerformChangeOperation implements IWorkspaceRunnable {
 	private boolean fChangeExecutionFailed;
 	private ISchedulingRule fSchedulingRule;
 
+	private boolean fParallelExecution= Boolean.getBoolean(PARALLEL_EXECUTION_PROPERTY);
+	private long fValidationTime;
+	private long fEditTime;
+	private long fCommitTime;
+
 	/**
 	 * Creates a new perform change operation instance for the given change.
 	 *
@@ -198,6 +210,55 @@ public class PerformChangeOperation implements IWorkspaceRunnable {
 		fSchedulingRule= rule;
 	}
 
+	/**
+	 * Sets whether composite changes perform their consecutive text file changes on distinct
+	 * files in batches. The documents of a batch are edited in parallel and their buffers are
+	 * committed in a single workspace operation. The undo change is the same as the one of the
+	 * sequential execution. If not set, the parallel execution is enabled by the system property
+	 * <code>org.eclipse.ltk.core.refactoring.parallelChanges</code>.
+	 *
+	 * @param parallel <code>true</code> to perform text file changes in batches
+	 * @since 3.15
+	 */
+	public void setParallelExecution(boolean parallel) {
+		fParallelExecution= parallel;
+	}
+
+	/**
+	 * Returns the time spent validating the change before performing it.
+	 *
+	 * @return the validation time in milliseconds, or <code>0</code> if the change has not been
+	 *  validated
+	 * @since 3.15
+	 */
+	public long getValidationTime() {
+		return TimeUnit.NANOSECONDS.toMillis(fValidationTime);
+	}
+
+	/**
+	 * Returns the time spent performing the change, except for the time spent committing the
+	 * buffers of text file changes performed in batches.
+	 *
+	 * @return the edit time in milliseconds, or <code>0</code> if the change has not been performed
+	 * @see #setParallelExecution(boolean)
+	 * @since 3.15
+	 */
+	public long getEditTime() {
+		return TimeUnit.NANOSECONDS.toMillis(fEditTime);
+	}
+
+	/**
+	 * Returns the time spent committing the buffers of text file changes performed in batches.
+	 * The commits of other changes are part of the {@link #getEditTime() edit time}.
+	 *
+	 * @return the commit time in milliseconds
+	 * @see #setParallelExecution(boolean)
+	 * @since 3.15
+	 */
+	public long getCommitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(fCommitTime);
+	}
+
 	@Override
 	public void run(IProgressMonitor pm) throws CoreException {
 		if (pm == null)
@@ -244,9 +305,14 @@ public class PerformChangeOperation implements IWorkspaceRunnable {
 			boolean undoInitialized= false;
 			try {
 				monitor.beginTask("", 10); //$NON-NLS-1$
+				long start= System.nanoTime();
 				fValidationStatus= fChange.isValid(new SubProgressMonitor(monitor, 1));
+				fValidationTime= System.nanoTime() - start;
 				if (fValidationStatus.hasFatalError())
 					return;
+				PerformChangeTimer timer= new PerformChangeTimer();
+				if (fParallelExecution)
+					enableParallelExecution(fChange, timer);
 				boolean aboutToPerformChangeCalled= false;
 				try {
 					if (fUndoManager != null) {
@@ -255,7 +321,13 @@ public class PerformChangeOperation implements IWorkspaceRunnable {
 						aboutToPerformChangeCalled= true;
 					}
 					fChangeExecutionFailed= true;
-					fUndoChange= fChange.perform(new SubProgressMonitor(monitor, 9));
+					start= System.nanoTime();
+					try {
+						fUndoChange= fChange.perform(new SubProgressMonitor(monitor, 9));
+					} finally {
+						fCommitTime= timer.getCommitTime();
+						fEditTime= System.nanoTime() - start - fCommitTime;
+					}
 					fChangeExecutionFailed= false;
 					fChangeExecuted= true;
 				} finally {
@@ -295,6 +367,16 @@ public class PerformChangeOperation implements IWorkspaceRunnable {
 		ResourcesPlugin.getWorkspace().run(runnable, fSchedulingRule, IWorkspace.AVOID_UPDATE, pm);
 	}
 
+	private static void enableParallelExecution(Change change, PerformChangeTimer timer) {
+		if (change instanceof CompositeChange) {
+			CompositeChange composite= (CompositeChange) change;
+			composite.setParallelExecution(true, timer);
+			for (Change child : composite.getChildren()) {
+				enableParallelExecution(child, timer);
+			}
+		}
+	}
+
 	private boolean createChange() {
 		return fCreateChangeOperation != null;
 	}
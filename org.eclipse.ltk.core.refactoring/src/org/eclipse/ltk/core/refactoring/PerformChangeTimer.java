@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring;
+
+/**
+ * Accumulates the time composite changes spend committing the buffers of their batched text file
+ * changes, see {@link PerformChangeOperation#getCommitTime()}.
+ * <p>
+ * Only accessed by the thread performing the change.
+ * </p>
+ *
+ * @since 3.15
+ */
+final class PerformChangeTimer {
+
+	private long fCommitTime;
+
+	void addCommitTime(long nanos) {
+		fCommitTime+= nanos;
+	}
+
+	long getCommitTime() {
+		return fCommitTime;
+	}
+}
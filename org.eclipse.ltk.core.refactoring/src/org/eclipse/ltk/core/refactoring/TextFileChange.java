@@ -257,7 +257,40 @@ public class TextFileChange extends TextChange {
 		if (! fBuffer.isSynchronizationContextRequested()) {
 			return super.performEdits(document);
 		}
+		return runInSynchronizationContext(() -> TextFileChange.super.performEdits(document));
+	}
+
+	/**
+	 * Reverts the edits performed on the acquired document, in the synchronization context of the
+	 * buffer if one has been requested.
+	 *
+	 * @param document the acquired document
+	 * @param undo the undo edit returned by {@link #performEdits(IDocument)}
+	 * @throws BadLocationException if the undo edit can't be applied
+	 */
+	void revertEdits(IDocument document, UndoEdit undo) throws BadLocationException {
+		if (! fBuffer.isSynchronizationContextRequested()) {
+			undo.apply(document);
+			return;
+		}
+		runInSynchronizationContext(() -> undo.apply(document));
+	}
+
+	/**
+	 * Tells whether the acquired document has to be modified in the synchronization context of its
+	 * buffer, e.g. because it is shown in an editor.
+	 *
+	 * @return <code>true</code> if the document can't be modified on any thread
+	 */
+	boolean isSynchronizationContextRequested() {
+		return fBuffer.isSynchronizationContextRequested();
+	}
+
+	private interface DocumentOperation {
+		UndoEdit run() throws BadLocationException;
+	}
 
+	private UndoEdit runInSynchronizationContext(DocumentOperation operation) throws BadLocationException {
 		ITextFileBufferManager fileBufferManager= FileBuffers.getTextFileBufferManager();
 
 		/** The lock for waiting for computation in the UI thread to complete. */
@@ -267,7 +300,7 @@ public class TextFileChange extends TextChange {
 		Runnable runnable= () -> {
 			synchronized (completionLock) {
 				try {
-					result[0]= TextFileChange.super.performEdits(document);
+					result[0]= operation.run();
 				} catch (BadLocationException e) {
 					exception[0]= e;
 				} finally {
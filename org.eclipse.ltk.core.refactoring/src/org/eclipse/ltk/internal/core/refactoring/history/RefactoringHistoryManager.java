@@ -16,6 +16,8 @@ package org.eclipse.ltk.internal.core.refactoring.history;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -98,6 +100,13 @@ public final class RefactoringHistoryManager {
 	/** The index entry delimiter */
 	public static final char DELIMITER_ENTRY= '\n';
 
+	/**
+	 * The system property to disable the binary history store (value:
+	 * <code>org.eclipse.ltk.core.refactoring.history.store</code>). If set to
+	 * <code>false</code>, the history is read from the history index tree.
+	 */
+	public static final String PROPERTY_HISTORY_STORE= "org.eclipse.ltk.core.refactoring.history.store"; //$NON-NLS-1$
+
 	/** The calendar instance */
 	private static final Calendar fgCalendar= Calendar.getInstance(TimeZone.getTimeZone("GMT+00:00")); //$NON-NLS-1$
 
@@ -135,6 +144,41 @@ public final class RefactoringHistoryManager {
 		}
 	}
 
+	/**
+	 * Collects the folders of the history index tree which contain an index
+	 * file, and computes the fingerprint of the tree.
+	 *
+	 * @param store
+	 *            the file store to collect
+	 * @param folders
+	 *            the list of folders to fill in
+	 * @param fingerprint
+	 *            the number, the accumulated length and the accumulated
+	 *            modification times of the index and history files to update
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private static void collectHistoryFolders(final IFileStore store, final List<IFileStore> folders, final long[] fingerprint, final IProgressMonitor monitor) throws CoreException {
+		if (monitor.isCanceled())
+			throw new OperationCanceledException();
+		boolean index= false;
+		for (IFileInfo info : store.childInfos(EFS.NONE, null)) {
+			final String name= info.getName();
+			if (info.isDirectory())
+				collectHistoryFolders(store.getChild(name), folders, fingerprint, monitor);
+			else if (RefactoringHistoryService.NAME_INDEX_FILE.equalsIgnoreCase(name) || RefactoringHistoryService.NAME_HISTORY_FILE.equalsIgnoreCase(name)) {
+				index|= RefactoringHistoryService.NAME_INDEX_FILE.equalsIgnoreCase(name);
+				fingerprint[0]++;
+				fingerprint[1]+= info.getLength();
+				fingerprint[2]+= info.getLastModified();
+			}
+		}
+		if (index)
+			folders.add(store);
+	}
+
 	/**
 	 * Creates a new core exception representing an I/O error.
 	 *
@@ -146,6 +190,26 @@ public final class RefactoringHistoryManager {
 		return new CoreException(new Status(IStatus.ERROR, RefactoringCore.ID_PLUGIN, IRefactoringCoreStatusCodes.REFACTORING_HISTORY_IO_ERROR, exception.getLocalizedMessage(), exception));
 	}
 
+	/**
+	 * Serializes a refactoring session containing only the specified
+	 * refactoring element.
+	 *
+	 * @param parser
+	 *            the document builder to use
+	 * @param document
+	 *            the refactoring session document of the element
+	 * @param element
+	 *            the refactoring element
+	 * @return the serialized refactoring session
+	 */
+	private static byte[] createEntry(final DocumentBuilder parser, final Document document, final Element element) {
+		final Document entry= parser.newDocument();
+		final Node root= entry.importNode(document.getDocumentElement(), false);
+		entry.appendChild(root);
+		root.appendChild(entry.importNode(element, true));
+		return toByteArray(entry);
+	}
+
 	/**
 	 * Escapes the specified string for the history index.
 	 *
@@ -185,6 +249,162 @@ public final class RefactoringHistoryManager {
 		return arguments;
 	}
 
+	/**
+	 * Returns the number, the accumulated length and the accumulated
+	 * modification times of the index and history files in the specified
+	 * folder.
+	 *
+	 * @param folder
+	 *            the folder of the history index tree
+	 * @return the fingerprint of the folder
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private static long[] getFingerprint(final IFileStore folder) throws CoreException {
+		final long[] fingerprint= new long[3];
+		for (String name : new String[] { RefactoringHistoryService.NAME_INDEX_FILE, RefactoringHistoryService.NAME_HISTORY_FILE}) {
+			final IFileInfo info= folder.getChild(name).fetchInfo(EFS.NONE, null);
+			if (info.exists()) {
+				fingerprint[0]++;
+				fingerprint[1]+= info.getLength();
+				fingerprint[2]+= info.getLastModified();
+			}
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Returns whether the binary history store is enabled.
+	 *
+	 * @return <code>true</code> if the store is enabled, <code>false</code>
+	 *         otherwise
+	 * @see #PROPERTY_HISTORY_STORE
+	 */
+	private static boolean isStoreEnabled() {
+		return !Boolean.FALSE.toString().equals(System.getProperty(PROPERTY_HISTORY_STORE));
+	}
+
+	/**
+	 * Rebuilds the binary history store from the history index tree.
+	 *
+	 * @param store
+	 *            the binary history store
+	 * @param folders
+	 *            the folders of the history index tree which contain an index
+	 *            file
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @param fingerprint
+	 *            the fingerprint of the history index tree
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @throws CoreException
+	 *             if an error occurs
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 * @throws ParserConfigurationException
+	 *             if an error occurs in the parser configuration
+	 */
+	private static void migrateStore(final RefactoringHistoryStore store, final List<IFileStore> folders, final String project, final long[] fingerprint, final IProgressMonitor monitor) throws CoreException, IOException, ParserConfigurationException {
+		try {
+			monitor.beginTask(RefactoringCoreMessages.RefactoringHistoryService_updating_history, folders.size());
+			final DocumentBuilder parser= DocumentBuilderFactory.newInstance().newDocumentBuilder();
+			parser.setErrorHandler(new DefaultHandler());
+			final List<RefactoringHistoryStore.Entry> entries= new ArrayList<>();
+			for (IFileStore folder : folders) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				final RefactoringDescriptorProxy[] proxies;
+				try (InputStream stream= folder.getChild(RefactoringHistoryService.NAME_INDEX_FILE).openInputStream(EFS.NONE, null)) {
+					proxies= readRefactoringDescriptorProxies(stream, project, 0, Long.MAX_VALUE);
+				}
+				Document document= null;
+				final Map<String, Element> elements= new HashMap<>();
+				final IFileStore history= folder.getChild(RefactoringHistoryService.NAME_HISTORY_FILE);
+				if (history.fetchInfo(EFS.NONE, null).exists()) {
+					try (InputStream stream= new BufferedInputStream(history.openInputStream(EFS.NONE, null))) {
+						document= parser.parse(new InputSource(stream));
+						final NodeList list= document.getElementsByTagName(IRefactoringSerializationConstants.ELEMENT_REFACTORING);
+						final int length= list.getLength();
+						for (int offset= 0; offset < length; offset++) {
+							final Element element= (Element) list.item(offset);
+							elements.putIfAbsent(element.getAttribute(IRefactoringSerializationConstants.ATTRIBUTE_STAMP), element);
+						}
+					} catch (SAXException exception) {
+						// Keep the proxies, the descriptors cannot be resolved anyway
+						RefactoringCorePlugin.log(exception);
+					}
+				}
+				for (RefactoringDescriptorProxy proxy : proxies) {
+					final Element element= elements.get(String.valueOf(proxy.getTimeStamp()));
+					entries.add(new RefactoringHistoryStore.Entry(proxy.getTimeStamp(), proxy.getDescription(), element != null ? createEntry(parser, document, element) : new byte[0]));
+				}
+				monitor.worked(1);
+			}
+			entries.sort(Comparator.comparingLong(entry -> entry.fStamp));
+			final List<RefactoringHistoryStore.Entry> unique= new ArrayList<>(entries.size());
+			for (RefactoringHistoryStore.Entry entry : entries) {
+				if (unique.isEmpty() || unique.get(unique.size() - 1).fStamp != entry.fStamp)
+					unique.add(entry);
+			}
+			store.rebuild(unique, fingerprint[0], fingerprint[1], fingerprint[2]);
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Returns the binary history store of the specified history index tree,
+	 * after validating it against the tree.
+	 * <p>
+	 * The store is rebuilt if it does not match the history index tree.
+	 * </p>
+	 *
+	 * @param history
+	 *            the file store of the history index tree
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @return the binary history store, or <code>null</code> if the history
+	 *         index tree has to be read instead
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private static RefactoringHistoryStore openStore(final IFileStore history, final String project, final IProgressMonitor monitor) throws CoreException {
+		try {
+			monitor.beginTask(RefactoringCoreMessages.RefactoringHistoryService_retrieving_history, 2);
+			if (!isStoreEnabled())
+				return null;
+			final RefactoringHistoryStore store= RefactoringHistoryStore.getStore(history);
+			if (store == null)
+				return null;
+			synchronized (store) {
+				if (store.isValidated())
+					return store;
+				if (!history.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists())
+					return null;
+				final List<IFileStore> folders= new ArrayList<>();
+				final long[] fingerprint= new long[3];
+				collectHistoryFolders(history, folders, fingerprint, monitor);
+				try {
+					if (!store.load() || !store.hasFingerprint(fingerprint[0], fingerprint[1], fingerprint[2]))
+						migrateStore(store, folders, project, fingerprint, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+					store.setValidated(true);
+					return store;
+				} catch (IOException | ParserConfigurationException exception) {
+					RefactoringCorePlugin.log(exception);
+					store.delete();
+					return null;
+				}
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
 	/**
 	 * Reads refactoring descriptor proxies.
 	 *
@@ -319,6 +539,39 @@ public final class RefactoringHistoryManager {
 		}
 	}
 
+	/**
+	 * Reads refactoring descriptor proxies from the binary history store if
+	 * possible, and from the history index tree otherwise.
+	 *
+	 * @param history
+	 *            the file store of the history index tree
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @param collection
+	 *            the collection of proxies to fill in
+	 * @param start
+	 *            the start time stamp, inclusive
+	 * @param end
+	 *            the end time stamp, inclusive
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private static void readRefactoringHistory(final IFileStore history, final String project, final Collection<RefactoringDescriptorProxy> collection, final long start, final long end, final IProgressMonitor monitor) throws CoreException {
+		try {
+			monitor.beginTask(RefactoringCoreMessages.RefactoringHistoryService_retrieving_history, 2);
+			final RefactoringHistoryStore store= openStore(history, project, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+			if (store != null)
+				Collections.addAll(collection, store.getProxies(project, start, end));
+			else
+				readRefactoringDescriptorProxies(history, project, collection, start, end, new SubProgressMonitor(monitor, 1), RefactoringCoreMessages.RefactoringHistoryService_retrieving_history);
+		} finally {
+			monitor.done();
+		}
+	}
+
 	/**
 	 * Removes the refactoring history index tree spanned by the specified file
 	 * store.
@@ -416,6 +669,19 @@ public final class RefactoringHistoryManager {
 		return new Path(buffer.toString());
 	}
 
+	/**
+	 * Serializes the specified document.
+	 *
+	 * @param document
+	 *            the document to serialize
+	 * @return the serialized document
+	 */
+	private static byte[] toByteArray(final Document document) {
+		final ByteArrayOutputStream stream= new ByteArrayOutputStream(1024);
+		writeNode(stream, document);
+		return stream.toByteArray();
+	}
+
 	/**
 	 * Transforms the specified refactoring descriptor into a DOM node.
 	 *
@@ -780,6 +1046,7 @@ public final class RefactoringHistoryManager {
 				final IFileStore history= folder.getChild(RefactoringHistoryService.NAME_HISTORY_FILE);
 				final IFileStore index= folder.getChild(RefactoringHistoryService.NAME_INDEX_FILE);
 				final RefactoringDescriptorProxy[] proxies= new RefactoringDescriptorProxy[] { new DefaultRefactoringDescriptorProxy(descriptor.getDescription(), descriptor.getProject(), descriptor.getTimeStamp())};
+				final long[] fingerprint= getFingerprint(folder);
 				if (history.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists()) {
 					InputStream input= null;
 					try {
@@ -821,6 +1088,7 @@ public final class RefactoringHistoryManager {
 								writeIndexEntry(index, set.toArray(new RefactoringDescriptorProxy[set.size()]), EFS.NONE, new SubProgressMonitor(monitor, 3, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
 							} else
 								writeIndexEntry(index, proxies, EFS.APPEND, new SubProgressMonitor(monitor, 5, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
+							updateStore(folder, fingerprint, stamp, descriptor.getDescription(), toByteArray(result));
 						}
 					} catch (ParserConfigurationException | IOException | SAXException exception) {
 						throw createCoreException(exception);
@@ -838,6 +1106,7 @@ public final class RefactoringHistoryManager {
 						final Document result= transformDescriptor(descriptor, false);
 						writeHistoryEntry(history, result, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
 							writeIndexEntry(index, proxies, EFS.NONE, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
+						updateStore(folder, fingerprint, stamp, descriptor.getDescription(), toByteArray(result));
 					} catch (IOException exception) {
 						throw createCoreException(exception);
 					}
@@ -906,6 +1175,23 @@ public final class RefactoringHistoryManager {
 		}
 	}
 
+	/**
+	 * Returns the validated binary history store of the managed history.
+	 *
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @return the binary history store, or <code>null</code> if the history
+	 *         index tree has to be read instead
+	 */
+	private RefactoringHistoryStore getStore(final IProgressMonitor monitor) {
+		try {
+			return openStore(fHistoryStore, fProjectName, monitor);
+		} catch (CoreException exception) {
+			RefactoringCorePlugin.log(exception);
+			return null;
+		}
+	}
+
 	/**
 	 * Reads the refactoring history from disk.
 	 *
@@ -923,10 +1209,10 @@ public final class RefactoringHistoryManager {
 			final Set<RefactoringDescriptorProxy> set= new HashSet<>();
 			try {
 				if (fHistoryStore.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 20, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists())
-					readRefactoringDescriptorProxies(fHistoryStore, fProjectName, set, start, end, new SubProgressMonitor(monitor, 80), RefactoringCoreMessages.RefactoringHistoryService_retrieving_history);
+					readRefactoringHistory(fHistoryStore, fProjectName, set, start, end, new SubProgressMonitor(monitor, 80));
 				final IFileStore store= EFS.getLocalFileSystem().getStore(RefactoringCorePlugin.getDefault().getStateLocation()).getChild(RefactoringHistoryService.NAME_HISTORY_FOLDER).getChild(RefactoringHistoryService.NAME_WORKSPACE_PROJECT);
 				if (store.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 20, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists())
-					readRefactoringDescriptorProxies(store, null, set, start, end, new SubProgressMonitor(monitor, 80), RefactoringCoreMessages.RefactoringHistoryService_retrieving_history);
+					readRefactoringHistory(store, null, set, start, end, new SubProgressMonitor(monitor, 80));
 			} catch (CoreException exception) {
 				RefactoringCorePlugin.log(exception);
 			}
@@ -962,6 +1248,7 @@ public final class RefactoringHistoryManager {
 			final IFileStore folder= fHistoryStore.getFileStore(path);
 			final IFileStore index= folder.getChild(RefactoringHistoryService.NAME_INDEX_FILE);
 			if (index.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists()) {
+				final long[] fingerprint= getFingerprint(folder);
 				final Set<RefactoringDescriptorProxy> resultingProxies= new HashSet<>(64);
 				readRefactoringDescriptorProxies(index, null, resultingProxies, 0, Long.MAX_VALUE, new SubProgressMonitor(monitor, 1), task);
 				if (resultingProxies.size() == proxies.length)
@@ -1018,6 +1305,10 @@ public final class RefactoringHistoryManager {
 						}
 					}
 				}
+				final long[] stamps= new long[proxies.length];
+				for (int offset= 0; offset < proxies.length; offset++)
+					stamps[offset]= proxies[offset].getTimeStamp();
+				updateStore(folder, fingerprint, stamps);
 			}
 		} finally {
 			monitor.done();
@@ -1080,6 +1371,26 @@ public final class RefactoringHistoryManager {
 			monitor.beginTask(RefactoringCoreMessages.RefactoringHistoryService_resolving_information, 2);
 			final long stamp= proxy.getTimeStamp();
 			if (stamp >= 0) {
+				final RefactoringHistoryStore store= getStore(new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+				if (store != null) {
+					try {
+						final byte[] data= store.getData(stamp);
+						if (data == null || data.length == 0)
+							return null;
+						final RefactoringSessionDescriptor descriptor= new RefactoringSessionReader(false, fProjectName).readSession(new InputSource(new ByteArrayInputStream(data)));
+						for (RefactoringDescriptor refactoringDescriptor : descriptor.getRefactorings()) {
+							if (refactoringDescriptor.getTimeStamp() == stamp)
+								return refactoringDescriptor;
+						}
+						return null;
+					} catch (CoreException exception) {
+						RefactoringCorePlugin.log(exception);
+						return null;
+					} catch (IOException exception) {
+						RefactoringCorePlugin.log(exception);
+						store.delete();
+					}
+				}
 				InputStream input= null;
 				try {
 					final IFileStore folder= fHistoryStore.getFileStore(stampToPath(stamp));
@@ -1134,6 +1445,7 @@ public final class RefactoringHistoryManager {
 				final IFileStore folder= fHistoryStore.getFileStore(path);
 				final IFileStore history= folder.getChild(RefactoringHistoryService.NAME_HISTORY_FILE);
 				if (history.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 20, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists()) {
+					final long[] fingerprint= getFingerprint(folder);
 					InputStream input= null;
 					try {
 						input= new BufferedInputStream(history.openInputStream(EFS.NONE, new SubProgressMonitor(monitor, 40, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)));
@@ -1146,15 +1458,19 @@ public final class RefactoringHistoryManager {
 						}
 						final String time= String.valueOf(stamp);
 						final NodeList list= document.getElementsByTagName(IRefactoringSerializationConstants.ELEMENT_REFACTORING);
+						Element changed= null;
 						int length= list.getLength();
 						for (int index= 0; index < length; index++) {
 							final Element element= (Element) list.item(index);
 							if (time.equals(element.getAttribute(IRefactoringSerializationConstants.ATTRIBUTE_STAMP))) {
 								element.setAttribute(IRefactoringSerializationConstants.ATTRIBUTE_COMMENT, comment);
+								changed= element;
 								break;
 							}
 						}
 						writeHistoryEntry(history, document, new SubProgressMonitor(monitor, 40, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL), RefactoringCoreMessages.RefactoringHistoryService_updating_history);
+						if (changed != null)
+							updateStore(folder, fingerprint, stamp, proxy.getDescription(), createEntry(DocumentBuilderFactory.newInstance().newDocumentBuilder(), document, changed));
 					} catch (ParserConfigurationException | IOException | SAXException exception) {
 						throw createCoreException(exception);
 					} finally {
@@ -1173,6 +1489,60 @@ public final class RefactoringHistoryManager {
 		}
 	}
 
+	/**
+	 * Records the specified refactoring descriptor in the binary history
+	 * store, unless the store has to be validated against the history index
+	 * tree anyway.
+	 *
+	 * @param folder
+	 *            the folder of the history index tree which has been changed
+	 * @param fingerprint
+	 *            the fingerprint of the folder before the change
+	 * @param stamp
+	 *            the time stamp of the descriptor
+	 * @param description
+	 *            the description of the descriptor
+	 * @param data
+	 *            the serialized refactoring session of the descriptor
+	 */
+	private void updateStore(final IFileStore folder, final long[] fingerprint, final long stamp, final String description, final byte[] data) {
+		final RefactoringHistoryStore store= RefactoringHistoryStore.getStore(fHistoryStore);
+		if (store != null && store.isValidated()) {
+			try {
+				final long[] current= getFingerprint(folder);
+				store.put(stamp, description, data, current[0] - fingerprint[0], current[1] - fingerprint[1], current[2] - fingerprint[2]);
+			} catch (CoreException | IOException exception) {
+				RefactoringCorePlugin.log(exception);
+				store.delete();
+			}
+		}
+	}
+
+	/**
+	 * Removes the specified refactoring descriptors from the binary history
+	 * store, unless the store has to be validated against the history index
+	 * tree anyway.
+	 *
+	 * @param folder
+	 *            the folder of the history index tree which has been changed
+	 * @param fingerprint
+	 *            the fingerprint of the folder before the change
+	 * @param stamps
+	 *            the time stamps of the descriptors
+	 */
+	private void updateStore(final IFileStore folder, final long[] fingerprint, final long[] stamps) {
+		final RefactoringHistoryStore store= RefactoringHistoryStore.getStore(fHistoryStore);
+		if (store != null && store.isValidated()) {
+			try {
+				final long[] current= getFingerprint(folder);
+				store.remove(stamps, current[0] - fingerprint[0], current[1] - fingerprint[1], current[2] - fingerprint[2]);
+			} catch (CoreException | IOException exception) {
+				RefactoringCorePlugin.log(exception);
+				store.delete();
+			}
+		}
+	}
+
 	/**
 	 * Writes the specified document node into the refactoring history.
 	 *
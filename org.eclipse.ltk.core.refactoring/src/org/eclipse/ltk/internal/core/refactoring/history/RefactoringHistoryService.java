@@ -49,6 +49,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -271,6 +272,7 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 						}
 					}
 				} finally {
+					RefactoringHistoryStore.invalidateAll();
 					if (enable)
 						project.refreshLocal(IResource.DEPTH_INFINITE, new SubProgressMonitor(monitor, 30));
 					else {
@@ -513,6 +515,7 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 			monitor.beginTask(RefactoringCoreMessages.RefactoringHistoryService_deleting_refactorings, 100);
 			final String name= project.getName();
 			final IFileStore stateStore= EFS.getLocalFileSystem().getStore(RefactoringCorePlugin.getDefault().getStateLocation());
+			RefactoringHistoryStore.invalidateAll();
 			if (NAME_WORKSPACE_PROJECT.equals(name)) {
 				final IFileStore metaStore= stateStore.getChild(NAME_HISTORY_FOLDER).getChild(name);
 				metaStore.delete(EFS.NONE, new SubProgressMonitor(monitor, 100));
@@ -854,6 +857,7 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 				if (newStore.fetchInfo(EFS.NONE, new SubProgressMonitor(monitor, 10, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL)).exists())
 					newStore.delete(EFS.NONE, new SubProgressMonitor(monitor, 20, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
 				oldStore.move(newStore, EFS.OVERWRITE, new SubProgressMonitor(monitor, 20, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL));
+				RefactoringHistoryStore.invalidateAll();
 			}
 		} catch (CoreException exception) {
 			RefactoringCorePlugin.log(exception);
@@ -862,12 +866,36 @@ public final class RefactoringHistoryService implements IRefactoringHistoryServi
 		}
 	}
 
+	/**
+	 * Marks the binary history stores of shared refactoring histories which
+	 * have been changed outside of the refactoring history service, e.g. by
+	 * a team provider, for validation.
+	 *
+	 * @param deltas
+	 *            the project deltas
+	 */
+	private static void invalidateHistoryStores(final IResourceDelta[] deltas) {
+		for (IResourceDelta delta : deltas) {
+			if (delta.findMember(new Path(NAME_HISTORY_FOLDER)) != null) {
+				final URI uri= delta.getResource().getLocationURI();
+				if (uri != null) {
+					try {
+						RefactoringHistoryStore.invalidate(EFS.getStore(uri).getChild(NAME_HISTORY_FOLDER));
+					} catch (CoreException exception) {
+						RefactoringCorePlugin.log(exception);
+					}
+				}
+			}
+		}
+	}
+
 	private void peformResourceChanged(final IResourceChangeEvent event) {
 		final int type= event.getType();
 		if ((type & IResourceChangeEvent.POST_CHANGE) != 0) {
 			final IResourceDelta delta= event.getDelta();
 			if (delta != null) {
 				final IResourceDelta[] deltas= delta.getAffectedChildren();
+				invalidateHistoryStores(deltas);
 				if (deltas.length == 2) {
 					final IPath toPath= deltas[0].getMovedToPath();
 					final IPath fromPath= deltas[1].getMovedFromPath();
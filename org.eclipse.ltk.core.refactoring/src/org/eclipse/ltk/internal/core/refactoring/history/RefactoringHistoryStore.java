@@ -0,0 +1,630 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.internal.core.refactoring.history;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.filesystem.IFileStore;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.ltk.core.refactoring.RefactoringDescriptorProxy;
+import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
+
+/**
+ * Binary store of a refactoring history, which is kept next to the history
+ * index tree of a {@link RefactoringHistoryManager} in the plug-in state
+ * location.
+ * <p>
+ * The store consists of an append-only data file holding one serialized
+ * refactoring session per descriptor, and an index file holding the time
+ * stamps, descriptions and data offsets of all descriptors in ascending order
+ * of their time stamps. The index is kept in memory, so that reading a range
+ * of the history is a binary search followed by a sequential copy.
+ * </p>
+ * <p>
+ * The history index tree stays the persistent format which is shared with
+ * other workspaces. The store records a fingerprint of the tree, which
+ * consists of the number, the lengths and the modification times of its
+ * files, and is rebuilt from the tree whenever the fingerprint no longer
+ * matches.
+ * </p>
+ */
+final class RefactoringHistoryStore {
+
+	/** An entry of the store */
+	static final class Entry {
+
+		/** The serialized refactoring session */
+		final byte[] fData;
+
+		/** The description */
+		final String fDescription;
+
+		/** The time stamp */
+		final long fStamp;
+
+		/**
+		 * Creates a new entry.
+		 *
+		 * @param stamp
+		 *            the time stamp
+		 * @param description
+		 *            the description
+		 * @param data
+		 *            the serialized refactoring session, or an empty array
+		 */
+		Entry(final long stamp, final String description, final byte[] data) {
+			fStamp= stamp;
+			fDescription= description;
+			fData= data;
+		}
+	}
+
+	/** The name of the folder holding the stores */
+	static final String NAME_STORE_FOLDER= ".historystores"; //$NON-NLS-1$
+
+	/** The data file extension */
+	private static final String EXTENSION_DATA= ".data"; //$NON-NLS-1$
+
+	/** The index file extension */
+	private static final String EXTENSION_INDEX= ".index"; //$NON-NLS-1$
+
+	/** The temporary file extension */
+	private static final String EXTENSION_TEMP= ".tmp"; //$NON-NLS-1$
+
+	/** The data file magic number */
+	private static final int MAGIC_DATA= 0x52484454; // RHDT
+
+	/** The index file magic number */
+	private static final int MAGIC_INDEX= 0x52484958; // RHIX
+
+	/** The current format version */
+	private static final int VERSION= 2;
+
+	/** The length of the data file header */
+	private static final int DATA_HEADER_LENGTH= 8;
+
+	/** The offset of the committed data length in the index file */
+	private static final int OFFSET_DATA_LENGTH= 8;
+
+	/** The offset of the entry count in the index file */
+	private static final int OFFSET_COUNT= 40;
+
+	/** The stores by history location */
+	private static final Map<String, RefactoringHistoryStore> fgStores= new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the store of the specified history index tree.
+	 *
+	 * @param history
+	 *            the file store of the history index tree
+	 * @return the refactoring history store, or <code>null</code> if no
+	 *         state location is available
+	 */
+	static RefactoringHistoryStore getStore(final IFileStore history) {
+		final String location= history.toURI().toString();
+		RefactoringHistoryStore store= fgStores.get(location);
+		if (store == null) {
+			final RefactoringCorePlugin plugin= RefactoringCorePlugin.getDefault();
+			if (plugin == null)
+				return null;
+			final IPath folder= plugin.getStateLocation().append(NAME_STORE_FOLDER);
+			final String name= Integer.toHexString(location.hashCode());
+			store= fgStores.computeIfAbsent(location, key -> new RefactoringHistoryStore(key, folder.append(name + EXTENSION_DATA).toFile(), folder.append(name + EXTENSION_INDEX).toFile()));
+		}
+		return store;
+	}
+
+	/**
+	 * Marks the store of the specified history index tree for validation
+	 * against the tree.
+	 *
+	 * @param history
+	 *            the file store of the history index tree
+	 */
+	static void invalidate(final IFileStore history) {
+		final RefactoringHistoryStore store= fgStores.get(history.toURI().toString());
+		if (store != null)
+			store.setValidated(false);
+	}
+
+	/**
+	 * Marks all stores for validation against their history index trees.
+	 */
+	static void invalidateAll() {
+		for (RefactoringHistoryStore store : fgStores.values())
+			store.setValidated(false);
+	}
+
+	/** The number of entries */
+	private int fCount= 0;
+
+	/** The committed length of the data file */
+	private long fDataLength= DATA_HEADER_LENGTH;
+
+	/** The data file */
+	private final File fDataFile;
+
+	/** The descriptions, in ascending order of time stamps */
+	private String[] fDescriptions= new String[0];
+
+	/** The number of history index tree files the store has been built from */
+	private long fFileCount= 0;
+
+	/** The accumulated length of the history index tree files */
+	private long fFileLength= 0;
+
+	/** The accumulated modification times of the history index tree files */
+	private long fFileModified= 0;
+
+	/** The index file */
+	private final File fIndexFile;
+
+	/** Has the index been loaded? */
+	private boolean fLoaded= false;
+
+	/** The location of the history index tree */
+	private final String fLocation;
+
+	/** The data offsets, in ascending order of time stamps */
+	private long[] fOffsets= new long[0];
+
+	/** The time stamps, in ascending order */
+	private long[] fStamps= new long[0];
+
+	/** Has the store been validated against the history index tree? */
+	private volatile boolean fValidated= false;
+
+	/**
+	 * Creates a new refactoring history store.
+	 *
+	 * @param location
+	 *            the location of the history index tree
+	 * @param data
+	 *            the data file
+	 * @param index
+	 *            the index file
+	 */
+	private RefactoringHistoryStore(final String location, final File data, final File index) {
+		fLocation= location;
+		fDataFile= data;
+		fIndexFile= index;
+	}
+
+	/**
+	 * Adds the specified amounts to the fingerprint of the history index tree.
+	 *
+	 * @param files
+	 *            the number of files to add
+	 * @param length
+	 *            the file length to add
+	 * @param modified
+	 *            the file modification time to add
+	 */
+	private void addFingerprint(final long files, final long length, final long modified) {
+		fFileCount+= files;
+		fFileLength+= length;
+		fFileModified+= modified;
+	}
+
+	/**
+	 * Deletes the files of the store and marks it for validation.
+	 */
+	synchronized void delete() {
+		fValidated= false;
+		reset();
+		fDataFile.delete();
+		fIndexFile.delete();
+	}
+
+	/**
+	 * Ensures that the store files exist and that their index is loaded.
+	 *
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	private void ensureFiles() throws IOException {
+		if (fLoaded ? fIndexFile.exists() && fDataFile.exists() : load())
+			return;
+		reset();
+		fDataFile.getParentFile().mkdirs();
+		try (DataOutputStream output= new DataOutputStream(new FileOutputStream(fDataFile))) {
+			output.writeInt(MAGIC_DATA);
+			output.writeInt(VERSION);
+		}
+		writeIndex();
+	}
+
+	/**
+	 * Returns the serialized refactoring session of the descriptor with the
+	 * specified time stamp.
+	 *
+	 * @param stamp
+	 *            the time stamp
+	 * @return the serialized refactoring session, an empty array if the
+	 *         history index tree has no session for the descriptor, or
+	 *         <code>null</code> if the store has no such descriptor
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	synchronized byte[] getData(final long stamp) throws IOException {
+		final int index= Arrays.binarySearch(fStamps, 0, fCount, stamp);
+		if (index < 0)
+			return null;
+		try (RandomAccessFile file= new RandomAccessFile(fDataFile, "r")) { //$NON-NLS-1$
+			file.seek(fOffsets[index]);
+			if (file.readLong() != stamp)
+				throw new IOException("Corrupt refactoring history store " + fDataFile); //$NON-NLS-1$
+			final byte[] data= new byte[file.readInt()];
+			file.readFully(data);
+			return data;
+		}
+	}
+
+	/**
+	 * Returns the refactoring descriptor proxies in the specified time range.
+	 *
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @param start
+	 *            the start time stamp, inclusive
+	 * @param end
+	 *            the end time stamp, inclusive
+	 * @return the refactoring descriptor proxies, in ascending order of their
+	 *         time stamps
+	 */
+	synchronized RefactoringDescriptorProxy[] getProxies(final String project, final long start, final long end) {
+		int first= Arrays.binarySearch(fStamps, 0, fCount, start);
+		if (first < 0)
+			first= -first - 1;
+		int last= first;
+		while (last < fCount && fStamps[last] <= end)
+			last++;
+		final RefactoringDescriptorProxy[] proxies= new RefactoringDescriptorProxy[last - first];
+		for (int index= first; index < last; index++)
+			proxies[index - first]= new DefaultRefactoringDescriptorProxy(fDescriptions[index], project, fStamps[index]);
+		return proxies;
+	}
+
+	/**
+	 * Returns whether the store has been built from a history index tree with
+	 * the specified fingerprint.
+	 *
+	 * @param files
+	 *            the number of history index tree files
+	 * @param length
+	 *            the accumulated length of the history index tree files
+	 * @param modified
+	 *            the accumulated modification times of the history index
+	 *            tree files
+	 * @return <code>true</code> if the fingerprint matches, <code>false</code>
+	 *         otherwise
+	 */
+	synchronized boolean hasFingerprint(final long files, final long length, final long modified) {
+		return fFileCount == files && fFileLength == length && fFileModified == modified;
+	}
+
+	/**
+	 * Returns whether the store has been validated against the history index
+	 * tree since it has last been marked for validation.
+	 *
+	 * @return <code>true</code> if the store is valid, <code>false</code>
+	 *         otherwise
+	 */
+	boolean isValidated() {
+		return fValidated;
+	}
+
+	/**
+	 * Loads the index of the store, unless already loaded.
+	 *
+	 * @return <code>true</code> if the index has been loaded,
+	 *         <code>false</code> if the store files are missing or belong to
+	 *         another history index tree
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	synchronized boolean load() throws IOException {
+		if (fLoaded)
+			return true;
+		reset();
+		if (!fIndexFile.exists() || !fDataFile.exists())
+			return false;
+		try (DataInputStream input= new DataInputStream(new BufferedInputStream(new FileInputStream(fIndexFile)))) {
+			if (input.readInt() != MAGIC_INDEX || input.readInt() != VERSION)
+				return false;
+			final long dataLength= input.readLong();
+			final long files= input.readLong();
+			final long length= input.readLong();
+			final long modified= input.readLong();
+			final int count= input.readInt();
+			if (!fLocation.equals(input.readUTF()) || dataLength > fDataFile.length() || count < 0)
+				return false;
+			final long[] stamps= new long[count];
+			final long[] offsets= new long[count];
+			final String[] descriptions= new String[count];
+			for (int index= 0; index < count; index++) {
+				stamps[index]= input.readLong();
+				offsets[index]= input.readLong();
+				descriptions[index]= input.readUTF();
+			}
+			fStamps= stamps;
+			fOffsets= offsets;
+			fDescriptions= descriptions;
+			fCount= count;
+			fDataLength= dataLength;
+			fFileCount= files;
+			fFileLength= length;
+			fFileModified= modified;
+			fLoaded= true;
+			return true;
+		}
+	}
+
+	/**
+	 * Adds or replaces the refactoring descriptor with the specified time
+	 * stamp.
+	 *
+	 * @param stamp
+	 *            the time stamp
+	 * @param description
+	 *            the description
+	 * @param data
+	 *            the serialized refactoring session
+	 * @param files
+	 *            the change in the number of history index tree files
+	 * @param length
+	 *            the change in the length of the history index tree files
+	 * @param modified
+	 *            the change in the modification times of the history index
+	 *            tree files
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	synchronized void put(final long stamp, final String description, final byte[] data, final long files, final long length, final long modified) throws IOException {
+		ensureFiles();
+		final long offset= fDataLength;
+		try (RandomAccessFile file= new RandomAccessFile(fDataFile, "rw")) { //$NON-NLS-1$
+			file.seek(offset);
+			file.writeLong(stamp);
+			file.writeInt(data.length);
+			file.write(data);
+		}
+		fDataLength= offset + 12 + data.length;
+		addFingerprint(files, length, modified);
+		int index= Arrays.binarySearch(fStamps, 0, fCount, stamp);
+		if (index >= 0) {
+			fOffsets[index]= offset;
+			fDescriptions[index]= description;
+			writeIndex();
+		} else {
+			index= -index - 1;
+			if (fCount == fStamps.length) {
+				final int capacity= Math.max(16, fCount + (fCount >> 1));
+				fStamps= Arrays.copyOf(fStamps, capacity);
+				fOffsets= Arrays.copyOf(fOffsets, capacity);
+				fDescriptions= Arrays.copyOf(fDescriptions, capacity);
+			}
+			System.arraycopy(fStamps, index, fStamps, index + 1, fCount - index);
+			System.arraycopy(fOffsets, index, fOffsets, index + 1, fCount - index);
+			System.arraycopy(fDescriptions, index, fDescriptions, index + 1, fCount - index);
+			fStamps[index]= stamp;
+			fOffsets[index]= offset;
+			fDescriptions[index]= description;
+			fCount++;
+			if (index == fCount - 1) {
+				// The most recent refactoring, which is the common case
+				try (RandomAccessFile file= new RandomAccessFile(fIndexFile, "rw")) { //$NON-NLS-1$
+					file.seek(file.length());
+					file.writeLong(stamp);
+					file.writeLong(offset);
+					file.writeUTF(description);
+					writeHeader(file);
+				}
+			} else
+				writeIndex();
+		}
+	}
+
+	/**
+	 * Rebuilds the store from the specified entries.
+	 *
+	 * @param entries
+	 *            the entries, in ascending order of their unique time stamps
+	 * @param files
+	 *            the number of history index tree files
+	 * @param length
+	 *            the accumulated length of the history index tree files
+	 * @param modified
+	 *            the accumulated modification times of the history index
+	 *            tree files
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	synchronized void rebuild(final List<Entry> entries, final long files, final long length, final long modified) throws IOException {
+		reset();
+		final int count= entries.size();
+		final long[] stamps= new long[count];
+		final long[] offsets= new long[count];
+		final String[] descriptions= new String[count];
+		fDataFile.getParentFile().mkdirs();
+		final File temp= new File(fDataFile.getPath() + EXTENSION_TEMP);
+		long offset= DATA_HEADER_LENGTH;
+		try (DataOutputStream output= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			output.writeInt(MAGIC_DATA);
+			output.writeInt(VERSION);
+			for (int index= 0; index < count; index++) {
+				final Entry entry= entries.get(index);
+				stamps[index]= entry.fStamp;
+				offsets[index]= offset;
+				descriptions[index]= entry.fDescription;
+				output.writeLong(entry.fStamp);
+				output.writeInt(entry.fData.length);
+				output.write(entry.fData);
+				offset+= 12 + entry.fData.length;
+			}
+		}
+		replace(temp, fDataFile);
+		fStamps= stamps;
+		fOffsets= offsets;
+		fDescriptions= descriptions;
+		fCount= count;
+		fDataLength= offset;
+		fFileCount= files;
+		fFileLength= length;
+		fFileModified= modified;
+		writeIndex();
+		fLoaded= true;
+	}
+
+	/**
+	 * Removes the refactoring descriptors with the specified time stamps.
+	 *
+	 * @param stamps
+	 *            the time stamps
+	 * @param files
+	 *            the change in the number of history index tree files
+	 * @param length
+	 *            the change in the length of the history index tree files
+	 * @param modified
+	 *            the change in the modification times of the history index
+	 *            tree files
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	synchronized void remove(final long[] stamps, final long files, final long length, final long modified) throws IOException {
+		ensureFiles();
+		final long[] removed= stamps.clone();
+		Arrays.sort(removed);
+		int count= 0;
+		for (int index= 0; index < fCount; index++) {
+			if (Arrays.binarySearch(removed, fStamps[index]) < 0) {
+				fStamps[count]= fStamps[index];
+				fOffsets[count]= fOffsets[index];
+				fDescriptions[count]= fDescriptions[index];
+				count++;
+			}
+		}
+		Arrays.fill(fDescriptions, count, fCount, null);
+		fCount= count;
+		addFingerprint(files, length, modified);
+		writeIndex();
+	}
+
+	/**
+	 * Replaces the target file by the source file.
+	 *
+	 * @param source
+	 *            the source file
+	 * @param target
+	 *            the target file
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	private static void replace(final File source, final File target) throws IOException {
+		try {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException exception) {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Resets the in-memory index.
+	 */
+	private void reset() {
+		fLoaded= false;
+		fStamps= new long[0];
+		fOffsets= new long[0];
+		fDescriptions= new String[0];
+		fCount= 0;
+		fDataLength= DATA_HEADER_LENGTH;
+		fFileCount= 0;
+		fFileLength= 0;
+		fFileModified= 0;
+	}
+
+	/**
+	 * Marks the store as validated against the history index tree or not.
+	 *
+	 * @param validated
+	 *            <code>true</code> if the store is valid, <code>false</code>
+	 *            if it has to be validated before the next use
+	 */
+	void setValidated(final boolean validated) {
+		fValidated= validated;
+	}
+
+	/**
+	 * Writes the mutable part of the index file header.
+	 *
+	 * @param file
+	 *            the index file
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	private void writeHeader(final RandomAccessFile file) throws IOException {
+		file.seek(OFFSET_DATA_LENGTH);
+		file.writeLong(fDataLength);
+		file.writeLong(fFileCount);
+		file.writeLong(fFileLength);
+		file.writeLong(fFileModified);
+		file.seek(OFFSET_COUNT);
+		file.writeInt(fCount);
+	}
+
+	/**
+	 * Writes the in-memory index to the index file.
+	 *
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	private void writeIndex() throws IOException {
+		final File temp= new File(fIndexFile.getPath() + EXTENSION_TEMP);
+		try (DataOutputStream output= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			output.writeInt(MAGIC_INDEX);
+			output.writeInt(VERSION);
+			output.writeLong(fDataLength);
+			output.writeLong(fFileCount);
+			output.writeLong(fFileLength);
+			output.writeLong(fFileModified);
+			output.writeInt(fCount);
+			output.writeUTF(fLocation);
+			for (int index= 0; index < fCount; index++) {
+				output.writeLong(fStamps[index]);
+				output.writeLong(fOffsets[index]);
+				output.writeUTF(fDescriptions[index]);
+			}
+		}
+		replace(temp, fIndexFile);
+		fLoaded= true;
+	}
+}